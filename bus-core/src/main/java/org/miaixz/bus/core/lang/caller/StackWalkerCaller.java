@@ -0,0 +1,83 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.core.lang.caller;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 通过{@link StackWalker}方式获取调用者，只遍历所需的栈帧且直接持有类引用，无需构建完整堆栈和按类名加载类
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class StackWalkerCaller implements Caller, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2852251475327L;
+
+    /**
+     * 与{@link StackTraceCaller}的偏移一致，{@link StackWalker}不包含 getStackTrace 所在的栈帧
+     */
+    private static final int OFFSET = 1;
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    @Override
+    public Class<?> getCaller() {
+        return walk(OFFSET + 1);
+    }
+
+    @Override
+    public Class<?> getCallers() {
+        return walk(OFFSET + 2);
+    }
+
+    @Override
+    public Class<?> getCaller(final int depth) {
+        return walk(OFFSET + depth);
+    }
+
+    @Override
+    public boolean isCalledBy(final Class<?> clazz) {
+        return WALKER.walk(frames -> frames.anyMatch(frame -> frame.getDeclaringClass() == clazz));
+    }
+
+    /**
+     * 获取指定位置栈帧的类，位置 0 为调用本方法的方法
+     *
+     * @param index 栈帧位置
+     * @return 类，栈深度不足时返回null
+     */
+    private static Class<?> walk(final int index) {
+        // 跳过 walk 方法自身
+        return WALKER.walk(frames -> frames.skip(index + 1L).findFirst())
+                .map(StackWalker.StackFrame::getDeclaringClass).orElse(null);
+    }
+
+}
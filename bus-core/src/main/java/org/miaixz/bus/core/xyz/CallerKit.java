@@ -29,6 +29,7 @@ package org.miaixz.bus.core.xyz;
 
 import org.miaixz.bus.core.lang.caller.Caller;
 import org.miaixz.bus.core.lang.caller.StackTraceCaller;
+import org.miaixz.bus.core.lang.caller.StackWalkerCaller;
 
 /**
  * 调用者。可以通过此类的方法获取调用者、多级调用者以及判断是否被调用
@@ -111,6 +112,14 @@ public class CallerKit {
      * @return {@link Caller}实现
      */
     private static Caller tryCreateCaller() {
+        try {
+            final Caller caller = new StackWalkerCaller();
+            if (null != caller.getCallers()) {
+                return caller;
+            }
+        } catch (final Throwable e) {
+            // ignore
+        }
         return new StackTraceCaller();
     }
 
@@ -28,10 +28,22 @@
 package org.miaixz.bus.crypto.builtin.digest;
 
 import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.miaixz.bus.core.lang.Algorithm;
+import org.miaixz.bus.core.lang.Assert;
 import org.miaixz.bus.core.lang.Charset;
 import org.miaixz.bus.core.lang.Normal;
 import org.miaixz.bus.core.lang.exception.CryptoException;
@@ -52,6 +64,15 @@ public class Digester extends SimpleWrapper<MessageDigest> implements Serializab
     @Serial
     private static final long serialVersionUID = 2852288992512L;
 
+    /**
+     * 树形摘要默认块大小
+     */
+    private static final int TREE_CHUNK = 1024 * 1024;
+    /**
+     * 树形摘要每个任务映射的最大字节数
+     */
+    private static final long TREE_WINDOW = 64L * 1024 * 1024;
+
     /**
      * 盐值
      */
@@ -331,6 +352,91 @@ public class Digester extends SimpleWrapper<MessageDigest> implements Serializab
         return HexKit.encodeString(digest(data, bufferLength));
     }
 
+    /**
+     * 并行计算文件的树形摘要，块大小为1MB，并行数为处理器数量，见{@link #digestTree(Path, int, int)}
+     *
+     * @param file 被摘要文件
+     * @return 摘要bytes
+     */
+    public byte[] digestTree(final Path file) {
+        return digestTree(file, TREE_CHUNK, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 并行计算文件的树形摘要，并转为16进制字符串，见{@link #digestTree(Path, int, int)}
+     *
+     * @param file 被摘要文件
+     * @return 摘要
+     */
+    public String digestTreeHex(final Path file) {
+        return HexKit.encodeString(digestTree(file));
+    }
+
+    /**
+     * 并行计算文件的树形摘要(Merkle Tree)，文件按块映射到内存后并行计算叶子摘要，再逐层合并：
+     *
+     * <pre>
+     * 叶子 = H(0x00 | 块)
+     * 节点 = H(0x01 | 左 | 右)，某层节点数为奇数时最后一个节点直接进入上一层
+     * </pre>
+     *
+     * 结果与对整个文件直接摘要不同，只能与同样块大小的树形摘要比较；树形摘要不使用盐值和重复摘要次数
+     *
+     * @param file        被摘要文件
+     * @param chunkSize   块大小
+     * @param parallelism 并行数，1表示在调用线程中计算
+     * @return 摘要bytes
+     * @throws InternalException IO异常
+     */
+    public byte[] digestTree(final Path file, final int chunkSize, final int parallelism) throws InternalException {
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final int leaves = Math.toIntExact(Math.max(1, (length + chunkSize - 1) / chunkSize));
+            final byte[][] level = new byte[leaves][];
+            // 每个任务映射多个块，减少映射次数
+            final int window = (int) Math.max(1, TREE_WINDOW / chunkSize);
+            final int tasks = (leaves + window - 1) / window;
+            final AtomicInteger next = new AtomicInteger();
+            final Callable<Void> worker = () -> {
+                final MessageDigest digest = newDigest();
+                for (int task; (task = next.getAndIncrement()) < tasks;) {
+                    final long from = (long) task * window * chunkSize;
+                    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from,
+                            Math.min(length - from, (long) window * chunkSize));
+                    for (int i = 0; i < window && task * window + i < leaves; i++) {
+                        buffer.limit(Math.min(buffer.capacity(), (i + 1) * chunkSize)).position(i * chunkSize);
+                        digest.update((byte) 0);
+                        digest.update(buffer);
+                        level[task * window + i] = digest.digest();
+                    }
+                }
+                return null;
+            };
+            final int threads = Math.min(Math.max(1, parallelism), tasks);
+            if (threads == 1) {
+                worker.call();
+            } else {
+                final ExecutorService executor = ThreadKit.newFixedExecutor(threads, "bus-digester-", true);
+                try {
+                    for (final Future<Void> future : executor.invokeAll(Collections.nCopies(threads, worker))) {
+                        future.get();
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+            return root(level);
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new InternalException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalException(e);
+        } catch (final Exception e) {
+            throw e instanceof RuntimeException runtime ? runtime : new InternalException(e);
+        }
+    }
+
     /**
      * 获取散列长度，0表示不支持此方法
      *
@@ -414,6 +520,45 @@ public class Digester extends SimpleWrapper<MessageDigest> implements Serializab
         return digest.digest();
     }
 
+    /**
+     * 逐层合并树形摘要的节点，得到根摘要
+     *
+     * @param level 叶子摘要
+     * @return 根摘要
+     */
+    private byte[] root(byte[][] level) {
+        final MessageDigest digest = this.raw;
+        digest.reset();
+        while (level.length > 1) {
+            final byte[][] parent = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parent.length; i++) {
+                if (2 * i + 1 < level.length) {
+                    digest.update((byte) 1);
+                    digest.update(level[2 * i]);
+                    digest.update(level[2 * i + 1]);
+                    parent[i] = digest.digest();
+                } else {
+                    parent[i] = level[2 * i];
+                }
+            }
+            level = parent;
+        }
+        return level[0];
+    }
+
+    /**
+     * 创建与当前算法及提供方相同的{@link MessageDigest}，用于并行计算
+     *
+     * @return {@link MessageDigest}
+     */
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(this.raw.getAlgorithm(), this.raw.getProvider());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new CryptoException(e);
+        }
+    }
+
     /**
      * 重复计算摘要，取决于{@link #digestCount} 值 每次计算摘要前都会重置{@link #digest}
      *
@@ -49,6 +49,7 @@ import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.core.xyz.*;
 import org.miaixz.bus.crypto.Keeper;
 import org.miaixz.bus.crypto.Padding;
+import org.miaixz.bus.crypto.builtin.Recycler;
 import org.miaixz.bus.crypto.builtin.SaltMagic;
 import org.miaixz.bus.crypto.builtin.SaltParser;
 import org.miaixz.bus.crypto.cipher.JceCipher;
@@ -90,6 +91,18 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
      * 是否0填充
      */
     private boolean isZeroPadding;
+    /**
+     * 是否开启并发模式
+     */
+    private boolean concurrent;
+    /**
+     * 并发模式下加密使用的{@link JceCipher}池，未开启时为{@code null}
+     */
+    private transient volatile Recycler<Pooled> encryptors;
+    /**
+     * 并发模式下解密使用的{@link JceCipher}池，未开启时为{@code null}
+     */
+    private transient volatile Recycler<Pooled> decryptors;
 
     /**
      * 构造，使用随机密钥
@@ -219,6 +232,20 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
         }
 
         this.cipher = new JceCipher(algorithm);
+        reset();
+        return this;
+    }
+
+    /**
+     * 设置是否开启并发模式，开启后{@code encrypt}和{@code decrypt}不再共用同一个{@link Cipher}加锁执行，而是从池中借出已初始化的实例，
+     * 多线程调用时无需互相等待；{@link #setMode(Algorithm.Type)}、{@link #update(byte[])}和{@link #doFinal()}仍使用共享的{@link Cipher}
+     *
+     * @param concurrent 是否开启并发模式
+     * @return this
+     */
+    public Crypto setConcurrent(final boolean concurrent) {
+        this.concurrent = concurrent;
+        reset();
         return this;
     }
 
@@ -248,6 +275,7 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
      */
     public Crypto setAlgorithmParameterSpec(final AlgorithmParameterSpec algorithmParameterSpec) {
         this.algorithmParameterSpec = algorithmParameterSpec;
+        reset();
         return this;
     }
 
@@ -279,6 +307,7 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
      */
     public Crypto setRandom(final SecureRandom random) {
         this.random = random;
+        reset();
         return this;
     }
 
@@ -377,6 +406,14 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
      */
     public byte[] encrypt(final byte[] data, final byte[] salt) {
         byte[] result;
+        final Recycler<Pooled> pool = this.encryptors;
+        if (null != pool) {
+            final Pooled pooled = borrow(pool, Algorithm.Type.ENCRYPT, salt);
+            result = pooled.cipher.processFinal(paddingDataWithZero(data, pooled.cipher.getBlockSize()));
+            // 出现异常的实例状态不确定，不再归还
+            pool.release(pooled);
+            return SaltMagic.addMagic(result, salt);
+        }
         lock.lock();
         try {
             final JceCipher cipher = initMode(Algorithm.Type.ENCRYPT, salt);
@@ -391,9 +428,14 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
     public void encrypt(final InputStream data, final OutputStream out, final boolean isClose)
             throws InternalException {
         CipherOutputStream cipherOutputStream = null;
-        lock.lock();
+        final Recycler<Pooled> pool = this.encryptors;
+        final Pooled pooled = null == pool ? null : borrow(pool, Algorithm.Type.ENCRYPT, null);
+        boolean done = false;
+        if (null == pooled) {
+            lock.lock();
+        }
         try {
-            final JceCipher cipher = initMode(Algorithm.Type.ENCRYPT, null);
+            final JceCipher cipher = null == pooled ? initMode(Algorithm.Type.ENCRYPT, null) : pooled.cipher;
             cipherOutputStream = new CipherOutputStream(out, cipher.getRaw());
             final long length = IoKit.copy(data, cipherOutputStream);
             if (this.isZeroPadding) {
@@ -408,17 +450,23 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
                     }
                 }
             }
+            done = true;
         } catch (final InternalException e) {
             throw e;
         } catch (final Exception e) {
             throw new CryptoException(e);
         } finally {
-            lock.unlock();
+            if (null == pooled) {
+                lock.unlock();
+            }
             // CipherOutputStream必须关闭，才能完全写出
             IoKit.closeQuietly(cipherOutputStream);
             if (isClose) {
                 IoKit.closeQuietly(data);
             }
+            if (done && null != pooled) {
+                pool.release(pooled);
+            }
         }
     }
 
@@ -426,6 +474,18 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
     public byte[] decrypt(final byte[] bytes) {
         final int blockSize;
         final byte[] decryptData;
+        final Recycler<Pooled> pool = this.decryptors;
+        if (null != pool) {
+            try {
+                final Pooled pooled = borrow(pool, Algorithm.Type.DECRYPT, SaltMagic.getSalt(bytes));
+                blockSize = pooled.cipher.getBlockSize();
+                decryptData = pooled.cipher.processFinal(SaltMagic.getData(bytes));
+                pool.release(pooled);
+            } catch (final Exception e) {
+                throw new CryptoException(e);
+            }
+            return removePadding(decryptData, blockSize);
+        }
         lock.lock();
         try {
             final byte[] salt = SaltMagic.getSalt(bytes);
@@ -445,18 +505,25 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
     public void decrypt(final InputStream data, final OutputStream out, final boolean isClose)
             throws InternalException {
         CipherInputStream cipherInputStream = null;
-        lock.lock();
+        final Recycler<Pooled> pool = this.decryptors;
+        final Pooled pooled = null == pool ? null : borrow(pool, Algorithm.Type.DECRYPT, null);
+        boolean done = false;
+        if (null == pooled) {
+            lock.lock();
+        }
         try {
-            final JceCipher cipher = initMode(Algorithm.Type.DECRYPT, null);
+            final JceCipher cipher = null == pooled ? initMode(Algorithm.Type.DECRYPT, null) : pooled.cipher;
             cipherInputStream = new CipherInputStream(data, cipher.getRaw());
             if (this.isZeroPadding) {
                 final int blockSize = cipher.getBlockSize();
                 if (blockSize > 0) {
                     copyForZeroPadding(cipherInputStream, out, blockSize);
+                    done = true;
                     return;
                 }
             }
             IoKit.copy(cipherInputStream, out);
+            done = true;
         } catch (final IOException e) {
             throw new InternalException(e);
         } catch (final InternalException e) {
@@ -464,12 +531,17 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
         } catch (final Exception e) {
             throw new CryptoException(e);
         } finally {
-            lock.unlock();
+            if (null == pooled) {
+                lock.unlock();
+            }
             // CipherOutputStream必须关闭，才能完全写出
             IoKit.closeQuietly(cipherInputStream);
             if (isClose) {
                 IoKit.closeQuietly(data);
             }
+            if (done && null != pooled) {
+                pool.release(pooled);
+            }
         }
     }
 
@@ -525,6 +597,50 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
         return cipher;
     }
 
+    /**
+     * 从池中借出指定模式的{@link JceCipher}，使用固定偏移向量且未加盐时，复用上次的初始化结果
+     * 加盐时派生的密钥和偏移向量只作用于本次调用，不修改共享的参数
+     *
+     * @param pool 池
+     * @param mode 模式
+     * @param salt 加盐值，可以为{@code null}
+     * @return 已初始化的实例
+     */
+    private Pooled borrow(final Recycler<Pooled> pool, final Algorithm.Type mode, final byte[] salt) {
+        final Pooled pooled = pool.borrow();
+        if (pooled.ready && null == salt) {
+            return pooled;
+        }
+        SecretKey secretKey = this.secretKey;
+        AlgorithmParameterSpec paramsSpec = this.algorithmParameterSpec;
+        if (null != salt) {
+            final String algorithm = pooled.cipher.getAlgorithm();
+            final byte[][] keyAndIV = SaltParser.ofMd5(32, algorithm).getKeyAndIV(secretKey.getEncoded(), salt);
+            secretKey = Keeper.generateKey(algorithm, keyAndIV[0]);
+            if (ArrayKit.isNotEmpty(keyAndIV[1])) {
+                paramsSpec = new IvParameterSpec(keyAndIV[1]);
+            }
+        }
+        pooled.cipher.init(mode, new JceCipher.JceParameters(secretKey, paramsSpec, this.random));
+        // doFinal 后 Cipher 恢复到初始化时的状态，固定偏移向量下可直接复用；其他情况(如随机偏移向量、PBE)每次重新初始化
+        pooled.ready = null == salt && paramsSpec instanceof IvParameterSpec;
+        return pooled;
+    }
+
+    /**
+     * 算法、密钥或参数变化后重建池，已借出的实例归还到旧池后被丢弃
+     */
+    private void reset() {
+        if (this.concurrent && null != this.cipher) {
+            final String algorithm = this.cipher.getAlgorithm();
+            this.encryptors = new Recycler<>(() -> new Pooled(new JceCipher(algorithm)));
+            this.decryptors = new Recycler<>(() -> new Pooled(new JceCipher(algorithm)));
+        } else {
+            this.encryptors = null;
+            this.decryptors = null;
+        }
+    }
+
     /**
      * 数据按照blockSize的整数倍长度填充填充0
      * <p>
@@ -573,4 +689,21 @@ public class Crypto implements Encryptor, Decryptor, Serializable {
         return data;
     }
 
+    /**
+     * 池中的{@link JceCipher}及其初始化状态
+     */
+    private static final class Pooled {
+
+        private final JceCipher cipher;
+        /**
+         * 是否可直接复用上次的初始化结果
+         */
+        private boolean ready;
+
+        private Pooled(final JceCipher cipher) {
+            this.cipher = cipher;
+        }
+
+    }
+
 }
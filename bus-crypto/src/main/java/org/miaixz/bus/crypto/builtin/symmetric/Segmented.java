@@ -0,0 +1,648 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.crypto.builtin.symmetric;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.miaixz.bus.core.lang.Algorithm;
+import org.miaixz.bus.core.lang.Assert;
+import org.miaixz.bus.core.lang.exception.CryptoException;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.RandomKit;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.crypto.Builder;
+
+/**
+ * 分段认证加密，参照 STREAM 结构将数据切分为固定大小的段，每段使用 GCM 独立加密并带有各自的认证标签，
+ * 因此文件可以按段并行加解密，也可以只解密任意位置的部分内容。
+ *
+ * <pre>
+ * 头部: magic(4) | version(1) | cipher(1) | segmentSize(4) | salt(16) | noncePrefix(7)
+ * 每段: ciphertext | tag(16)
+ * </pre>
+ *
+ * 段密钥由主密钥和头部的随机盐通过 HmacSHA256 派生，段的 nonce 为 noncePrefix | 段序号(4) | 是否最后一段(1)，
+ * 头部作为每段的附加认证数据，因此段的重排、截断、拼接以及头部篡改都会在解密时被发现。
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Segmented {
+
+    /**
+     * 头部长度
+     */
+    public static final int HEADER_LENGTH = 33;
+    /**
+     * 每段认证标签长度
+     */
+    public static final int TAG_LENGTH = 16;
+
+    private static final byte[] MAGIC = { 'B', 'S', 'E', 'G' };
+    private static final byte VERSION = 1;
+    private static final int SALT_LENGTH = 16;
+    private static final int PREFIX_LENGTH = 7;
+    /**
+     * 文件模式下每个任务映射的最大字节数
+     */
+    private static final long WINDOW = 64L * 1024 * 1024;
+
+    private final Algorithm algorithm;
+    private final byte[] key;
+    private int segmentSize = 1024 * 1024;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 构造
+     *
+     * @param algorithm 算法，支持{@link Algorithm#AES}和{@link Algorithm#SM4}
+     * @param key       主密钥，AES 为16、24或32字节，SM4 为16字节
+     */
+    public Segmented(final Algorithm algorithm, final byte[] key) {
+        Assert.isTrue(algorithm == Algorithm.AES || algorithm == Algorithm.SM4, "Unsupported algorithm: {}",
+                algorithm);
+        Assert.isTrue(algorithm == Algorithm.AES ? key.length == 16 || key.length == 24 || key.length == 32
+                : key.length == 16, "Invalid key length: {}", key.length);
+        this.algorithm = algorithm;
+        this.key = key.clone();
+    }
+
+    /**
+     * 设置每段明文的字节数，默认1MB，只影响加密，解密时以头部为准
+     *
+     * @param segmentSize 每段字节数
+     * @return this
+     */
+    public Segmented setSegmentSize(final int segmentSize) {
+        Assert.isTrue(segmentSize > 0 && segmentSize <= Integer.MAX_VALUE - TAG_LENGTH, "Invalid segment size");
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    /**
+     * 设置并行线程数，默认为处理器数量，1表示在调用线程中处理
+     *
+     * @param parallelism 并行线程数
+     * @return this
+     */
+    public Segmented setParallelism(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    /**
+     * 加密流，按批读取多个段并行加密后按顺序写出，不关闭流
+     *
+     * @param in  明文
+     * @param out 密文
+     */
+    public void encrypt(final InputStream in, final OutputStream out) {
+        final Header header = newHeader(this.segmentSize);
+        final int size = header.segmentSize;
+        final ExecutorService executor = executor();
+        try {
+            out.write(header.bytes);
+            final List<byte[]> batch = new ArrayList<>();
+            long index = 0;
+            byte[] current = in.readNBytes(size);
+            boolean last = false;
+            while (!last) {
+                // 读满一段时需要预读下一段，才能确定当前段是否为最后一段
+                final byte[] next = current.length < size ? null : in.readNBytes(size);
+                last = null == next || next.length == 0;
+                batch.add(current);
+                if (last || batch.size() >= this.parallelism * 2) {
+                    final byte[][] sealed = new byte[batch.size()][];
+                    final long first = index;
+                    final boolean end = last;
+                    execute(executor, batch.size(), (cipher, i) -> {
+                        final byte[] plain = batch.get(i);
+                        final ByteBuffer output = ByteBuffer.allocate(plain.length + TAG_LENGTH);
+                        seal(cipher, header, first + i, end && i == batch.size() - 1, ByteBuffer.wrap(plain), output);
+                        sealed[i] = output.array();
+                    });
+                    for (final byte[] segment : sealed) {
+                        out.write(segment);
+                    }
+                    index += batch.size();
+                    batch.clear();
+                }
+                current = next;
+            }
+            out.flush();
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    /**
+     * 解密流，按批读取多个段并行解密后按顺序写出，不关闭流
+     *
+     * @param in  密文
+     * @param out 明文
+     */
+    public void decrypt(final InputStream in, final OutputStream out) {
+        final ExecutorService executor = executor();
+        try {
+            final Header header = readHeader(in.readNBytes(HEADER_LENGTH));
+            final int size = header.segmentSize + TAG_LENGTH;
+            final List<byte[]> batch = new ArrayList<>();
+            long index = 0;
+            byte[] current = in.readNBytes(size);
+            boolean last = false;
+            while (!last) {
+                final byte[] next = current.length < size ? null : in.readNBytes(size);
+                last = null == next || next.length == 0;
+                batch.add(current);
+                if (last || batch.size() >= this.parallelism * 2) {
+                    final byte[][] opened = new byte[batch.size()][];
+                    final long first = index;
+                    final boolean end = last;
+                    execute(executor, batch.size(), (cipher, i) -> {
+                        final byte[] sealed = batch.get(i);
+                        final ByteBuffer output = ByteBuffer.allocate(Math.max(0, sealed.length - TAG_LENGTH));
+                        open(cipher, header, first + i, end && i == batch.size() - 1, ByteBuffer.wrap(sealed), output);
+                        opened[i] = output.array();
+                    });
+                    for (final byte[] segment : opened) {
+                        out.write(segment);
+                    }
+                    index += batch.size();
+                    batch.clear();
+                }
+                current = next;
+            }
+            out.flush();
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    /**
+     * 加密文件，源文件和目标文件按窗口映射到内存，各窗口中的段并行加密
+     *
+     * @param source 明文文件
+     * @param target 密文文件，已存在时覆盖
+     */
+    public void encrypt(final Path source, final Path target) {
+        final Header header = newHeader(this.segmentSize);
+        final long size = header.segmentSize;
+        final ExecutorService executor = executor();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long length = in.size();
+            final long segments = Math.max(1, ceilDiv(length, size));
+            out.write(ByteBuffer.wrap(header.bytes), 0);
+            final long window = Math.max(1, WINDOW / size);
+            execute(executor, Math.toIntExact(ceilDiv(segments, window)), (cipher, w) -> {
+                final long first = w * window;
+                final long count = Math.min(window, segments - first);
+                final long from = first * size;
+                final long plain = Math.min(length, from + count * size) - from;
+                final MappedByteBuffer input = in.map(FileChannel.MapMode.READ_ONLY, from, plain);
+                final MappedByteBuffer output = out.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_LENGTH + first * (size + TAG_LENGTH), plain + count * TAG_LENGTH);
+                for (long i = 0; i < count; i++) {
+                    final int limit = (int) Math.min(plain, (i + 1) * size);
+                    input.limit(limit).position((int) (i * size));
+                    seal(cipher, header, first + i, first + i == segments - 1, input, output);
+                }
+            });
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    /**
+     * 解密文件，源文件和目标文件按窗口映射到内存，各窗口中的段并行解密
+     *
+     * @param source 密文文件
+     * @param target 明文文件，已存在时覆盖
+     */
+    public void decrypt(final Path source, final Path target) {
+        final ExecutorService executor = executor();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final Header header = readHeader(in);
+            final long size = header.segmentSize;
+            final long segments = segments(header, in.size());
+            final long length = in.size() - HEADER_LENGTH - segments * TAG_LENGTH;
+            final long window = Math.max(1, WINDOW / size);
+            execute(executor, Math.toIntExact(ceilDiv(segments, window)), (cipher, w) -> {
+                final long first = w * window;
+                final long count = Math.min(window, segments - first);
+                final long from = first * size;
+                final long plain = Math.min(length, from + count * size) - from;
+                final MappedByteBuffer input = in.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_LENGTH + first * (size + TAG_LENGTH), plain + count * TAG_LENGTH);
+                final MappedByteBuffer output = out.map(FileChannel.MapMode.READ_WRITE, from, plain);
+                for (long i = 0; i < count; i++) {
+                    final int limit = (int) Math.min(plain + count * TAG_LENGTH, (i + 1) * (size + TAG_LENGTH));
+                    input.limit(limit).position((int) (i * (size + TAG_LENGTH)));
+                    open(cipher, header, first + i, first + i == segments - 1, input, output);
+                }
+            });
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    /**
+     * 获取密文文件对应的明文长度
+     *
+     * @param source 密文文件
+     * @return 明文长度
+     */
+    public long size(final Path source) {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            final Header header = readHeader(in);
+            return in.size() - HEADER_LENGTH - segments(header, in.size()) * TAG_LENGTH;
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 随机读取密文文件中的部分明文，只解密覆盖该范围的段
+     *
+     * @param source   密文文件
+     * @param position 明文中的起始位置
+     * @param length   读取长度，超出明文末尾的部分被忽略
+     * @return 明文
+     */
+    public byte[] read(final Path source, final long position, final int length) {
+        Assert.isTrue(position >= 0 && length >= 0, "Invalid range");
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            final Header header = readHeader(in);
+            final long size = header.segmentSize;
+            final long segments = segments(header, in.size());
+            final long total = in.size() - HEADER_LENGTH - segments * TAG_LENGTH;
+            final long end = Math.min(total, position + length);
+            if (position >= end) {
+                return new byte[0];
+            }
+            final byte[] result = new byte[(int) (end - position)];
+            final Cipher cipher = cipher();
+            for (long i = position / size; i <= (end - 1) / size; i++) {
+                final long from = HEADER_LENGTH + i * (size + TAG_LENGTH);
+                final ByteBuffer sealed = ByteBuffer.allocate((int) Math.min(size + TAG_LENGTH, in.size() - from));
+                while (sealed.hasRemaining() && in.read(sealed, from + sealed.position()) > 0) {
+                    // 读取整段
+                }
+                sealed.flip();
+                final ByteBuffer plain = ByteBuffer.allocate(sealed.remaining() - TAG_LENGTH);
+                open(cipher, header, i, i == segments - 1, sealed, plain);
+                final long start = Math.max(position, i * size);
+                final long stop = Math.min(end, i * size + plain.capacity());
+                System.arraycopy(plain.array(), (int) (start - i * size), result, (int) (start - position),
+                        (int) (stop - start));
+            }
+            return result;
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } catch (final GeneralSecurityException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * 加密一段，输入缓冲区从 position 读取到 limit，结果写入输出缓冲区当前位置
+     *
+     * @param cipher 当前线程使用的{@link Cipher}
+     * @param header 头部
+     * @param index  段序号
+     * @param last   是否最后一段
+     * @param input  明文
+     * @param output 密文
+     * @throws GeneralSecurityException 加密异常
+     */
+    private void seal(final Cipher cipher, final Header header, final long index, final boolean last,
+            final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, header.key, new GCMParameterSpec(TAG_LENGTH * 8, nonce(header, index, last)));
+        cipher.updateAAD(header.bytes);
+        cipher.doFinal(input, output);
+    }
+
+    /**
+     * 解密一段并校验认证标签，输入缓冲区从 position 读取到 limit，结果写入输出缓冲区当前位置
+     *
+     * @param cipher 当前线程使用的{@link Cipher}
+     * @param header 头部
+     * @param index  段序号
+     * @param last   是否最后一段
+     * @param input  密文
+     * @param output 明文
+     * @throws GeneralSecurityException 解密或认证失败
+     */
+    private void open(final Cipher cipher, final Header header, final long index, final boolean last,
+            final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        if (input.remaining() < TAG_LENGTH) {
+            throw new CryptoException("Truncated segment: {}", index);
+        }
+        cipher.init(Cipher.DECRYPT_MODE, header.key, new GCMParameterSpec(TAG_LENGTH * 8, nonce(header, index, last)));
+        cipher.updateAAD(header.bytes);
+        cipher.doFinal(input, output);
+    }
+
+    /**
+     * 段的 nonce：noncePrefix | 段序号 | 是否最后一段
+     *
+     * @param header 头部
+     * @param index  段序号
+     * @param last   是否最后一段
+     * @return nonce
+     */
+    private static byte[] nonce(final Header header, final long index, final boolean last) {
+        if (index > 0xFFFFFFFFL) {
+            throw new CryptoException("Too many segments");
+        }
+        final byte[] nonce = Arrays.copyOf(header.prefix, 12);
+        nonce[7] = (byte) (index >>> 24);
+        nonce[8] = (byte) (index >>> 16);
+        nonce[9] = (byte) (index >>> 8);
+        nonce[10] = (byte) index;
+        nonce[11] = (byte) (last ? 1 : 0);
+        return nonce;
+    }
+
+    /**
+     * 根据密文长度计算段数，并校验最后一段的长度
+     *
+     * @param header 头部
+     * @param length 密文总长度
+     * @return 段数
+     */
+    private static long segments(final Header header, final long length) {
+        final long body = length - HEADER_LENGTH;
+        final long sealed = header.segmentSize + (long) TAG_LENGTH;
+        final long segments = Math.max(1, ceilDiv(body, sealed));
+        final long tail = body - (segments - 1) * sealed;
+        if (body < TAG_LENGTH || tail < TAG_LENGTH) {
+            throw new CryptoException("Truncated segmented cipher text");
+        }
+        return segments;
+    }
+
+    /**
+     * 创建新的头部，生成随机盐和 nonce 前缀并派生段密钥
+     *
+     * @param segmentSize 每段明文字节数
+     * @return 头部
+     */
+    private Header newHeader(final int segmentSize) {
+        final byte[] bytes = new byte[HEADER_LENGTH];
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        bytes[4] = VERSION;
+        bytes[5] = (byte) (this.algorithm == Algorithm.AES ? 1 : 2);
+        ByteBuffer.wrap(bytes, 6, 4).putInt(segmentSize);
+        final byte[] random = RandomKit.randomBytes(SALT_LENGTH + PREFIX_LENGTH, RandomKit.getSecureRandom());
+        System.arraycopy(random, 0, bytes, 10, random.length);
+        return header(bytes);
+    }
+
+    /**
+     * 从文件开头读取头部
+     *
+     * @param in 密文文件
+     * @return 头部
+     * @throws IOException IO异常
+     */
+    private Header readHeader(final FileChannel in) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH);
+        while (buffer.hasRemaining() && in.read(buffer, buffer.position()) > 0) {
+            // 读取头部
+        }
+        return readHeader(buffer.array());
+    }
+
+    /**
+     * 解析并校验头部
+     *
+     * @param bytes 头部字节
+     * @return 头部
+     */
+    private Header readHeader(final byte[] bytes) {
+        if (bytes.length != HEADER_LENGTH || !MessageDigest.isEqual(MAGIC, Arrays.copyOf(bytes, MAGIC.length))
+                || bytes[4] != VERSION) {
+            throw new CryptoException("Not a segmented cipher text");
+        }
+        if (bytes[5] != (this.algorithm == Algorithm.AES ? 1 : 2)) {
+            throw new CryptoException("Cipher text was not encrypted with {}", this.algorithm);
+        }
+        final int segmentSize = ByteBuffer.wrap(bytes, 6, 4).getInt();
+        if (segmentSize <= 0) {
+            throw new CryptoException("Invalid segment size: {}", segmentSize);
+        }
+        return header(bytes);
+    }
+
+    /**
+     * 由头部中的随机盐派生段密钥
+     *
+     * @param bytes 头部字节
+     * @return 头部
+     */
+    private Header header(final byte[] bytes) {
+        final Mac mac = Builder.createMac(Algorithm.HMACSHA256.getValue());
+        try {
+            mac.init(new SecretKeySpec(this.key, Algorithm.HMACSHA256.getValue()));
+        } catch (final GeneralSecurityException e) {
+            throw new CryptoException(e);
+        }
+        mac.update(bytes, 10, SALT_LENGTH);
+        final byte[] derived = Arrays.copyOf(mac.doFinal(), this.key.length);
+        return new Header(bytes, ByteBuffer.wrap(bytes, 6, 4).getInt(),
+                new SecretKeySpec(derived, this.algorithm.getValue()),
+                Arrays.copyOfRange(bytes, 10 + SALT_LENGTH, HEADER_LENGTH));
+    }
+
+    /**
+     * 创建段加解密使用的{@link Cipher}
+     *
+     * @return {@link Cipher}
+     */
+    private Cipher cipher() {
+        return Builder.createCipher(this.algorithm.getValue() + "/GCM/NoPadding");
+    }
+
+    /**
+     * 创建并行执行的线程池，并行数为1时返回{@code null}
+     *
+     * @return 线程池
+     */
+    private ExecutorService executor() {
+        return this.parallelism > 1 ? ThreadKit.newFixedExecutor(this.parallelism, "bus-segmented-", true) : null;
+    }
+
+    /**
+     * 关闭线程池
+     *
+     * @param executor 线程池，可以为{@code null}
+     */
+    private static void shutdown(final ExecutorService executor) {
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 执行多个任务，每个执行线程使用各自的{@link Cipher}，线程池为{@code null}时在调用线程中依次执行
+     *
+     * @param executor 线程池
+     * @param count    任务数
+     * @param task     任务
+     * @throws IOException IO异常
+     */
+    private void execute(final ExecutorService executor, final int count, final Task task) throws IOException {
+        if (null == executor || count <= 1) {
+            final Cipher cipher = cipher();
+            for (int i = 0; i < count; i++) {
+                run(task, cipher, i);
+            }
+            return;
+        }
+        final int threads = Math.min(this.parallelism, count);
+        final AtomicInteger next = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                final Cipher cipher = cipher();
+                for (;;) {
+                    final int i = next.getAndIncrement();
+                    if (i >= count) {
+                        return null;
+                    }
+                    run(task, cipher, i);
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new InternalException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 执行单个任务，统一转换异常
+     *
+     * @param task   任务
+     * @param cipher 当前线程使用的{@link Cipher}
+     * @param index  任务序号
+     * @throws IOException IO异常
+     */
+    private static void run(final Task task, final Cipher cipher, final int index) throws IOException {
+        try {
+            task.run(cipher, index);
+        } catch (final GeneralSecurityException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    /**
+     * 分段任务
+     */
+    @FunctionalInterface
+    private interface Task {
+
+        /**
+         * 执行任务
+         *
+         * @param cipher 当前线程使用的{@link Cipher}
+         * @param index  任务序号
+         * @throws IOException              IO异常
+         * @throws GeneralSecurityException 加解密异常
+         */
+        void run(Cipher cipher, int index) throws IOException, GeneralSecurityException;
+
+    }
+
+    /**
+     * 向上取整的除法
+     *
+     * @param x 被除数
+     * @param y 除数
+     * @return 商
+     */
+    private static long ceilDiv(final long x, final long y) {
+        return (x + y - 1) / y;
+    }
+
+    /**
+     * 头部及派生的段密钥
+     *
+     * @param bytes       头部原始字节，作为附加认证数据
+     * @param segmentSize 每段明文字节数
+     * @param key         段密钥
+     * @param prefix      nonce 前缀
+     */
+    private record Header(byte[] bytes, int segmentSize, SecretKey key, byte[] prefix) {
+
+    }
+
+}
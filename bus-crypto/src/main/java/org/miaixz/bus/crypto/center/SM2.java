@@ -50,6 +50,7 @@ import org.bouncycastle.crypto.signers.PlainDSAEncoding;
 import org.bouncycastle.crypto.signers.SM2Signer;
 import org.bouncycastle.crypto.signers.StandardDSAEncoding;
 import org.bouncycastle.util.BigIntegers;
+import org.bouncycastle.util.Memoable;
 import org.bouncycastle.util.encoders.Hex;
 import org.miaixz.bus.core.lang.Algorithm;
 import org.miaixz.bus.core.lang.Assert;
@@ -58,6 +59,7 @@ import org.miaixz.bus.core.xyz.ArrayKit;
 import org.miaixz.bus.core.xyz.HexKit;
 import org.miaixz.bus.crypto.Builder;
 import org.miaixz.bus.crypto.Keeper;
+import org.miaixz.bus.crypto.builtin.Recycler;
 import org.miaixz.bus.crypto.builtin.asymmetric.AbstractCrypto;
 import org.miaixz.bus.crypto.builtin.asymmetric.KeyType;
 
@@ -116,6 +118,18 @@ public class SM2 extends AbstractCrypto<SM2> {
      * 是否去除压缩04压缩标识
      */
     private boolean removeCompressedFlag;
+    /**
+     * 是否开启并发模式
+     */
+    private boolean concurrent;
+    /**
+     * 并发模式下使用的{@link SM2Engine}池，未开启时为{@code null}
+     */
+    private transient volatile Recycler<SM2Engine> engines;
+    /**
+     * 并发模式下使用的{@link SM2Signer}池，未开启时为{@code null}
+     */
+    private transient volatile Recycler<SM2Signer> signers;
 
     /**
      * 构造，生成新的随机私钥公钥对
@@ -380,6 +394,19 @@ public class SM2 extends AbstractCrypto<SM2> {
      * @throws CryptoException 包括InvalidKeyException和InvalidCipherTextException的包装异常
      */
     public byte[] encrypt(final byte[] data, final CipherParameters pubKeyParameters) throws CryptoException {
+        final Recycler<SM2Engine> pool = this.engines;
+        if (null != pool) {
+            final SM2Engine engine = pool.borrow();
+            final byte[] result;
+            try {
+                engine.init(true, pubKeyParameters);
+                result = engine.processBlock(data, 0, data.length);
+            } catch (final InvalidCipherTextException e) {
+                throw new CryptoException(e);
+            }
+            pool.release(engine);
+            return this.removeCompressedFlag ? removeCompressedFlag(result) : result;
+        }
         lock.lock();
         final SM2Engine engine = getEngine();
         try {
@@ -512,20 +539,30 @@ public class SM2 extends AbstractCrypto<SM2> {
      * @return 签名
      */
     public byte[] sign(final byte[] data, final byte[] id) {
-        lock.lock();
-        final SM2Signer signer = getSigner();
+        final Recycler<SM2Signer> pool = this.signers;
+        final SM2Signer signer = null == pool ? null : pool.borrow();
+        if (null == signer) {
+            lock.lock();
+        }
         try {
+            final SM2Signer current = null == signer ? getSigner() : signer;
             CipherParameters param = new ParametersWithRandom(getCipherParameters(KeyType.PrivateKey), this.random);
             if (id != null) {
                 param = new ParametersWithID(param, id);
             }
-            signer.init(true, param);
-            signer.update(data, 0, data.length);
-            return signer.generateSignature();
+            current.init(true, param);
+            current.update(data, 0, data.length);
+            final byte[] result = current.generateSignature();
+            if (null != signer) {
+                pool.release(signer);
+            }
+            return result;
         } catch (final org.bouncycastle.crypto.CryptoException e) {
             throw new CryptoException(e);
         } finally {
-            lock.unlock();
+            if (null == signer) {
+                lock.unlock();
+            }
         }
     }
 
@@ -572,18 +609,28 @@ public class SM2 extends AbstractCrypto<SM2> {
      * @return 是否验证通过
      */
     public boolean verify(final byte[] data, final byte[] sign, final byte[] id) {
-        lock.lock();
-        final SM2Signer signer = getSigner();
+        final Recycler<SM2Signer> pool = this.signers;
+        final SM2Signer signer = null == pool ? null : pool.borrow();
+        if (null == signer) {
+            lock.lock();
+        }
         try {
+            final SM2Signer current = null == signer ? getSigner() : signer;
             CipherParameters param = getCipherParameters(KeyType.PublicKey);
             if (id != null) {
                 param = new ParametersWithID(param, id);
             }
-            signer.init(false, param);
-            signer.update(data, 0, data.length);
-            return signer.verifySignature(sign);
+            current.init(false, param);
+            current.update(data, 0, data.length);
+            final boolean result = current.verifySignature(sign);
+            if (null != signer) {
+                pool.release(signer);
+            }
+            return result;
         } finally {
-            lock.unlock();
+            if (null == signer) {
+                lock.unlock();
+            }
         }
     }
 
@@ -668,6 +715,7 @@ public class SM2 extends AbstractCrypto<SM2> {
     public SM2 setEncoding(final DSAEncoding encoding) {
         this.encoding = encoding;
         this.signer = null;
+        reset();
         return this;
     }
 
@@ -681,6 +729,7 @@ public class SM2 extends AbstractCrypto<SM2> {
         this.digest = digest;
         this.engine = null;
         this.signer = null;
+        reset();
         return this;
     }
 
@@ -693,6 +742,7 @@ public class SM2 extends AbstractCrypto<SM2> {
     public SM2 setMode(final SM2Engine.Mode mode) {
         this.mode = mode;
         this.engine = null;
+        reset();
         return this;
     }
 
@@ -792,6 +842,19 @@ public class SM2 extends AbstractCrypto<SM2> {
         Assert.isTrue(data.length > 1, "Invalid SM2 cipher text, must be at least 1 byte long");
         data = prependCompressedFlag(data);
 
+        final Recycler<SM2Engine> pool = this.engines;
+        if (null != pool) {
+            final SM2Engine engine = pool.borrow();
+            final byte[] result;
+            try {
+                engine.init(false, privateKeyParameters);
+                result = engine.processBlock(data, 0, data.length);
+            } catch (final InvalidCipherTextException e) {
+                throw new CryptoException(e);
+            }
+            pool.release(engine);
+            return result;
+        }
         lock.lock();
         final SM2Engine engine = getEngine();
         try {
@@ -815,4 +878,45 @@ public class SM2 extends AbstractCrypto<SM2> {
         return this;
     }
 
+    /**
+     * 设置是否开启并发模式，开启后加解密、签名和验签不再共用同一个引擎加锁执行，而是从池中借出各自持有摘要副本的引擎，
+     * 多线程调用时无需互相等待。摘要算法需实现{@link Memoable}才能复制，否则仍使用加锁模式
+     *
+     * @param concurrent 是否开启并发模式
+     * @return this
+     */
+    public SM2 setConcurrent(final boolean concurrent) {
+        this.concurrent = concurrent;
+        reset();
+        return this;
+    }
+
+    /**
+     * 摘要算法、模式或编码变化后重建池
+     */
+    private void reset() {
+        if (this.concurrent && this.digest instanceof Memoable) {
+            final Digest digest = this.digest;
+            final SM2Engine.Mode mode = this.mode;
+            final DSAEncoding encoding = this.encoding;
+            this.engines = new Recycler<>(() -> new SM2Engine(copy(digest), mode));
+            this.signers = new Recycler<>(() -> new SM2Signer(encoding, copy(digest)));
+        } else {
+            this.engines = null;
+            this.signers = null;
+        }
+    }
+
+    /**
+     * 复制摘要算法并重置状态
+     *
+     * @param digest 摘要算法，需实现{@link Memoable}
+     * @return 摘要算法副本
+     */
+    private static Digest copy(final Digest digest) {
+        final Digest copy = (Digest) ((Memoable) digest).copy();
+        copy.reset();
+        return copy;
+    }
+
 }
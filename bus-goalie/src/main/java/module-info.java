@@ -63,5 +63,6 @@ module bus.goalie {
     exports org.miaixz.bus.goalie.magic;
     exports org.miaixz.bus.goalie.provider;
     exports org.miaixz.bus.goalie.registry;
+    exports org.miaixz.bus.goalie.stream;
 
 }
@@ -98,6 +98,11 @@ public class Context {
      */
     private long startTime;
 
+    /**
+     * 响应改写过程中缓冲的字节数峰值，用于监控网关内存占用
+     */
+    private long buffered;
+
     /**
      * 从 ServerWebExchange 获取或初始化上下文对象
      *
@@ -81,9 +81,9 @@ public class DecryptFilter implements WebFilter {
     @PostConstruct
     public void init() {
         if (Algorithm.AES.getValue().equals(decrypt.getType())) {
-            // 使用 AES 算法，CBC 模式，PKCS7 填充
+            // 使用 AES 算法，CBC 模式，PKCS7 填充，并发请求各自使用池中的 Cipher
             crypto = new AES(Algorithm.Mode.CBC, Padding.PKCS7Padding, decrypt.getKey().getBytes(),
-                    decrypt.getOffset().getBytes());
+                    decrypt.getOffset().getBytes()).setConcurrent(true);
         }
     }
 
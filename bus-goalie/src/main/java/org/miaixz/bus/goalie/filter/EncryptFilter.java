@@ -27,30 +27,31 @@
 */
 package org.miaixz.bus.goalie.filter;
 
-import java.nio.CharBuffer;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
 
-import org.miaixz.bus.core.basic.entity.Message;
 import org.miaixz.bus.core.lang.Algorithm;
-import org.miaixz.bus.core.lang.Charset;
-import org.miaixz.bus.core.xyz.ObjectKit;
+import org.miaixz.bus.core.lang.exception.CryptoException;
+import org.miaixz.bus.crypto.Builder;
 import org.miaixz.bus.crypto.Padding;
 import org.miaixz.bus.crypto.builtin.symmetric.Crypto;
 import org.miaixz.bus.crypto.center.AES;
-import org.miaixz.bus.extra.json.JsonKit;
 import org.miaixz.bus.goalie.Config;
 import org.miaixz.bus.goalie.Context;
+import org.miaixz.bus.goalie.stream.EncryptRewriter;
+import org.miaixz.bus.goalie.stream.Rewriter;
 import org.reactivestreams.Publisher;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
 import jakarta.annotation.PostConstruct;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -113,17 +114,18 @@ public class EncryptFilter implements WebFilter {
     }
 
     /**
-     * 执行加密操作，加密消息中的数据
+     * 创建当前响应专用的加密器，共享实例的密码器不可并发使用
      *
-     * @param message 消息对象，包含待加密的数据
+     * @return 已初始化为加密模式的密码器
      */
-    private void doEncrypt(Message message) {
-        if (ObjectKit.isNotNull(message.getData())) {
-            if (Algorithm.AES.getValue().equals(encrypt.getType())) {
-                // 将数据序列化为 JSON 后进行 AES 加密，并转换为 Base64
-                message.setData(crypto.encryptBase64(JsonKit.toJsonString(message.getData()), Charset.UTF_8));
-            }
+    private Cipher cipher() {
+        Cipher cipher = Builder.createCipher(crypto.getCipher().getAlgorithm());
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, crypto.getSecretKey(), new IvParameterSpec(encrypt.getOffset().getBytes()));
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException(e);
         }
+        return cipher;
     }
 
     /**
@@ -143,20 +145,10 @@ public class EncryptFilter implements WebFilter {
             @Override
             public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
                 boolean isSign = Context.get(exchange).getAssets().isSign();
-                if (isSign) {
-                    // 将响应数据流合并为单个缓冲区
-                    Flux<? extends DataBuffer> flux = Flux.from(body);
-                    return super.writeWith(DataBufferUtils.join(flux).map(dataBuffer -> {
-                        // 将缓冲区解码为字符串
-                        CharBuffer charBuffer = Charset.UTF_8.decode(dataBuffer.asByteBuffer());
-                        DataBufferUtils.release(dataBuffer); // 释放缓冲区
-                        // 解析为 Message 对象
-                        Message message = JsonKit.toPojo(charBuffer.toString(), Message.class);
-                        // 加密消息数据
-                        doEncrypt(message);
-                        // 将加密后的消息序列化为 JSON 并写入新缓冲区
-                        return bufferFactory().wrap(JsonKit.toJsonString(message).getBytes());
-                    }));
+                if (isSign && null != crypto && Rewriter.isJson(getHeaders().getContentType())) {
+                    // 逐块加密消息数据，不合并整个响应体
+                    return super.writeWith(
+                            new EncryptRewriter(bufferFactory(), cipher()).rewrite(exchange, getDelegate(), body));
                 }
                 // 未要求加密，直接写入原始数据
                 return super.writeWith(body);
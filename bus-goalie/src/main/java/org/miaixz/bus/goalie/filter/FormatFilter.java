@@ -27,23 +27,18 @@
 */
 package org.miaixz.bus.goalie.filter;
 
-import java.nio.charset.Charset;
-
-import org.miaixz.bus.core.basic.entity.Message;
-import org.miaixz.bus.extra.json.JsonKit;
 import org.miaixz.bus.goalie.Context;
-import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.goalie.stream.Rewriter;
+import org.miaixz.bus.goalie.stream.XmlRewriter;
 import org.reactivestreams.Publisher;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -84,32 +79,21 @@ public class FormatFilter implements WebFilter {
         Context context = Context.get(exchange);
         return new ServerHttpResponseDecorator(exchange.getResponse()) {
             /**
-             * 重写响应写入逻辑，处理数据格式化
+             * 重写响应写入逻辑，流式处理数据格式化
              *
              * @param body 响应数据流
              * @return {@link Mono<Void>} 表示异步写入完成
              */
             @Override
             public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
-                // 将响应数据流合并为单个缓冲区
-                Flux<? extends DataBuffer> flux = Flux.from(body);
-                return super.writeWith(DataBufferUtils.join(flux).map(dataBuffer -> {
-                    // 设置响应内容类型为上下文指定的媒体类型
-                    exchange.getResponse().getHeaders().setContentType(context.getFormat().getMediaType());
-                    // 将缓冲区解码为字符串
-                    String bodyString = Charset.defaultCharset().decode(dataBuffer.asByteBuffer()).toString();
-                    DataBufferUtils.release(dataBuffer); // 释放缓冲区
-                    // 解析为 Message 对象
-                    Message message = JsonKit.toPojo(bodyString, Message.class);
-                    // 使用上下文指定的提供者序列化消息
-                    String formatBody = context.getFormat().getProvider().serialize(message);
-                    // 记录 TRACE 日志（如果启用）
-                    if (Logger.isTraceEnabled()) {
-                        Logger.trace("traceId:{},resp <= {}", exchange.getLogPrefix(), formatBody);
-                    }
-                    // 将格式化后的数据写入新缓冲区
-                    return bufferFactory().wrap(formatBody.getBytes());
-                }));
+                // 非 JSON 响应无需转换，原样透传
+                if (!Rewriter.isJson(getHeaders().getContentType())) {
+                    return super.writeWith(body);
+                }
+                // 设置响应内容类型为上下文指定的媒体类型
+                getHeaders().setContentType(context.getFormat().getMediaType());
+                // 逐块将 JSON 转换为 XML，不合并整个响应体
+                return super.writeWith(new XmlRewriter(bufferFactory()).rewrite(exchange, getDelegate(), body));
             }
         };
     }
@@ -0,0 +1,210 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.goalie.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherOutputStream;
+
+import org.miaixz.bus.core.lang.exception.CryptoException;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+/**
+ * 加密改写器，原样输出响应信封，将顶层 {@code data} 字段的 JSON 内容分块送入密码器并以 Base64 字符串写回
+ * <p>
+ * 等价于对 {@code Message#data} 执行 {@code encryptBase64(JsonKit.toJsonString(data))}，但密文随上游数据块逐段产出； {@code data} 为
+ * {@code null} 时保持不变。
+ * </p>
+ *
+ * @author Justubborn
+ * @since Java 17+
+ */
+public class EncryptRewriter extends Rewriter {
+
+    /**
+     * 需要加密的字段名
+     */
+    private static final String DATA = "data";
+
+    /**
+     * 已初始化为加密模式的密码器，仅供当前响应使用
+     */
+    private final Cipher cipher;
+    /**
+     * 信封输出器
+     */
+    private final JsonWriter envelope = new JsonWriter(sink);
+    /**
+     * 当前嵌套深度
+     */
+    private int level;
+    /**
+     * 下一个值是否为顶层 data 字段的值
+     */
+    private boolean target;
+    /**
+     * 加密开始时的嵌套深度，-1 表示未在加密
+     */
+    private int captured = -1;
+    /**
+     * 加密输出流
+     */
+    private OutputStream stream;
+    /**
+     * 加密内容输出器
+     */
+    private JsonWriter payload;
+
+    /**
+     * 构造
+     *
+     * @param factory 数据缓冲区工厂
+     * @param cipher  已初始化为加密模式的密码器
+     */
+    public EncryptRewriter(DataBufferFactory factory, Cipher cipher) {
+        super(factory);
+        this.cipher = cipher;
+    }
+
+    @Override
+    public void startObject() {
+        start();
+        if (null != payload) {
+            payload.startObject();
+        } else {
+            envelope.startObject();
+        }
+        level++;
+    }
+
+    @Override
+    public void endObject() {
+        level--;
+        if (null != payload) {
+            payload.endObject();
+            end();
+        } else {
+            envelope.endObject();
+        }
+    }
+
+    @Override
+    public void startArray() {
+        start();
+        if (null != payload) {
+            payload.startArray();
+        } else {
+            envelope.startArray();
+        }
+        level++;
+    }
+
+    @Override
+    public void endArray() {
+        level--;
+        if (null != payload) {
+            payload.endArray();
+            end();
+        } else {
+            envelope.endArray();
+        }
+    }
+
+    @Override
+    public void name(String name) {
+        if (null != payload) {
+            payload.name(name);
+        } else {
+            envelope.name(name);
+            target = level == 1 && DATA.equals(name);
+        }
+    }
+
+    @Override
+    public void string(String value) {
+        start();
+        if (null != payload) {
+            payload.string(value);
+            end();
+        } else {
+            envelope.string(value);
+        }
+    }
+
+    @Override
+    public void literal(String value) {
+        if (target && "null".equals(value)) {
+            target = false;
+        }
+        start();
+        if (null != payload) {
+            payload.literal(value);
+            end();
+        } else {
+            envelope.literal(value);
+        }
+    }
+
+    /**
+     * 若当前值为 data 字段的值，开启加密输出
+     */
+    private void start() {
+        if (!target) {
+            return;
+        }
+        target = false;
+        captured = level;
+        envelope.separate();
+        write((byte) '"');
+        stream = new CipherOutputStream(Base64.getEncoder().wrap(sink), cipher);
+        payload = new JsonWriter(stream);
+    }
+
+    /**
+     * 若 data 字段的值已完整输出，完成加密并闭合字符串
+     */
+    private void end() {
+        if (level != captured) {
+            return;
+        }
+        try {
+            // 关闭时执行 doFinal 并写出 Base64 尾部填充
+            stream.close();
+        } catch (IOException e) {
+            throw new CryptoException(e);
+        }
+        write((byte) '"');
+        captured = -1;
+        stream = null;
+        payload = null;
+    }
+
+}
@@ -0,0 +1,401 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.goalie.stream;
+
+import java.nio.ByteBuffer;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+
+/**
+ * 增量式 JSON 词法解析器，逐字节消费任意切分的数据块并以事件形式回调，不要求完整报文驻留内存
+ * <p>
+ * 仅为当前正在解析的单个词法单元（字段名、字符串或字面量）保留暂存区，数据块可在任意字节位置切分， 包括 UTF-8 多字节字符与转义序列的中间。
+ * </p>
+ *
+ * @author Justubborn
+ * @since Java 17+
+ */
+public class JsonTokenizer {
+
+    /**
+     * 状态：词法单元之间
+     */
+    private static final int SPACE = 0;
+    /**
+     * 状态：字符串内部
+     */
+    private static final int STRING = 1;
+    /**
+     * 状态：字符串转义字符之后
+     */
+    private static final int ESCAPE = 2;
+    /**
+     * 状态：Unicode 转义序列内部
+     */
+    private static final int UNICODE = 3;
+    /**
+     * 状态：数字或 true/false/null 字面量内部
+     */
+    private static final int LITERAL = 4;
+
+    /**
+     * 容器类型：对象
+     */
+    private static final byte OBJECT = 1;
+    /**
+     * 容器类型：数组
+     */
+    private static final byte ARRAY = 2;
+
+    /**
+     * 事件监听器
+     */
+    private final Listener listener;
+
+    /**
+     * 当前词法单元暂存区
+     */
+    private byte[] scratch = new byte[64];
+    /**
+     * 暂存区已用长度
+     */
+    private int length;
+    /**
+     * 容器栈
+     */
+    private byte[] containers = new byte[16];
+    /**
+     * 当前嵌套深度
+     */
+    private int depth;
+    /**
+     * 当前状态
+     */
+    private int state = SPACE;
+    /**
+     * 下一个字符串是否为字段名
+     */
+    private boolean expectName;
+    /**
+     * Unicode 转义累加值
+     */
+    private int unicode;
+    /**
+     * Unicode 转义已读位数
+     */
+    private int digits;
+    /**
+     * 等待配对的高位代理字符
+     */
+    private char highSurrogate;
+
+    /**
+     * 构造
+     *
+     * @param listener 事件监听器
+     */
+    public JsonTokenizer(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 消费一个数据块
+     *
+     * @param buffer 数据块，读取至 limit
+     */
+    public void feed(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            process(buffer.get());
+        }
+    }
+
+    /**
+     * 标记输入结束，输出末尾未结束的字面量并校验结构完整性
+     *
+     * @throws InternalException 输入不是完整的 JSON
+     */
+    public void finish() {
+        if (state == LITERAL) {
+            endLiteral();
+            state = SPACE;
+        }
+        if (state != SPACE || depth != 0) {
+            throw new InternalException("Unexpected end of JSON input");
+        }
+    }
+
+    /**
+     * 获取暂存区当前占用的字节数（容量）
+     *
+     * @return 字节数
+     */
+    public int getBuffered() {
+        return scratch.length + containers.length;
+    }
+
+    /**
+     * 处理单个字节
+     *
+     * @param b 字节
+     */
+    private void process(byte b) {
+        switch (state) {
+            case STRING:
+                if (b == '"') {
+                    state = SPACE;
+                    endString();
+                } else if (b == '\\') {
+                    state = ESCAPE;
+                } else {
+                    append(b);
+                }
+                break;
+            case ESCAPE:
+                state = STRING;
+                switch (b) {
+                    case 'b' -> append((byte) '\b');
+                    case 'f' -> append((byte) '\f');
+                    case 'n' -> append((byte) '\n');
+                    case 'r' -> append((byte) '\r');
+                    case 't' -> append((byte) '\t');
+                    case 'u' -> {
+                        state = UNICODE;
+                        unicode = 0;
+                        digits = 0;
+                    }
+                    default -> append(b);
+                }
+                break;
+            case UNICODE:
+                int digit = Character.digit(b, 16);
+                if (digit < 0) {
+                    throw new InternalException("Invalid unicode escape in JSON string");
+                }
+                unicode = (unicode << 4) | digit;
+                if (++digits == 4) {
+                    state = STRING;
+                    appendChar((char) unicode);
+                }
+                break;
+            case LITERAL:
+                if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    state = SPACE;
+                    endLiteral();
+                    structural(b);
+                } else {
+                    append(b);
+                }
+                break;
+            default:
+                structural(b);
+        }
+    }
+
+    /**
+     * 处理词法单元之间的结构字符
+     *
+     * @param b 字节
+     */
+    private void structural(byte b) {
+        switch (b) {
+            case ' ', '\n', '\r', '\t', ':':
+                break;
+            case '{':
+                push(OBJECT);
+                expectName = true;
+                listener.startObject();
+                break;
+            case '}':
+                pop(OBJECT);
+                expectName = false;
+                listener.endObject();
+                break;
+            case '[':
+                push(ARRAY);
+                expectName = false;
+                listener.startArray();
+                break;
+            case ']':
+                pop(ARRAY);
+                listener.endArray();
+                break;
+            case ',':
+                expectName = depth > 0 && containers[depth - 1] == OBJECT;
+                break;
+            case '"':
+                state = STRING;
+                length = 0;
+                break;
+            default:
+                state = LITERAL;
+                length = 0;
+                append(b);
+        }
+    }
+
+    /**
+     * 字符串结束，按上下文回调字段名或字符串值
+     */
+    private void endString() {
+        String value = new String(scratch, 0, length, Charset.UTF_8);
+        if (expectName) {
+            expectName = false;
+            listener.name(value);
+        } else {
+            listener.string(value);
+        }
+    }
+
+    /**
+     * 字面量结束，回调原始文本
+     */
+    private void endLiteral() {
+        listener.literal(new String(scratch, 0, length, Charset.ISO_8859_1));
+    }
+
+    /**
+     * 容器入栈
+     *
+     * @param type 容器类型
+     */
+    private void push(byte type) {
+        if (depth == containers.length) {
+            byte[] grown = new byte[depth << 1];
+            System.arraycopy(containers, 0, grown, 0, depth);
+            containers = grown;
+        }
+        containers[depth++] = type;
+    }
+
+    /**
+     * 容器出栈并校验类型
+     *
+     * @param type 期望的容器类型
+     */
+    private void pop(byte type) {
+        if (depth == 0 || containers[--depth] != type) {
+            throw new InternalException("Mismatched bracket in JSON input");
+        }
+    }
+
+    /**
+     * 追加 Unicode 转义得到的字符，代理对合并后按 UTF-8 编码
+     *
+     * @param c 字符
+     */
+    private void appendChar(char c) {
+        if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+            return;
+        }
+        int codePoint = c;
+        if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+            codePoint = Character.toCodePoint(highSurrogate, c);
+        }
+        highSurrogate = 0;
+        if (codePoint < 0x80) {
+            append((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            append((byte) (0xC0 | (codePoint >> 6)));
+            append((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (codePoint < 0x10000) {
+            append((byte) (0xE0 | (codePoint >> 12)));
+            append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            append((byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+            append((byte) (0xF0 | (codePoint >> 18)));
+            append((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            append((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+
+    /**
+     * 追加字节到暂存区
+     *
+     * @param b 字节
+     */
+    private void append(byte b) {
+        if (length == scratch.length) {
+            byte[] grown = new byte[length << 1];
+            System.arraycopy(scratch, 0, grown, 0, length);
+            scratch = grown;
+        }
+        scratch[length++] = b;
+    }
+
+    /**
+     * JSON 词法事件监听器
+     */
+    public interface Listener {
+
+        /**
+         * 对象开始
+         */
+        void startObject();
+
+        /**
+         * 对象结束
+         */
+        void endObject();
+
+        /**
+         * 数组开始
+         */
+        void startArray();
+
+        /**
+         * 数组结束
+         */
+        void endArray();
+
+        /**
+         * 字段名
+         *
+         * @param name 字段名（已反转义）
+         */
+        void name(String name);
+
+        /**
+         * 字符串值
+         *
+         * @param value 字符串值（已反转义）
+         */
+        void string(String value);
+
+        /**
+         * 数字或 true/false/null 字面量
+         *
+         * @param value 原始文本
+         */
+        void literal(String value);
+
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.goalie.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+
+/**
+ * 紧凑 JSON 输出器，将 {@link JsonTokenizer} 的事件重新序列化到输出流，自动处理分隔符
+ *
+ * @author Justubborn
+ * @since Java 17+
+ */
+public class JsonWriter implements JsonTokenizer.Listener {
+
+    /**
+     * 目标输出流
+     */
+    private final OutputStream out;
+    /**
+     * 各层容器是否尚未写入元素
+     */
+    private boolean[] first = new boolean[16];
+    /**
+     * 当前嵌套深度
+     */
+    private int depth;
+    /**
+     * 上一个事件是否为字段名
+     */
+    private boolean afterName;
+
+    /**
+     * 构造
+     *
+     * @param out 目标输出流
+     */
+    public JsonWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void startObject() {
+        separate();
+        write('{');
+        push();
+    }
+
+    @Override
+    public void endObject() {
+        depth--;
+        write('}');
+    }
+
+    @Override
+    public void startArray() {
+        separate();
+        write('[');
+        push();
+    }
+
+    @Override
+    public void endArray() {
+        depth--;
+        write(']');
+    }
+
+    @Override
+    public void name(String name) {
+        separate();
+        quote(name);
+        write(':');
+        afterName = true;
+    }
+
+    @Override
+    public void string(String value) {
+        separate();
+        quote(value);
+    }
+
+    @Override
+    public void literal(String value) {
+        separate();
+        write(value);
+    }
+
+    /**
+     * 在写入值之前输出必要的逗号，供调用方直接向底层流写入值时使用
+     */
+    public void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (first[depth - 1]) {
+                first[depth - 1] = false;
+            } else {
+                write(',');
+            }
+        }
+    }
+
+    /**
+     * 新容器入栈
+     */
+    private void push() {
+        if (depth == first.length) {
+            boolean[] grown = new boolean[depth << 1];
+            System.arraycopy(first, 0, grown, 0, depth);
+            first = grown;
+        }
+        first[depth++] = true;
+    }
+
+    /**
+     * 写出带引号并转义的字符串
+     *
+     * @param value 字符串
+     */
+    private void quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        write(builder.append('"').toString());
+    }
+
+    /**
+     * 写出单个 ASCII 字符
+     *
+     * @param c 字符
+     */
+    private void write(char c) {
+        try {
+            out.write(c);
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 以 UTF-8 写出字符串
+     *
+     * @param text 字符串
+     */
+    private void write(String text) {
+        try {
+            out.write(text.getBytes(Charset.UTF_8));
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.goalie.stream;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.goalie.Context;
+import org.miaixz.bus.logger.Logger;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 流式响应改写器，逐块解析上游 JSON 响应并即时输出改写结果，避免合并整个响应体
+ * <p>
+ * 每个实例只服务于一次响应，改写过程中仅保留词法暂存区和当前数据块的输出，缓冲字节峰值会记录到 {@link Context#getBuffered()}。
+ * </p>
+ *
+ * @author Justubborn
+ * @since Java 17+
+ */
+public abstract class Rewriter implements JsonTokenizer.Listener {
+
+    /**
+     * 数据缓冲区工厂
+     */
+    protected final DataBufferFactory factory;
+    /**
+     * 写入当前输出缓冲区的输出流，关闭操作被忽略
+     */
+    protected final OutputStream sink = new OutputStream() {
+
+        @Override
+        public void write(int b) {
+            out.write((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            out.write(b, off, len);
+        }
+    };
+    /**
+     * 增量词法解析器
+     */
+    private final JsonTokenizer tokenizer = new JsonTokenizer(this);
+    /**
+     * 当前数据块对应的输出缓冲区
+     */
+    private DataBuffer out;
+    /**
+     * 缓冲字节峰值
+     */
+    private long buffered;
+
+    /**
+     * 构造
+     *
+     * @param factory 数据缓冲区工厂
+     */
+    protected Rewriter(DataBufferFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 判断响应内容是否为 JSON，未声明内容类型时按 JSON 处理
+     *
+     * @param contentType 响应内容类型
+     * @return 是否需要改写
+     */
+    public static boolean isJson(MediaType contentType) {
+        return null == contentType || MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || contentType.getSubtype().endsWith("+json");
+    }
+
+    /**
+     * 将上游响应流转换为改写后的响应流
+     *
+     * @param exchange 当前的 ServerWebExchange 对象
+     * @param response 被装饰的响应，用于在提交前移除失效的 Content-Length
+     * @param body     上游响应数据流
+     * @return 改写后的响应数据流
+     */
+    public Flux<DataBuffer> rewrite(ServerWebExchange exchange, ServerHttpResponse response,
+            Publisher<? extends DataBuffer> body) {
+        return Flux.from(body).map(this::rewrite).concatWith(Mono.fromSupplier(this::finish)).doOnNext(buffer -> {
+            if (!response.isCommitted()) {
+                response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            }
+        }).doFinally(signal -> {
+            Context context = Context.get(exchange);
+            context.setBuffered(Math.max(context.getBuffered(), buffered));
+            if (Logger.isDebugEnabled()) {
+                Logger.debug("traceId:{},rewrite buffered:{} bytes", exchange.getLogPrefix(), buffered);
+            }
+        });
+    }
+
+    /**
+     * 改写单个数据块，输入缓冲区在处理后释放
+     *
+     * @param buffer 上游数据块
+     * @return 改写后的数据块
+     */
+    public DataBuffer rewrite(DataBuffer buffer) {
+        out = factory.allocateBuffer(buffer.readableByteCount());
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer chunk = iterator.next();
+                tokenizer.feed(chunk);
+            }
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(out);
+            throw e;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return drain();
+    }
+
+    /**
+     * 输入结束，输出剩余内容
+     *
+     * @return 最后一个数据块
+     */
+    public DataBuffer finish() {
+        out = factory.allocateBuffer(256);
+        try {
+            tokenizer.finish();
+            complete();
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(out);
+            throw e;
+        }
+        return drain();
+    }
+
+    /**
+     * 获取缓冲字节峰值
+     *
+     * @return 字节数
+     */
+    public long getBuffered() {
+        return buffered;
+    }
+
+    /**
+     * 输入结束时的回调，子类可在此刷出剩余内容
+     */
+    protected void complete() {
+
+    }
+
+    /**
+     * 写出单个字节
+     *
+     * @param b 字节
+     */
+    protected void write(byte b) {
+        out.write(b);
+    }
+
+    /**
+     * 以 UTF-8 写出字符串
+     *
+     * @param text 字符串
+     */
+    protected void write(String text) {
+        out.write(text, Charset.UTF_8);
+    }
+
+    /**
+     * 交出当前输出缓冲区并更新缓冲峰值
+     *
+     * @return 输出缓冲区
+     */
+    private DataBuffer drain() {
+        DataBuffer result = out;
+        out = null;
+        buffered = Math.max(buffered, (long) tokenizer.getBuffered() + result.readableByteCount());
+        return result;
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.goalie.stream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+/**
+ * XML 改写器，将 JSON 响应逐个词法单元转换为 XML 输出
+ * <p>
+ * 转换规则与 {@code XmlKit.mapToXmlString} 一致：根节点为 {@code xml}，对象字段转换为同名子节点，数组元素转换为重复的同名节点， {@code null}
+ * 转换为空节点。
+ * </p>
+ *
+ * @author Justubborn
+ * @since Java 17+
+ */
+public class XmlRewriter extends Rewriter {
+
+    /**
+     * XML 声明
+     */
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"utf-8\"?>";
+    /**
+     * 根节点名
+     */
+    private static final String ROOT = "xml";
+
+    /**
+     * 容器栈
+     */
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    /**
+     * 最近一次读取的字段名
+     */
+    private String name;
+    /**
+     * 是否已写出 XML 声明
+     */
+    private boolean started;
+
+    /**
+     * 构造
+     *
+     * @param factory 数据缓冲区工厂
+     */
+    public XmlRewriter(DataBufferFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void startObject() {
+        String element = element();
+        open(element);
+        frames.push(new Frame(element, false));
+    }
+
+    @Override
+    public void endObject() {
+        close(frames.pop().name);
+    }
+
+    @Override
+    public void startArray() {
+        frames.push(new Frame(element(), true));
+    }
+
+    @Override
+    public void endArray() {
+        Frame frame = frames.pop();
+        if (frame.count == 0) {
+            open(frame.name);
+            close(frame.name);
+        }
+    }
+
+    @Override
+    public void name(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void string(String value) {
+        String element = element();
+        open(element);
+        escape(value);
+        close(element);
+    }
+
+    @Override
+    public void literal(String value) {
+        String element = element();
+        open(element);
+        if (!"null".equals(value)) {
+            write(value);
+        }
+        close(element);
+    }
+
+    /**
+     * 计算当前值对应的节点名
+     *
+     * @return 节点名
+     */
+    private String element() {
+        Frame frame = frames.peek();
+        if (null == frame) {
+            return ROOT;
+        }
+        if (frame.array) {
+            frame.count++;
+            return frame.name;
+        }
+        return name;
+    }
+
+    /**
+     * 写出开始标签，首次写出前输出 XML 声明
+     *
+     * @param element 节点名
+     */
+    private void open(String element) {
+        if (!started) {
+            started = true;
+            write(HEADER);
+        }
+        write((byte) '<');
+        write(element);
+        write((byte) '>');
+    }
+
+    /**
+     * 写出结束标签
+     *
+     * @param element 节点名
+     */
+    private void close(String element) {
+        write((byte) '<');
+        write((byte) '/');
+        write(element);
+        write((byte) '>');
+    }
+
+    /**
+     * 写出转义后的文本内容
+     *
+     * @param text 文本
+     */
+    private void escape(String text) {
+        int from = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String entity = switch (text.charAt(i)) {
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                case '\'' -> "&apos;";
+                default -> null;
+            };
+            if (null != entity) {
+                write(text.substring(from, i));
+                write(entity);
+                from = i + 1;
+            }
+        }
+        write(text.substring(from));
+    }
+
+    /**
+     * 容器帧，记录对象或数组对应的节点名
+     */
+    private static class Frame {
+
+        /**
+         * 节点名
+         */
+        private final String name;
+        /**
+         * 是否为数组
+         */
+        private final boolean array;
+        /**
+         * 数组已输出的元素个数
+         */
+        private int count;
+
+        /**
+         * 构造
+         *
+         * @param name  节点名
+         * @param array 是否为数组
+         */
+        private Frame(String name, boolean array) {
+            this.name = name;
+            this.array = array;
+        }
+    }
+
+}
@@ -44,6 +44,7 @@ module bus.limiter {
     requires sentinel.core;
 
     exports org.miaixz.bus.limiter;
+    exports org.miaixz.bus.limiter.engine;
     exports org.miaixz.bus.limiter.magic;
     exports org.miaixz.bus.limiter.magic.annotation;
     exports org.miaixz.bus.limiter.metric;
@@ -64,4 +64,10 @@ public class Context {
     @Builder.Default
     private String supplier = Normal.EMPTY;
 
+    /**
+     * 内置限流引擎最多跟踪的键数量，超出后淘汰最久未使用的键
+     */
+    @Builder.Default
+    private int capacity = 100_000;
+
 }
@@ -31,9 +31,14 @@ import java.lang.reflect.Method;
 
 import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.core.xyz.MethodKit;
-import org.miaixz.bus.crypto.Builder;
 import org.miaixz.bus.extra.json.JsonKit;
+import org.miaixz.bus.limiter.engine.Engine;
+import org.miaixz.bus.limiter.engine.Keys;
+import org.miaixz.bus.limiter.magic.Algorithm;
+import org.miaixz.bus.limiter.magic.FlowGrade;
 import org.miaixz.bus.limiter.magic.StrategyMode;
+import org.miaixz.bus.limiter.magic.annotation.Hotspot;
+import org.miaixz.bus.limiter.metric.MethodManager;
 import org.miaixz.bus.limiter.metric.StrategyManager;
 import org.miaixz.bus.logger.Logger;
 
@@ -80,8 +85,19 @@ public class Sentinel {
                 return StrategyManager.get(strategyMode).process(bean, method, args);
             }
         case HOT_METHOD:
+            Hotspot hotspot = (Hotspot) MethodManager.getAnnoInfo(name).getRight();
+            if (Algorithm.SENTINEL != hotspot.algorithm() && FlowGrade.FLOW_GRADE_QPS == hotspot.grade()) {
+                // 内置引擎按参数值限流
+                if (Engine.tryAcquire(name, hotspot, args)) {
+                    return MethodKit.invoke(bean, method, args);
+                }
+                if (Holder.load().isLogger()) {
+                    Logger.info(" Trigger hotspot strategy for [{}], args: [{}]", name, JsonKit.toJsonString(args));
+                }
+                return StrategyManager.get(strategyMode).process(bean, method, args);
+            }
             // 参数转换
-            String convertParam = Builder.md5Hex(JsonKit.toJsonString(args));
+            String convertParam = Long.toHexString(Keys.hash(args));
             Entry entry = null;
             try {
                 // 判断是否进行限流
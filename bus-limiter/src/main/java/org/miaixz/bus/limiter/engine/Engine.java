@@ -0,0 +1,158 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.limiter.Context;
+import org.miaixz.bus.limiter.Holder;
+import org.miaixz.bus.limiter.magic.Algorithm;
+import org.miaixz.bus.limiter.magic.annotation.Hotspot;
+
+/**
+ * 内置限流引擎，按资源与标识创建限流器并保存在有界的 {@link Stripes} 中，最多跟踪 {@link Context#getCapacity()} 个键
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Engine {
+
+    /**
+     * Redis 键前缀
+     */
+    public static final String PREFIX = "limiter:";
+
+    private static final Map<String, Hotspots> HOTSPOTS = new ConcurrentHashMap<>();
+    private static volatile Stripes<Key, Limiter> limiters;
+    private static volatile Script script;
+
+    /**
+     * 设置 {@link Algorithm#REDIS} 使用的脚本执行器
+     *
+     * @param script 脚本执行器
+     */
+    public static void setScript(Script script) {
+        Engine.script = script;
+    }
+
+    /**
+     * 为资源下的标识获取一个许可
+     *
+     * @param resource  资源名称
+     * @param identity  标识，如用户标识
+     * @param algorithm 限流算法
+     * @param count     周期内允许的次数
+     * @param duration  周期(秒)
+     * @return 是否允许通过
+     */
+    public static boolean tryAcquire(String resource, Object identity, Algorithm algorithm, int count,
+            int duration) {
+        if (Algorithm.REDIS == algorithm) {
+            return redis(resource + Symbol.C_COLON + identity, count, duration).tryAcquire();
+        }
+        return limiters().get(new Key(resource, identity), key -> create(algorithm, count, duration)).tryAcquire();
+    }
+
+    /**
+     * 按参数值获取热点限流许可
+     *
+     * @param resource 资源名称
+     * @param hotspot  热点注解
+     * @param args     方法参数
+     * @return 是否允许通过
+     */
+    public static boolean tryAcquire(String resource, Hotspot hotspot, Object[] args) {
+        long hash = Keys.hash(args);
+        if (Algorithm.REDIS == hotspot.algorithm()) {
+            return redis(resource + Symbol.C_COLON + Long.toHexString(hash), hotspot.count(), hotspot.duration())
+                    .tryAcquire();
+        }
+        return HOTSPOTS.computeIfAbsent(resource,
+                key -> new Hotspots(hotspot.count(), TimeUnit.SECONDS.toNanos(hotspot.duration()), capacity(),
+                        System::nanoTime, hashed -> create(hotspot.algorithm(), hotspot.count(), hotspot.duration())))
+                .tryAcquire(hash);
+    }
+
+    /**
+     * 创建本地限流器
+     *
+     * @param algorithm 限流算法
+     * @param count     周期内允许的次数
+     * @param duration  周期(秒)
+     * @return 限流器
+     */
+    public static Limiter create(Algorithm algorithm, int count, int duration) {
+        return switch (algorithm) {
+            case FIXED_WINDOW -> new FixedWindow(count, duration, TimeUnit.SECONDS, System::nanoTime);
+            case TOKEN_BUCKET -> new TokenBucket(count, duration, TimeUnit.SECONDS, System::nanoTime);
+            case SLIDING_WINDOW -> new SlidingWindow(count, duration, TimeUnit.SECONDS, System::nanoTime);
+            case GCRA -> new Gcra(count, duration, TimeUnit.SECONDS, System::nanoTime);
+            default -> throw new InternalException("Unsupported local algorithm: " + algorithm);
+        };
+    }
+
+    private static Limiter redis(String key, int count, int duration) {
+        if (null == script) {
+            throw new InternalException("Redis script executor is not set, see Engine.setScript");
+        }
+        return new RedisLimiter(script, PREFIX + key, count, duration, TimeUnit.SECONDS);
+    }
+
+    private static Stripes<Key, Limiter> limiters() {
+        Stripes<Key, Limiter> stripes = limiters;
+        if (null == stripes) {
+            synchronized (Engine.class) {
+                if (null == limiters) {
+                    limiters = new Stripes<>(capacity());
+                }
+                stripes = limiters;
+            }
+        }
+        return stripes;
+    }
+
+    private static int capacity() {
+        Context context = Holder.load();
+        return null == context ? 100_000 : context.getCapacity();
+    }
+
+    /**
+     * 限流器键
+     *
+     * @param resource 资源名称
+     * @param identity 标识
+     */
+    private record Key(String resource, Object identity) {
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 固定窗口计数，窗口序号与窗口内已通过次数打包在一个 {@link AtomicLong} 中，通过 CAS 无锁更新。
+ * 高 32 位为相对创建时间的窗口序号，低 32 位为已通过次数，进入新窗口时计数清零
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class FixedWindow implements Limiter {
+
+    private final long count;
+    private final long window;
+    private final long origin;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 构造
+     *
+     * @param count    周期内允许的次数
+     * @param duration 周期
+     * @param unit     周期单位
+     * @param clock    纳秒时钟
+     */
+    public FixedWindow(int count, long duration, TimeUnit unit, LongSupplier clock) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        this.count = count;
+        this.window = Math.max(1, unit.toNanos(duration));
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        long index = (clock.getAsLong() - origin) / window & 0xFFFFFFFFL;
+        while (true) {
+            long current = state.get();
+            long used = current >>> 32 == index ? current & 0xFFFFFFFFL : 0;
+            if (used + permits > count) {
+                return false;
+            }
+            if (state.compareAndSet(current, index << 32 | (used + permits))) {
+                return true;
+            }
+        }
+    }
+
+}
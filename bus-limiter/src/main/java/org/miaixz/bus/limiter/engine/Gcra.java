@@ -0,0 +1,87 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 通用信元速率算法(GCRA)，只保存一个理论到达时间(TAT)，通过 CAS 无锁更新。
+ * 每个许可使 TAT 前进一个发射间隔，TAT 超前当前时间不超过一个周期时允许通过，等价于容量为 count 的令牌桶
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Gcra implements Limiter {
+
+    /**
+     * 发射间隔(纳秒)
+     */
+    private final long interval;
+    /**
+     * 允许的突发窗口(纳秒)
+     */
+    private final long window;
+    private final LongSupplier clock;
+    private final AtomicLong tat;
+
+    /**
+     * 构造
+     *
+     * @param count    周期内允许的次数
+     * @param duration 周期
+     * @param unit     周期单位
+     * @param clock    纳秒时钟
+     */
+    public Gcra(long count, long duration, TimeUnit unit, LongSupplier clock) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        this.window = unit.toNanos(duration);
+        this.interval = Math.max(1, this.window / count);
+        this.clock = clock;
+        this.tat = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        long now = clock.getAsLong();
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current - now, 0) + interval * permits;
+            if (next > window) {
+                return false;
+            }
+            if (tat.compareAndSet(current, now + next)) {
+                return true;
+            }
+        }
+    }
+
+}
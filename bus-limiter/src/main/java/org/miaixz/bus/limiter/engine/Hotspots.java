@@ -0,0 +1,119 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 热点参数限流，每个参数值单独限流，跟踪的参数值数量有界：
+ * <ul>
+ * <li>所有参数值先在 {@link Sketch} 中计数，计数每个周期清零</li>
+ * <li>估计值不超过 count 的冷门参数值无需创建限流器即可通过，因为估计值只会偏大，实际次数一定未超限</li>
+ * <li>估计值超过 count 的参数值才在 {@link Stripes} 中创建限流器，LRU 淘汰不再活跃的参数值</li>
+ * </ul>
+ * 新建的限流器先扣除 count 个许可，即计数阶段已放行的次数，热点参数值在任意周期内最多通过 count 次；
+ * 因哈希冲突被误判为热点的参数值实际放行次数少于 count，在成为热点的周期内可能被提前拒绝
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Hotspots {
+
+    private final int count;
+    private final long window;
+    private final LongSupplier clock;
+    private final Sketch sketch;
+    private final Stripes<Long, Limiter> limiters;
+    private final LongFunction<Limiter> factory;
+    private final AtomicLong epoch;
+
+    /**
+     * 构造
+     *
+     * @param count    每个参数值在周期内允许的次数
+     * @param window   周期(纳秒)
+     * @param capacity 最多跟踪的热点参数值数量
+     * @param clock    纳秒时钟
+     * @param factory  根据参数哈希创建限流器
+     */
+    public Hotspots(int count, long window, int capacity, LongSupplier clock, LongFunction<Limiter> factory) {
+        this.count = count;
+        this.window = window;
+        this.clock = clock;
+        this.sketch = new Sketch(capacity * 4);
+        this.limiters = new Stripes<>(capacity);
+        this.factory = factory;
+        this.epoch = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 尝试为参数值获取一个许可
+     *
+     * @param hash 参数的 64 位哈希，见 {@link Keys#hash(Object...)}
+     * @return 是否允许通过
+     */
+    public boolean tryAcquire(long hash) {
+        long now = clock.getAsLong();
+        long start = epoch.get();
+        if (now - start >= window && epoch.compareAndSet(start, now)) {
+            sketch.clear();
+        }
+        Limiter limiter = limiters.getIfPresent(hash);
+        if (null != limiter) {
+            return limiter.tryAcquire();
+        }
+        if (sketch.increment(hash) <= count) {
+            return true;
+        }
+        return limiters.get(hash, this::create).tryAcquire();
+    }
+
+    /**
+     * 创建限流器并扣除计数阶段已放行的次数
+     *
+     * @param hash 参数哈希
+     * @return 限流器
+     */
+    private Limiter create(long hash) {
+        Limiter limiter = factory.apply(hash);
+        limiter.tryAcquire(count);
+        return limiter;
+    }
+
+    /**
+     * 当前跟踪的热点参数值数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        return limiters.size();
+    }
+
+}
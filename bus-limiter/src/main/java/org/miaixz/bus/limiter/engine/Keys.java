@@ -0,0 +1,276 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.xyz.FieldKit;
+
+/**
+ * 参数的 64 位哈希，直接遍历参数值计算，无需序列化。字符串、数值、数组、集合、Map 按内容计算；
+ * 重写了 hashCode 的对象使用其 hashCode；其他对象按字段递归计算，深度超过 8 层后不再展开。
+ * 不同参数可能得到相同的哈希，需要精确区分参数时应再通过 {@link #equals(Object[], Object[])} 比较
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Keys {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long PRIME = 0x100000001B3L;
+    private static final int DEPTH = 8;
+    /**
+     * 需要按字段计算的类及其字段，重写了 hashCode 的类对应空数组
+     */
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+    private static final Field[] HASH_CODE = new Field[0];
+
+    /**
+     * 计算参数的哈希
+     *
+     * @param args 参数
+     * @return 64 位哈希
+     */
+    public static long hash(Object... args) {
+        return null == args ? 0 : mix(hash(args, 0));
+    }
+
+    private static long hash(Object value, int depth) {
+        if (null == value) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            long h = SEED;
+            for (int i = 0; i < text.length(); i++) {
+                h = (h ^ text.charAt(i)) * PRIME;
+            }
+            return h;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue() * SEED;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Double.doubleToLongBits(((Number) value).doubleValue()) * SEED;
+        }
+        if (value instanceof Boolean || value instanceof Character || value instanceof Enum<?>
+                || value instanceof Class<?>) {
+            return value.hashCode() * SEED;
+        }
+        if (depth >= DEPTH) {
+            return value.getClass().hashCode();
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz.isArray()) {
+            return array(value, depth);
+        }
+        if (value instanceof Collection<?> collection) {
+            long h = SEED;
+            for (Object item : collection) {
+                h = (h ^ hash(item, depth + 1)) * PRIME;
+            }
+            return h;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long h = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                h += mix(hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1) * PRIME);
+            }
+            return h;
+        }
+        Field[] fields = FIELDS.computeIfAbsent(clazz, Keys::fields);
+        if (fields == HASH_CODE) {
+            return value.hashCode() * SEED;
+        }
+        long h = clazz.hashCode();
+        for (Field field : fields) {
+            h = (h ^ hash(FieldKit.getFieldValue(value, field), depth + 1)) * PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * 按与 {@link #hash(Object...)} 一致的规则比较两组参数，超过展开深度的对象使用 equals 比较
+     *
+     * @param args  参数
+     * @param other 另一组参数
+     * @return 是否相等
+     */
+    public static boolean equals(Object[] args, Object[] other) {
+        return equals(args, other, 0);
+    }
+
+    private static boolean equals(Object value, Object other, int depth) {
+        if (value == other) {
+            return true;
+        }
+        if (null == value || null == other) {
+            return false;
+        }
+        if (value instanceof CharSequence text) {
+            return other instanceof CharSequence that && CharSequence.compare(text, that) == 0;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return (other instanceof Long || other instanceof Integer || other instanceof Short
+                    || other instanceof Byte) && ((Number) value).longValue() == ((Number) other).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return (other instanceof Double || other instanceof Float) && Double.doubleToLongBits(
+                    ((Number) value).doubleValue()) == Double.doubleToLongBits(((Number) other).doubleValue());
+        }
+        Class<?> clazz = value.getClass();
+        if (depth >= DEPTH || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>
+                || value instanceof Class<?>) {
+            return value.equals(other);
+        }
+        if (clazz.isArray()) {
+            if (!(value instanceof Object[] items)) {
+                return clazz == other.getClass() && Objects.deepEquals(value, other);
+            }
+            if (!(other instanceof Object[] that) || items.length != that.length) {
+                return false;
+            }
+            for (int i = 0; i < items.length; i++) {
+                if (!equals(items[i], that[i], depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Collection<?> collection) {
+            if (!(other instanceof Collection<?> that) || collection.size() != that.size()) {
+                return false;
+            }
+            Iterator<?> iterator = that.iterator();
+            for (Object item : collection) {
+                if (!iterator.hasNext() || !equals(item, iterator.next(), depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Map<?, ?> map) {
+            if (!(other instanceof Map<?, ?> that) || map.size() != that.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!that.containsKey(entry.getKey())
+                        || !equals(entry.getValue(), that.get(entry.getKey()), depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (clazz != other.getClass()) {
+            return false;
+        }
+        Field[] fields = FIELDS.computeIfAbsent(clazz, Keys::fields);
+        if (fields == HASH_CODE) {
+            return value.equals(other);
+        }
+        for (Field field : fields) {
+            if (!equals(FieldKit.getFieldValue(value, field), FieldKit.getFieldValue(other, field), depth + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long array(Object array, int depth) {
+        long h = SEED;
+        if (array instanceof Object[] items) {
+            for (Object item : items) {
+                h = (h ^ hash(item, depth + 1)) * PRIME;
+            }
+        } else if (array instanceof byte[] items) {
+            for (byte item : items) {
+                h = (h ^ item) * PRIME;
+            }
+        } else if (array instanceof char[] items) {
+            for (char item : items) {
+                h = (h ^ item) * PRIME;
+            }
+        } else if (array instanceof int[] items) {
+            for (int item : items) {
+                h = (h ^ item) * PRIME;
+            }
+        } else if (array instanceof long[] items) {
+            for (long item : items) {
+                h = (h ^ item) * PRIME;
+            }
+        } else {
+            int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                h = (h ^ hash(Array.get(array, i), depth + 1)) * PRIME;
+            }
+        }
+        return h;
+    }
+
+    private static Field[] fields(Class<?> clazz) {
+        try {
+            if (clazz.getName().startsWith("java.")
+                    || clazz.getMethod("hashCode").getDeclaringClass() != Object.class) {
+                return HASH_CODE;
+            }
+        } catch (NoSuchMethodException e) {
+            return HASH_CODE;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : FieldKit.getFields(clazz)) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * MurmurHash3 的 64 位终结混合
+     *
+     * @param h 哈希
+     * @return 混合后的哈希
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
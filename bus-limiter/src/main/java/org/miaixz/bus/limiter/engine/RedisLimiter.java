@@ -0,0 +1,94 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redis Lua 脚本的分布式 GCRA 限流器，理论到达时间保存在 Redis 中，时间取自 Redis 服务器的 TIME 命令，
+ * 多个实例共享同一个限流额度。每次获取许可只需一次往返，键在理论到达时间之后自动过期
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class RedisLimiter implements Limiter {
+
+    /**
+     * KEYS[1] 键，ARGV[1] 发射间隔(微秒)，ARGV[2] 周期(微秒)，ARGV[3] 许可数；返回 1 表示通过
+     */
+    public static final String LUA = """
+            if redis.replicate_commands then
+                redis.replicate_commands()
+            end
+            local interval = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local permits = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            local next = math.max(tat - now, 0) + interval * permits
+            if next > window then
+                return 0
+            end
+            redis.call('SET', KEYS[1], now + next, 'PX', math.ceil(next / 1000) + 1)
+            return 1
+            """;
+
+    private final Script script;
+    private final List<String> keys;
+    private final String interval;
+    private final String window;
+
+    /**
+     * 构造
+     *
+     * @param script   脚本执行器
+     * @param key      Redis 键
+     * @param count    周期内允许的次数
+     * @param duration 周期
+     * @param unit     周期单位
+     */
+    public RedisLimiter(Script script, String key, long count, long duration, TimeUnit unit) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        long micros = unit.toMicros(duration);
+        this.script = script;
+        this.keys = List.of(key);
+        this.interval = String.valueOf(Math.max(1, micros / count));
+        this.window = String.valueOf(micros);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        Object result = script.eval(LUA, keys, List.of(interval, window, String.valueOf(permits)));
+        return result instanceof Number number && number.longValue() == 1;
+    }
+
+}
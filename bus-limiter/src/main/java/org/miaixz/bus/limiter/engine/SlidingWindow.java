@@ -0,0 +1,91 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 滑动窗口日志，按时间顺序记录最近 count 次通过的时间戳，最早的记录离开窗口后才允许新的请求通过，
+ * 任意一个周期内的通过次数都不会超过 count。每个键占用 count 个 long，适合次数较小的精确限流
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class SlidingWindow implements Limiter {
+
+    private final long window;
+    private final LongSupplier clock;
+    /**
+     * 环形时间戳日志
+     */
+    private final long[] log;
+    /**
+     * 最早记录的位置
+     */
+    private int head;
+
+    /**
+     * 构造
+     *
+     * @param count    周期内允许的次数
+     * @param duration 周期
+     * @param unit     周期单位
+     * @param clock    纳秒时钟
+     */
+    public SlidingWindow(int count, long duration, TimeUnit unit, LongSupplier clock) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        this.window = unit.toNanos(duration);
+        this.clock = clock;
+        this.log = new long[count];
+        long expired = clock.getAsLong() - window;
+        Arrays.fill(this.log, expired);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        if (permits > log.length) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        synchronized (log) {
+            if (now - log[(head + permits - 1) % log.length] < window) {
+                return false;
+            }
+            for (int i = 0; i < permits; i++) {
+                log[head] = now;
+                head = (head + 1) % log.length;
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 分段的有界 LRU 映射，键按哈希分布到多个段，每段独立加锁并淘汰最久未使用的键，用于限制按用户或参数创建的限流器数量
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Stripes<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    /**
+     * 构造
+     *
+     * @param capacity 最多保存的键数量
+     */
+    public Stripes(int capacity) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(64, capacity / 16)));
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        int size = Math.max(1, capacity / count);
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment<>(size);
+        }
+    }
+
+    /**
+     * 获取键对应的值，不存在时创建
+     *
+     * @param key    键
+     * @param loader 值创建函数
+     * @return 值
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segments[spread(key.hashCode()) & mask];
+        segment.lock.lock();
+        try {
+            V value = segment.get(key);
+            if (null == value) {
+                value = loader.apply(key);
+                segment.put(key, value);
+            }
+            return value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 获取键对应的值
+     *
+     * @param key 键
+     * @return 值，不存在时返回 null
+     */
+    public V getIfPresent(K key) {
+        Segment<K, V> segment = segments[spread(key.hashCode()) & mask];
+        segment.lock.lock();
+        try {
+            return segment.get(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 当前保存的键数量
+     *
+     * @return 键数量
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) * 0x9E3779B9;
+    }
+
+    /**
+     * 按访问顺序淘汰的段
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+
+    }
+
+}
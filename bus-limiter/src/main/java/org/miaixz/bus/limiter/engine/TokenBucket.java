@@ -0,0 +1,109 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.limiter.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 令牌桶，令牌数与上次补充时间打包在一个 {@link AtomicLong} 中，通过 CAS 无锁更新。
+ * 低 24 位为令牌数，高 40 位为相对创建时间的毫秒数，补充时只推进实际产生令牌所对应的时间，不丢失小数部分
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class TokenBucket implements Limiter {
+
+    /**
+     * 令牌数位数
+     */
+    private static final int BITS = 24;
+    /**
+     * 最大容量
+     */
+    public static final long MAX_CAPACITY = (1L << BITS) - 1;
+
+    private final long capacity;
+    /**
+     * 每毫秒补充的令牌数
+     */
+    private final double rate;
+    private final long origin;
+    private final LongSupplier clock;
+    private final AtomicLong state;
+
+    /**
+     * 构造，初始为满桶
+     *
+     * @param capacity 容量，同时也是每个周期补充的令牌数
+     * @param duration 周期
+     * @param unit     周期单位
+     * @param clock    纳秒时钟
+     */
+    public TokenBucket(long capacity, long duration, TimeUnit unit, LongSupplier clock) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be in (0, " + MAX_CAPACITY + "]: " + capacity);
+        }
+        this.capacity = capacity;
+        this.rate = (double) capacity / Math.max(1, unit.toMillis(duration));
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+        this.state = new AtomicLong(capacity);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        long now = TimeUnit.NANOSECONDS.toMillis(clock.getAsLong() - origin);
+        while (true) {
+            long current = state.get();
+            long tokens = current & MAX_CAPACITY;
+            long last = current >>> BITS;
+            long elapsed = now - last;
+            if (elapsed > 0 && tokens < capacity) {
+                long added = (long) (elapsed * rate);
+                if (tokens + added >= capacity) {
+                    tokens = capacity;
+                    last = now;
+                } else if (added > 0) {
+                    tokens += added;
+                    last += (long) (added / rate);
+                }
+            } else if (tokens >= capacity) {
+                last = Math.max(last, now);
+            }
+            if (tokens < permits) {
+                return false;
+            }
+            if (state.compareAndSet(current, ((last) << BITS) | (tokens - permits))) {
+                return true;
+            }
+        }
+    }
+
+}
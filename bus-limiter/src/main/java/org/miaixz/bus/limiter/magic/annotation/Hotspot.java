@@ -29,6 +29,7 @@ package org.miaixz.bus.limiter.magic.annotation;
 
 import java.lang.annotation.*;
 
+import org.miaixz.bus.limiter.magic.Algorithm;
 import org.miaixz.bus.limiter.magic.FlowGrade;
 
 /**
@@ -49,4 +50,11 @@ public @interface Hotspot {
 
     int duration();
 
+    /**
+     * 限流算法，默认交由 Sentinel 处理；其他算法按参数值分别限流，仅支持 QPS 等级
+     *
+     * @return 限流算法
+     */
+    Algorithm algorithm() default Algorithm.SENTINEL;
+
 }
@@ -29,6 +29,8 @@ package org.miaixz.bus.limiter.magic.annotation;
 
 import java.lang.annotation.*;
 
+import org.miaixz.bus.limiter.magic.Algorithm;
+
 /**
  * 限制请求数量
  *
@@ -45,4 +47,11 @@ public @interface Limiting {
 
     int duration();
 
+    /**
+     * 限流算法，默认为按用户标识的固定窗口计数
+     *
+     * @return 限流算法
+     */
+    Algorithm algorithm() default Algorithm.FIXED_WINDOW;
+
 }
@@ -33,10 +33,10 @@ import org.miaixz.bus.core.cache.provider.TimedCache;
 import org.miaixz.bus.core.xyz.CacheKit;
 import org.miaixz.bus.core.xyz.MethodKit;
 import org.miaixz.bus.core.xyz.StringKit;
-import org.miaixz.bus.extra.json.JsonKit;
 import org.miaixz.bus.limiter.Builder;
 import org.miaixz.bus.limiter.Holder;
 import org.miaixz.bus.limiter.Provider;
+import org.miaixz.bus.limiter.engine.Keys;
 import org.miaixz.bus.limiter.magic.StrategyMode;
 
 /**
@@ -47,7 +47,7 @@ import org.miaixz.bus.limiter.magic.StrategyMode;
  */
 public class MethodProvider implements Provider {
 
-    private final TimedCache<String, Object> cache;
+    private final TimedCache<String, Cached> cache;
 
     public MethodProvider() {
         cache = CacheKit.newTimedCache(1000L * Holder.load().getSeconds());
@@ -61,19 +61,27 @@ public class MethodProvider implements Provider {
 
     @Override
     public Object process(Object bean, Method method, Object[] args) {
-        // 获取方法对应的key
-        String hotKey = StringKit.format("{}-{}", Builder.resolveMethodName(method),
-                org.miaixz.bus.crypto.Builder.md5Hex(JsonKit.toJsonString(args)));
+        // 获取方法对应的key，哈希可能冲突，命中后需再比较参数
+        String hotKey = StringKit.format("{}-{}", Builder.resolveMethodName(method), Long.toHexString(Keys.hash(args)));
 
         // 缓存操作
-        if (cache.containsKey(hotKey)) {
-            return cache.get(hotKey, false);
-        } else {
-            // 执行后缓存
-            Object result = MethodKit.invoke(bean, method, args);
-            cache.put(hotKey, result);
-            return result;
+        Cached cached = cache.get(hotKey, false);
+        if (null != cached && Keys.equals(cached.args, args)) {
+            return cached.result;
         }
+        // 执行后缓存，哈希冲突时覆盖原有结果
+        Object result = MethodKit.invoke(bean, method, args);
+        cache.put(hotKey, new Cached(null == args ? null : args.clone(), result));
+        return result;
+    }
+
+    /**
+     * 缓存的调用参数及结果
+     *
+     * @param args   调用参数
+     * @param result 返回值
+     */
+    private record Cached(Object[] args, Object result) {
     }
 
 }
@@ -29,17 +29,15 @@ package org.miaixz.bus.limiter.metric;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
 
 import org.miaixz.bus.core.data.id.ID;
 import org.miaixz.bus.core.xyz.MethodKit;
-import org.miaixz.bus.core.xyz.ThreadKit;
 import org.miaixz.bus.limiter.Builder;
+import org.miaixz.bus.limiter.Holder;
 import org.miaixz.bus.limiter.Provider;
 import org.miaixz.bus.limiter.Supplier;
+import org.miaixz.bus.limiter.engine.Engine;
+import org.miaixz.bus.limiter.engine.Stripes;
 import org.miaixz.bus.limiter.magic.StrategyMode;
 import org.miaixz.bus.limiter.magic.annotation.Limiting;
 
@@ -51,9 +49,11 @@ import org.miaixz.bus.limiter.magic.annotation.Limiting;
  */
 public class RequestProvider implements Provider {
 
-    private final ExecutorService cleaner = ThreadKit.newFixedExecutor(1, 5, "L-", false);
-
-    private final Map<Serializable, ResourceManager> map = new ConcurrentHashMap<>();
+    /**
+     * 按用户标识的固定窗口资源管理，数量有界，超出后淘汰最久未使用的用户
+     */
+    private final Stripes<Serializable, ResourceManager> map = new Stripes<>(
+            null == Holder.load() ? 100_000 : Holder.load().getCapacity());
 
     /**
      * 默认的user标识提供者
@@ -85,18 +85,15 @@ public class RequestProvider implements Provider {
     public Object process(Object bean, Method method, Object[] args) {
         // 获取当前用户标识
         Serializable mark = supplier.get();
-        ResourceManager resourceManager = map.get(mark);
-
-        // 缓存操作
-        if (Objects.isNull(resourceManager)) {
-            resourceManager = new ResourceManager();
-            map.put(mark, resourceManager);
-        }
 
         // 获取方法配置参数
         String name = Builder.resolveMethodName(method);
         Limiting limiting = (Limiting) MethodManager.getAnnoInfo(name).getRight();
-        if (!resourceManager.entry(name, limiting)) {
+        boolean allowed = switch (limiting.algorithm()) {
+            case SENTINEL, FIXED_WINDOW -> map.get(mark, key -> new ResourceManager()).entry(name, limiting);
+            default -> Engine.tryAcquire(name, mark, limiting.algorithm(), limiting.count(), limiting.duration());
+        };
+        if (!allowed) {
             // 拦截方法
             return supplier.intercept(bean, method, args);
         }
@@ -105,28 +102,4 @@ public class RequestProvider implements Provider {
         return MethodKit.invoke(bean, method, args);
     }
 
-    /**
-     * 清理存在的资源管理
-     */
-    private void clears() {
-        cleaner.submit(this::clear);
-    }
-
-    /**
-     * 清理资源，最多10个
-     */
-    private void clear() {
-        int count = 0;
-        for (Serializable mark : map.keySet()) {
-            count++;
-            ResourceManager resourceManager = map.get(mark);
-            if (Objects.isNull(resourceManager))
-                continue;
-            if (resourceManager.isClear())
-                map.remove(mark);
-            if (count > 9)
-                return;
-        }
-    }
-
 }
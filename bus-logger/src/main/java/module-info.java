@@ -48,6 +48,7 @@ module bus.logger {
     exports org.miaixz.bus.logger.magic.level;
     exports org.miaixz.bus.logger.metric.apache.commons;
     exports org.miaixz.bus.logger.metric.apache.log4j;
+    exports org.miaixz.bus.logger.metric.async;
     exports org.miaixz.bus.logger.metric.console;
     exports org.miaixz.bus.logger.metric.jboss;
     exports org.miaixz.bus.logger.metric.jdk;
@@ -60,6 +60,17 @@ public interface Factory {
      */
     Provider create(Class<?> clazz);
 
+    /**
+     * 是否可能有日志对象开启指定级别，返回false时静态日志门面无需解析调用者即可直接返回。
+     * 各日志对象级别可单独配置的框架无法预先判断，默认返回true
+     *
+     * @param level 日志级别
+     * @return 是否可能开启
+     */
+    default boolean isEnabled(final Level level) {
+        return true;
+    }
+
     /**
      * 获得日志对象（单例）
      *
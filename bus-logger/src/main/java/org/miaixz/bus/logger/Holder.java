@@ -47,6 +47,11 @@ import org.miaixz.bus.logger.metric.slf4j.Slf4jLoggingFactory;
  */
 public class Holder {
 
+    /**
+     * 通过{@link #setDefaultFactory(Factory)}自定义的日志工厂
+     */
+    private static volatile Factory custom;
+
     /**
      * 默认构造
      */
@@ -60,7 +65,8 @@ public class Holder {
      * @return {@link Factory}
      */
     public static Factory getFactory() {
-        return InstanceHolder.INSTANCE;
+        final Factory factory = custom;
+        return null != factory ? factory : InstanceHolder.INSTANCE;
     }
 
     /**
@@ -93,6 +99,8 @@ public class Holder {
      */
     public static void setDefaultFactory(final Factory factory) {
         Instances.put(Holder.class.getName(), factory);
+        custom = factory;
+        Registry.reset();
         factory.create(Holder.class).debug("Custom Use [{}] Logger.", factory.getName());
     }
 
@@ -28,7 +28,6 @@
 package org.miaixz.bus.logger;
 
 import org.miaixz.bus.core.xyz.CallerKit;
-import org.miaixz.bus.core.xyz.StringKit;
 
 /**
  * 静态日志类，用于在不引入日志对象的情况下打印日志
@@ -57,7 +56,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void trace(final String format, final Object... args) {
-        trace(Registry.get(CallerKit.getCallers()), format, args);
+        if (Holder.getFactory().isEnabled(Level.TRACE)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isTraceEnabled()) {
+                provider.trace(FQCN, null, format, args);
+            }
+        }
     }
 
     /**
@@ -78,7 +82,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void debug(final String format, final Object... args) {
-        debug(Registry.get(CallerKit.getCallers()), format, args);
+        if (Holder.getFactory().isEnabled(Level.DEBUG)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isDebugEnabled()) {
+                provider.debug(FQCN, null, format, args);
+            }
+        }
     }
 
     /**
@@ -99,7 +108,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void info(final String format, final Object... args) {
-        info(Registry.get(CallerKit.getCallers()), format, args);
+        if (Holder.getFactory().isEnabled(Level.INFO)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isInfoEnabled()) {
+                provider.info(FQCN, null, format, args);
+            }
+        }
     }
 
     /**
@@ -120,7 +134,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void warn(final String format, final Object... args) {
-        warn(Registry.get(CallerKit.getCallers()), format, args);
+        if (Holder.getFactory().isEnabled(Level.WARN)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isWarnEnabled()) {
+                provider.warn(FQCN, null, format, args);
+            }
+        }
     }
 
     /**
@@ -131,7 +150,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void warn(final Throwable e, final String format, final Object... args) {
-        warn(Registry.get(CallerKit.getCallers()), e, StringKit.format(format, args));
+        if (Holder.getFactory().isEnabled(Level.WARN)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isWarnEnabled()) {
+                provider.warn(FQCN, e, format, args);
+            }
+        }
     }
 
     /**
@@ -163,7 +187,12 @@ public class Logger {
      * @param e 需在日志中堆栈打印的异常
      */
     public static void error(final Throwable e) {
-        error(Registry.get(CallerKit.getCallers()), e);
+        if (Holder.getFactory().isEnabled(Level.ERROR)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isErrorEnabled()) {
+                provider.error(FQCN, e, e.getMessage());
+            }
+        }
     }
 
     /**
@@ -173,7 +202,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void error(final String format, final Object... args) {
-        error(Registry.get(CallerKit.getCallers()), format, args);
+        if (Holder.getFactory().isEnabled(Level.ERROR)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isErrorEnabled()) {
+                provider.error(FQCN, null, format, args);
+            }
+        }
     }
 
     /**
@@ -184,7 +218,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void error(final Throwable e, final String format, final Object... args) {
-        error(Registry.get(CallerKit.getCallers()), e, format, args);
+        if (Holder.getFactory().isEnabled(Level.ERROR)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isErrorEnabled()) {
+                provider.error(FQCN, e, format, args);
+            }
+        }
     }
 
     /**
@@ -229,7 +268,12 @@ public class Logger {
      * @param args   变量对应的参数
      */
     public static void log(final Level level, final Throwable t, final String format, final Object... args) {
-        Registry.get(CallerKit.getCallers()).log(FQCN, level, t, format, args);
+        if (Holder.getFactory().isEnabled(level)) {
+            final Provider provider = Registry.get(CallerKit.getCallers());
+            if (provider.isEnabled(level)) {
+                provider.log(FQCN, level, t, format, args);
+            }
+        }
     }
 
     /**
@@ -238,7 +282,8 @@ public class Logger {
      * @return the true/false
      */
     public static boolean isTraceEnabled() {
-        return Registry.get(CallerKit.getCallers()).isTraceEnabled();
+        return Holder.getFactory().isEnabled(Level.TRACE)
+                && Registry.get(CallerKit.getCallers()).isTraceEnabled();
     }
 
     /**
@@ -247,7 +292,8 @@ public class Logger {
      * @return the true/false
      */
     public static boolean isDebugEnabled() {
-        return Registry.get(CallerKit.getCallers()).isDebugEnabled();
+        return Holder.getFactory().isEnabled(Level.DEBUG)
+                && Registry.get(CallerKit.getCallers()).isDebugEnabled();
     }
 
     /**
@@ -256,7 +302,8 @@ public class Logger {
      * @return the true/false
      */
     public static boolean isInfoEnabled() {
-        return Registry.get(CallerKit.getCallers()).isInfoEnabled();
+        return Holder.getFactory().isEnabled(Level.INFO)
+                && Registry.get(CallerKit.getCallers()).isInfoEnabled();
     }
 
     /**
@@ -265,7 +312,8 @@ public class Logger {
      * @return the true/false
      */
     public static boolean isWarnEnabled() {
-        return Registry.get(CallerKit.getCallers()).isWarnEnabled();
+        return Holder.getFactory().isEnabled(Level.WARN)
+                && Registry.get(CallerKit.getCallers()).isWarnEnabled();
     }
 
     /**
@@ -274,7 +322,8 @@ public class Logger {
      * @return the true/false
      */
     public static boolean isErrorEnabled() {
-        return Registry.get(CallerKit.getCallers()).isErrorEnabled();
+        return Holder.getFactory().isEnabled(Level.ERROR)
+                && Registry.get(CallerKit.getCallers()).isErrorEnabled();
     }
 
 }
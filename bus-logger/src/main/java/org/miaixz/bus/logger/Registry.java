@@ -35,6 +35,11 @@ package org.miaixz.bus.logger;
  */
 public abstract class Registry {
 
+    /**
+     * 按调用类缓存的日志对象，避免每次拼接名称查找单例，切换日志工厂时整体替换
+     */
+    private static volatile ClassValue<Provider> PROVIDERS = newCache();
+
     /**
      * 默认构造
      */
@@ -59,7 +64,30 @@ public abstract class Registry {
      * @return 日志对象
      */
     public static Provider get(final Class<?> clazz) {
-        return Holder.getFactory().getProvider(clazz);
+        return PROVIDERS.get(clazz);
+    }
+
+    /**
+     * 清空按调用类缓存的日志对象，在切换日志工厂后调用
+     */
+    static void reset() {
+        PROVIDERS = newCache();
+    }
+
+    /**
+     * 创建按调用类缓存日志对象的{@link ClassValue}
+     *
+     * @return {@link ClassValue}
+     */
+    private static ClassValue<Provider> newCache() {
+        return new ClassValue<>() {
+
+            @Override
+            protected Provider computeValue(final Class<?> type) {
+                return Holder.getFactory().getProvider(type);
+            }
+
+        };
     }
 
 }
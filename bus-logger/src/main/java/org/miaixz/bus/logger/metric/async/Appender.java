@@ -0,0 +1,336 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.Console;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.logger.Level;
+
+/**
+ * 异步日志输出器，调用线程只将事件写入预分配的多生产者环形缓冲区，由单独的线程格式化并批量写出到{@link Target}
+ *
+ * <p>
+ * 缓冲区已满时按{@link Policy}处理：阻塞等待、丢弃 WARN 以下级别的日志或丢弃最早的日志，被丢弃的数量可通过{@link #getDropped()}获取。
+ * 格式化失败（如消息参数的 toString 抛出异常）的日志会被跳过，数量可通过{@link #getFailed()}获取，输出线程继续运行。
+ * 关闭时会输出缓冲区中剩余的日志，JVM 退出时自动关闭。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Appender implements Closeable {
+
+    /**
+     * 批量写出的字符数阈值
+     */
+    private static final int BATCH = 8192;
+    /**
+     * 缓冲区满时让出 CPU 前的自旋次数
+     */
+    private static final int SPINS = 64;
+    /**
+     * 等待空位或新事件时的最大休眠时间，纳秒
+     */
+    private static final long PARK = 10_000_000L;
+
+    private final Event[] slots;
+    private final int mask;
+    private final Policy policy;
+    private final Target target;
+    private final Layout layout = new Layout();
+    /**
+     * 下一个待输出的序号，丢弃最早日志时生产者也会推进
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * 下一个可申请的序号
+     */
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final CharsetEncoder encoder = Charset.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BATCH * 4);
+    private final Thread worker;
+    private final Thread hook;
+
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+
+    /**
+     * 构造，容量 8192，缓冲区满时阻塞
+     *
+     * @param target 输出目标
+     */
+    public Appender(final Target target) {
+        this(target, 8192, Policy.BLOCK);
+    }
+
+    /**
+     * 构造
+     *
+     * @param target   输出目标
+     * @param capacity 缓冲区容量，向上取整为2的幂
+     * @param policy   缓冲区满时的处理策略
+     */
+    public Appender(final Target target, final int capacity, final Policy policy) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.slots = new Event[size];
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new Event();
+        }
+        this.mask = size - 1;
+        this.policy = policy;
+        this.target = target;
+        this.worker = ThreadKit.newThread(this::drain, "bus-logger-appender", true);
+        this.worker.start();
+        this.hook = new Thread(this::close, "bus-logger-appender-shutdown");
+        Runtime.getRuntime().addShutdownHook(this.hook);
+    }
+
+    /**
+     * 提交日志事件
+     *
+     * @param level     日志级别
+     * @param name      日志名称
+     * @param throwable 异常
+     * @param format    消息模板
+     * @param args      参数
+     * @return 是否写入缓冲区，被丢弃或已关闭时返回{@code false}
+     */
+    public boolean append(final Level level, final String name, final Throwable throwable, final String format,
+            final Object... args) {
+        final long timestamp = System.currentTimeMillis();
+        final String thread = Thread.currentThread().getName();
+        final Object[] captured = Event.capture(args);
+        int waits = 0;
+        while (!this.closed) {
+            final long sequence = this.tail.get();
+            final long first = this.head.get();
+            if (sequence - first < this.slots.length) {
+                if (this.tail.compareAndSet(sequence, sequence + 1)) {
+                    final Event slot = this.slots[(int) sequence & this.mask];
+                    // 写入期间标记为 -1，输出线程复制时据此判断内容是否被覆盖
+                    slot.sequence = -1;
+                    VarHandle.storeStoreFence();
+                    slot.set(timestamp, level, name, thread, throwable, format, captured);
+                    slot.sequence = sequence;
+                    if (this.sleeping) {
+                        LockSupport.unpark(this.worker);
+                    }
+                    return true;
+                }
+                continue;
+            }
+            if (this.policy == Policy.DROP_BELOW_WARN && level.compareTo(Level.WARN) < 0) {
+                break;
+            }
+            if (this.policy == Policy.DISCARD_OLDEST) {
+                // 只丢弃已写入完成的事件，避免两个生产者同时写同一个槽位
+                if (this.slots[(int) first & this.mask].sequence == first
+                        && this.head.compareAndSet(first, first + 1)) {
+                    this.dropped.increment();
+                }
+                continue;
+            }
+            LockSupport.unpark(this.worker);
+            if (++waits < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK / 100);
+            }
+        }
+        this.dropped.increment();
+        return false;
+    }
+
+    /**
+     * 获取被丢弃的日志数量
+     *
+     * @return 丢弃数量
+     */
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * 获取格式化失败而被跳过的日志数量
+     *
+     * @return 失败数量
+     */
+    public long getFailed() {
+        return this.failed.sum();
+    }
+
+    /**
+     * 获取缓冲区中尚未输出的日志数量
+     *
+     * @return 数量
+     */
+    public long getPending() {
+        return Math.max(0, this.tail.get() - this.head.get());
+    }
+
+    /**
+     * 关闭，输出缓冲区中剩余的日志后关闭输出目标
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (Thread.currentThread() != this.hook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.hook);
+            } catch (final IllegalStateException e) {
+                // JVM 正在退出
+            }
+        }
+        LockSupport.unpark(this.worker);
+        try {
+            this.worker.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            this.target.close();
+        } catch (final IOException e) {
+            Console.error(e, "Close log target failed");
+        }
+    }
+
+    /**
+     * 输出线程：按序号复制事件、格式化并批量写出，暂无事件时刷新并休眠
+     */
+    private void drain() {
+        final Event current = new Event();
+        final StringBuilder batch = new StringBuilder(BATCH * 2);
+        int idle = 0;
+        for (;;) {
+            final long sequence = this.head.get();
+            final Event slot = this.slots[(int) sequence & this.mask];
+            if (slot.sequence == sequence) {
+                current.copy(slot);
+                VarHandle.loadLoadFence();
+                // 复制期间未被覆盖且未被生产者丢弃
+                if (slot.sequence == sequence && this.head.compareAndSet(sequence, sequence + 1)) {
+                    format(current, batch);
+                    if (batch.length() >= BATCH) {
+                        write(batch);
+                    }
+                }
+                current.clear();
+                idle = 0;
+                continue;
+            }
+            if (batch.length() > 0) {
+                write(batch);
+                flush();
+            }
+            if (this.closed && this.head.get() >= this.tail.get()) {
+                return;
+            }
+            if (++idle < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            this.sleeping = true;
+            if (slot.sequence != sequence && !this.closed) {
+                LockSupport.parkNanos(this, PARK);
+            }
+            this.sleeping = false;
+        }
+    }
+
+    /**
+     * 格式化事件并追加到批次中，失败时撤销已追加的部分并跳过该事件，避免输出线程退出后缓冲区被占满
+     *
+     * @param event 事件
+     * @param batch 日志文本
+     */
+    private void format(final Event event, final StringBuilder batch) {
+        final int mark = batch.length();
+        try {
+            this.layout.format(event, batch);
+        } catch (final RuntimeException | StackOverflowError e) {
+            batch.setLength(mark);
+            this.failed.increment();
+            Console.error(e, "Format log failed");
+        }
+    }
+
+    /**
+     * 编码并写出一批日志
+     *
+     * @param batch 日志文本
+     */
+    private void write(final StringBuilder batch) {
+        final CharBuffer chars = CharBuffer.wrap(batch);
+        try {
+            CoderResult result;
+            do {
+                result = this.encoder.encode(chars, this.bytes, true);
+                this.bytes.flip();
+                this.target.write(this.bytes);
+                this.bytes.clear();
+            } while (result.isOverflow());
+        } catch (final IOException | RuntimeException e) {
+            Console.error(e, "Write log failed");
+        } finally {
+            this.encoder.reset();
+            this.bytes.clear();
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * 刷新输出目标
+     */
+    private void flush() {
+        try {
+            this.target.flush();
+        } catch (final IOException | RuntimeException e) {
+            Console.error(e, "Flush log failed");
+        }
+    }
+
+}
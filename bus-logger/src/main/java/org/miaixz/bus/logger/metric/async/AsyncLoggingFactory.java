@@ -0,0 +1,101 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.io.Closeable;
+
+import org.miaixz.bus.logger.Level;
+import org.miaixz.bus.logger.Provider;
+import org.miaixz.bus.logger.magic.AbstractFactory;
+import org.miaixz.bus.logger.metric.console.NormalLoggingProvider;
+
+/**
+ * 异步日志工厂，日志级别与{@link NormalLoggingProvider#setLevel(Level)}一致
+ *
+ * <pre>
+ * Holder.setDefaultFactory(new AsyncLoggingFactory(
+ *         new Appender(new RollingFileTarget(Paths.get("logs/app.log")), 8192, Policy.DROP_BELOW_WARN)));
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class AsyncLoggingFactory extends AbstractFactory implements Closeable {
+
+    /**
+     * 输出器
+     */
+    private final Appender appender;
+
+    /**
+     * 构造，异步输出到标准输出
+     */
+    public AsyncLoggingFactory() {
+        this(new Appender(new ConsoleTarget()));
+    }
+
+    /**
+     * 构造
+     *
+     * @param appender 输出器
+     */
+    public AsyncLoggingFactory(final Appender appender) {
+        super("Async Logging");
+        this.appender = appender;
+    }
+
+    /**
+     * 获取输出器
+     *
+     * @return 输出器
+     */
+    public Appender getAppender() {
+        return this.appender;
+    }
+
+    @Override
+    public Provider create(final String name) {
+        return new AsyncLoggingProvider(name, this.appender);
+    }
+
+    @Override
+    public Provider create(final Class<?> clazz) {
+        return new AsyncLoggingProvider(clazz, this.appender);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return NormalLoggingProvider.getLevel().compareTo(level) <= 0;
+    }
+
+    @Override
+    public void close() {
+        this.appender.close();
+    }
+
+}
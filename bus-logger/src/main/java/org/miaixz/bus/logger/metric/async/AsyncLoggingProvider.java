@@ -0,0 +1,81 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.io.Serial;
+
+import org.miaixz.bus.logger.Level;
+import org.miaixz.bus.logger.metric.console.NormalLoggingProvider;
+
+/**
+ * 异步日志，调用线程只提交日志事件，格式化与输出由{@link Appender}的输出线程完成
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class AsyncLoggingProvider extends NormalLoggingProvider {
+
+    @Serial
+    private static final long serialVersionUID = 2852287261130L;
+
+    /**
+     * 输出器
+     */
+    private final transient Appender appender;
+
+    /**
+     * 构造
+     *
+     * @param name     类名
+     * @param appender 输出器
+     */
+    public AsyncLoggingProvider(final String name, final Appender appender) {
+        super(name);
+        this.appender = appender;
+    }
+
+    /**
+     * 构造
+     *
+     * @param clazz    类
+     * @param appender 输出器
+     */
+    public AsyncLoggingProvider(final Class<?> clazz, final Appender appender) {
+        super(clazz);
+        this.appender = appender;
+    }
+
+    @Override
+    public void log(final String fqcn, final Level level, final Throwable t, final String format,
+            final Object... args) {
+        if (isEnabled(level)) {
+            this.appender.append(level, this.name, t, format, args);
+        }
+    }
+
+}
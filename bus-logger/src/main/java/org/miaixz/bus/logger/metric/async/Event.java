@@ -0,0 +1,152 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.logger.Level;
+
+/**
+ * 日志事件，作为环形缓冲区中预分配的槽位重复使用
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class Event {
+
+    /**
+     * 槽位中事件的序号，-1 表示正在写入
+     */
+    volatile long sequence = -1;
+
+    long timestamp;
+    Level level;
+    String name;
+    String thread;
+    String format;
+    Object[] args;
+    Throwable throwable;
+
+    /**
+     * 填充事件
+     *
+     * @param timestamp 时间戳
+     * @param level     日志级别
+     * @param name      日志名称
+     * @param thread    线程名
+     * @param throwable 异常
+     * @param format    消息模板
+     * @param args      已通过{@link #capture(Object[])}复制的参数
+     */
+    void set(final long timestamp, final Level level, final String name, final String thread,
+            final Throwable throwable, final String format, final Object[] args) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.name = name;
+        this.thread = thread;
+        this.format = format;
+        this.throwable = throwable;
+        this.args = args;
+    }
+
+    /**
+     * 复制另一个事件
+     *
+     * @param other 事件
+     */
+    void copy(final Event other) {
+        this.timestamp = other.timestamp;
+        this.level = other.level;
+        this.name = other.name;
+        this.thread = other.thread;
+        this.format = other.format;
+        this.args = other.args;
+        this.throwable = other.throwable;
+    }
+
+    /**
+     * 释放引用
+     */
+    void clear() {
+        this.format = null;
+        this.args = null;
+        this.throwable = null;
+    }
+
+    /**
+     * 在调用线程中复制参数，不可变类型直接引用，其他类型立即转为字符串，避免输出前被修改
+     *
+     * @param args 参数
+     * @return 参数副本
+     */
+    static Object[] capture(final Object[] args) {
+        if (null == args || args.length == 0) {
+            return args;
+        }
+        final Object[] captured = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            final Object arg = args[i];
+            captured[i] = immutable(arg) ? arg : toString(arg);
+        }
+        return captured;
+    }
+
+    /**
+     * 转为字符串，toString 抛出异常时返回说明文本，避免日志调用本身失败
+     *
+     * @param arg 参数
+     * @return 字符串
+     */
+    private static String toString(final Object arg) {
+        try {
+            return StringKit.toString(arg);
+        } catch (final RuntimeException e) {
+            return "[" + arg.getClass().getName() + ".toString() threw " + e.getClass().getName() + "]";
+        }
+    }
+
+    /**
+     * 是否为不可变类型
+     *
+     * @param arg 参数
+     * @return 是否不可变
+     */
+    private static boolean immutable(final Object arg) {
+        return null == arg || arg instanceof String || arg instanceof Boolean || arg instanceof Character
+                || arg instanceof Integer || arg instanceof Long || arg instanceof Double || arg instanceof Float
+                || arg instanceof Short || arg instanceof Byte || arg instanceof BigDecimal
+                || arg instanceof BigInteger || arg instanceof Enum || arg instanceof UUID || arg instanceof Class
+                || arg instanceof Throwable
+                || (arg instanceof TemporalAccessor && arg.getClass().getName().startsWith("java.time."));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.miaixz.bus.core.lang.Fields;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.text.placeholder.StringFormatter;
+import org.miaixz.bus.core.xyz.ExceptionKit;
+
+/**
+ * 日志格式，与{@link org.miaixz.bus.logger.metric.console.NormalLoggingProvider}一致： [{date}] [{level}] {name}: {msg}
+ * 消息模板使用{@link StringFormatter}缓存的模板解析结果，日期按秒缓存，结果直接追加到输出线程复用的缓冲中
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class Layout {
+
+    private final DateTimeFormatter formatter;
+    /**
+     * 最近格式化的秒及其文本
+     */
+    private volatile Second second = new Second(Long.MIN_VALUE, null);
+
+    /**
+     * 构造，使用系统默认时区
+     */
+    Layout() {
+        this.formatter = DateTimeFormatter.ofPattern(Fields.NORM_DATETIME).withZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * 格式化单条日志并追加到缓冲
+     *
+     * @param event   日志事件
+     * @param builder 缓冲
+     */
+    void format(final Event event, final StringBuilder builder) {
+        builder.append(Symbol.C_BRACKET_LEFT).append(date(event.timestamp)).append("] [").append(event.level)
+                .append("] ").append(event.name).append(": ")
+                .append(StringFormatter.format(event.format, event.args)).append(System.lineSeparator());
+        if (null != event.throwable) {
+            builder.append(ExceptionKit.stacktraceToString(event.throwable, -1));
+        }
+    }
+
+    /**
+     * 格式化日期，同一秒内复用结果
+     *
+     * @param timestamp 毫秒时间戳
+     * @return 日期文本
+     */
+    private String date(final long timestamp) {
+        final long seconds = Math.floorDiv(timestamp, 1000L);
+        Second cached = this.second;
+        if (cached.seconds != seconds) {
+            cached = new Second(seconds, this.formatter.format(Instant.ofEpochSecond(seconds)));
+            this.second = cached;
+        }
+        return cached.text;
+    }
+
+    /**
+     * 格式化后的秒
+     *
+     * @param seconds 秒级时间戳
+     * @param text    日期文本
+     */
+    private record Second(long seconds, String text) {
+
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.logger.metric.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.miaixz.bus.core.lang.Normal;
+import org.miaixz.bus.core.lang.Symbol;
+
+/**
+ * 输出到文件，按大小和时间滚动
+ *
+ * <pre>
+ * app.log -&gt; app.2025-01-01.1.log, app.2025-01-01.2.log ...
+ * </pre>
+ *
+ * 时间周期由日期格式的精度决定，例如 yyyy-MM-dd 按天滚动，yyyy-MM-dd-HH 按小时滚动
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class RollingFileTarget implements Target {
+
+    /**
+     * 检查时间周期的间隔，毫秒
+     */
+    private static final long CHECK_INTERVAL = 1000L;
+
+    private final Path file;
+    private final String prefix;
+    private final String suffix;
+    private final long maxSize;
+    private final DateTimeFormatter formatter;
+    private final int maxHistory;
+
+    private FileChannel channel;
+    private long size;
+    /**
+     * 当前文件所属的时间周期
+     */
+    private String period;
+    private long nextCheck;
+
+    /**
+     * 构造，按天滚动，单个文件最大 100MB，保留 30 个历史文件
+     *
+     * @param file 日志文件
+     */
+    public RollingFileTarget(final Path file) {
+        this(file, 100L * 1024 * 1024, "yyyy-MM-dd", 30);
+    }
+
+    /**
+     * 构造
+     *
+     * @param file        日志文件
+     * @param maxSize     单个文件最大字节数，小于等于0表示不按大小滚动
+     * @param datePattern 时间周期的日期格式，{@code null}表示不按时间滚动
+     * @param maxHistory  保留的历史文件数，小于等于0表示不清理
+     */
+    public RollingFileTarget(final Path file, final long maxSize, final String datePattern, final int maxHistory) {
+        this.file = file.toAbsolutePath();
+        final String fileName = this.file.getFileName().toString();
+        final int dot = fileName.lastIndexOf(Symbol.C_DOT);
+        this.prefix = (dot > 0 ? fileName.substring(0, dot) : fileName) + Symbol.DOT;
+        this.suffix = dot > 0 ? fileName.substring(dot) : Normal.EMPTY;
+        this.maxSize = maxSize;
+        this.formatter = null == datePattern ? null : DateTimeFormatter.ofPattern(datePattern);
+        this.maxHistory = maxHistory;
+    }
+
+    @Override
+    public void write(final ByteBuffer buffer) throws IOException {
+        if (null == this.channel) {
+            open();
+        }
+        final long now = System.currentTimeMillis();
+        if (null != this.formatter && now >= this.nextCheck) {
+            this.nextCheck = now + CHECK_INTERVAL;
+            final String current = this.formatter.format(LocalDateTime.now());
+            if (!current.equals(this.period)) {
+                roll();
+                this.period = current;
+            }
+        }
+        if (this.maxSize > 0 && this.size > 0 && this.size + buffer.remaining() > this.maxSize) {
+            roll();
+        }
+        while (buffer.hasRemaining()) {
+            this.size += this.channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (null != this.channel) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    /**
+     * 打开或创建日志文件，已存在时追加，并以文件的修改时间确定其时间周期
+     *
+     * @throws IOException IO异常
+     */
+    private void open() throws IOException {
+        final Path parent = this.file.getParent();
+        if (null != parent) {
+            Files.createDirectories(parent);
+        }
+        if (null != this.formatter && null == this.period) {
+            final LocalDateTime time = Files.exists(this.file) ? LocalDateTime.ofInstant(
+                    Files.getLastModifiedTime(this.file).toInstant(), ZoneId.systemDefault())
+                    : LocalDateTime.now();
+            this.period = this.formatter.format(time);
+        }
+        this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.size = this.channel.size();
+    }
+
+    /**
+     * 将当前文件重命名为历史文件并重新打开
+     *
+     * @throws IOException IO异常
+     */
+    private void roll() throws IOException {
+        if (this.size == 0) {
+            return;
+        }
+        close();
+        final String period = null == this.period ? Normal.EMPTY : this.period + Symbol.DOT;
+        int index = 1;
+        Path target;
+        do {
+            target = this.file.resolveSibling(this.prefix + period + index++ + this.suffix);
+        } while (Files.exists(target));
+        Files.move(this.file, target);
+        clean();
+        open();
+    }
+
+    /**
+     * 删除超出数量的最早的历史文件
+     *
+     * @throws IOException IO异常
+     */
+    private void clean() throws IOException {
+        if (this.maxHistory <= 0) {
+            return;
+        }
+        final List<Path> history = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.file.getParent())) {
+            files.filter(this::isHistory).forEach(history::add);
+        }
+        if (history.size() <= this.maxHistory) {
+            return;
+        }
+        history.sort(Comparator.comparingLong(path -> path.toFile().lastModified()));
+        for (int i = 0; i < history.size() - this.maxHistory; i++) {
+            Files.deleteIfExists(history.get(i));
+        }
+    }
+
+    /**
+     * 是否为本文件滚动产生的历史文件
+     *
+     * @param path 文件
+     * @return 是否为历史文件
+     */
+    private boolean isHistory(final Path path) {
+        final String name = path.getFileName().toString();
+        return !path.equals(this.file) && name.startsWith(this.prefix) && name.endsWith(this.suffix);
+    }
+
+}
@@ -27,6 +27,7 @@
 */
 package org.miaixz.bus.logger.metric.console;
 
+import org.miaixz.bus.logger.Level;
 import org.miaixz.bus.logger.Provider;
 import org.miaixz.bus.logger.magic.AbstractFactory;
 
@@ -55,4 +56,9 @@ public class ColorLoggingFactory extends AbstractFactory {
         return new ColorLoggingProvider(clazz);
     }
 
+    @Override
+    public boolean isEnabled(final Level level) {
+        return NormalLoggingProvider.getLevel().compareTo(level) <= 0;
+    }
+
 }
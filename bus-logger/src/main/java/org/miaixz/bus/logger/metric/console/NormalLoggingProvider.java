@@ -82,6 +82,15 @@ public class NormalLoggingProvider extends AbstractProvider {
         _level = level;
     }
 
+    /**
+     * 获取当前日志级别
+     *
+     * @return 日志级别
+     */
+    public static Level getLevel() {
+        return _level;
+    }
+
     @Override
     public String getName() {
         return this.name;
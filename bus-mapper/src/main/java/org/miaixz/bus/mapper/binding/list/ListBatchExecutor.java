@@ -0,0 +1,220 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.mapper.binding.list;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.miaixz.bus.core.lang.Assert;
+import org.miaixz.bus.mapper.binding.basic.EntityMapper;
+
+/**
+ * 基于 JDBC 批处理的批量操作执行器
+ * <p>
+ * {@link ListMapper} 把整个列表拼接为一条 SQL，数据量较大时 OGNL 解析和超长 SQL 的开销急剧增加，还可能超出数据库的包大小限制。
+ * 此执行器在 {@link ExecutorType#BATCH} 会话中逐条调用单行语句（如 {@link EntityMapper#insert(Object)}），MyBatis 对连续相同的 SQL
+ * 只预编译一次并通过 addBatch 累积参数，每 batchSize 条执行一次 executeBatch。
+ * </p>
+ * <p>
+ * 单行语句的 SQL 需保持不变才能合并为同一批次，如 updateByPrimaryKeySelective 在各实体的非空字段不同时会拆分为多个批次。
+ * 在 Spring 事务中使用时，应通过 {@link #execute(SqlSession, Class, Iterable, ToIntBiFunction, int)} 传入 BATCH 类型的
+ * SqlSessionTemplate，由事务管理器负责提交。
+ * </p>
+ *
+ * <pre>
+ * new ListBatchExecutor(sqlSessionFactory).setBatchSize(500).insertList(UserMapper.class, users);
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class ListBatchExecutor {
+
+    /**
+     * 默认每批条数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * 会话工厂
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * 每批条数
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * 构造
+     *
+     * @param sqlSessionFactory 会话工厂
+     */
+    public ListBatchExecutor(final SqlSessionFactory sqlSessionFactory) {
+        this.sqlSessionFactory = Assert.notNull(sqlSessionFactory, "SqlSessionFactory must not be null");
+    }
+
+    /**
+     * 设置每批条数，每累积此数量的语句执行一次 executeBatch
+     *
+     * @param batchSize 每批条数
+     * @return this
+     */
+    public ListBatchExecutor setBatchSize(final int batchSize) {
+        Assert.isTrue(batchSize > 0, "Batch size must be positive: {}", batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * 批量插入，逐条调用 {@link EntityMapper#insert(Object)}
+     *
+     * @param mapperClass Mapper 接口
+     * @param entityList  实体列表
+     * @param <T>         实体类型
+     * @return 插入的记录数
+     */
+    public <T> int insertList(final Class<? extends EntityMapper<T, ?>> mapperClass,
+            final Iterable<? extends T> entityList) {
+        return execute(mapperClass, entityList, EntityMapper::insert);
+    }
+
+    /**
+     * 批量按主键更新，逐条调用 {@link EntityMapper#updateByPrimaryKey(Object)}
+     *
+     * @param mapperClass Mapper 接口
+     * @param entityList  实体列表
+     * @param <T>         实体类型
+     * @return 更新的记录数
+     */
+    public <T> int updateList(final Class<? extends EntityMapper<T, ?>> mapperClass,
+            final Iterable<? extends T> entityList) {
+        return execute(mapperClass, entityList, EntityMapper::updateByPrimaryKey);
+    }
+
+    /**
+     * 批量按主键更新非空字段，逐条调用 {@link EntityMapper#updateByPrimaryKeySelective(Object)}
+     *
+     * @param mapperClass Mapper 接口
+     * @param entityList  实体列表
+     * @param <T>         实体类型
+     * @return 更新的记录数
+     */
+    public <T> int updateListSelective(final Class<? extends EntityMapper<T, ?>> mapperClass,
+            final Iterable<? extends T> entityList) {
+        return execute(mapperClass, entityList, EntityMapper::updateByPrimaryKeySelective);
+    }
+
+    /**
+     * 在新的 BATCH 会话中逐条执行单行语句，全部成功后提交，失败时回滚
+     *
+     * @param mapperClass Mapper 接口
+     * @param entityList  实体列表
+     * @param statement   单行语句，如 {@code UserMapper::insertSelective}
+     * @param <M>         Mapper 类型
+     * @param <T>         实体类型
+     * @return 影响的记录数
+     */
+    public <M, T> int execute(final Class<M> mapperClass, final Iterable<? extends T> entityList,
+            final ToIntBiFunction<? super M, ? super T> statement) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            try {
+                final int rows = execute(sqlSession, mapperClass, entityList, statement, batchSize);
+                sqlSession.commit();
+                return rows;
+            } catch (final RuntimeException e) {
+                sqlSession.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 在给定会话中逐条执行单行语句，每 batchSize 条刷出一次，不提交
+     * <p>
+     * 会话应为 {@link ExecutorType#BATCH} 类型，否则每条语句立即执行，仍能得到正确的记录数但没有批处理效果。
+     * </p>
+     *
+     * @param sqlSession  会话
+     * @param mapperClass Mapper 接口
+     * @param entityList  实体列表
+     * @param statement   单行语句
+     * @param batchSize   每批条数
+     * @param <M>         Mapper 类型
+     * @param <T>         实体类型
+     * @return 影响的记录数
+     */
+    public static <M, T> int execute(final SqlSession sqlSession, final Class<M> mapperClass,
+            final Iterable<? extends T> entityList, final ToIntBiFunction<? super M, ? super T> statement,
+            final int batchSize) {
+        Assert.notNull(entityList, "Parameter cannot be empty");
+        Assert.isTrue(batchSize > 0, "Batch size must be positive: {}", batchSize);
+        final M mapper = sqlSession.getMapper(mapperClass);
+        int rows = 0;
+        int pending = 0;
+        for (final T entity : entityList) {
+            final int result = statement.applyAsInt(mapper, entity);
+            if (result == BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+                if (++pending == batchSize) {
+                    rows += flush(sqlSession);
+                    pending = 0;
+                }
+            } else {
+                // 非 BATCH 会话，语句已执行
+                rows += result;
+            }
+        }
+        if (pending > 0) {
+            rows += flush(sqlSession);
+        }
+        return rows;
+    }
+
+    /**
+     * 执行累积的批次
+     *
+     * @param sqlSession 会话
+     * @return 影响的记录数，驱动未返回具体数量（{@link Statement#SUCCESS_NO_INFO}）的语句按 1 条计算
+     */
+    private static int flush(final SqlSession sqlSession) {
+        final List<BatchResult> results = sqlSession.flushStatements();
+        int rows = 0;
+        for (final BatchResult result : results) {
+            for (final int count : result.getUpdateCounts()) {
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+}
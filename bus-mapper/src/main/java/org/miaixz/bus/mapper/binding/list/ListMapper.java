@@ -38,6 +38,9 @@ import org.miaixz.bus.mapper.provider.ListProvider;
 
 /**
  * 批量操作接口，提供实体列表的批量插入和更新方法
+ * <p>
+ * 整个列表拼接为一条 SQL 执行，适用于数据量较小的场景；数据量较大时使用 {@link ListBatchExecutor} 通过 JDBC 批处理执行。
+ * </p>
  *
  * @param <T> 实体类类型
  * @author Kimi Liu
@@ -46,6 +46,7 @@ module bus.notify {
 
     exports org.miaixz.bus.notify;
     exports org.miaixz.bus.notify.cache;
+    exports org.miaixz.bus.notify.dispatch;
     exports org.miaixz.bus.notify.magic;
     exports org.miaixz.bus.notify.metric;
     exports org.miaixz.bus.notify.metric.aliyun;
@@ -0,0 +1,107 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.notify.dispatch;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 异步批量发送配置
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Dispatch {
+
+    /**
+     * 单次请求的最大接收者数量，应不超过服务商的批量上限，如阿里云短信为 1000，腾讯云短信为 200
+     */
+    @Builder.Default
+    private int batchSize = 100;
+    /**
+     * 合并等待时间(毫秒)，同一通知内容的接收者在该时间内合并为一次请求
+     */
+    @Builder.Default
+    private long linger = 50;
+    /**
+     * 并发请求数
+     */
+    @Builder.Default
+    private int concurrency = 4;
+    /**
+     * 每秒允许的请求数，小于等于 0 表示不限制
+     */
+    @Builder.Default
+    private double rate = 0;
+    /**
+     * 突发请求数，小于等于 0 时为一秒的配额
+     */
+    @Builder.Default
+    private int burst = 0;
+    /**
+     * 请求失败后的重试次数
+     */
+    @Builder.Default
+    private int retries = 3;
+    /**
+     * 首次重试的退避时间(毫秒)，之后每次翻倍并加入随机抖动
+     */
+    @Builder.Default
+    private long backoff = 200;
+    /**
+     * 最大退避时间(毫秒)
+     */
+    @Builder.Default
+    private long maxBackoff = 10_000;
+    /**
+     * 队列容量，队列满时提交方阻塞
+     */
+    @Builder.Default
+    private int capacity = 10_000;
+    /**
+     * 队列持久化文件，为空时不持久化，重启后未完成的发送会重新入队
+     */
+    private Path journal;
+    /**
+     * 写入持久化文件后是否强制刷盘
+     */
+    @Builder.Default
+    private boolean sync = false;
+
+}
@@ -0,0 +1,417 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.notify.dispatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.miaixz.bus.core.basic.entity.Message;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.ClassKit;
+import org.miaixz.bus.core.xyz.ListKit;
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.extra.json.JsonKit;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.notify.Provider;
+import org.miaixz.bus.notify.magic.ErrorCode;
+import org.miaixz.bus.notify.magic.Material;
+
+/**
+ * 异步批量通知发送器，置于任意 {@link Provider} 之前
+ * <ul>
+ * <li>合并：同一通知内容实例的接收者在 {@link Dispatch#getLinger()} 内合并，每次请求不超过 {@link Dispatch#getBatchSize()} 个接收者</li>
+ * <li>并发：同时进行的请求数不超过 {@link Dispatch#getConcurrency()}，发送线程占满时队列不再出队，队列满时提交方阻塞</li>
+ * <li>限流：所有请求共享一个令牌桶，每次请求消耗一个令牌</li>
+ * <li>重试：请求抛出异常或返回非成功结果时按指数退避加随机抖动重试</li>
+ * <li>持久化：配置 {@link Dispatch#getJournal()} 后入队记录写入本地日志，重启后未完成的记录重新发送</li>
+ * </ul>
+ *
+ * @param <T> 通知内容类型
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Dispatcher<T extends Material> implements Closeable {
+
+    private final Provider<T> provider;
+    private final Dispatch dispatch;
+    private final Throttle throttle;
+    private final Journal journal;
+    private final BlockingQueue<Part<T>> queue;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final Thread worker;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * 构造，配置了持久化日志时会先将未完成的记录重新入队。
+     * 日志中包括排队中及已出队但未确认的记录，数量可能超过队列容量，此时队列容量扩大到记录数
+     *
+     * @param provider 通知服务商
+     * @param dispatch 发送配置
+     */
+    public Dispatcher(Provider<T> provider, Dispatch dispatch) {
+        this.provider = provider;
+        this.dispatch = dispatch;
+        this.throttle = dispatch.getRate() > 0 ? new Throttle(dispatch.getRate(), dispatch.getBurst()) : null;
+        this.journal = null == dispatch.getJournal() ? null : new Journal(dispatch.getJournal(), dispatch.isSync());
+        int concurrency = Math.max(1, dispatch.getConcurrency());
+        this.permits = new Semaphore(concurrency);
+        ExecutorService executor = null;
+        try {
+            List<Journal.Entry> entries = null == journal ? List.of() : journal.replay();
+            this.queue = new LinkedBlockingQueue<>(Math.max(Math.max(1, dispatch.getCapacity()), entries.size()));
+            executor = ThreadKit.newFixedExecutor(concurrency, "notify-dispatch-", true);
+            this.executor = executor;
+            this.worker = ThreadKit.newThread(this::loop, "notify-dispatcher", true);
+            recover(entries);
+            this.worker.start();
+        } catch (RuntimeException e) {
+            if (null != executor) {
+                executor.shutdownNow();
+            }
+            if (null != journal) {
+                try {
+                    journal.close();
+                } catch (IOException ex) {
+                    e.addSuppressed(ex);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 提交通知，接收者取自 {@link Material#getReceive()}，以 ',' 分隔
+     *
+     * @param entity 通知内容
+     * @return 每个批次的发送结果
+     */
+    public CompletableFuture<List<Message>> submit(T entity) {
+        return submit(entity, StringKit.split(entity.getReceive(), Symbol.COMMA, true, true));
+    }
+
+    /**
+     * 提交通知，接收者按批量上限拆分后入队，队列满时阻塞。相同通知内容实例的多次提交会合并到同一请求中，
+     * 因此群发时应复用同一个通知内容对象
+     *
+     * @param entity    通知内容
+     * @param receivers 接收者
+     * @return 涉及的每个批次的发送结果，所有批次完成后完成
+     */
+    public CompletableFuture<List<Message>> submit(T entity, List<String> receivers) {
+        if (!running) {
+            throw new InternalException("Dispatcher is closed");
+        }
+        int size = Math.max(1, dispatch.getBatchSize());
+        List<List<String>> chunks = receivers.isEmpty() ? List.of(List.of()) : ListKit.partition(receivers, size);
+        Ticket ticket = new Ticket(chunks.size());
+        for (List<String> chunk : chunks) {
+            Part<T> part = new Part<>(sequence.incrementAndGet(), entity, new ArrayList<>(chunk), ticket);
+            if (null != journal) {
+                journal.append(part.id, entity, part.receivers);
+            }
+            try {
+                queue.put(part);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalException(e);
+            }
+        }
+        return ticket.future;
+    }
+
+    /**
+     * 已发送的请求数，包括重试
+     *
+     * @return 请求数
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * 发送成功的批次数
+     *
+     * @return 批次数
+     */
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    /**
+     * 重试耗尽后仍失败的批次数
+     *
+     * @return 批次数
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 排队中的接收者分组数
+     *
+     * @return 分组数
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * 停止接收新通知，发送完队列中的通知后关闭
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join();
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (null != journal) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                Logger.warn("Failed to close notify journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 将日志中未完成的记录重新入队，内容相同的记录复用同一实例以便继续合并
+     *
+     * @param entries 日志中未完成的记录，队列容量不小于记录数
+     */
+    private void recover(List<Journal.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, T> entities = new HashMap<>();
+        Ticket ticket = new Ticket(entries.size());
+        ticket.future.thenAccept(messages -> Logger.info("Recovered {} notify batches from journal", messages.size()));
+        for (Journal.Entry entry : entries) {
+            T entity = entities.computeIfAbsent(entry.type() + Symbol.C_TAB + entry.json(),
+                    key -> (T) JsonKit.toPojo(entry.json(), ClassKit.loadClass(entry.type())));
+            sequence.accumulateAndGet(entry.id(), Math::max);
+            queue.add(new Part<>(entry.id(), entity, entry.receivers(), ticket));
+        }
+    }
+
+    /**
+     * 出队并按通知内容合并，批次满或等待超时后交给发送线程
+     */
+    private void loop() {
+        Map<T, Batch<T>> open = new IdentityHashMap<>();
+        long linger = TimeUnit.MILLISECONDS.toNanos(Math.max(0, dispatch.getLinger()));
+        int size = Math.max(1, dispatch.getBatchSize());
+        while (running || !queue.isEmpty() || !open.isEmpty()) {
+            long now = System.nanoTime();
+            long wait = TimeUnit.MILLISECONDS.toNanos(100);
+            for (Batch<T> batch : open.values()) {
+                wait = Math.min(wait, batch.deadline - now);
+            }
+            Part<T> part;
+            try {
+                part = queue.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (null != part) {
+                Batch<T> batch = open.get(part.entity);
+                if (null != batch && batch.size + part.receivers.size() > size) {
+                    flush(open.remove(part.entity));
+                    batch = null;
+                }
+                if (null == batch) {
+                    batch = new Batch<>(part.entity, System.nanoTime() + linger);
+                    open.put(part.entity, batch);
+                }
+                batch.add(part);
+                if (batch.size >= size) {
+                    flush(open.remove(part.entity));
+                }
+            }
+            now = System.nanoTime();
+            for (Iterator<Batch<T>> it = open.values().iterator(); it.hasNext();) {
+                Batch<T> batch = it.next();
+                if (!running || batch.deadline - now <= 0) {
+                    it.remove();
+                    flush(batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取发送许可后提交批次，发送线程占满时阻塞出队
+     *
+     * @param batch 批次
+     */
+    private void flush(Batch<T> batch) {
+        permits.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    send(batch);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 发送批次，失败时按退避策略重试，完成后通知所有相关的提交
+     *
+     * @param batch 批次
+     */
+    private void send(Batch<T> batch) {
+        List<String> receivers = new ArrayList<>(batch.size);
+        for (Part<T> part : batch.parts) {
+            receivers.addAll(part.receivers);
+        }
+        Message message = null;
+        for (int attempt = 0; attempt <= dispatch.getRetries(); attempt++) {
+            if (attempt > 0) {
+                ThreadKit.sleep(backoff(attempt));
+            }
+            if (null != throttle) {
+                throttle.acquire(1);
+            }
+            requests.increment();
+            try {
+                message = provider.send(batch.entity, receivers);
+            } catch (RuntimeException e) {
+                Logger.warn("Notify batch of {} failed on attempt {}: {}", receivers.size(), attempt + 1,
+                        e.getMessage());
+                message = Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(e.getMessage()).build();
+            }
+            if (null != message && ErrorCode._SUCCESS.getKey().equals(message.getErrcode())) {
+                break;
+            }
+        }
+        if (null == message) {
+            message = Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue())
+                    .build();
+        }
+        if (ErrorCode._SUCCESS.getKey().equals(message.getErrcode())) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+        for (Part<T> part : batch.parts) {
+            if (null != journal) {
+                journal.ack(part.id);
+            }
+            part.ticket.done(message);
+        }
+    }
+
+    /**
+     * 指数退避加随机抖动，实际等待时间在上限的一半到上限之间
+     *
+     * @param attempt 重试次数
+     * @return 等待时间(毫秒)
+     */
+    private long backoff(int attempt) {
+        long cap = Math.min(dispatch.getMaxBackoff(), dispatch.getBackoff() << Math.min(30, attempt - 1));
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+    }
+
+    /**
+     * 一次提交中按批量上限拆分出的接收者分组
+     */
+    private record Part<T>(long id, T entity, List<String> receivers, Ticket ticket) {
+
+    }
+
+    /**
+     * 合并中的批次
+     */
+    private static class Batch<T> {
+
+        final T entity;
+        final long deadline;
+        final List<Part<T>> parts = new ArrayList<>();
+        int size;
+
+        Batch(T entity, long deadline) {
+            this.entity = entity;
+            this.deadline = deadline;
+        }
+
+        void add(Part<T> part) {
+            parts.add(part);
+            size += part.receivers.size();
+        }
+
+    }
+
+    /**
+     * 一次提交的完成情况
+     */
+    private static class Ticket {
+
+        final CompletableFuture<List<Message>> future = new CompletableFuture<>();
+        final List<Message> messages = new ArrayList<>();
+        final AtomicInteger remaining;
+
+        Ticket(int parts) {
+            this.remaining = new AtomicInteger(parts);
+        }
+
+        void done(Message message) {
+            synchronized (messages) {
+                messages.add(message);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                synchronized (messages) {
+                    future.complete(List.copyOf(messages));
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.notify.dispatch;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.ListKit;
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.extra.json.JsonKit;
+
+/**
+ * 发送队列的持久化日志，每行一条记录：入队为 {@code +id\t类型\t内容JSON\t接收者}，完成为 {@code -id}。
+ * 所有已入队的记录都完成后文件会被截断，重启时未完成的记录重新入队
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+class Journal implements Closeable {
+
+    private final FileChannel channel;
+    private final boolean sync;
+    /**
+     * 未完成的记录数
+     */
+    private long pending;
+
+    /**
+     * 构造
+     *
+     * @param path 日志文件
+     * @param sync 写入后是否强制刷盘
+     */
+    Journal(Path path, boolean sync) {
+        this.sync = sync;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (null != parent) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 读取未完成的记录，并将日志重写为只包含这些记录
+     *
+     * @return 未完成的记录
+     */
+    synchronized List<Entry> replay() {
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        try {
+            channel.position(0);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (line.startsWith(Symbol.PLUS)) {
+                    String[] parts = line.substring(1).split(Symbol.TAB, 4);
+                    if (parts.length == 4) {
+                        long id = Long.parseLong(parts[0]);
+                        entries.put(id, new Entry(id, parts[1], parts[2],
+                                StringKit.isEmpty(parts[3]) ? ListKit.of() : ListKit.of(parts[3].split(Symbol.COMMA))));
+                    }
+                } else if (line.startsWith(Symbol.MINUS)) {
+                    entries.remove(Long.parseLong(line.substring(1).trim()));
+                }
+            }
+            channel.truncate(0);
+            channel.position(0);
+            StringBuilder builder = new StringBuilder();
+            for (Entry entry : entries.values()) {
+                line(builder, entry.id(), entry.type(), entry.json(), entry.receivers());
+            }
+            write(builder);
+            pending = entries.size();
+        } catch (IOException | RuntimeException e) {
+            throw new InternalException("Failed to replay notify journal", e);
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * 记录入队
+     *
+     * @param id        记录ID
+     * @param entity    通知内容
+     * @param receivers 接收者
+     */
+    synchronized void append(long id, Object entity, List<String> receivers) {
+        StringBuilder builder = new StringBuilder();
+        line(builder, id, entity.getClass().getName(), JsonKit.toJsonString(entity), receivers);
+        write(builder);
+        pending++;
+    }
+
+    /**
+     * 记录完成，所有记录都已完成时截断日志
+     *
+     * @param id 记录ID
+     */
+    synchronized void ack(long id) {
+        try {
+            if (--pending <= 0) {
+                pending = 0;
+                channel.truncate(0);
+                channel.position(0);
+            } else {
+                write(new StringBuilder().append(Symbol.C_MINUS).append(id).append(Symbol.C_LF));
+            }
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static void line(StringBuilder builder, long id, String type, String json, List<String> receivers) {
+        builder.append(Symbol.C_PLUS).append(id).append(Symbol.C_TAB).append(type).append(Symbol.C_TAB)
+                .append(json).append(Symbol.C_TAB).append(String.join(Symbol.COMMA, receivers)).append(Symbol.C_LF);
+    }
+
+    private void write(CharSequence text) {
+        try {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+            channel.position(channel.size());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 未完成的记录
+     *
+     * @param id        记录ID
+     * @param type      通知内容类型
+     * @param json      通知内容
+     * @param receivers 接收者
+     */
+    record Entry(long id, String type, String json, List<String> receivers) {
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.notify.dispatch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 令牌桶限流器，由同一服务商的所有发送线程共享
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Throttle {
+
+    /**
+     * 每秒补充的令牌数
+     */
+    private final double rate;
+    /**
+     * 令牌桶容量
+     */
+    private final double capacity;
+    /**
+     * 当前可用的令牌数，为负表示已透支
+     */
+    private double available;
+    /**
+     * 上次补充令牌的时间(纳秒)
+     */
+    private long last;
+
+    /**
+     * 构造
+     *
+     * @param rate  每秒补充的令牌数
+     * @param burst 令牌桶容量，小于等于 0 时为一秒的配额
+     */
+    public Throttle(double rate, int burst) {
+        this.rate = rate;
+        this.capacity = burst > 0 ? burst : Math.max(1, rate);
+        this.available = this.capacity;
+        this.last = System.nanoTime();
+    }
+
+    /**
+     * 申请令牌，令牌不足时阻塞当前线程直至透支部分被偿还
+     *
+     * @param permits 令牌数
+     */
+    public void acquire(int permits) {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - last) * rate / TimeUnit.SECONDS.toNanos(1));
+            last = now;
+            available -= permits;
+            wait = available < 0 ? (long) (-available * TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        }
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+}
@@ -30,6 +30,8 @@ package org.miaixz.bus.notify.metric;
 import java.util.List;
 
 import org.miaixz.bus.core.basic.entity.Message;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.xyz.BeanKit;
 import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.notify.Context;
 import org.miaixz.bus.notify.Provider;
@@ -53,9 +55,18 @@ public abstract class AbstractProvider<T extends Material, K extends Context> im
         return null;
     }
 
+    /**
+     * 复制通知内容并将接收者替换为指定的手机号列表后发送，原通知内容不会被修改
+     *
+     * @param entity 通知内容
+     * @param mobile 手机号列表
+     * @return 发送结果
+     */
     @Override
     public Message send(T entity, List<String> mobile) {
-        return null;
+        T copy = (T) BeanKit.copyProperties(entity, entity.getClass());
+        copy.setReceive(String.join(Symbol.COMMA, mobile));
+        return send(copy);
     }
 
     protected String getUrl(T property) {
@@ -0,0 +1,202 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.csv;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.text.StringTrimer;
+import org.miaixz.bus.core.xyz.CharKit;
+import org.miaixz.bus.core.xyz.StringKit;
+
+/**
+ * CSV字段视图，直接引用映射缓冲区中的字节
+ * <p>
+ * 纯ASCII且无包装符的字段按字节直接读取字符，其它字段在首次访问时解码并缓存为字符串，解码规则与{@link CsvParser}一致。
+ * 视图随所属{@link CsvRecord}复用，仅在处理当前行时有效。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class CsvField implements CharSequence {
+
+    /**
+     * 字段以文本包装符开头
+     */
+    static final int QUOTED = 1;
+    /**
+     * 字段包含非ASCII字节
+     */
+    static final int NON_ASCII = 2;
+
+    /**
+     * 所属行
+     */
+    private final CsvRecord record;
+    /**
+     * 映射缓冲区
+     */
+    private ByteBuffer buffer;
+    /**
+     * 字段起始位置（包含）
+     */
+    private int start;
+    /**
+     * 字段结束位置（不包含）
+     */
+    private int end;
+    /**
+     * 字段标记
+     */
+    private int flags;
+    /**
+     * 对应的行版本，与所属行不一致时需重新定位
+     */
+    long stamp = -1;
+    /**
+     * 已解码的字段值
+     */
+    private String value;
+
+    /**
+     * 构造
+     *
+     * @param record 所属行
+     */
+    CsvField(final CsvRecord record) {
+        this.record = record;
+    }
+
+    /**
+     * 重新定位字段
+     *
+     * @param buffer 映射缓冲区
+     * @param start  字段起始位置（包含）
+     * @param end    字段结束位置（不包含）
+     * @param flags  字段标记
+     * @param stamp  行版本
+     */
+    void reset(final ByteBuffer buffer, int start, int end, final int flags, final long stamp) {
+        if (flags == 0 && record.trimField) {
+            while (start < end && CharKit.isBlankChar(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && CharKit.isBlankChar(buffer.get(end - 1))) {
+                end--;
+            }
+        }
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.flags = flags;
+        this.stamp = stamp;
+        this.value = null;
+    }
+
+    @Override
+    public int length() {
+        return flags == 0 ? end - start : string().length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (flags == 0) {
+            return (char) buffer.get(start + Objects.checkIndex(index, end - start));
+        }
+        return string().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return string().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return string();
+    }
+
+    /**
+     * 获取字段值，首次调用时解码
+     *
+     * @return 字段值
+     */
+    private String string() {
+        if (null == value) {
+            final byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            if (flags == 0) {
+                value = new String(bytes, Charset.ISO_8859_1);
+            } else {
+                String field = new String(bytes, record.charset);
+                if ((flags & QUOTED) != 0) {
+                    field = unwrap(field, record.textDelimiter);
+                }
+                value = record.trimField ? StringKit.trim(field) : field;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 去包装和去转义，规则与{@link CsvParser}一致：包装符内成对的包装符只保留一个，未闭合的包装在末尾补充包装符
+     *
+     * @param raw       以包装符开头的原始字段
+     * @param delimiter 文本包装符
+     * @return 字段值
+     */
+    private static String unwrap(final String raw, final char delimiter) {
+        final StringBuilder builder = new StringBuilder(raw.length() + 1);
+        builder.append(delimiter);
+        int i = 1;
+        boolean closed = false;
+        while (i < raw.length() && !closed) {
+            final char c = raw.charAt(i++);
+            if (c == delimiter) {
+                if (i < raw.length() && raw.charAt(i) == delimiter) {
+                    i++;
+                } else {
+                    closed = true;
+                }
+            }
+            builder.append(c);
+        }
+        if (closed) {
+            builder.append(raw, i, raw.length());
+        } else {
+            builder.append(delimiter);
+        }
+        final String field = StringKit.trim(builder, StringTrimer.TrimMode.SUFFIX,
+                (c -> c == Symbol.C_LF || c == Symbol.C_CR));
+        return StringKit.isWrap(field, delimiter) ? field.substring(1, field.length() - 1) : field;
+    }
+
+}
@@ -31,6 +31,7 @@ import java.io.File;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 /**
  * CSV工具
@@ -80,6 +81,17 @@ public class CsvKit {
         return getReader(reader, null);
     }
 
+    /**
+     * 获取基于内存映射的并行CSV读取器，适用于大文件
+     *
+     * @param path   CSV文件
+     * @param config 配置, {@code null}表示默认配置
+     * @return {@link MappedCsvReader}
+     */
+    public static MappedCsvReader getMappedReader(final Path path, final CsvReadConfig config) {
+        return new MappedCsvReader(path, config);
+    }
+
     /**
      * 获取CSV生成器（写出器），使用默认配置，覆盖已有文件（如果存在）
      *
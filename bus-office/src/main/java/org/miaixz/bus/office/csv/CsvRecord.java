@@ -0,0 +1,204 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.csv;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.miaixz.bus.core.lang.Assert;
+
+/**
+ * {@link MappedCsvReader}读取的一行，字段为映射缓冲区上的{@link CharSequence}视图
+ * <p>
+ * 同一解析线程读取的所有行复用一个实例，行及其字段仅在处理器调用期间有效，需保留时调用{@link CharSequence#toString()}或{@link #toRow()}复制。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public final class CsvRecord {
+
+    /**
+     * 编码
+     */
+    final java.nio.charset.Charset charset;
+    /**
+     * 文本包装符
+     */
+    final char textDelimiter;
+    /**
+     * 是否去除字段首尾空白
+     */
+    final boolean trimField;
+    /**
+     * 标题Map
+     */
+    private Map<String, Integer> headerMap;
+    /**
+     * 当前分段的映射缓冲区
+     */
+    private ByteBuffer buffer;
+    /**
+     * 当前分段的行索引
+     */
+    private int[] index;
+    /**
+     * 第一个字段在索引中的位置
+     */
+    private int offset;
+    /**
+     * 字段数
+     */
+    private int size;
+    /**
+     * 原始行号
+     */
+    private long originalLineNumber;
+    /**
+     * 行版本，每定位一行加一
+     */
+    private long stamp;
+    /**
+     * 复用的字段视图
+     */
+    private CsvField[] fields = new CsvField[16];
+
+    /**
+     * 构造
+     *
+     * @param charset 编码
+     * @param config  读取配置
+     */
+    CsvRecord(final java.nio.charset.Charset charset, final CsvReadConfig config) {
+        this.charset = charset;
+        this.textDelimiter = config.textDelimiter;
+        this.trimField = config.trimField;
+    }
+
+    /**
+     * 切换到新的分段
+     *
+     * @param buffer    映射缓冲区
+     * @param index     行索引
+     * @param headerMap 标题Map
+     */
+    void chunk(final ByteBuffer buffer, final int[] index, final Map<String, Integer> headerMap) {
+        this.buffer = buffer;
+        this.index = index;
+        this.headerMap = headerMap;
+    }
+
+    /**
+     * 定位到分段中的一行
+     *
+     * @param originalLineNumber 原始行号
+     * @param offset             第一个字段在索引中的位置
+     * @param size               字段数
+     */
+    void reset(final long originalLineNumber, final int offset, final int size) {
+        this.originalLineNumber = originalLineNumber;
+        this.offset = offset;
+        this.size = size;
+        this.stamp++;
+        if (size > fields.length) {
+            fields = Arrays.copyOf(fields, Math.max(size, fields.length << 1));
+        }
+    }
+
+    /**
+     * 获取原始行号，多行情况下为首行行号
+     *
+     * @return 行号
+     */
+    public long getOriginalLineNumber() {
+        return originalLineNumber;
+    }
+
+    /**
+     * 字段数
+     *
+     * @return 字段数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取字段视图
+     *
+     * @param index 字段位置
+     * @return 字段视图，仅在处理当前行时有效
+     */
+    public CharSequence get(final int index) {
+        Objects.checkIndex(index, size);
+        CsvField field = fields[index];
+        if (null == field) {
+            field = fields[index] = new CsvField(this);
+        }
+        if (field.stamp != stamp) {
+            final int i = offset + index * 3;
+            field.reset(buffer, this.index[i], this.index[i + 1], this.index[i + 2], stamp);
+        }
+        return field;
+    }
+
+    /**
+     * 获取标题对应的字段视图
+     *
+     * @param name 标题名
+     * @return 字段视图，null表示无此字段
+     */
+    public CharSequence getByName(final String name) {
+        Assert.notNull(this.headerMap, "No header available!");
+        final Integer col = headerMap.get(name);
+        return null != col && col < size ? get(col) : null;
+    }
+
+    /**
+     * 复制为{@link CsvRow}，可在处理器调用结束后继续使用
+     *
+     * @return {@link CsvRow}
+     */
+    public CsvRow toRow() {
+        final List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(get(i).toString());
+        }
+        return new CsvRow(originalLineNumber, headerMap, list);
+    }
+
+    @Override
+    public String toString() {
+        return toRow().toString();
+    }
+
+}
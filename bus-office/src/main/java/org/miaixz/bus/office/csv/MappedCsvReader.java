@@ -0,0 +1,640 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.miaixz.bus.core.center.function.ConsumerX;
+import org.miaixz.bus.core.lang.Assert;
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.MapKit;
+import org.miaixz.bus.core.xyz.ObjectKit;
+import org.miaixz.bus.core.xyz.StringKit;
+
+/**
+ * 基于内存映射的并行CSV读取器
+ * <p>
+ * 文件按{@link #setChunkSize(int)}切分后映射到内存，先并行统计每段中文本包装符的个数和换行的位置，据此把切分点校正到包装符之外的换行处，
+ * 再由{@link ForkJoinPool}并行解析各段。解析直接在字节上进行，字段以{@link CharSequence}视图交给处理器，仅在访问时解码。
+ * </p>
+ * <p>
+ * 切分点的校正要求文本包装符只出现在字段首尾（RFC 4180），字段中间或注释中落单的包装符会使相邻分段无法衔接，此时抛出{@link InternalException}，
+ * 可改用{@link CsvReader}顺序读取。编码仅支持UTF-8和单字节编码，分隔符、包装符和注释符须为ASCII字符。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class MappedCsvReader {
+
+    /**
+     * 默认分段大小
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 23;
+
+    /**
+     * CSV文件
+     */
+    private final Path path;
+    /**
+     * 编码
+     */
+    private final java.nio.charset.Charset charset;
+    /**
+     * 读取配置
+     */
+    private final CsvReadConfig config;
+    /**
+     * 解析线程池
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    /**
+     * 分段大小
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /**
+     * 最近一次读取的标题行
+     */
+    private volatile List<String> header;
+
+    /**
+     * 构造，默认UTF-8编码
+     *
+     * @param path   CSV文件
+     * @param config 配置项，null表示默认配置
+     */
+    public MappedCsvReader(final Path path, final CsvReadConfig config) {
+        this(path, Charset.UTF_8, config);
+    }
+
+    /**
+     * 构造
+     *
+     * @param path    CSV文件
+     * @param charset 编码，仅支持UTF-8和单字节编码
+     * @param config  配置项，null表示默认配置
+     */
+    public MappedCsvReader(final Path path, final java.nio.charset.Charset charset, final CsvReadConfig config) {
+        this.path = Assert.notNull(path, "path must not be null");
+        this.charset = ObjectKit.defaultIfNull(charset, Charset.UTF_8);
+        this.config = ObjectKit.defaultIfNull(config, CsvReadConfig::of);
+        if (!Charset.UTF_8.equals(this.charset) && this.charset.newEncoder().maxBytesPerChar() > 1) {
+            throw new IllegalArgumentException("Unsupported charset for mapped reading: " + this.charset);
+        }
+        if (this.config.fieldSeparator > 0x7F || this.config.textDelimiter > 0x7F
+                || (null != this.config.commentCharacter && this.config.commentCharacter > 0x7F)) {
+            throw new IllegalArgumentException("Field separator, text delimiter and comment must be ASCII characters");
+        }
+    }
+
+    /**
+     * 设置解析线程池，默认{@link ForkJoinPool#commonPool()}
+     *
+     * @param pool 线程池
+     * @return this
+     */
+    public MappedCsvReader setPool(final ForkJoinPool pool) {
+        this.pool = Assert.notNull(pool, "pool must not be null");
+        return this;
+    }
+
+    /**
+     * 设置分段大小，默认8MB，实际分段会延伸到下一个记录边界
+     *
+     * @param chunkSize 分段大小
+     * @return this
+     */
+    public MappedCsvReader setChunkSize(final int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be positive");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * 获取最近一次读取的标题行
+     *
+     * @return 标题行，未设置标题行时为null
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * 并行解析，在调用线程中按文件顺序把行交给处理器
+     *
+     * @param rowHandler 行处理器，收到的行仅在调用期间有效
+     * @throws InternalException IO异常或包装符不匹配
+     */
+    public void read(final ConsumerX<CsvRecord> rowHandler) throws InternalException {
+        read(rowHandler, true);
+    }
+
+    /**
+     * 并行解析，各解析线程直接把行交给处理器，行的先后顺序不确定，处理器需线程安全
+     * <p>
+     * 第一个分段在调用线程中先行处理，以确定标题行；标题行不在第一个分段时，其余分段按顺序处理。
+     * </p>
+     *
+     * @param rowHandler 行处理器，收到的行仅在调用期间有效
+     * @throws InternalException IO异常或包装符不匹配
+     */
+    public void readUnordered(final ConsumerX<CsvRecord> rowHandler) throws InternalException {
+        read(rowHandler, false);
+    }
+
+    /**
+     * 读取CSV文件
+     *
+     * @param rowHandler 行处理器
+     * @param ordered    是否按顺序处理
+     */
+    private void read(final ConsumerX<CsvRecord> rowHandler, final boolean ordered) {
+        Assert.notNull(rowHandler, "rowHandler must not be null");
+        this.header = null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final Job job = new Job(channel, rowHandler);
+            final List<Chunk> chunks = split(channel);
+            if (ordered || chunks.size() == 1) {
+                readOrdered(job, chunks, 0);
+                return;
+            }
+            final Chunk first = parse(channel, chunks.get(0));
+            if (!deliver(job, first, job.record)) {
+                return;
+            }
+            if (config.headerLineNo >= 0 && null == job.headerMap) {
+                readOrdered(job, chunks, 1);
+                return;
+            }
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.size() - 1);
+            try {
+                for (final Chunk chunk : chunks.subList(1, chunks.size())) {
+                    // 分段按行号递增，此后的分段均超出结束行
+                    if (chunk.line > config.endLineNo) {
+                        break;
+                    }
+                    tasks.add(pool.submit(() -> {
+                        if (job.stopped) {
+                            return;
+                        }
+                        try {
+                            deliver(job, parse(channel, chunk), new CsvRecord(charset, config));
+                        } catch (final RuntimeException | Error e) {
+                            job.stopped = true;
+                            throw e;
+                        }
+                    }));
+                }
+                for (final ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } finally {
+                tasks.forEach(task -> task.cancel(false));
+            }
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 按顺序处理分段，最多同时解析线程池并行度两倍的分段
+     *
+     * @param job    本次读取
+     * @param chunks 分段列表
+     * @param from   起始分段
+     */
+    private void readOrdered(final Job job, final List<Chunk> chunks, final int from) {
+        final int window = Math.max(2, pool.getParallelism() << 1);
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks.size()];
+        int submitted = from;
+        try {
+            for (int i = from; i < chunks.size(); i++) {
+                while (submitted < chunks.size() && submitted < i + window) {
+                    final Chunk chunk = chunks.get(submitted);
+                    tasks[submitted++] = pool.submit(() -> parse(job.channel, chunk));
+                }
+                tasks[i].join();
+                tasks[i] = null;
+                if (!deliver(job, chunks.get(i), job.record)) {
+                    return;
+                }
+            }
+        } finally {
+            for (final ForkJoinTask<?> task : tasks) {
+                if (null != task) {
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 切分文件，并行统计各段后把切分点校正到包装符之外的换行之后
+     *
+     * @param channel 文件通道
+     * @return 分段列表
+     * @throws IOException IO异常
+     */
+    private List<Chunk> split(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long begin = skipBom(channel, size);
+        final int count = (int) Math.max(1, (size - begin + chunkSize - 1) / chunkSize);
+        final List<ForkJoinTask<long[]>> scans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final long start = begin + (long) i * chunkSize;
+            final long end = Math.min(size, start + chunkSize);
+            scans.add(pool.submit(() -> scan(channel, start, end, size)));
+        }
+
+        final List<Chunk> chunks = new ArrayList<>(count);
+        long quotes = 0;
+        long lines = 0;
+        long chunkStart = begin;
+        long chunkLine = 0;
+        for (int i = 0; i < count; i++) {
+            final long[] scan = scans.get(i).join();
+            if (i > 0) {
+                // 此前包装符为偶数个时，包装符之外的换行处即为记录边界
+                final int even = (quotes & 1) == 0 ? 2 : 4;
+                if (scan[even] >= 0 && scan[even] < size) {
+                    chunks.add(new Chunk(chunkStart, scan[even], chunkLine, false));
+                    chunkStart = scan[even];
+                    chunkLine = lines + scan[even + 1];
+                }
+            }
+            quotes += scan[0];
+            lines += scan[1];
+        }
+        chunks.add(new Chunk(chunkStart, size, chunkLine, true));
+        for (final Chunk chunk : chunks) {
+            if (chunk.end - chunk.start > Integer.MAX_VALUE) {
+                throw new InternalException("Record exceeds 2GB near offset " + chunk.start);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 跳过UTF-8的BOM
+     *
+     * @param channel 文件通道
+     * @param size    文件大小
+     * @return 数据起始位置
+     * @throws IOException IO异常
+     */
+    private long skipBom(final FileChannel channel, final long size) throws IOException {
+        if (!Charset.UTF_8.equals(charset) || size < 3) {
+            return 0;
+        }
+        final ByteBuffer bom = ByteBuffer.allocate(3);
+        while (bom.hasRemaining() && channel.read(bom, bom.position()) > 0) {
+            // 读满3个字节
+        }
+        return bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    /**
+     * 统计一段中的包装符个数、行数，以及包装符分别为偶数个和奇数个时遇到的第一个换行
+     *
+     * @param channel 文件通道
+     * @param start   起始位置
+     * @param end     结束位置
+     * @param size    文件大小
+     * @return [包装符个数, 行数, 偶数时换行之后的位置, 此前的行数, 奇数时换行之后的位置, 此前的行数]，位置-1表示不存在
+     * @throws IOException IO异常
+     */
+    private long[] scan(final FileChannel channel, final long start, final long end, final long size)
+            throws IOException {
+        // 多映射一个字节，用于判断段尾的\r之后是否为\n
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(size, end + 1) - start);
+        final int limit = (int) (end - start);
+        final byte quote = (byte) config.textDelimiter;
+        final long[] result = { 0, 0, -1, 0, -1, 0 };
+        long quotes = 0;
+        long lines = 0;
+        for (int i = 0; i < limit; i++) {
+            final byte b = buffer.get(i);
+            if (b == quote) {
+                quotes++;
+            } else if (b == Symbol.C_LF) {
+                lines++;
+                final int slot = (quotes & 1) == 0 ? 2 : 4;
+                if (result[slot] < 0) {
+                    result[slot] = start + i + 1;
+                    result[slot + 1] = lines;
+                }
+            } else if (b == Symbol.C_CR && (i + 1 >= buffer.limit() || buffer.get(i + 1) != Symbol.C_LF)) {
+                lines++;
+            }
+        }
+        result[0] = quotes;
+        result[1] = lines;
+        return result;
+    }
+
+    /**
+     * 解析一个分段，为每行记录行号、字段数及各字段的位置和标记
+     *
+     * @param channel 文件通道
+     * @param chunk   分段
+     * @return 分段
+     */
+    private Chunk parse(final FileChannel channel, final Chunk chunk) {
+        final MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+        final int limit = buffer.limit();
+        final byte separator = (byte) config.fieldSeparator;
+        final byte quote = (byte) config.textDelimiter;
+        // 不在字节取值范围内，表示不识别注释
+        final int comment = null == config.commentCharacter ? Integer.MIN_VALUE : config.commentCharacter;
+        int[] index = new int[Math.max(64, limit >> 3)];
+        int length = 0;
+        int line = 0;
+        int p = 0;
+        byte b;
+        while (p < limit) {
+            if (buffer.get(p) == comment) {
+                // 注释行，跳过至行尾
+                while (p < limit && (b = buffer.get(p)) != Symbol.C_LF && b != Symbol.C_CR) {
+                    p++;
+                }
+                p = skipLineEnd(buffer, p, limit);
+                line++;
+                continue;
+            }
+            if (length + 2 > index.length) {
+                index = Arrays.copyOf(index, index.length + (index.length >> 1) + 2);
+            }
+            final int record = length;
+            index[length++] = line;
+            length++;
+            int count = 0;
+            for (;;) {
+                final int start = p;
+                int flags = 0;
+                if (p < limit && buffer.get(p) == quote) {
+                    // 包装符内的分隔符和换行均为字段内容，成对的包装符为转义
+                    flags = CsvField.QUOTED;
+                    p++;
+                    for (;;) {
+                        if (p >= limit) {
+                            if (!chunk.last) {
+                                throw new InternalException("Unbalanced text delimiter in chunk starting at offset "
+                                        + chunk.start + ", please read with CsvReader");
+                            }
+                            break;
+                        }
+                        b = buffer.get(p++);
+                        if (b == quote) {
+                            if (p < limit && buffer.get(p) == quote) {
+                                p++;
+                            } else {
+                                break;
+                            }
+                        } else if (b == Symbol.C_LF) {
+                            line++;
+                        } else if (b == Symbol.C_CR && (p >= limit || buffer.get(p) != Symbol.C_LF)) {
+                            line++;
+                        }
+                    }
+                }
+                while (p < limit && (b = buffer.get(p)) != separator && b != Symbol.C_LF && b != Symbol.C_CR) {
+                    if (b < 0) {
+                        flags |= CsvField.NON_ASCII;
+                    }
+                    p++;
+                }
+                if (length + 3 > index.length) {
+                    index = Arrays.copyOf(index, index.length + (index.length >> 1) + 3);
+                }
+                index[length++] = start;
+                index[length++] = p;
+                index[length++] = flags;
+                count++;
+                if (p >= limit) {
+                    break;
+                }
+                if (buffer.get(p) == separator) {
+                    p++;
+                    continue;
+                }
+                p = skipLineEnd(buffer, p, limit);
+                line++;
+                break;
+            }
+            index[record + 1] = count;
+        }
+        chunk.buffer = buffer;
+        chunk.index = index;
+        chunk.length = length;
+        return chunk;
+    }
+
+    /**
+     * 跳过行尾的\r、\n或\r\n
+     *
+     * @param buffer 缓冲区
+     * @param p      当前位置
+     * @param limit  结束位置
+     * @return 下一行的起始位置
+     */
+    private static int skipLineEnd(final ByteBuffer buffer, int p, final int limit) {
+        if (p < limit && buffer.get(p++) == Symbol.C_CR && p < limit && buffer.get(p) == Symbol.C_LF) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * 把分段中的行交给处理器，规则与{@link CsvParser#nextRow()}一致
+     *
+     * @param job    本次读取
+     * @param chunk  已解析的分段
+     * @param record 复用的行
+     * @return false表示已超出结束行，后续分段无需处理
+     */
+    private boolean deliver(final Job job, final Chunk chunk, final CsvRecord record) {
+        final int[] index = chunk.index;
+        record.chunk(chunk.buffer, index, job.headerMap);
+        int i = 0;
+        try {
+            while (i < chunk.length && !job.stopped) {
+                final long lineNo = chunk.line + index[i];
+                final int count = index[i + 1];
+                final int offset = i + 2;
+                i = offset + count * 3;
+                if (lineNo < config.beginLineNo) {
+                    continue;
+                }
+                if (lineNo > config.endLineNo) {
+                    return false;
+                }
+                record.reset(lineNo, offset, count);
+                if (config.skipEmptyRows && count == 1 && record.get(0).length() == 0) {
+                    continue;
+                }
+                if (config.errorOnDifferentFieldCount) {
+                    final int first = job.fieldCount.compareAndExchange(-1, count);
+                    if (first >= 0 && first != count) {
+                        throw new InternalException(String.format("Line %d has %d fields, but first line has %d fields",
+                                lineNo, count, first));
+                    }
+                }
+                if (lineNo == config.headerLineNo && null == job.headerMap) {
+                    job.initHeader(record);
+                    record.chunk(chunk.buffer, index, job.headerMap);
+                    continue;
+                }
+                job.rowHandler.accept(record);
+            }
+        } finally {
+            chunk.buffer = null;
+            chunk.index = null;
+        }
+        return true;
+    }
+
+    /**
+     * 一次读取的状态
+     */
+    private final class Job {
+
+        /**
+         * 文件通道
+         */
+        final FileChannel channel;
+        /**
+         * 行处理器
+         */
+        final ConsumerX<CsvRecord> rowHandler;
+        /**
+         * 调用线程复用的行
+         */
+        final CsvRecord record = new CsvRecord(charset, config);
+        /**
+         * 第一行的字段数
+         */
+        final AtomicInteger fieldCount = new AtomicInteger(-1);
+        /**
+         * 标题Map
+         */
+        volatile Map<String, Integer> headerMap;
+        /**
+         * 是否有分段处理失败，其它分段随即停止
+         */
+        volatile boolean stopped;
+
+        Job(final FileChannel channel, final ConsumerX<CsvRecord> rowHandler) {
+            this.channel = channel;
+            this.rowHandler = rowHandler;
+        }
+
+        /**
+         * 当前行做为标题行
+         *
+         * @param record 当前行
+         */
+        void initHeader(final CsvRecord record) {
+            final List<String> fields = record.toRow().getRaw();
+            final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                String field = fields.get(i);
+                if (MapKit.isNotEmpty(config.headerAlias)) {
+                    // 自定义别名
+                    field = ObjectKit.defaultIfNull(config.headerAlias.get(field), field);
+                }
+                if (StringKit.isNotEmpty(field) && !localHeaderMap.containsKey(field)) {
+                    localHeaderMap.put(field, i);
+                }
+            }
+            header = Collections.unmodifiableList(fields);
+            headerMap = Collections.unmodifiableMap(localHeaderMap);
+        }
+
+    }
+
+    /**
+     * 文件分段
+     */
+    private static final class Chunk {
+
+        /**
+         * 起始位置
+         */
+        final long start;
+        /**
+         * 结束位置
+         */
+        final long end;
+        /**
+         * 起始行号
+         */
+        final long line;
+        /**
+         * 是否为最后一段
+         */
+        final boolean last;
+        /**
+         * 映射缓冲区，处理完毕后释放
+         */
+        ByteBuffer buffer;
+        /**
+         * 行索引：每行依次为相对行号、字段数，以及各字段的起始位置、结束位置和标记
+         */
+        int[] index;
+        /**
+         * 行索引的有效长度
+         */
+        int length;
+
+        Chunk(final long start, final long end, final long line, final boolean last) {
+            this.start = start;
+            this.end = end;
+            this.line = line;
+            this.last = last;
+        }
+
+    }
+
+}
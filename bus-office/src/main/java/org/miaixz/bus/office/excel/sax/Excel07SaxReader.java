@@ -30,14 +30,26 @@ package org.miaixz.bus.office.excel.sax;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
 import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.lang.exception.RevisedException;
 import org.miaixz.bus.core.xyz.IoKit;
 import org.miaixz.bus.core.xyz.MethodKit;
 import org.miaixz.bus.core.xyz.ObjectKit;
@@ -54,7 +66,20 @@ import org.miaixz.bus.office.excel.xyz.ExcelSaxKit;
  */
 public class Excel07SaxReader implements ExcelSaxReader<Excel07SaxReader> {
 
+    /**
+     * 拉取方式读取时的队列容量
+     */
+    private static final int ITERATOR_CAPACITY = 1024;
+
     private final SheetDataSaxHandler handler;
+    /**
+     * 是否对齐数据，即在行尾补充null cell
+     */
+    private final boolean padCellAtEndOfRow;
+    /**
+     * 共享字符串的缓存数，大于0时使用{@link IndexedSharedStrings}
+     */
+    private int sharedStringsCacheSize;
 
     /**
      * 构造
@@ -73,6 +98,7 @@ public class Excel07SaxReader implements ExcelSaxReader<Excel07SaxReader> {
      */
     public Excel07SaxReader(final RowHandler rowHandler, final boolean padCellAtEndOfRow) {
         this.handler = new SheetDataSaxHandler(rowHandler, padCellAtEndOfRow);
+        this.padCellAtEndOfRow = padCellAtEndOfRow;
     }
 
     /**
@@ -86,6 +112,18 @@ public class Excel07SaxReader implements ExcelSaxReader<Excel07SaxReader> {
         return this;
     }
 
+    /**
+     * 设置共享字符串的缓存数，大于0时使用{@link IndexedSharedStrings}，共享字符串写入临时文件按需读取，仅缓存最近使用的字符串；
+     * 默认0，使用POI的共享字符串表全部加载到内存。唯一字符串数量巨大时建议开启。
+     *
+     * @param sharedStringsCacheSize 共享字符串的缓存数
+     * @return this
+     */
+    public Excel07SaxReader setSharedStringsCacheSize(final int sharedStringsCacheSize) {
+        this.sharedStringsCacheSize = sharedStringsCacheSize;
+        return this;
+    }
+
     @Override
     public Excel07SaxReader read(final File file, final int rid) throws InternalException {
         return read(file, RID_PREFIX + rid);
@@ -153,19 +191,164 @@ public class Excel07SaxReader implements ExcelSaxReader<Excel07SaxReader> {
      */
     public Excel07SaxReader read(final XSSFReader xssfReader, final String idOrRidOrSheetName)
             throws InternalException {
-        // 获取共享样式表，样式非必须
+        this.handler.stylesTable = getStylesTable(xssfReader);
+        final SharedStrings sharedStrings = getSharedStrings(xssfReader);
+        this.handler.sharedStrings = sharedStrings;
+        try {
+            return readSheets(xssfReader, idOrRidOrSheetName);
+        } finally {
+            if (sharedStrings instanceof IndexedSharedStrings) {
+                IoKit.closeQuietly((IndexedSharedStrings) sharedStrings);
+            }
+        }
+    }
+
+    /**
+     * 以拉取方式读取Excel，每次迭代返回一行，Sheet编号从0开始计数
+     * <p>
+     * 读取在后台线程中进行，返回的迭代器未读取完毕时需调用{@link SaxRowIterator#close()}结束读取。
+     * 此方法使用独立的读取过程，不影响当前读取器及其行处理器。
+     * </p>
+     *
+     * @param file               Excel文件
+     * @param idOrRidOrSheetName Excel中的sheet id或者rid编号或sheet名，rid必须加rId前缀，例如rId1，如果为-1依次返回所有sheet的行
+     * @return 行迭代器
+     */
+    public SaxRowIterator iterator(final File file, final String idOrRidOrSheetName) {
+        return new SaxRowIterator(ITERATOR_CAPACITY, rowHandler -> new Excel07SaxReader(rowHandler, padCellAtEndOfRow)
+                .setSharedStringsCacheSize(sharedStringsCacheSize).read(file, idOrRidOrSheetName));
+    }
+
+    /**
+     * 以{@link Stream}方式读取Excel，每个元素为一行，使用完毕后需关闭Stream，Sheet编号从0开始计数
+     *
+     * @param file               Excel文件
+     * @param idOrRidOrSheetName Excel中的sheet id或者rid编号或sheet名，rid必须加rId前缀，例如rId1，如果为-1依次返回所有sheet的行
+     * @return 行的{@link Stream}
+     */
+    public Stream<List<Object>> stream(final File file, final String idOrRidOrSheetName) {
+        final SaxRowIterator iterator = iterator(file, idOrRidOrSheetName);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * 并行读取所有sheet，每个sheet在线程池中独立解析，共享样式表和共享字符串表
+     * <p>
+     * 不同sheet的行会在不同线程中同时交给行处理器，行处理器需线程安全，可通过sheetIndex区分sheet；
+     * 每个sheet读取完毕后在其解析线程中调用{@link RowHandler#doAfterAllAnalysed()}。
+     * </p>
+     *
+     * @param file     Excel文件
+     * @param executor 线程池
+     * @return this
+     * @throws InternalException POI异常
+     */
+    public Excel07SaxReader readParallel(final File file, final Executor executor) throws InternalException {
+        try (final OPCPackage open = OPCPackage.open(file, PackageAccess.READ)) {
+            return readParallel(open, executor);
+        } catch (final InvalidFormatException | IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 并行读取所有sheet，每个sheet在线程池中独立解析，共享样式表和共享字符串表
+     *
+     * @param opcPackage {@link OPCPackage}，Excel包，读取后不关闭
+     * @param executor   线程池
+     * @return this
+     * @throws InternalException POI异常
+     * @see #readParallel(File, Executor)
+     */
+    public Excel07SaxReader readParallel(final OPCPackage opcPackage, final Executor executor)
+            throws InternalException {
+        final XSSFReader xssfReader;
+        final List<InputStream> sheets = new ArrayList<>();
+        try {
+            xssfReader = new XSSFReader(opcPackage);
+            final Iterator<InputStream> sheetInputStreams = xssfReader.getSheetsData();
+            while (sheetInputStreams.hasNext()) {
+                sheets.add(sheetInputStreams.next());
+            }
+        } catch (final OpenXML4JException | IOException e) {
+            sheets.forEach(IoKit::closeQuietly);
+            throw new InternalException(e);
+        }
+
+        final StylesTable stylesTable = getStylesTable(xssfReader);
+        final SharedStrings sharedStrings = getSharedStrings(xssfReader);
+        final RowHandler rowHandler = this.handler.rowHandler;
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[sheets.size()];
+        try {
+            for (int i = 0; i < futures.length; i++) {
+                final SheetDataSaxHandler sheetHandler = new SheetDataSaxHandler(rowHandler, padCellAtEndOfRow);
+                sheetHandler.stylesTable = stylesTable;
+                sheetHandler.sharedStrings = sharedStrings;
+                sheetHandler.sheetIndex = i;
+                final InputStream sheet = sheets.get(i);
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        ExcelSaxKit.readFrom(sheet, sheetHandler);
+                        rowHandler.doAfterAllAnalysed();
+                    } catch (final RevisedException e) {
+                        throw new InternalException(e);
+                    } finally {
+                        IoKit.closeQuietly(sheet);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new InternalException(e.getCause());
+        } finally {
+            if (sharedStrings instanceof IndexedSharedStrings) {
+                IoKit.closeQuietly((IndexedSharedStrings) sharedStrings);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取共享样式表，样式非必须
+     *
+     * @param xssfReader {@link XSSFReader}
+     * @return 共享样式表，无样式时为null
+     */
+    private static StylesTable getStylesTable(final XSSFReader xssfReader) {
         try {
-            this.handler.stylesTable = xssfReader.getStylesTable();
+            return xssfReader.getStylesTable();
         } catch (final IOException | InvalidFormatException ignore) {
-            // ignore
+            return null;
         }
+    }
 
-        // 获取共享字符串表
+    /**
+     * 获取共享字符串表
+     *
+     * @param xssfReader {@link XSSFReader}
+     * @return 共享字符串表
+     */
+    private SharedStrings getSharedStrings(final XSSFReader xssfReader) {
+        if (sharedStringsCacheSize > 0) {
+            InputStream in = null;
+            try {
+                in = xssfReader.getSharedStringsData();
+            } catch (final IOException | InvalidFormatException | IllegalArgumentException ignore) {
+                // 无共享字符串
+            }
+            try {
+                return IndexedSharedStrings.of(in, sharedStringsCacheSize);
+            } finally {
+                IoKit.closeQuietly(in);
+            }
+        }
         // POI-5.2.0开始返回值有所变更，导致实际使用时提示方法未找到，此处使用反射调用，解决不同版本返回值变更问题
-        // this.handler.sharedStrings = xssfReader.getSharedStringsTable();
-        this.handler.sharedStrings = MethodKit.invoke(xssfReader, "getSharedStringsTable");
-
-        return readSheets(xssfReader, idOrRidOrSheetName);
+        // return xssfReader.getSharedStringsTable();
+        return MethodKit.invoke(xssfReader, "getSharedStringsTable");
     }
 
     /**
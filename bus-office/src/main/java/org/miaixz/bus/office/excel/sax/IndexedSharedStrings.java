@@ -0,0 +1,342 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.sax;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.miaixz.bus.core.cache.provider.LRUCache;
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.IoKit;
+import org.miaixz.bus.office.excel.xyz.ExcelSaxKit;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 基于临时文件索引的共享字符串表，对应sharedStrings.xml
+ * <p>
+ * POI的SharedStringsTable会把所有字符串加载到内存中，唯一字符串数量巨大时即使sheet按Sax方式读取也会内存溢出。
+ * 此实现只解析一次XML，把字符串依次写入临时数据文件，偏移量写入索引文件并映射到内存，按需读取，最近使用的字符串保存在LRU缓存中。
+ * 读取方法线程安全，可供多个sheet并行读取时共用，使用完毕后须调用{@link #close()}删除临时文件。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class IndexedSharedStrings implements SharedStrings, Closeable {
+
+    /**
+     * Excel中对无法直接存储的字符的转义，如_x000D_
+     */
+    private static final Pattern UTF_PATTERN = Pattern.compile("_x([0-9A-Fa-f]{4})_");
+
+    /**
+     * 字符串数据文件
+     */
+    private final Path dataFile;
+    /**
+     * 偏移量索引文件
+     */
+    private final Path indexFile;
+    /**
+     * 字符串数据通道
+     */
+    private final FileChannel data;
+    /**
+     * 偏移量索引，第i个字符串的数据位于[i, i+1)两个偏移量之间
+     */
+    private final MappedByteBuffer index;
+    /**
+     * 唯一字符串数
+     */
+    private final int uniqueCount;
+    /**
+     * 字符串引用总数
+     */
+    private final int count;
+    /**
+     * 最近使用的字符串
+     */
+    private final LRUCache<Integer, String> cache;
+
+    /**
+     * 构造
+     *
+     * @param dataFile    字符串数据文件
+     * @param indexFile   偏移量索引文件
+     * @param uniqueCount 唯一字符串数
+     * @param count       字符串引用总数
+     * @param cacheSize   缓存的字符串数
+     * @throws IOException IO异常
+     */
+    private IndexedSharedStrings(final Path dataFile, final Path indexFile, final int uniqueCount, final int count,
+            final int cacheSize) throws IOException {
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        this.uniqueCount = uniqueCount;
+        this.count = count;
+        this.cache = new LRUCache<>(Math.max(1, cacheSize));
+        this.data = FileChannel.open(dataFile, StandardOpenOption.READ);
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            this.index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * 解析sharedStrings.xml，创建共享字符串表
+     *
+     * @param in        sharedStrings.xml的流，为null表示无共享字符串，读取后不关闭
+     * @param cacheSize 缓存的字符串数
+     * @return IndexedSharedStrings
+     * @throws InternalException IO异常
+     */
+    public static IndexedSharedStrings of(final InputStream in, final int cacheSize) throws InternalException {
+        Path dataFile = null;
+        Path indexFile = null;
+        try {
+            dataFile = Files.createTempFile("bus-sst-", ".dat");
+            indexFile = Files.createTempFile("bus-sst-", ".idx");
+            final SstHandler handler;
+            try (OutputStream dataOut = new BufferedOutputStream(Files.newOutputStream(dataFile));
+                    DataOutputStream indexOut = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+                handler = new SstHandler(dataOut, indexOut);
+                if (null != in) {
+                    ExcelSaxKit.readFrom(in, handler);
+                }
+                // 结束偏移量，用于计算最后一个字符串的长度
+                indexOut.writeLong(handler.offset);
+            }
+            return new IndexedSharedStrings(dataFile, indexFile, handler.uniqueCount,
+                    Math.max(handler.count, handler.uniqueCount), cacheSize);
+        } catch (final IOException | RuntimeException e) {
+            delete(dataFile);
+            delete(indexFile);
+            throw e instanceof RuntimeException ? (RuntimeException) e : new InternalException(e);
+        }
+    }
+
+    /**
+     * 获取指定位置的字符串
+     *
+     * @param idx 位置，从0开始
+     * @return 字符串
+     * @throws IndexOutOfBoundsException 位置超出范围
+     * @throws InternalException         IO异常
+     */
+    public String getString(final int idx) throws InternalException {
+        if (idx < 0 || idx >= uniqueCount) {
+            throw new IndexOutOfBoundsException(
+                    "Shared string index " + idx + " out of range [0, " + uniqueCount + ")");
+        }
+        String value = cache.get(idx);
+        if (null == value) {
+            value = read(idx);
+            cache.put(idx, value);
+        }
+        return value;
+    }
+
+    @Override
+    public RichTextString getItemAt(final int idx) {
+        return new XSSFRichTextString(getString(idx));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    @Override
+    public void close() {
+        cache.clear();
+        IoKit.closeQuietly(data);
+        delete(dataFile);
+        delete(indexFile);
+    }
+
+    /**
+     * 从数据文件中读取字符串
+     *
+     * @param idx 位置
+     * @return 字符串
+     */
+    private String read(final int idx) {
+        final long start = index.getLong(idx << 3);
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (index.getLong((idx + 1) << 3) - start));
+        try {
+            while (buffer.hasRemaining()) {
+                if (data.read(buffer, start + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of shared strings data");
+                }
+            }
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+        return new String(buffer.array(), Charset.UTF_8);
+    }
+
+    /**
+     * 删除临时文件
+     *
+     * @param file 文件
+     */
+    private static void delete(final Path file) {
+        if (null != file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignore) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * 解码Excel的_xHHHH_转义，与{@link XSSFRichTextString#getString()}一致
+     *
+     * @param value 字符串
+     * @return 解码后的字符串
+     */
+    private static String utfDecode(final String value) {
+        if (value.indexOf("_x") < 0) {
+            return value;
+        }
+        final StringBuilder builder = new StringBuilder(value.length());
+        final Matcher matcher = UTF_PATTERN.matcher(value);
+        int pos = 0;
+        while (matcher.find()) {
+            builder.append(value, pos, matcher.start());
+            builder.append((char) Integer.parseInt(matcher.group(1), 16));
+            pos = matcher.end();
+        }
+        return builder.append(value, pos, value.length()).toString();
+    }
+
+    /**
+     * sharedStrings.xml解析处理器，每个si元素中t元素的文本（不含注音rPh）拼接为一个字符串
+     */
+    private static final class SstHandler extends DefaultHandler {
+
+        private final OutputStream dataOut;
+        private final DataOutputStream indexOut;
+        private final StringBuilder text = new StringBuilder();
+        private long offset;
+        private int uniqueCount;
+        private int count;
+        private boolean inText;
+        private int phoneticDepth;
+
+        SstHandler(final OutputStream dataOut, final DataOutputStream indexOut) {
+            this.dataOut = dataOut;
+            this.indexOut = indexOut;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes attributes) {
+            switch (localName) {
+            case "sst":
+                final String total = attributes.getValue("count");
+                if (null != total) {
+                    count = Integer.parseInt(total);
+                }
+                break;
+            case "si":
+                text.setLength(0);
+                break;
+            case "rPh":
+                phoneticDepth++;
+                break;
+            case "t":
+                inText = phoneticDepth == 0;
+                break;
+            default:
+                break;
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            switch (localName) {
+            case "si":
+                write(utfDecode(text.toString()));
+                break;
+            case "rPh":
+                phoneticDepth--;
+                break;
+            case "t":
+                inText = false;
+                break;
+            default:
+                break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        /**
+         * 写出一个字符串及其偏移量
+         *
+         * @param value 字符串
+         */
+        private void write(final String value) {
+            final byte[] bytes = value.getBytes(Charset.UTF_8);
+            try {
+                indexOut.writeLong(offset);
+                dataOut.write(bytes);
+            } catch (final IOException e) {
+                throw new InternalException(e);
+            }
+            offset += bytes.length;
+            uniqueCount++;
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.sax;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.lang.exception.TerminateException;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.office.excel.sax.handler.RowHandler;
+
+/**
+ * 拉取方式的行迭代器
+ * <p>
+ * Sax读取在后台线程中进行，解析出的行放入有界队列，{@link #next()}从队列中取出，队列满时解析线程等待，内存占用与队列容量相关而与sheet大小无关。
+ * 未读取完毕时需调用{@link #close()}结束后台解析。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class SaxRowIterator implements Iterator<List<Object>>, Closeable {
+
+    /**
+     * 读取结束标记
+     */
+    private static final Object END = new Object();
+
+    /**
+     * 已解析的行
+     */
+    private final BlockingQueue<Object> queue;
+    /**
+     * 解析线程抛出的异常
+     */
+    private volatile RuntimeException error;
+    /**
+     * 是否已关闭
+     */
+    private volatile boolean closed;
+    /**
+     * 下一行
+     */
+    private Object next;
+
+    /**
+     * 构造并启动解析线程
+     *
+     * @param capacity 队列容量
+     * @param reader   读取过程，参数为把行放入队列的行处理器
+     */
+    SaxRowIterator(final int capacity, final Consumer<RowHandler> reader) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        ThreadKit.newThread(() -> {
+            try {
+                reader.accept((sheetIndex, rowIndex, rowCells) -> put(rowCells));
+            } catch (final RuntimeException e) {
+                if (!closed) {
+                    error = e;
+                }
+            } finally {
+                put(END);
+            }
+        }, "bus-office:sax-reader", true).start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null == next) {
+            if (closed) {
+                return false;
+            }
+            try {
+                next = queue.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalException(e);
+            }
+        }
+        if (END == next) {
+            if (null != error) {
+                throw error;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Object row = next;
+        next = null;
+        return (List<Object>) row;
+    }
+
+    /**
+     * 结束读取，后台解析线程在放入下一行时退出
+     */
+    @Override
+    public void close() {
+        closed = true;
+        next = END;
+        queue.clear();
+    }
+
+    /**
+     * 把一行放入队列，迭代器已关闭时抛出{@link TerminateException}结束解析
+     *
+     * @param row 行数据或结束标记
+     */
+    private void put(final Object row) {
+        try {
+            while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    if (END == row) {
+                        return;
+                    }
+                    throw new TerminateException();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TerminateException(e);
+        }
+        if (closed && END != row) {
+            throw new TerminateException();
+        }
+    }
+
+}
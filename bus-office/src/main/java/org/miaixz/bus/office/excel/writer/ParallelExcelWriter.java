@@ -0,0 +1,591 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.writer;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.miaixz.bus.core.bean.path.BeanPath;
+import org.miaixz.bus.core.lang.Assert;
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.lang.exception.TerminateException;
+import org.miaixz.bus.core.xyz.ArrayKit;
+import org.miaixz.bus.core.xyz.BeanKit;
+import org.miaixz.bus.core.xyz.FileKit;
+import org.miaixz.bus.core.xyz.IoKit;
+import org.miaixz.bus.core.xyz.MapKit;
+
+/**
+ * 并行生成sheet的大数据量Excel写出器，只支持xlsx
+ * <p>
+ * {@link BigExcelWriter}在调用线程中逐行写出，单元格仍需经过POI的Row、Cell对象，所有sheet由同一个线程生成和压缩。此写出器不使用POI的工作簿模型，
+ * 每个sheet由{@link SheetXmlWriter}直接写出worksheet XML，并在生成线程中压缩到临时文件，多个sheet在{@link Executor}中并行生成。写出时按sheet顺序，
+ * 每个sheet生成完毕即复制到目标流中，目标可以是文件，也可以是HTTP响应等不支持随机访问的流，前面的sheet写出时后面的sheet仍在生成。
+ * </p>
+ * <p>
+ * 所有sheet共用一份样式表（默认、日期、日期时间、标题），日期值自动引用对应样式。字符串默认写出为内联字符串，调用{@link #setUseSharedStrings(boolean)}
+ * 后所有sheet共用一个共享字符串表，重复值较多时可减小文件体积。
+ * </p>
+ * <p>
+ * 行数据支持：
+ * <ul>
+ * <li>{@link Iterable}或数组：按顺序写出为单元格，支持基本类型数组</li>
+ * <li>{@link Map}或Bean：指定别名时按别名的键（支持{@link BeanPath}表达式）取值，即按变量名流式填充每一行；未指定时写出Map的值或Bean的所有属性值</li>
+ * </ul>
+ * 数据源为{@link Iterator}或{@link Stream}，写出时才开始读取，Stream在sheet生成完毕后关闭。每个sheet的数据源只被一个线程读取，
+ * 但不同sheet的数据源在不同线程中读取，如数据库游标等数据源需为每个sheet单独创建。
+ * </p>
+ *
+ * <pre>
+ * new ParallelExcelWriter().setExecutor(executor)
+ *         .addSheet("2024", alias, dao.stream(2024))
+ *         .addSheet("2025", alias, dao.stream(2025))
+ *         .flush(response.getOutputStream());
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class ParallelExcelWriter {
+
+    /**
+     * 样式表：0默认，1日期，2日期时间，3标题（粗体），见{@link SheetXmlWriter}中的样式常量
+     */
+    private static final String STYLES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+            + "<numFmts count=\"2\"><numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd\"/>"
+            + "<numFmt numFmtId=\"165\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/></numFmts>"
+            + "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>"
+            + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"4\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/></cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+    /**
+     * 包关系
+     */
+    private static final String ROOT_RELS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/"
+            + "officeDocument\" Target=\"xl/workbook.xml\"/></Relationships>";
+    /**
+     * 关系类型前缀
+     */
+    private static final String REL_TYPE = "http://schemas.openxmlformats.org/officeDocument/2006/relationships/";
+    /**
+     * 内容类型前缀
+     */
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.";
+
+    /**
+     * 待写出的sheet
+     */
+    private final List<SheetSource> sheets = new ArrayList<>();
+    /**
+     * 生成sheet的线程池，null表示使用{@link CompletableFuture}的默认线程池
+     */
+    private Executor executor;
+    /**
+     * 是否使用共享字符串表
+     */
+    private boolean useSharedStrings;
+    /**
+     * 压缩级别
+     */
+    private int compressLevel = Deflater.DEFAULT_COMPRESSION;
+    /**
+     * 是否已写出
+     */
+    private boolean flushed;
+    /**
+     * 写出失败时通知其它sheet停止生成
+     */
+    private volatile boolean aborted;
+    /**
+     * 最先失败的sheet抛出的异常，其它sheet因此停止时抛出此异常
+     */
+    private volatile RuntimeException failure;
+
+    /**
+     * 设置生成sheet的线程池，数据源有阻塞读取（如数据库游标）时建议使用独立的线程池
+     *
+     * @param executor 线程池，null表示使用{@link CompletableFuture}的默认线程池
+     * @return this
+     */
+    public ParallelExcelWriter setExecutor(final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * 设置是否使用共享字符串表，默认写出为内联字符串
+     * <p>
+     * 共享字符串表在写出结束前保存所有唯一字符串，适用于重复值较多的数据；唯一值很多时使用内联字符串内存占用更小。
+     * </p>
+     *
+     * @param useSharedStrings 是否使用共享字符串表
+     * @return this
+     */
+    public ParallelExcelWriter setUseSharedStrings(final boolean useSharedStrings) {
+        this.useSharedStrings = useSharedStrings;
+        return this;
+    }
+
+    /**
+     * 设置压缩级别
+     *
+     * @param compressLevel 压缩级别，0~9，见{@link Deflater}
+     * @return this
+     */
+    public ParallelExcelWriter setCompressLevel(final int compressLevel) {
+        Assert.isTrue(compressLevel >= Deflater.DEFAULT_COMPRESSION && compressLevel <= Deflater.BEST_COMPRESSION,
+                "Invalid compress level: {}", compressLevel);
+        this.compressLevel = compressLevel;
+        return this;
+    }
+
+    /**
+     * 添加sheet，每行数据为{@link Iterable}、数组、Map或Bean
+     *
+     * @param sheetName sheet名
+     * @param rows      行数据
+     * @return this
+     */
+    public ParallelExcelWriter addSheet(final String sheetName, final Iterator<?> rows) {
+        return addSheet(sheetName, null, rows, null);
+    }
+
+    /**
+     * 添加sheet，每行数据为{@link Iterable}、数组、Map或Bean，Stream在sheet生成完毕后关闭
+     *
+     * @param sheetName sheet名
+     * @param rows      行数据
+     * @return this
+     */
+    public ParallelExcelWriter addSheet(final String sheetName, final Stream<?> rows) {
+        return addSheet(sheetName, null, rows.iterator(), rows);
+    }
+
+    /**
+     * 添加sheet，按别名填充每行的Map或Bean，别名的值写出为标题行
+     *
+     * @param sheetName   sheet名
+     * @param headerAlias 别名，键为字段名或{@link BeanPath}表达式，值为标题，按顺序写出为列
+     * @param rows        行数据
+     * @return this
+     */
+    public ParallelExcelWriter addSheet(final String sheetName, final Map<String, String> headerAlias,
+            final Iterator<?> rows) {
+        return addSheet(sheetName, headerAlias, rows, null);
+    }
+
+    /**
+     * 添加sheet，按别名填充每行的Map或Bean，别名的值写出为标题行，Stream在sheet生成完毕后关闭
+     *
+     * @param sheetName   sheet名
+     * @param headerAlias 别名，键为字段名或{@link BeanPath}表达式，值为标题，按顺序写出为列
+     * @param rows        行数据
+     * @return this
+     */
+    public ParallelExcelWriter addSheet(final String sheetName, final Map<String, String> headerAlias,
+            final Stream<?> rows) {
+        return addSheet(sheetName, headerAlias, rows.iterator(), rows);
+    }
+
+    /**
+     * 写出到文件，文件存在时覆盖
+     *
+     * @param destFile 目标文件
+     * @return this
+     * @throws InternalException IO异常
+     */
+    public ParallelExcelWriter flush(final File destFile) throws InternalException {
+        return flush(FileKit.getOutputStream(destFile), true);
+    }
+
+    /**
+     * 写出到流，不关闭流
+     *
+     * @param out 输出流
+     * @return this
+     * @throws InternalException IO异常
+     */
+    public ParallelExcelWriter flush(final OutputStream out) throws InternalException {
+        return flush(out, false);
+    }
+
+    /**
+     * 并行生成所有sheet并写出到流，每个sheet生成完毕后按顺序写出
+     *
+     * @param out        输出流
+     * @param isCloseOut 是否关闭输出流
+     * @return this
+     * @throws InternalException IO异常或数据源读取异常
+     */
+    public ParallelExcelWriter flush(final OutputStream out, final boolean isCloseOut) throws InternalException {
+        Assert.isFalse(this.flushed, "ParallelExcelWriter can only be flushed once");
+        Assert.notEmpty(this.sheets, "No sheet to write");
+        this.flushed = true;
+
+        final SharedStringsBuilder sharedStrings = useSharedStrings ? new SharedStringsBuilder() : null;
+        final List<CompletableFuture<XlsxZipWriter.Part>> futures = new ArrayList<>(sheets.size());
+        for (final SheetSource sheet : sheets) {
+            futures.add(null == executor ? CompletableFuture.supplyAsync(() -> render(sheet, sharedStrings))
+                    : CompletableFuture.supplyAsync(() -> render(sheet, sharedStrings), executor));
+        }
+
+        int written = 0;
+        try {
+            final XlsxZipWriter zip = new XlsxZipWriter(out, compressLevel);
+            zip.putBytes("[Content_Types].xml", contentTypes(null != sharedStrings));
+            zip.putBytes("_rels/.rels", ROOT_RELS.getBytes(Charset.UTF_8));
+            zip.putBytes("xl/workbook.xml", workbook());
+            zip.putBytes("xl/_rels/workbook.xml.rels", workbookRels(null != sharedStrings));
+            zip.putBytes("xl/styles.xml", STYLES.getBytes(Charset.UTF_8));
+            for (final CompletableFuture<XlsxZipWriter.Part> future : futures) {
+                final XlsxZipWriter.Part part = join(future);
+                written++;
+                zip.putPart("xl/worksheets/sheet" + written + ".xml", part);
+            }
+            if (null != sharedStrings) {
+                zip.putPart("xl/sharedStrings.xml", part(sharedStrings::write));
+            }
+            zip.finish();
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        } finally {
+            if (written < futures.size()) {
+                cancel(futures.subList(written, futures.size()));
+            }
+            if (isCloseOut) {
+                IoKit.closeQuietly(out);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 添加sheet
+     *
+     * @param sheetName   sheet名
+     * @param headerAlias 别名，null表示不写出标题行
+     * @param rows        行数据
+     * @param closeable   生成完毕后关闭的数据源，可为null
+     * @return this
+     */
+    private ParallelExcelWriter addSheet(final String sheetName, final Map<String, String> headerAlias,
+            final Iterator<?> rows, final AutoCloseable closeable) {
+        Assert.isFalse(this.flushed, "ParallelExcelWriter has been flushed");
+        Assert.notNull(rows, "Rows must not be null");
+        WorkbookUtil.validateSheetName(sheetName);
+        for (final SheetSource sheet : sheets) {
+            Assert.isFalse(sheet.name.equalsIgnoreCase(sheetName), "Duplicate sheet name: {}", sheetName);
+        }
+        sheets.add(new SheetSource(sheetName, MapKit.isEmpty(headerAlias) ? null : new LinkedHashMap<>(headerAlias),
+                rows, closeable));
+        return this;
+    }
+
+    /**
+     * 生成一个sheet的XML并压缩到临时文件
+     *
+     * @param sheet         sheet
+     * @param sharedStrings 共享字符串表，null表示使用内联字符串
+     * @return 压缩后的部件
+     */
+    private XlsxZipWriter.Part render(final SheetSource sheet, final SharedStringsBuilder sharedStrings) {
+        try (sheet) {
+            return part(out -> {
+                final SheetXmlWriter writer = new SheetXmlWriter(out, sharedStrings);
+                final Map<String, String> headerAlias = sheet.headerAlias;
+                writer.start(null != headerAlias);
+                RowCells cells = null;
+                if (null != headerAlias) {
+                    writer.writeRow(headerAlias.values(), SheetXmlWriter.STYLE_HEADER);
+                    cells = new RowCells(headerAlias.keySet());
+                }
+                final Iterator<?> rows = sheet.rows;
+                while (rows.hasNext()) {
+                    if (aborted) {
+                        throw new TerminateException("Excel writing aborted");
+                    }
+                    final Object row = rows.next();
+                    writer.writeRow(null != cells ? cells.of(row) : toCells(row), 0);
+                }
+                writer.end();
+            });
+        } catch (final Exception e) {
+            final RuntimeException ex = e instanceof RuntimeException ? (RuntimeException) e : new InternalException(e);
+            if (!aborted) {
+                // 一个sheet失败时其它sheet无需继续生成
+                failure = ex;
+                aborted = true;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 生成一个压缩部件，失败时删除临时文件
+     *
+     * @param content 写出部件内容
+     * @return 已关闭的部件
+     * @throws IOException IO异常
+     */
+    private XlsxZipWriter.Part part(final PartContent content) throws IOException {
+        final XlsxZipWriter.Part part = new XlsxZipWriter.Part(compressLevel);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(part, Charset.UTF_8), 1 << 16)) {
+            content.write(out);
+        } catch (final IOException | RuntimeException e) {
+            part.delete();
+            throw e;
+        }
+        return part;
+    }
+
+    /**
+     * 写出失败时停止尚未写出的sheet，并删除已生成的临时文件
+     *
+     * @param futures 尚未写出的sheet
+     */
+    private void cancel(final List<CompletableFuture<XlsxZipWriter.Part>> futures) {
+        this.aborted = true;
+        for (final CompletableFuture<XlsxZipWriter.Part> future : futures) {
+            try {
+                future.join().delete();
+            } catch (final RuntimeException ignore) {
+                // 生成失败的sheet已删除临时文件
+            }
+        }
+    }
+
+    /**
+     * 等待sheet生成完毕，任一sheet失败时抛出最先失败的异常
+     *
+     * @param future sheet
+     * @return 压缩后的部件
+     */
+    private XlsxZipWriter.Part join(final CompletableFuture<XlsxZipWriter.Part> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (null != failure) {
+                throw failure;
+            }
+            final Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new InternalException(cause);
+        }
+    }
+
+    /**
+     * 非别名方式的行数据转换为单元格
+     *
+     * @param row 行数据
+     * @return 单元格值
+     */
+    private static Iterable<?> toCells(final Object row) {
+        if (null == row) {
+            return Collections.emptyList();
+        } else if (row instanceof Iterable) {
+            return (Iterable<?>) row;
+        } else if (row instanceof Map) {
+            return ((Map<?, ?>) row).values();
+        } else if (ArrayKit.isArray(row)) {
+            return Arrays.asList(ArrayKit.wrap(row));
+        }
+        return BeanKit.beanToMap(row).values();
+    }
+
+    /**
+     * [Content_Types].xml
+     *
+     * @param hasSharedStrings 是否包含共享字符串表
+     * @return 内容
+     */
+    private byte[] contentTypes(final boolean hasSharedStrings) {
+        final StringBuilder builder = new StringBuilder(512 + sheets.size() * 160);
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.")
+                .append("relationships+xml\"/><Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"").append(CONTENT_TYPE)
+                .append("sheet.main+xml\"/><Override PartName=\"/xl/styles.xml\" ContentType=\"")
+                .append(CONTENT_TYPE).append("styles+xml\"/>");
+        for (int i = 1; i <= sheets.size(); i++) {
+            builder.append("<Override PartName=\"/xl/worksheets/sheet").append(i).append(".xml\" ContentType=\"")
+                    .append(CONTENT_TYPE).append("worksheet+xml\"/>");
+        }
+        if (hasSharedStrings) {
+            builder.append("<Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"").append(CONTENT_TYPE)
+                    .append("sharedStrings+xml\"/>");
+        }
+        return builder.append("</Types>").toString().getBytes(Charset.UTF_8);
+    }
+
+    /**
+     * xl/workbook.xml
+     *
+     * @return 内容
+     * @throws IOException IO异常
+     */
+    private byte[] workbook() throws IOException {
+        final StringWriter out = new StringWriter(256 + sheets.size() * 64);
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+                + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+        for (int i = 1; i <= sheets.size(); i++) {
+            out.write("<sheet name=\"");
+            SheetXmlWriter.writeEscaped(out, sheets.get(i - 1).name);
+            out.write("\" sheetId=\"" + i + "\" r:id=\"rId" + i + "\"/>");
+        }
+        out.write("</sheets></workbook>");
+        return out.toString().getBytes(Charset.UTF_8);
+    }
+
+    /**
+     * xl/_rels/workbook.xml.rels
+     *
+     * @param hasSharedStrings 是否包含共享字符串表
+     * @return 内容
+     */
+    private byte[] workbookRels(final boolean hasSharedStrings) {
+        final StringBuilder builder = new StringBuilder(256 + sheets.size() * 160);
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        final int size = sheets.size();
+        for (int i = 1; i <= size; i++) {
+            builder.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(REL_TYPE)
+                    .append("worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        builder.append("<Relationship Id=\"rId").append(size + 1).append("\" Type=\"").append(REL_TYPE)
+                .append("styles\" Target=\"styles.xml\"/>");
+        if (hasSharedStrings) {
+            builder.append("<Relationship Id=\"rId").append(size + 2).append("\" Type=\"").append(REL_TYPE)
+                    .append("sharedStrings\" Target=\"sharedStrings.xml\"/>");
+        }
+        return builder.append("</Relationships>").toString().getBytes(Charset.UTF_8);
+    }
+
+    /**
+     * 部件内容
+     */
+    @FunctionalInterface
+    private interface PartContent {
+
+        /**
+         * 写出内容
+         *
+         * @param out 目标
+         * @throws IOException IO异常
+         */
+        void write(Writer out) throws IOException;
+
+    }
+
+    /**
+     * 待写出的sheet
+     */
+    private static final class SheetSource implements AutoCloseable {
+
+        private final String name;
+        private final Map<String, String> headerAlias;
+        private final Iterator<?> rows;
+        private final AutoCloseable closeable;
+
+        SheetSource(final String name, final Map<String, String> headerAlias, final Iterator<?> rows,
+                final AutoCloseable closeable) {
+            this.name = name;
+            this.headerAlias = headerAlias;
+            this.rows = rows;
+            this.closeable = closeable;
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (null != closeable) {
+                closeable.close();
+            }
+        }
+
+    }
+
+    /**
+     * 按别名取值的行，字段表达式只解析一次，同一sheet的所有行复用
+     */
+    private static final class RowCells {
+
+        private final String[] names;
+        private final BeanPath<Object>[] paths;
+        private final List<Object> cells;
+
+        @SuppressWarnings("unchecked")
+        RowCells(final Collection<String> names) {
+            this.names = names.toArray(new String[0]);
+            this.paths = new BeanPath[this.names.length];
+            for (int i = 0; i < this.names.length; i++) {
+                this.paths[i] = BeanPath.of(this.names[i]);
+            }
+            this.cells = new ArrayList<>(this.names.length);
+        }
+
+        /**
+         * 取出一行的单元格值，规则与{@link BeanKit#getProperty(Object, String)}一致
+         *
+         * @param row 行数据
+         * @return 单元格值，下一行时被覆盖
+         */
+        List<Object> of(final Object row) {
+            cells.clear();
+            if (null != row) {
+                for (int i = 0; i < names.length; i++) {
+                    if (row instanceof Map && ((Map<?, ?>) row).containsKey(names[i])) {
+                        cells.add(((Map<?, ?>) row).get(names[i]));
+                    } else {
+                        cells.add(paths[i].getValue(row));
+                    }
+                }
+            }
+            return cells;
+        }
+
+    }
+
+}
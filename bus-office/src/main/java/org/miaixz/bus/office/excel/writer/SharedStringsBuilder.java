@@ -0,0 +1,96 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 并行生成sheet时共用的共享字符串表，对应sharedStrings.xml
+ * <p>
+ * 相同字符串只分配一个索引，索引按首次出现的顺序连续分配，多个sheet线程可同时调用{@link #index(String)}。
+ * 所有字符串均保存在内存中，适用于重复值较多的列，唯一值很多时应使用内联字符串。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class SharedStringsBuilder {
+
+    /**
+     * 字符串与索引
+     */
+    private final ConcurrentHashMap<String, Integer> indexes = new ConcurrentHashMap<>();
+    /**
+     * 下一个索引
+     */
+    private final AtomicInteger uniqueCount = new AtomicInteger();
+    /**
+     * 引用总数
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * 获取字符串的索引，不存在时分配新索引
+     *
+     * @param value 字符串
+     * @return 索引
+     */
+    int index(final String value) {
+        count.increment();
+        final Integer index = indexes.get(value);
+        return null != index ? index : indexes.computeIfAbsent(value, k -> uniqueCount.getAndIncrement());
+    }
+
+    /**
+     * 写出sharedStrings.xml，须在所有sheet生成完毕后调用
+     *
+     * @param out 目标
+     * @throws IOException IO异常
+     */
+    void write(final Writer out) throws IOException {
+        final String[] values = new String[uniqueCount.get()];
+        indexes.forEach((value, index) -> values[index] = value);
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"");
+        out.write(Long.toString(Math.min(Integer.MAX_VALUE, count.sum())));
+        out.write("\" uniqueCount=\"");
+        out.write(Integer.toString(values.length));
+        out.write("\">");
+        for (final String value : values) {
+            out.write("<si>");
+            SheetXmlWriter.writeText(out, value);
+            out.write("</si>");
+        }
+        out.write("</sst>");
+    }
+
+}
@@ -0,0 +1,406 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.MathKit;
+
+/**
+ * 直接写出worksheet XML的流式写出器
+ * <p>
+ * 不创建POI的Row、Cell对象，每个单元格按值类型直接写出为XML：字符串为内联字符串或共享字符串索引，数字、布尔直接写出，日期转换为Excel序列值并引用
+ * {@link ParallelExcelWriter}中共用的日期样式。单元格引用按行列号直接拼接，字符串转义按连续片段写出。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class SheetXmlWriter {
+
+    /**
+     * 日期样式在cellXfs中的位置
+     */
+    static final int STYLE_DATE = 1;
+    /**
+     * 日期时间样式在cellXfs中的位置
+     */
+    static final int STYLE_DATE_TIME = 2;
+    /**
+     * 标题样式在cellXfs中的位置
+     */
+    static final int STYLE_HEADER = 3;
+
+    /**
+     * 最大行数
+     */
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    /**
+     * 最大列数
+     */
+    private static final int MAX_COLUMNS = SpreadsheetVersion.EXCEL2007.getMaxColumns();
+    /**
+     * 整数可精确表示的上限，超出后按浮点数写出
+     */
+    private static final double MAX_EXACT = 1e15;
+
+    /**
+     * 目标
+     */
+    private final Writer out;
+    /**
+     * 共享字符串表，null表示使用内联字符串
+     */
+    private final SharedStringsBuilder sharedStrings;
+    /**
+     * 列名缓存
+     */
+    private final char[][] columnNames = new char[MAX_COLUMNS][];
+    /**
+     * 已写出的行数
+     */
+    private int rowCount;
+
+    /**
+     * 构造
+     *
+     * @param out           目标
+     * @param sharedStrings 共享字符串表，null表示使用内联字符串
+     */
+    SheetXmlWriter(final Writer out, final SharedStringsBuilder sharedStrings) {
+        this.out = out;
+        this.sharedStrings = sharedStrings;
+    }
+
+    /**
+     * 写出worksheet开始部分
+     *
+     * @param freezeHeader 是否冻结首行
+     * @throws IOException IO异常
+     */
+    void start(final boolean freezeHeader) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+                + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">");
+        if (freezeHeader) {
+            out.write("<sheetViews><sheetView workbookViewId=\"0\"><pane ySplit=\"1\" topLeftCell=\"A2\" "
+                    + "activePane=\"bottomLeft\" state=\"frozen\"/></sheetView></sheetViews>");
+        }
+        out.write("<sheetData>");
+    }
+
+    /**
+     * 写出一行
+     *
+     * @param cells 单元格值，null值跳过
+     * @param style 样式，0表示默认样式，日期值忽略此参数
+     * @throws IOException IO异常
+     */
+    void writeRow(final Iterable<?> cells, final int style) throws IOException {
+        if (rowCount >= MAX_ROWS) {
+            throw new InternalException(String.format("Sheet exceeds the limit of %d rows", MAX_ROWS));
+        }
+        final int rowNum = ++rowCount;
+        final String rowRef = Integer.toString(rowNum);
+        out.write("<row r=\"");
+        out.write(rowRef);
+        out.write("\">");
+        int column = 0;
+        for (final Object value : cells) {
+            if (column >= MAX_COLUMNS) {
+                throw new InternalException(String.format("Row %d exceeds the limit of %d columns", rowNum,
+                        MAX_COLUMNS));
+            }
+            if (null != value) {
+                writeCell(column, rowRef, value, style);
+            }
+            column++;
+        }
+        out.write("</row>");
+    }
+
+    /**
+     * 写出worksheet结束部分
+     *
+     * @throws IOException IO异常
+     */
+    void end() throws IOException {
+        out.write("</sheetData></worksheet>");
+    }
+
+    /**
+     * 写出一个单元格
+     *
+     * @param column 列号，从0开始
+     * @param rowRef 行号字符串
+     * @param value  值
+     * @param style  样式
+     * @throws IOException IO异常
+     */
+    private void writeCell(final int column, final String rowRef, final Object value, final int style)
+            throws IOException {
+        if (value instanceof CharSequence) {
+            writeString(column, rowRef, value.toString(), style);
+        } else if (value instanceof Number) {
+            writeNumber(column, rowRef, (Number) value, style);
+        } else if (value instanceof Boolean) {
+            startCell(column, rowRef, "b", style);
+            out.write((Boolean) value ? "<v>1</v></c>" : "<v>0</v></c>");
+        } else if (value instanceof Date) {
+            writeDate(column, rowRef, DateUtil.getExcelDate((Date) value), STYLE_DATE_TIME, value);
+        } else if (value instanceof Calendar) {
+            writeDate(column, rowRef, DateUtil.getExcelDate((Calendar) value, false), STYLE_DATE_TIME, value);
+        } else if (value instanceof LocalDateTime) {
+            writeDate(column, rowRef, DateUtil.getExcelDate((LocalDateTime) value), STYLE_DATE_TIME, value);
+        } else if (value instanceof LocalDate) {
+            writeDate(column, rowRef, DateUtil.getExcelDate((LocalDate) value), STYLE_DATE, value);
+        } else if (value instanceof Instant) {
+            writeDate(column, rowRef, DateUtil.getExcelDate(Date.from((Instant) value)), STYLE_DATE_TIME, value);
+        } else {
+            writeString(column, rowRef, value.toString(), style);
+        }
+    }
+
+    /**
+     * 写出字符串单元格
+     *
+     * @param column 列号
+     * @param rowRef 行号字符串
+     * @param value  值
+     * @param style  样式
+     * @throws IOException IO异常
+     */
+    private void writeString(final int column, final String rowRef, final String value, final int style)
+            throws IOException {
+        if (null != sharedStrings) {
+            startCell(column, rowRef, "s", style);
+            out.write("<v>");
+            out.write(Integer.toString(sharedStrings.index(value)));
+            out.write("</v></c>");
+        } else {
+            startCell(column, rowRef, "inlineStr", style);
+            out.write("<is>");
+            writeText(out, value);
+            out.write("</is></c>");
+        }
+    }
+
+    /**
+     * 写出数字单元格，整数直接写出，非有限值按字符串写出
+     *
+     * @param column 列号
+     * @param rowRef 行号字符串
+     * @param value  值
+     * @param style  样式
+     * @throws IOException IO异常
+     */
+    private void writeNumber(final int column, final String rowRef, final Number value, final int style)
+            throws IOException {
+        final String text;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            text = value.toString();
+        } else {
+            // 与NumberCellSetter一致，避免float到double的精度问题
+            final double d = MathKit.toDouble(value);
+            if (!Double.isFinite(d)) {
+                writeString(column, rowRef, value.toString(), style);
+                return;
+            }
+            text = d == Math.rint(d) && Math.abs(d) < MAX_EXACT ? Long.toString((long) d) : Double.toString(d);
+        }
+        startCell(column, rowRef, null, style);
+        out.write("<v>");
+        out.write(text);
+        out.write("</v></c>");
+    }
+
+    /**
+     * 写出日期单元格，Excel无法表示的日期（1900年以前）按字符串写出
+     *
+     * @param column 列号
+     * @param rowRef 行号字符串
+     * @param serial Excel序列值
+     * @param style  日期样式
+     * @param value  原始值
+     * @throws IOException IO异常
+     */
+    private void writeDate(final int column, final String rowRef, final double serial, final int style,
+            final Object value) throws IOException {
+        if (serial < 0) {
+            writeString(column, rowRef, value.toString(), 0);
+            return;
+        }
+        startCell(column, rowRef, null, style);
+        out.write("<v>");
+        out.write(serial == Math.rint(serial) ? Long.toString((long) serial) : Double.toString(serial));
+        out.write("</v></c>");
+    }
+
+    /**
+     * 写出单元格开始标签
+     *
+     * @param column 列号
+     * @param rowRef 行号字符串
+     * @param type   类型，null表示数字
+     * @param style  样式，0表示默认样式
+     * @throws IOException IO异常
+     */
+    private void startCell(final int column, final String rowRef, final String type, final int style)
+            throws IOException {
+        out.write("<c r=\"");
+        out.write(columnName(column));
+        out.write(rowRef);
+        if (style > 0) {
+            out.write("\" s=\"");
+            out.write(Integer.toString(style));
+        }
+        if (null != type) {
+            out.write("\" t=\"");
+            out.write(type);
+        }
+        out.write("\">");
+    }
+
+    /**
+     * 获取列名，如0对应A，26对应AA
+     *
+     * @param column 列号
+     * @return 列名
+     */
+    private char[] columnName(final int column) {
+        char[] name = columnNames[column];
+        if (null == name) {
+            final char[] buffer = new char[3];
+            int pos = buffer.length;
+            int n = column + 1;
+            while (n > 0) {
+                buffer[--pos] = (char) ('A' + (n - 1) % 26);
+                n = (n - 1) / 26;
+            }
+            name = columnNames[column] = Arrays.copyOfRange(buffer, pos, buffer.length);
+        }
+        return name;
+    }
+
+    /**
+     * 写出t元素，首尾有空白时保留空白
+     *
+     * @param out   目标
+     * @param value 文本
+     * @throws IOException IO异常
+     */
+    static void writeText(final Writer out, final String value) throws IOException {
+        final int length = value.length();
+        if (length > 0 && (value.charAt(0) <= ' ' || value.charAt(length - 1) <= ' ')) {
+            out.write("<t xml:space=\"preserve\">");
+        } else {
+            out.write("<t>");
+        }
+        writeEscaped(out, value);
+        out.write("</t>");
+    }
+
+    /**
+     * 转义并写出XML文本或属性值
+     * <p>
+     * XML不允许的控制字符和回车按Excel的_xHHHH_格式写出，读取时还原；不成对的代理字符替换为?。无需转义的连续片段整体写出。
+     * </p>
+     *
+     * @param out   目标
+     * @param value 文本
+     * @throws IOException IO异常
+     */
+    static void writeEscaped(final Writer out, final String value) throws IOException {
+        final int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            final String replacement;
+            if (c == '<') {
+                replacement = "&lt;";
+            } else if (c == '>') {
+                replacement = "&gt;";
+            } else if (c == '&') {
+                replacement = "&amp;";
+            } else if (c == '"') {
+                replacement = "&quot;";
+            } else if (c < ' ') {
+                // 回车在解析时会被规范化为换行，与其它控制字符一样按_xHHHH_写出
+                replacement = c == '\t' || c == '\n' ? null : String.format("_x%04X_", (int) c);
+            } else if (c == '_' && i + 6 < length && value.charAt(i + 1) == 'x' && value.charAt(i + 6) == '_') {
+                // 原文中形如_xHHHH_的文本需转义下划线，否则读取时被当作转义字符
+                replacement = isHex(value, i + 2, i + 6) ? "_x005F_" : null;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                    replacement = null;
+                } else {
+                    replacement = "?";
+                }
+            } else if (c == '\uFFFE' || c == '\uFFFF') {
+                replacement = "?";
+            } else {
+                replacement = null;
+            }
+            if (null != replacement) {
+                out.write(value, start, i - start);
+                out.write(replacement);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, length - start);
+    }
+
+    /**
+     * 是否全部为十六进制字符
+     *
+     * @param value 文本
+     * @param start 开始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 是否全部为十六进制字符
+     */
+    private static boolean isHex(final String value, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.office.excel.writer;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+
+/**
+ * XLSX包写出器，把已压缩的部件按ZIP格式拼接写出
+ * <p>
+ * {@link java.util.zip.ZipOutputStream}只能在写出线程中串行压缩。此处各部件由{@link Part}在生成线程中直接压缩为原始Deflate数据，
+ * 写出时只复制压缩后的字节，压缩随sheet的生成并行进行。由于写出前已知CRC和长度，本地文件头中直接给出，无需数据描述符，目标流无需支持随机访问。
+ * 不支持ZIP64，单个部件或整个包超过4GB时抛出异常。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class XlsxZipWriter {
+
+    /**
+     * ZIP格式中32位字段的上限
+     */
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    /**
+     * 通用标记：文件名使用UTF-8编码
+     */
+    private static final int FLAG_UTF8 = 0x0800;
+    /**
+     * 压缩方法：Deflate
+     */
+    private static final int METHOD_DEFLATED = 8;
+    /**
+     * 解压所需版本：2.0
+     */
+    private static final int VERSION = 20;
+
+    /**
+     * 目标流
+     */
+    private final OutputStream out;
+    /**
+     * 压缩级别
+     */
+    private final int level;
+    /**
+     * 修改时间，DOS格式
+     */
+    private final int dosTime;
+    /**
+     * 已写出的条目
+     */
+    private final List<Entry> entries = new ArrayList<>();
+    /**
+     * 已写出的字节数
+     */
+    private long written;
+
+    /**
+     * 构造
+     *
+     * @param out   目标流
+     * @param level 压缩级别
+     */
+    XlsxZipWriter(final OutputStream out, final int level) {
+        this.out = out;
+        this.level = level;
+        this.dosTime = dosTime(LocalDateTime.now());
+    }
+
+    /**
+     * 压缩并写出内存中的小部件
+     *
+     * @param name 部件名
+     * @param data 未压缩数据
+     * @throws IOException IO异常
+     */
+    void putBytes(final String name, final byte[] data) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length >> 2));
+        final Deflater deflater = new Deflater(level, true);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(compressed, deflater)) {
+            dos.write(data);
+        } finally {
+            deflater.end();
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        putHeader(name, crc.getValue(), compressed.size(), data.length);
+        compressed.writeTo(out);
+        written += compressed.size();
+    }
+
+    /**
+     * 写出已压缩的部件，无论成功与否均删除部件的临时文件
+     *
+     * @param name 部件名
+     * @param part 已关闭的部件
+     * @throws IOException IO异常
+     */
+    void putPart(final String name, final Part part) throws IOException {
+        try {
+            putHeader(name, part.crc, part.compressedSize, part.size);
+            final long copied = Files.copy(part.file, out);
+            if (copied != part.compressedSize) {
+                throw new InternalException(String.format("Part [%s] changed while writing: expected %d bytes, got %d",
+                        name, part.compressedSize, copied));
+            }
+            written += copied;
+        } finally {
+            part.delete();
+        }
+    }
+
+    /**
+     * 写出中央目录，不关闭目标流
+     *
+     * @throws IOException IO异常
+     */
+    void finish() throws IOException {
+        final long offset = written;
+        final Buffer cd = new Buffer(entries.size() * 96 + 22);
+        for (final Entry entry : entries) {
+            cd.int32(0x02014b50).int16(VERSION).int16(VERSION).int16(FLAG_UTF8).int16(METHOD_DEFLATED);
+            cd.int32(dosTime).int32((int) entry.crc).int32((int) entry.compressedSize).int32((int) entry.size);
+            // 文件名长度，扩展字段、注释、起始磁盘号、内部属性、外部属性均为0
+            cd.int16(entry.name.length).int16(0).int16(0).int16(0).int16(0).int32(0);
+            cd.int32((int) entry.offset).write(entry.name, 0, entry.name.length);
+        }
+        final int size = cd.size();
+        if (entries.size() > 0xFFFF || offset + size > MAX_32) {
+            throw new InternalException("XLSX package exceeds the ZIP limits of 65535 parts or 4GB");
+        }
+        // 中央目录结束记录
+        cd.int32(0x06054b50).int16(0).int16(0).int16(entries.size()).int16(entries.size());
+        cd.int32(size).int32((int) offset).int16(0);
+        cd.writeTo(out);
+        written += cd.size();
+        out.flush();
+    }
+
+    /**
+     * 写出本地文件头
+     *
+     * @param name           部件名
+     * @param crc            未压缩数据的CRC32
+     * @param compressedSize 压缩后长度
+     * @param size           未压缩长度
+     * @throws IOException IO异常
+     */
+    private void putHeader(final String name, final long crc, final long compressedSize, final long size)
+            throws IOException {
+        if (size > MAX_32 || compressedSize > MAX_32 || written > MAX_32) {
+            throw new InternalException(
+                    String.format("Part [%s] exceeds the ZIP limit of 4GB, ZIP64 is not supported", name));
+        }
+        final byte[] bytes = name.getBytes(Charset.UTF_8);
+        entries.add(new Entry(bytes, crc, compressedSize, size, written));
+        final Buffer header = new Buffer(30 + bytes.length);
+        header.int32(0x04034b50).int16(VERSION).int16(FLAG_UTF8).int16(METHOD_DEFLATED).int32(dosTime);
+        header.int32((int) crc).int32((int) compressedSize).int32((int) size).int16(bytes.length).int16(0);
+        header.write(bytes, 0, bytes.length);
+        header.writeTo(out);
+        written += header.size();
+    }
+
+    /**
+     * 转换为DOS格式的日期时间
+     *
+     * @param time 时间
+     * @return DOS日期时间，高16位为日期，低16位为时间
+     */
+    private static int dosTime(final LocalDateTime time) {
+        final int year = Math.max(1980, time.getYear());
+        return (year - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16 | time.getHour() << 11
+                | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    /**
+     * 已写出的条目
+     *
+     * @param name           UTF-8编码的部件名
+     * @param crc            未压缩数据的CRC32
+     * @param compressedSize 压缩后长度
+     * @param size           未压缩长度
+     * @param offset         本地文件头的位置
+     */
+    private record Entry(byte[] name, long crc, long compressedSize, long size, long offset) {
+    }
+
+    /**
+     * 按小端序写出多字节字段的缓冲区
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer(final int size) {
+            super(size);
+        }
+
+        Buffer int16(final int v) {
+            write(v);
+            write(v >>> 8);
+            return this;
+        }
+
+        Buffer int32(final int v) {
+            return int16(v).int16(v >>> 16);
+        }
+
+    }
+
+    /**
+     * 压缩后的部件，写入的数据在调用线程中直接压缩到临时文件，同时计算CRC和长度
+     * <p>
+     * 关闭后可通过{@link #putPart(String, Part)}写入包中，未写入包时需调用{@link #delete()}删除临时文件。
+     * </p>
+     */
+    static final class Part extends OutputStream {
+
+        /**
+         * 临时文件
+         */
+        private final Path file;
+        /**
+         * 压缩器
+         */
+        private final Deflater deflater;
+        /**
+         * 压缩流
+         */
+        private final DeflaterOutputStream deflated;
+        /**
+         * 未压缩数据的校验
+         */
+        private final CRC32 checksum = new CRC32();
+        /**
+         * 未压缩长度
+         */
+        private long size;
+        /**
+         * 未压缩数据的CRC32，关闭后有效
+         */
+        private long crc;
+        /**
+         * 压缩后长度，关闭后有效
+         */
+        private long compressedSize;
+        /**
+         * 是否已关闭
+         */
+        private boolean closed;
+
+        /**
+         * 构造，创建临时文件
+         *
+         * @param level 压缩级别
+         * @throws IOException IO异常
+         */
+        Part(final int level) throws IOException {
+            this.file = Files.createTempFile("bus-xlsx-", ".part");
+            this.deflater = new Deflater(level, true);
+            try {
+                this.deflated = new DeflaterOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(file), 1 << 16), deflater, 1 << 16);
+            } catch (final IOException | RuntimeException e) {
+                deflater.end();
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            checksum.update(b);
+            size++;
+            deflated.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            checksum.update(b, off, len);
+            size += len;
+            deflated.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                deflated.finish();
+                compressedSize = deflater.getBytesWritten();
+                crc = checksum.getValue();
+                deflated.close();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        /**
+         * 删除临时文件
+         */
+        void delete() {
+            try {
+                if (!closed) {
+                    close();
+                }
+            } catch (final IOException ignore) {
+                // ignore
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignore) {
+                // ignore
+            }
+        }
+
+    }
+
+}
@@ -29,6 +29,7 @@ package org.miaixz.bus.office.excel.xyz;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.miaixz.bus.core.lang.exception.DependencyException;
 import org.miaixz.bus.core.xyz.FileKit;
@@ -40,6 +41,7 @@ import org.miaixz.bus.office.excel.sax.ExcelSaxReader;
 import org.miaixz.bus.office.excel.sax.handler.RowHandler;
 import org.miaixz.bus.office.excel.writer.BigExcelWriter;
 import org.miaixz.bus.office.excel.writer.ExcelWriter;
+import org.miaixz.bus.office.excel.writer.ParallelExcelWriter;
 
 /**
  * Excel工具类,不建议直接使用index直接操作sheet，在wps/excel中sheet显示顺序与index无关，还有隐藏sheet
@@ -429,4 +431,17 @@ public class ExcelKit {
         }
     }
 
+    /**
+     * 获得{@link ParallelExcelWriter}，多个sheet并行生成，写出时调用{@link ParallelExcelWriter#flush(OutputStream)}
+     *
+     * @return {@link ParallelExcelWriter}
+     */
+    public static ParallelExcelWriter getParallelWriter() {
+        try {
+            return new ParallelExcelWriter();
+        } catch (final NoClassDefFoundError e) {
+            throw new DependencyException(ObjectKit.defaultIfNull(e.getCause(), e), Builder.NO_POI_ERROR_MSG);
+        }
+    }
+
 }
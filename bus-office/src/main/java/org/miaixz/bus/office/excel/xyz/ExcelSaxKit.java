@@ -54,6 +54,7 @@ import org.miaixz.bus.office.excel.sax.CellDataType;
 import org.miaixz.bus.office.excel.sax.Excel03SaxReader;
 import org.miaixz.bus.office.excel.sax.Excel07SaxReader;
 import org.miaixz.bus.office.excel.sax.ExcelSaxReader;
+import org.miaixz.bus.office.excel.sax.IndexedSharedStrings;
 import org.miaixz.bus.office.excel.sax.handler.RowHandler;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
@@ -114,7 +115,8 @@ public class ExcelSaxKit {
         case SSTINDEX:
             try {
                 final int index = Integer.parseInt(value);
-                result = sharedStrings.getItemAt(index).getString();
+                result = sharedStrings instanceof IndexedSharedStrings indexed ? indexed.getString(index)
+                        : sharedStrings.getItemAt(index).getString();
             } catch (final NumberFormatException e) {
                 result = value;
             }
@@ -27,6 +27,7 @@
 */
 package org.miaixz.bus.pager.handler;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.ibatis.executor.Executor;
@@ -182,6 +183,22 @@ public class PermissionsHandler extends ConditionHandler implements MapperHandle
      */
     public void setProvider(PermissionsProvider provider) {
         this.provider = provider;
+        clearRewrites();
+    }
+
+    /**
+     * 由数据权限提供者决定改写结果是否可缓存
+     *
+     * @param object 映射ID
+     * @return 改写上下文
+     */
+    @Override
+    protected Object rewriteKey(Object object) {
+        if (null == this.provider) {
+            return null;
+        }
+        Object key = this.provider.getCacheKey((String) object);
+        return null == key ? null : Arrays.asList(object, key);
     }
 
     /**
@@ -50,4 +50,14 @@ public interface PermissionsProvider {
         return where;
     }
 
+    /**
+     * 获取权限条件的缓存键，相同缓存键下同一 SQL 的改写结果相同，例如按数据范围返回范围标识
+     *
+     * @param mappedStatementId MyBatis MappedStatement ID
+     * @return 缓存键，返回 null 时不缓存，默认不缓存
+     */
+    default Object getCacheKey(final String mappedStatementId) {
+        return null;
+    }
+
 }
\ No newline at end of file
@@ -27,6 +27,9 @@
 */
 package org.miaixz.bus.pager.handler;
 
+import java.util.Map;
+
+import org.miaixz.bus.core.center.map.concurrent.ConcurrentLinkedHashMap;
 import org.miaixz.bus.core.lang.Symbol;
 import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.mapper.OGNL;
@@ -49,6 +52,17 @@ import net.sf.jsqlparser.statement.update.Update;
  */
 public class SqlParserHandler extends AbstractSqlHandler {
 
+    /**
+     * 改写缓存的容量
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * 改写结果缓存，按最近最少使用淘汰
+     */
+    private final Map<Rewrite, String> rewrites = new ConcurrentLinkedHashMap.Builder<Rewrite, String>()
+            .maximumWeightedCapacity(CACHE_SIZE).build();
+
     /**
      * 解析单个SQL语句。
      *
@@ -72,7 +86,7 @@ public class SqlParserHandler extends AbstractSqlHandler {
     }
 
     /**
-     * 解析并处理单个SQL语句。
+     * 解析并处理单个SQL语句，{@link #rewriteKey(Object)}不为null时缓存改写结果。
      *
      * @param sql    SQL语句字符串
      * @param object 附加处理对象
@@ -80,6 +94,68 @@ public class SqlParserHandler extends AbstractSqlHandler {
      * @throws InternalException 如果解析失败
      */
     public String parserSingle(String sql, Object object) {
+        return rewrite(sql, object, false);
+    }
+
+    /**
+     * 解析并处理多个SQL语句，{@link #rewriteKey(Object)}不为null时缓存改写结果。
+     *
+     * @param sql    SQL语句字符串
+     * @param object 附加处理对象
+     * @return 处理后的SQL语句（多条语句以分号分隔）
+     * @throws InternalException 如果解析失败
+     */
+    public String parserMulti(String sql, Object object) {
+        return rewrite(sql, object, true);
+    }
+
+    /**
+     * 改写结果依赖的上下文，与原始SQL、处理器共同组成缓存键。 返回null时不缓存，每次执行都重新解析，默认不缓存。
+     *
+     * @param object 附加处理对象
+     * @return 改写上下文，需实现 equals 和 hashCode
+     */
+    protected Object rewriteKey(Object object) {
+        return null;
+    }
+
+    /**
+     * 清空改写缓存，改写规则变化时调用
+     */
+    protected void clearRewrites() {
+        this.rewrites.clear();
+    }
+
+    /**
+     * 查找改写缓存，未命中时解析并改写
+     *
+     * @param sql    SQL语句字符串
+     * @param object 附加处理对象
+     * @param multi  是否多语句
+     * @return 处理后的SQL语句
+     */
+    private String rewrite(String sql, Object object, boolean multi) {
+        Object context = rewriteKey(object);
+        if (null == context) {
+            return multi ? processMulti(sql, object) : processSingle(sql, object);
+        }
+        Rewrite key = new Rewrite(sql, context, multi);
+        String result = this.rewrites.get(key);
+        if (null == result) {
+            result = multi ? processMulti(sql, object) : processSingle(sql, object);
+            this.rewrites.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * 解析并处理单个SQL语句。
+     *
+     * @param sql    SQL语句字符串
+     * @param object 附加处理对象
+     * @return 处理后的SQL语句
+     */
+    private String processSingle(String sql, Object object) {
         try {
             Statement statement = parse(sql);
             return processParser(statement, 0, sql, object);
@@ -94,9 +170,8 @@ public class SqlParserHandler extends AbstractSqlHandler {
      * @param sql    SQL语句字符串
      * @param object 附加处理对象
      * @return 处理后的SQL语句（多条语句以分号分隔）
-     * @throws InternalException 如果解析失败
      */
-    public String parserMulti(String sql, Object object) {
+    private String processMulti(String sql, Object object) {
         try {
             StringBuilder sb = new StringBuilder();
             Statements statements = parseStatements(sql);
@@ -200,4 +275,15 @@ public class SqlParserHandler extends AbstractSqlHandler {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 改写缓存键
+     *
+     * @param sql     原始SQL
+     * @param context 改写上下文
+     * @param multi   是否多语句
+     */
+    private record Rewrite(String sql, Object context, boolean multi) {
+
+    }
+
+}
@@ -27,6 +27,8 @@
 */
 package org.miaixz.bus.pager.handler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -34,7 +36,9 @@ import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 import org.miaixz.bus.core.Context;
@@ -46,7 +50,11 @@ import org.miaixz.bus.mapper.handler.MapperBoundSql;
 import org.miaixz.bus.mapper.handler.MapperHandler;
 import org.miaixz.bus.mapper.handler.MapperStatementHandler;
 
+import net.sf.jsqlparser.expression.DoubleValue;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
 import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
@@ -66,6 +74,15 @@ import net.sf.jsqlparser.statement.update.UpdateSet;
  */
 public class TenantHandler extends ConditionHandler implements MapperHandler {
 
+    /**
+     * 改写时租户值的占位，执行时替换为参数或租户值
+     */
+    private static final String TENANT = "\0tenant\0";
+    /**
+     * 租户值参数名
+     */
+    private static final String TENANT_PARAMETER = "__tenant_id";
+
     /**
      * 租户服务接口，用于获取租户相关信息
      */
@@ -88,7 +105,7 @@ public class TenantHandler extends ConditionHandler implements MapperHandler {
         // 获取 MapperBoundSql 对象
         MapperBoundSql mbs = mapperBoundSql(boundSql);
         // 解析并添加租户条件
-        mbs.sql(parserSingle(mbs.sql(), null));
+        inject(mbs, mappedStatement.getConfiguration(), parserSingle(mbs.sql(), null));
     }
 
     /**
@@ -109,7 +126,7 @@ public class TenantHandler extends ConditionHandler implements MapperHandler {
             // 获取 MapperBoundSql 对象
             MapperBoundSql mbs = msh.mapperBoundSql();
             // 解析并添加租户条件
-            mbs.sql(parserMulti(mbs.sql(), null));
+            inject(mbs, mappedStatement.getConfiguration(), parserMulti(mbs.sql(), null));
         }
     }
 
@@ -163,8 +180,8 @@ public class TenantHandler extends ConditionHandler implements MapperHandler {
         }
         // 添加租户列
         columns.add(new Column(tenantIdColumn));
-        // 获取租户 ID
-        Expression tenantId = this.provider.getTenantId();
+        // 租户 ID 占位
+        Expression tenantId = new Column(TENANT);
         // 获取 ON DUPLICATE KEY UPDATE 的列
         List<UpdateSet> duplicateUpdateColumns = insert.getDuplicateUpdateSets();
         // 处理 ON DUPLICATE KEY UPDATE
@@ -353,7 +370,7 @@ public class TenantHandler extends ConditionHandler implements MapperHandler {
             return null;
         }
         // 构建 tenant_id = ? 条件
-        return new EqualsTo(getAliasColumn(table), this.provider.getTenantId());
+        return new EqualsTo(getAliasColumn(table), new Column(TENANT));
     }
 
     /**
@@ -372,6 +389,81 @@ public class TenantHandler extends ConditionHandler implements MapperHandler {
      */
     public void setProvider(TenantProvider provider) {
         this.provider = provider;
+        clearRewrites();
+    }
+
+    /**
+     * 改写结果只依赖原始 SQL 与租户字段，租户值在执行时注入
+     *
+     * @param object 附加处理对象
+     * @return 改写上下文
+     */
+    @Override
+    protected Object rewriteKey(Object object) {
+        if (null == this.provider || !this.provider.isCacheable()) {
+            return null;
+        }
+        return Arrays.asList(object, this.provider.getColumn());
+    }
+
+    /**
+     * 将改写后 SQL 中的租户占位替换为当前租户值。租户值为字符串、数字或 NULL 时替换为 ? 并按位置插入参数映射，
+     * 使 SQL 文本与租户无关；其他表达式按文本替换
+     *
+     * @param mbs           MapperBoundSql 对象
+     * @param configuration MyBatis 配置
+     * @param sql           改写后的 SQL
+     */
+    protected void inject(MapperBoundSql mbs, Configuration configuration, String sql) {
+        if (sql.indexOf(TENANT) < 0) {
+            mbs.sql(sql);
+            return;
+        }
+        Expression tenantId = this.provider.getTenantId();
+        Object value;
+        if (tenantId instanceof StringValue) {
+            value = ((StringValue) tenantId).getValue();
+        } else if (tenantId instanceof LongValue) {
+            value = ((LongValue) tenantId).getValue();
+        } else if (tenantId instanceof DoubleValue) {
+            value = ((DoubleValue) tenantId).getValue();
+        } else if (tenantId instanceof NullValue) {
+            value = null;
+        } else {
+            mbs.sql(sql.replace(TENANT, tenantId.toString()));
+            return;
+        }
+        ParameterMapping mapping = new ParameterMapping.Builder(configuration, TENANT_PARAMETER,
+                null == value ? Object.class : value.getClass()).build();
+        List<ParameterMapping> mappings = new ArrayList<>(mbs.parameterMappings());
+        StringBuilder builder = new StringBuilder(sql.length());
+        int index = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (0 != quote) {
+                // 引号内的 ? 不是参数
+                if (c == '\\' && quote == '\'' && i + 1 < sql.length()) {
+                    builder.append(c);
+                    c = sql.charAt(++i);
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                index++;
+            } else if (sql.startsWith(TENANT, i)) {
+                mappings.add(Math.min(index++, mappings.size()), mapping);
+                builder.append('?');
+                i += TENANT.length() - 1;
+                continue;
+            }
+            builder.append(c);
+        }
+        mbs.additionalParameters().put(TENANT_PARAMETER, value);
+        mbs.parameterMappings(mappings);
+        mbs.sql(builder.toString());
     }
 
 }
\ No newline at end of file
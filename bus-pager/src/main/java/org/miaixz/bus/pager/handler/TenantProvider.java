@@ -53,6 +53,16 @@ public interface TenantProvider {
         return "tenant_id";
     }
 
+    /**
+     * 改写后的 SQL 是否可缓存，租户值以参数形式绑定，缓存对所有租户有效；默认不缓存。
+     * 仅当字段名及忽略规则不随请求变化（如按调用者跳过租户条件）时才可返回 true，否则可能对错误的调用者应用或跳过租户条件
+     *
+     * @return true 表示可缓存
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
     /**
      * 判断是否忽略表的多租户条件拼接
      *
@@ -116,6 +116,16 @@ public class Builder extends Sensitive {
         return Instances.singletion(Provider.class).json(object, null);
     }
 
+    /**
+     * 流式返回脱敏后的对象 json，序列化时执行脱敏策略，不拷贝原对象 null 对象,返回字符串 "null"
+     *
+     * @param object 对象
+     * @return 结果 json
+     */
+    public static String stream(Object object) {
+        return Instances.singletion(Provider.class).stream(object, null);
+    }
+
     /**
      * 每次都创建一个新的对象,避免线程问题 可以使用 {@link ThreadLocal} 简单优化
      *
@@ -0,0 +1,249 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.sensitive;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.*;
+import org.miaixz.bus.sensitive.magic.annotation.Condition;
+import org.miaixz.bus.sensitive.magic.annotation.Entry;
+import org.miaixz.bus.sensitive.magic.annotation.Shield;
+import org.miaixz.bus.sensitive.magic.annotation.Strategy;
+import org.miaixz.bus.sensitive.metric.BuiltInProvider;
+import org.miaixz.bus.sensitive.metric.ConditionProvider;
+import org.miaixz.bus.sensitive.metric.StrategyProvider;
+
+/**
+ * 类的脱敏计划，首次使用时反射解析字段、注解、条件与策略，之后的脱敏只需按计划读取和写回字段值。
+ * 条件与策略按类型共享同一实例，自定义实现需保证无状态
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class Plan {
+
+    /**
+     * 类与脱敏计划
+     */
+    private static final Map<Class<?>, Plan> PLANS = new ConcurrentHashMap<>();
+    /**
+     * 条件与策略实例
+     */
+    private static final Map<Class<?>, Object> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * 所有字段，供条件通过上下文访问
+     */
+    final List<Field> fields;
+    /**
+     * 非静态字段的处理步骤
+     */
+    final Step[] steps;
+
+    private Plan(final Class<?> clazz) {
+        this.fields = ListKit.of(FieldKit.getFields(clazz));
+        final List<Step> steps = new ArrayList<>(this.fields.size());
+        for (final Field field : this.fields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                steps.add(new Step(ReflectKit.setAccessibleQuietly(field)));
+            }
+        }
+        this.steps = steps.toArray(new Step[0]);
+    }
+
+    /**
+     * 获取类的脱敏计划
+     *
+     * @param clazz 类
+     * @return 脱敏计划
+     */
+    static Plan of(final Class<?> clazz) {
+        return PLANS.computeIfAbsent(clazz, Plan::new);
+    }
+
+    /**
+     * 判断集合或数组元素是否需要递归处理
+     *
+     * @param clazz 元素类型
+     * @return 是否需要递归处理
+     */
+    static boolean nested(final Class<?> clazz) {
+        return (TypeKit.isJavaBean(clazz) || TypeKit.isArray(clazz) || TypeKit.isCollection(clazz))
+                && !TypeKit.isBase(clazz) && !TypeKit.isMap(clazz) && !TypeKit.isJdk(clazz);
+    }
+
+    /**
+     * 获取共享的条件或策略实例
+     *
+     * @param clazz 实现类
+     * @param <T>   实现类型
+     * @return 实例
+     */
+    private static <T> T instance(final Class<T> clazz) {
+        return clazz.cast(INSTANCES.computeIfAbsent(clazz, type -> ReflectKit.newInstance(type)));
+    }
+
+    /**
+     * 字段类型
+     */
+    enum Kind {
+        /**
+         * 标注{@link Entry}的对象，递归处理
+         */
+        BEAN,
+        /**
+         * 标注{@link Entry}的数组
+         */
+        ARRAY,
+        /**
+         * 标注{@link Entry}的集合
+         */
+        COLLECTION,
+        /**
+         * 普通值
+         */
+        VALUE
+    }
+
+    /**
+     * 单个字段的处理步骤
+     */
+    static final class Step {
+
+        final Field field;
+        final String name;
+        final Kind kind;
+        final boolean transients;
+        private final Shield shield;
+        private final ConditionProvider shieldCondition;
+        private final StrategyProvider shieldStrategy;
+        private final ConditionProvider condition;
+        private final StrategyProvider strategy;
+
+        private Step(final Field field) {
+            final Class<?> type = field.getType();
+            this.field = field;
+            this.name = field.getName();
+            this.transients = Modifier.isTransient(field.getModifiers());
+            if (null == field.getAnnotation(Entry.class)) {
+                this.kind = Kind.VALUE;
+            } else if (TypeKit.isArray(type)) {
+                this.kind = Kind.ARRAY;
+            } else if (TypeKit.isCollection(type)) {
+                this.kind = Kind.COLLECTION;
+            } else if (TypeKit.isJavaBean(type) && !TypeKit.isBase(type) && !TypeKit.isJdk(type)) {
+                this.kind = Kind.BEAN;
+            } else {
+                this.kind = Kind.VALUE;
+            }
+            this.shield = field.getAnnotation(Shield.class);
+            this.shieldCondition = null == shield ? null : instance(shield.condition());
+            this.shieldStrategy = null == shield ? null : instance(shield.strategy());
+            ConditionProvider condition = null;
+            StrategyProvider strategy = null;
+            for (final Annotation annotation : field.getAnnotations()) {
+                final Class<? extends Annotation> annotationType = annotation.annotationType();
+                final Condition conditionType = annotationType.getAnnotation(Condition.class);
+                if (null == condition && null != conditionType) {
+                    condition = instance(conditionType.value());
+                }
+                final Strategy strategyType = annotationType.getAnnotation(Strategy.class);
+                if (null == strategy && null != strategyType) {
+                    strategy = BuiltInProvider.class.equals(strategyType.value()) ? Registry.require(annotationType)
+                            : instance(strategyType.value());
+                }
+            }
+            this.condition = condition;
+            this.strategy = strategy;
+        }
+
+        /**
+         * 是否配置了脱敏策略
+         *
+         * @return 是否需要脱敏
+         */
+        boolean masked() {
+            return null != shield || null != strategy;
+        }
+
+        /**
+         * 读取字段值
+         *
+         * @param object 对象
+         * @return 字段值
+         */
+        Object get(final Object object) {
+            try {
+                return field.get(object);
+            } catch (final IllegalAccessException e) {
+                throw new InternalException("字段访问失败: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * 写回字段值
+         *
+         * @param object 对象
+         * @param value  字段值
+         */
+        void set(final Object object, final Object value) {
+            try {
+                field.set(object, value);
+            } catch (final IllegalAccessException e) {
+                throw new InternalException("字段访问失败: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * 依次执行{@link Shield}与自定义注解的脱敏策略
+         *
+         * @param value   原始值
+         * @param context 上下文
+         * @return 脱敏后的值
+         */
+        Object mask(Object value, final Context context) {
+            if (null != shield && shieldCondition.valid(context)) {
+                context.setShield(shield);
+                value = shieldStrategy.build(value, context);
+            }
+            if (null != strategy && (null == condition || condition.valid(context))) {
+                value = strategy.build(value, context);
+            }
+            return value;
+        }
+
+    }
+
+}
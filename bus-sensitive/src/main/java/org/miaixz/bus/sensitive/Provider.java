@@ -27,25 +27,20 @@
 */
 package org.miaixz.bus.sensitive;
 
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.*;
+
 import org.miaixz.bus.core.lang.Symbol;
 import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.core.xyz.*;
 import org.miaixz.bus.extra.json.JsonKit;
 import org.miaixz.bus.sensitive.magic.annotation.*;
-import org.miaixz.bus.sensitive.metric.BuiltInProvider;
-import org.miaixz.bus.sensitive.metric.ConditionProvider;
-import org.miaixz.bus.sensitive.metric.StrategyProvider;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
 
 /**
- * 敏感数据处理提供者， 提供对象脱敏功能，支持深度拷贝和 JSON 输出。 通过反射和原生 Java 实现，确保安全性和性能。
+ * 敏感数据处理提供者， 提供对象脱敏功能，支持深度拷贝和 JSON 输出。 字段处理按类编译为{@link Plan}并缓存，
+ * 流式输出时在生成 JSON 的同时执行脱敏策略，无需拷贝原对象。
  *
  * @param <T> 参数类型
  * @author Kimi Liu
@@ -53,11 +48,6 @@ import java.util.List;
  */
 public class Provider<T> {
 
-    /**
-     * 脱敏属性
-     */
-    private String[] value;
-
     /**
      * 深度拷贝对象
      *
@@ -103,18 +93,8 @@ public class Provider<T> {
         if (ObjectKit.isEmpty(object)) {
             return object;
         }
-
-        if (ObjectKit.isNotEmpty(annotation)) {
-            Sensitive sensitive = (Sensitive) annotation;
-            this.value = sensitive.field();
-        }
-
-        // 1. 初始化
-        final Class clazz = object.getClass();
-        final Context context = new Context();
-
         T result = clone ? clone(object) : object;
-        handleClassField(context, result, clazz);
+        handleClassField(new Context(), result, fields(annotation));
         return result;
     }
 
@@ -129,16 +109,52 @@ public class Provider<T> {
         if (ObjectKit.isEmpty(object)) {
             return JsonKit.toJsonString(null);
         }
+        T copy = clone(object);
+        handleClassField(new Context(), copy, fields(annotation));
+        return JsonKit.toJsonString(copy);
+    }
 
-        if (ObjectKit.isNotEmpty(annotation)) {
-            Sensitive sensitive = (Sensitive) annotation;
-            this.value = sensitive.field();
+    /**
+     * 流式输出脱敏后的 JSON，在序列化字段的同时执行脱敏策略，不拷贝也不修改原对象。 对象按字段(忽略 static 和 transient)输出，
+     * 日期输出为毫秒数，其他 JDK 类型输出为字符串，不识别 JSON 库的注解
+     *
+     * @param object     对象
+     * @param annotation 注解
+     * @param writer     输出目标
+     */
+    public void write(T object, Annotation annotation, Appendable writer) {
+        try {
+            writeValue(new Context(), object, fields(annotation), true, writer, new IdentityHashMap<>());
+        } catch (IOException e) {
+            throw new InternalException(e);
         }
+    }
 
-        final Context context = new Context();
-        T copy = clone(object);
-        handleClassField(context, copy, copy.getClass());
-        return JsonKit.toJsonString(copy);
+    /**
+     * 流式生成脱敏后的 JSON 字符串
+     *
+     * @param object     对象
+     * @param annotation 注解
+     * @return 脱敏后的 JSON 字符串
+     * @see #write(Object, Annotation, Appendable)
+     */
+    public String stream(T object, Annotation annotation) {
+        StringBuilder builder = new StringBuilder();
+        write(object, annotation, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 获取需要脱敏的属性
+     *
+     * @param annotation 注解信息
+     * @return 脱敏属性，为空表示全部属性
+     */
+    private static Set<String> fields(Annotation annotation) {
+        if (annotation instanceof Sensitive sensitive && ArrayKit.isNotEmpty(sensitive.field())) {
+            return SetKit.of(sensitive.field());
+        }
+        return null;
     }
 
     /**
@@ -146,40 +162,30 @@ public class Provider<T> {
      *
      * @param context    执行上下文
      * @param copyObject 拷贝的对象
-     * @param clazz      类类型
+     * @param fields     需要脱敏的属性
      */
-    private void handleClassField(final Context context, final Object copyObject, final Class<?> clazz) {
-        List<Field> fieldList = ListKit.of(FieldKit.getFields(clazz));
-        context.setAllFieldList(fieldList);
-        context.setCurrentObject(copyObject);
-
-        try {
-            for (Field field : fieldList) {
-                if (ArrayKit.isNotEmpty(this.value) && !Arrays.asList(this.value).contains(field.getName())) {
-                    continue;
-                }
-
-                final Class<?> fieldTypeClass = field.getType();
-                context.setCurrentField(field);
-
-                Entry sensitiveEntry = field.getAnnotation(Entry.class);
-                if (ObjectKit.isNotNull(sensitiveEntry)) {
-                    if (TypeKit.isJavaBean(fieldTypeClass)) {
-                        Object fieldNewObject = field.get(copyObject);
-                        handleClassField(context, fieldNewObject, fieldTypeClass);
-                    } else if (TypeKit.isArray(fieldTypeClass)) {
-                        processArrayField(context, copyObject, field);
-                    } else if (TypeKit.isCollection(fieldTypeClass)) {
-                        processCollectionField(context, copyObject, field);
-                    } else {
-                        handleSensitive(context, copyObject, field);
+    private void handleClassField(final Context context, final Object copyObject, final Set<String> fields) {
+        if (null == copyObject) {
+            return;
+        }
+        final Plan plan = Plan.of(copyObject.getClass());
+        for (Plan.Step step : plan.steps) {
+            if (null != fields && !fields.contains(step.name)) {
+                continue;
+            }
+            context.setAllFieldList(plan.fields);
+            context.setCurrentObject(copyObject);
+            context.setCurrentField(step.field);
+            switch (step.kind) {
+                case BEAN -> handleClassField(context, step.get(copyObject), fields);
+                case ARRAY -> processArrayField(context, copyObject, step, fields);
+                case COLLECTION -> processCollectionField(context, copyObject, step, fields);
+                default -> {
+                    if (step.masked()) {
+                        step.set(copyObject, step.mask(step.get(copyObject), context));
                     }
-                } else {
-                    handleSensitive(context, copyObject, field);
                 }
             }
-        } catch (IllegalAccessException e) {
-            throw new InternalException("字段访问失败: " + e.getMessage(), e);
         }
     }
 
@@ -188,12 +194,12 @@ public class Provider<T> {
      *
      * @param context    上下文
      * @param copyObject 对象
-     * @param field      字段
+     * @param step       字段处理步骤
+     * @param fields     需要脱敏的属性
      */
-    private void processArrayField(final Context context, final Object copyObject, final Field field)
-            throws IllegalAccessException {
-        Object[] arrays = (Object[]) field.get(copyObject);
-        if (ArrayKit.isEmpty(arrays)) {
+    private void processArrayField(final Context context, final Object copyObject, final Plan.Step step,
+            final Set<String> fields) {
+        if (!(step.get(copyObject) instanceof Object[] arrays) || ArrayKit.isEmpty(arrays)) {
             return;
         }
 
@@ -203,17 +209,16 @@ public class Provider<T> {
         }
 
         final Class<?> entryFieldClass = firstArrayEntry.getClass();
-        if (needHandleEntryType(entryFieldClass)) {
+        if (Plan.nested(entryFieldClass)) {
             for (Object arrayEntry : arrays) {
-                handleClassField(context, arrayEntry, entryFieldClass);
+                handleClassField(context, arrayEntry, fields);
             }
-        } else {
+        } else if (step.masked()) {
             Object newArray = Array.newInstance(entryFieldClass, arrays.length);
             for (int i = 0; i < arrays.length; i++) {
-                Object result = handleSensitiveEntry(context, arrays[i], field);
-                Array.set(newArray, i, result);
+                Array.set(newArray, i, step.mask(arrays[i], context));
             }
-            field.set(copyObject, newArray);
+            step.set(copyObject, newArray);
         }
     }
 
@@ -222,152 +227,215 @@ public class Provider<T> {
      *
      * @param context    上下文
      * @param copyObject 对象
-     * @param field      字段
+     * @param step       字段处理步骤
+     * @param fields     需要脱敏的属性
      */
-    private void processCollectionField(final Context context, final Object copyObject, final Field field)
-            throws IllegalAccessException {
-        Collection<Object> entryCollection = (Collection<Object>) field.get(copyObject);
+    private void processCollectionField(final Context context, final Object copyObject, final Plan.Step step,
+            final Set<String> fields) {
+        Collection<Object> entryCollection = (Collection<Object>) step.get(copyObject);
         if (CollKit.isEmpty(entryCollection)) {
             return;
         }
 
-        Object firstCollectionEntry = entryCollection.iterator().next();
-        Class<?> collectionEntryClass = firstCollectionEntry.getClass();
+        Object firstCollectionEntry = CollKit.getFirstNoneNull(entryCollection);
+        if (firstCollectionEntry == null) {
+            return;
+        }
 
-        if (needHandleEntryType(collectionEntryClass)) {
+        if (Plan.nested(firstCollectionEntry.getClass())) {
             for (Object collectionEntry : entryCollection) {
-                handleClassField(context, collectionEntry, collectionEntryClass);
+                handleClassField(context, collectionEntry, fields);
             }
-        } else {
+        } else if (step.masked()) {
             List<Object> newResultList = new ArrayList<>(entryCollection.size());
             for (Object entry : entryCollection) {
-                newResultList.add(handleSensitiveEntry(context, entry, field));
+                newResultList.add(step.mask(entry, context));
             }
-            field.set(copyObject, newResultList);
+            step.set(copyObject, newResultList);
         }
     }
 
     /**
-     * 处理单个对象的脱敏
+     * 输出任意值
      *
-     * @param context 上下文
-     * @param entry   明细
-     * @param field   字段信息
-     * @return 处理后的信息
+     * @param context  上下文
+     * @param value    值
+     * @param fields   需要脱敏的属性
+     * @param mask     是否对对象字段执行脱敏
+     * @param writer   输出目标
+     * @param visiting 正在输出的对象，用于检测循环引用
+     * @throws IOException 输出异常
      */
-    private Object handleSensitiveEntry(final Context context, final Object entry, final Field field) {
-        try {
-            Shield sensitive = field.getAnnotation(Shield.class);
-            if (ObjectKit.isNotNull(sensitive)) {
-                ConditionProvider condition = ReflectKit.newInstance(sensitive.condition());
-                if (condition.valid(context)) {
-                    context.setShield(sensitive);
-                    StrategyProvider strategy = ReflectKit.newInstance(sensitive.strategy());
-                    return strategy.build(entry, context);
-                }
+    private void writeValue(final Context context, final Object value, final Set<String> fields, final boolean mask,
+            final Appendable writer, final Map<Object, Object> visiting) throws IOException {
+        if (null == value) {
+            writer.append("null");
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum<?>) {
+            writeString(value instanceof Enum<?> e ? e.name() : value.toString(), writer);
+        } else if (value instanceof Boolean) {
+            writer.append(value.toString());
+        } else if (value instanceof Number number) {
+            final boolean finite = !(number instanceof Double d && (d.isNaN() || d.isInfinite()))
+                    && !(number instanceof Float f && (f.isNaN() || f.isInfinite()));
+            writer.append(finite ? number.toString() : "null");
+        } else if (value instanceof Date date) {
+            writer.append(String.valueOf(date.getTime()));
+        } else if (value instanceof Map<?, ?> map) {
+            writer.append(Symbol.C_BRACE_LEFT);
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                first = separate(first, writer);
+                writeString(String.valueOf(entry.getKey()), writer);
+                writer.append(Symbol.C_COLON);
+                writeValue(context, entry.getValue(), fields, mask, writer, visiting);
             }
-
-            Annotation[] annotations = field.getAnnotations();
-            if (ArrayKit.isNotEmpty(annotations)) {
-                ConditionProvider condition = getCondition(annotations);
-                if (ObjectKit.isNull(condition) || condition.valid(context)) {
-                    StrategyProvider strategy = getStrategy(annotations);
-                    if (ObjectKit.isNotNull(strategy)) {
-                        return strategy.build(entry, context);
-                    }
-                }
+            writer.append(Symbol.C_BRACE_RIGHT);
+        } else if (value instanceof Iterable<?> iterable) {
+            writer.append(Symbol.C_BRACKET_LEFT);
+            boolean first = true;
+            for (Object item : iterable) {
+                first = separate(first, writer);
+                writeValue(context, item, fields, mask, writer, visiting);
             }
-            return entry;
-        } catch (Exception e) {
-            throw new InternalException("脱敏处理失败: " + e.getMessage(), e);
+            writer.append(Symbol.C_BRACKET_RIGHT);
+        } else if (value.getClass().isArray()) {
+            writer.append(Symbol.C_BRACKET_LEFT);
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                separate(i == 0, writer);
+                writeValue(context, Array.get(value, i), fields, mask, writer, visiting);
+            }
+            writer.append(Symbol.C_BRACKET_RIGHT);
+        } else if (TypeKit.isJdk(value.getClass())) {
+            writeString(value.toString(), writer);
+        } else {
+            writeBean(context, value, fields, mask, writer, visiting);
         }
     }
 
     /**
-     * 处理脱敏信息
+     * 按脱敏计划输出对象字段
      *
-     * @param context    上下文
-     * @param copyObject 复制的对象
-     * @param field      当前字段
+     * @param context  上下文
+     * @param object   对象
+     * @param fields   需要脱敏的属性
+     * @param mask     是否执行脱敏
+     * @param writer   输出目标
+     * @param visiting 正在输出的对象
+     * @throws IOException 输出异常
      */
-    private void handleSensitive(final Context context, final Object copyObject, final Field field) {
-        try {
-            Shield sensitive = field.getAnnotation(Shield.class);
-            if (ObjectKit.isNotNull(sensitive)) {
-                ConditionProvider condition = ReflectKit.newInstance(sensitive.condition());
-                if (condition.valid(context)) {
-                    context.setShield(sensitive);
-                    StrategyProvider strategy = ReflectKit.newInstance(sensitive.strategy());
-                    final Object originalFieldVal = field.get(copyObject);
-                    final Object result = strategy.build(originalFieldVal, context);
-                    field.set(copyObject, result);
-                }
+    private void writeBean(final Context context, final Object object, final Set<String> fields, final boolean mask,
+            final Appendable writer, final Map<Object, Object> visiting) throws IOException {
+        if (null != visiting.put(object, object)) {
+            throw new InternalException("循环引用: " + object.getClass().getName());
+        }
+        final Plan plan = Plan.of(object.getClass());
+        writer.append(Symbol.C_BRACE_LEFT);
+        boolean first = true;
+        for (Plan.Step step : plan.steps) {
+            if (step.transients) {
+                continue;
             }
-
-            // 系统内置自定义注解的处理,获取所有的注解
-            Annotation[] annotations = field.getAnnotations();
-            if (ArrayKit.isNotEmpty(annotations)) {
-                ConditionProvider condition = getCondition(annotations);
-                if (ObjectKit.isNull(condition) || condition.valid(context)) {
-                    StrategyProvider strategy = getStrategy(annotations);
-                    if (ObjectKit.isNotNull(strategy)) {
-                        final Object originalFieldVal = field.get(copyObject);
-                        final Object result = strategy.build(originalFieldVal, context);
-                        field.set(copyObject, result);
-                    }
-                }
+            first = separate(first, writer);
+            writeString(step.name, writer);
+            writer.append(Symbol.C_COLON);
+            final Object value = step.get(object);
+            if (!mask || (null != fields && !fields.contains(step.name))) {
+                writeValue(context, value, fields, false, writer, visiting);
+                continue;
+            }
+            context.setAllFieldList(plan.fields);
+            context.setCurrentObject(object);
+            context.setCurrentField(step.field);
+            switch (step.kind) {
+                case BEAN -> writeValue(context, value, fields, true, writer, visiting);
+                case ARRAY, COLLECTION -> writeEntries(context, step, value, fields, writer, visiting);
+                default -> writeValue(context, step.masked() ? step.mask(value, context) : value, fields, false,
+                        writer, visiting);
             }
-        } catch (IllegalAccessException e) {
-            throw new InternalException(e);
         }
+        writer.append(Symbol.C_BRACE_RIGHT);
+        visiting.remove(object);
     }
 
     /**
-     * 获取策略
+     * 输出标注{@link Entry}的数组或集合，嵌套对象递归脱敏，其他元素按字段策略脱敏
      *
-     * @param annotations 字段注解
-     * @return 策略提供者
+     * @param context  上下文
+     * @param step     字段处理步骤
+     * @param value    数组或集合
+     * @param fields   需要脱敏的属性
+     * @param writer   输出目标
+     * @param visiting 正在输出的对象
+     * @throws IOException 输出异常
      */
-    private StrategyProvider getStrategy(final Annotation[] annotations) {
-        for (Annotation annotation : annotations) {
-            Strategy strategy = annotation.annotationType().getAnnotation(Strategy.class);
-            if (ObjectKit.isNotNull(strategy)) {
-                Class<? extends StrategyProvider> clazz = strategy.value();
-                if (BuiltInProvider.class.equals(clazz)) {
-                    return Registry.require(annotation.annotationType());
-                }
-                return ReflectKit.newInstance(clazz);
+    private void writeEntries(final Context context, final Plan.Step step, final Object value,
+            final Set<String> fields, final Appendable writer, final Map<Object, Object> visiting) throws IOException {
+        final Collection<?> entries = value instanceof Object[] arrays ? Arrays.asList(arrays)
+                : value instanceof Collection<?> collection ? collection : null;
+        if (null == entries) {
+            writeValue(context, value, fields, false, writer, visiting);
+            return;
+        }
+        final Object first = CollKit.getFirstNoneNull(entries);
+        final boolean nested = null != first && Plan.nested(first.getClass());
+        writer.append(Symbol.C_BRACKET_LEFT);
+        boolean head = true;
+        for (Object entry : entries) {
+            head = separate(head, writer);
+            if (nested) {
+                writeValue(context, entry, fields, true, writer, visiting);
+            } else {
+                writeValue(context, step.masked() ? step.mask(entry, context) : entry, fields, false, writer,
+                        visiting);
             }
         }
-        return null;
+        writer.append(Symbol.C_BRACKET_RIGHT);
     }
 
     /**
-     * 获取用户自定义条件
+     * 在非首个元素前输出逗号
      *
-     * @param annotations 字段注解
-     * @return 条件提供者
+     * @param first  是否首个元素
+     * @param writer 输出目标
+     * @return {@code false}
+     * @throws IOException 输出异常
      */
-    private ConditionProvider getCondition(final Annotation[] annotations) {
-        for (Annotation annotation : annotations) {
-            Condition condition = annotation.annotationType().getAnnotation(Condition.class);
-            if (ObjectKit.isNotNull(condition)) {
-                return ReflectKit.newInstance(condition.value());
-            }
+    private static boolean separate(final boolean first, final Appendable writer) throws IOException {
+        if (!first) {
+            writer.append(Symbol.C_COMMA);
         }
-        return null;
+        return false;
     }
 
     /**
-     * 判断是否需要特殊处理的类型
+     * 输出转义后的 JSON 字符串
      *
-     * @param fieldTypeClass 字段类型
-     * @return 是否需要特殊处理
+     * @param value  字符串
+     * @param writer 输出目标
+     * @throws IOException 输出异常
      */
-    private boolean needHandleEntryType(final Class<?> fieldTypeClass) {
-        return (TypeKit.isJavaBean(fieldTypeClass) || TypeKit.isArray(fieldTypeClass)
-                || TypeKit.isCollection(fieldTypeClass)) && !TypeKit.isBase(fieldTypeClass)
-                && !TypeKit.isMap(fieldTypeClass);
+    private static void writeString(final String value, final Appendable writer) throws IOException {
+        writer.append(Symbol.C_DOUBLE_QUOTES);
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.append("\\\"");
+                case '\\' -> writer.append("\\\\");
+                case '\n' -> writer.append("\\n");
+                case '\r' -> writer.append("\\r");
+                case '\t' -> writer.append("\\t");
+                case '\b' -> writer.append("\\b");
+                case '\f' -> writer.append("\\f");
+                default -> {
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        writer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.append(c);
+                    }
+                }
+            }
+        }
+        writer.append(Symbol.C_DOUBLE_QUOTES);
     }
 
-}
\ No newline at end of file
+}
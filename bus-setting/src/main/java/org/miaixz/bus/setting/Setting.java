@@ -29,14 +29,19 @@ package org.miaixz.bus.setting;
 
 import java.io.File;
 import java.io.Serial;
+import java.lang.reflect.Type;
 import java.net.URL;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.miaixz.bus.core.center.function.SupplierX;
+import org.miaixz.bus.core.convert.CompositeConverter;
 import org.miaixz.bus.core.convert.Convert;
+import org.miaixz.bus.core.convert.Converter;
 import org.miaixz.bus.core.io.resource.Resource;
 import org.miaixz.bus.core.io.watch.DelayWatcher;
 import org.miaixz.bus.core.io.watch.SimpleWatcher;
@@ -48,6 +53,7 @@ import org.miaixz.bus.core.xyz.*;
 import org.miaixz.bus.logger.Logger;
 import org.miaixz.bus.setting.magic.AbstractSetting;
 import org.miaixz.bus.setting.magic.GroupedMap;
+import org.miaixz.bus.setting.magic.Snapshot;
 import org.miaixz.bus.setting.metric.props.Props;
 
 /**
@@ -58,6 +64,7 @@ import org.miaixz.bus.setting.metric.props.Props;
  *  2、支持分组，分组为中括号括起来的内容，中括号以下的行都为此分组的内容，无分组相当于空字符分组，若某个key是name，加上分组后的键相当于group.name
  *  3、注释以#开头，但是空行和不带“=”的行也会被跳过，但是建议加#
  *  4、store方法不会保存注释内容，慎重使用
+ *  5、开启快照模式后读取不加锁，类型转换结果按快照缓存，重新加载时整体替换快照
  * </pre>
  *
  * @author Kimi Liu
@@ -96,6 +103,18 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      * 当获取key对应值为{@code null}时是否打印debug日志提示用户，默认{@code false}
      */
     private boolean logIfNull;
+    /**
+     * 是否从不可变快照读取，默认{@code false}
+     */
+    private boolean snapshotMode;
+    /**
+     * 当前快照，修改键值对后置空，下次读取时重建
+     */
+    private transient volatile Snapshot snapshot;
+    /**
+     * 配置重新加载后的变更监听器
+     */
+    private transient List<BiConsumer<Setting, Set<String>>> listeners;
 
     private Loader loader;
     private WatchMonitor watchMonitor;
@@ -184,16 +203,94 @@ public class Setting extends AbstractSetting implements Map<String, String> {
     }
 
     /**
-     * 重新加载配置文件
+     * 重新加载配置文件，新配置以快照形式整体发布，如有变更则通知监听器
      *
      * @return this
      */
-    synchronized public Setting load() {
+    public Setting load() {
         Assert.notNull(this.loader, "SettingLoader must be not null!");
-        this.groupedMap = loader.load(this.resource);
+        final List<BiConsumer<Setting, Set<String>>> listeners = this.listeners;
+        final Set<String> changed;
+        synchronized (this) {
+            final Snapshot previous = CollKit.isEmpty(listeners) ? null : snapshot();
+            final GroupedMap groupedMap = loader.load(this.resource);
+            final Snapshot current = groupedMap.snapshot();
+            this.groupedMap = groupedMap;
+            this.snapshot = current;
+            changed = null == previous ? null : previous.diff(current);
+        }
+        if (CollKit.isNotEmpty(changed)) {
+            for (final BiConsumer<Setting, Set<String>> listener : listeners) {
+                listener.accept(this, changed);
+            }
+        }
         return this;
     }
 
+    /**
+     * 获取当前配置的不可变快照，快照在重新加载或修改键值对后更新
+     *
+     * @return 快照
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = this.snapshot;
+        if (null == snapshot) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if (null == snapshot) {
+                    snapshot = this.groupedMap.snapshot();
+                    this.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 将当前快照绑定到标注了{@link org.miaixz.bus.setting.magic.Bind}的 record 或接口上，同一快照中只转换一次
+     *
+     * @param <T>  绑定类型
+     * @param type record 或接口类型
+     * @return 绑定对象
+     */
+    public <T> T bind(final Class<T> type) {
+        return snapshot().bind(type);
+    }
+
+    /**
+     * 添加配置变更监听器，重新加载后如有键值发生变化，回调参数为变化的键，非默认分组的键格式为 group.key
+     *
+     * @param listener 监听器
+     * @return this
+     */
+    public synchronized Setting addListener(final BiConsumer<Setting, Set<String>> listener) {
+        if (null == this.listeners) {
+            this.listeners = new CopyOnWriteArrayList<>();
+        }
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * 移除配置变更监听器
+     *
+     * @param listener 监听器
+     * @return this
+     */
+    public synchronized Setting removeListener(final BiConsumer<Setting, Set<String>> listener) {
+        if (null != this.listeners) {
+            this.listeners.remove(listener);
+        }
+        return this;
+    }
+
+    /**
+     * 修改键值对后使当前快照失效
+     */
+    private synchronized void invalidate() {
+        this.snapshot = null;
+    }
+
     /**
      * 在配置文件变更时自动加载
      */
@@ -266,13 +363,29 @@ public class Setting extends AbstractSetting implements Map<String, String> {
 
     @Override
     public Object getObjByGroup(final CharSequence key, final CharSequence group, final Object defaultValue) {
-        final String result = this.groupedMap.get(group, key);
+        final String result = snapshotMode ? snapshot().get(group, key) : this.groupedMap.get(group, key);
         if (result == null && logIfNull) {
             Logger.debug("No data [{}] in group [{}] !", key, group);
         }
         return result;
     }
 
+    @Override
+    public <T> T getByGroup(final CharSequence key, final CharSequence group, final Type type, final T defaultValue) {
+        if (snapshotMode) {
+            return snapshot().get(group, key, type, defaultValue);
+        }
+        return Convert.convert(type, getObjByGroup(key, group), defaultValue);
+    }
+
+    @Override
+    public <T> T get(final CharSequence key, final Type type, final Converter converter, final T defaultValue) {
+        if (snapshotMode && converter == CompositeConverter.getInstance()) {
+            return snapshot().get(DEFAULT_GROUP, key, type, defaultValue);
+        }
+        return converter.convert(type, getObject(key), defaultValue);
+    }
+
     /**
      * 获取并删除键值对，当指定键对应值非空时，返回并删除这个值，后边的键对应的值不再查找
      *
@@ -430,6 +543,18 @@ public class Setting extends AbstractSetting implements Map<String, String> {
         return this;
     }
 
+    /**
+     * 设置是否从不可变快照读取，开启后读取不加锁且类型转换结果在快照内缓存，适合读多写少的场景。
+     * 通过{@link #getGroupedMap()}或{@link #getMap(String)}直接修改的内容在下次重新加载或调用修改方法前不可见
+     *
+     * @param snapshotMode 是否从不可变快照读取
+     * @return this
+     */
+    public Setting setSnapshotMode(final boolean snapshotMode) {
+        this.snapshotMode = snapshotMode;
+        return this;
+    }
+
     /**
      * 某个分组对应的键值对是否为空
      *
@@ -471,7 +596,9 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      * @return 此key之前存在的值，如果没有返回null
      */
     public String putByGroup(final String key, final String group, final String value) {
-        return this.groupedMap.put(group, key, value);
+        final String previous = this.groupedMap.put(group, key, value);
+        invalidate();
+        return previous;
     }
 
     /**
@@ -482,7 +609,9 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      * @return 被删除的值，如果值不存在，返回null
      */
     public String remove(final String group, final Object key) {
-        return this.groupedMap.remove(group, Convert.toString(key));
+        final String previous = this.groupedMap.remove(group, Convert.toString(key));
+        invalidate();
+        return previous;
     }
 
     /**
@@ -494,6 +623,7 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      */
     public Setting putAll(final String group, final Map<? extends String, ? extends String> m) {
         this.groupedMap.putAll(group, m);
+        invalidate();
         return this;
     }
 
@@ -518,6 +648,7 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      */
     public Setting clear(final String group) {
         this.groupedMap.clear(group);
+        invalidate();
         return this;
     }
 
@@ -639,7 +770,7 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      */
     @Override
     public String put(final String key, final String value) {
-        return this.groupedMap.put(DEFAULT_GROUP, key, value);
+        return putByGroup(key, DEFAULT_GROUP, value);
     }
 
     /**
@@ -660,7 +791,7 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      */
     @Override
     public void putAll(final Map<? extends String, ? extends String> m) {
-        this.groupedMap.putAll(DEFAULT_GROUP, m);
+        putAll(DEFAULT_GROUP, m);
     }
 
     /**
@@ -668,7 +799,7 @@ public class Setting extends AbstractSetting implements Map<String, String> {
      */
     @Override
     public void clear() {
-        this.groupedMap.clear(DEFAULT_GROUP);
+        clear(DEFAULT_GROUP);
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.setting.magic;
+
+import java.lang.annotation.*;
+
+/**
+ * 注解: 配置绑定，用于将配置快照中的键值对绑定到 record 或接口上，绑定结果在每个快照中只转换一次
+ *
+ * <pre>
+ * &#64;Bind("feature")
+ * public record Feature(boolean enabled, &#64;Bind(value = "max.size", defaultValue = "10") int maxSize) {
+ * }
+ *
+ * Feature feature = setting.bind(Feature.class);
+ * </pre>
+ *
+ * 标注在类型上时 {@link #value()} 表示分组，标注在 record 组件或接口方法上时表示键名，未标注时使用组件名或方法名。
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.RECORD_COMPONENT })
+public @interface Bind {
+
+    /**
+     * 表示未设置默认值
+     */
+    String NONE = "\n\t\t\n\t\t\n";
+
+    /**
+     * 分组(类型上)或键名(组件、方法上)
+     *
+     * @return 分组或键名
+     */
+    String value() default "";
+
+    /**
+     * 键不存在时使用的默认值，仅对组件、方法有效
+     *
+     * @return 默认值
+     */
+    String defaultValue() default NONE;
+
+}
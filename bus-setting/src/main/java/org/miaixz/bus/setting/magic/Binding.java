@@ -0,0 +1,172 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.setting.magic;
+
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.convert.Convert;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.ClassKit;
+import org.miaixz.bus.core.xyz.StringKit;
+
+/**
+ * 预编译的配置绑定计划，按类型缓存键名、目标类型、默认值及构造方式，绑定时只需读取值并转换
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class Binding {
+
+    /**
+     * 类型与绑定计划
+     */
+    private static final Map<Class<?>, Binding> PLANS = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final String group;
+    private final String[] keys;
+    private final Type[] types;
+    private final String[] defaults;
+    /**
+     * record 的规范构造器
+     */
+    private final Constructor<?> constructor;
+    /**
+     * 接口的取值方法
+     */
+    private final Method[] methods;
+
+    private Binding(final Class<?> type) {
+        final Bind bind = type.getAnnotation(Bind.class);
+        this.type = type;
+        this.group = null == bind ? AbstractSetting.DEFAULT_GROUP : bind.value();
+        final List<AnnotatedElement> members = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final List<Type> types = new ArrayList<>();
+        if (type.isRecord()) {
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] parameters = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                members.add(components[i]);
+                names.add(components[i].getName());
+                types.add(components[i].getGenericType());
+                parameters[i] = components[i].getType();
+            }
+            try {
+                this.constructor = type.getDeclaredConstructor(parameters);
+                this.constructor.setAccessible(true);
+            } catch (final ReflectiveOperationException e) {
+                throw new InternalException(e);
+            }
+            this.methods = null;
+        } else if (type.isInterface()) {
+            final List<Method> methods = new ArrayList<>();
+            for (final Method method : type.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 0
+                        || method.getReturnType() == void.class) {
+                    continue;
+                }
+                methods.add(method);
+                members.add(method);
+                names.add(method.getName());
+                types.add(method.getGenericReturnType());
+            }
+            this.constructor = null;
+            this.methods = methods.toArray(new Method[0]);
+        } else {
+            throw new InternalException("Bind type must be a record or an interface: " + type.getName());
+        }
+        this.keys = new String[members.size()];
+        this.types = types.toArray(new Type[0]);
+        this.defaults = new String[members.size()];
+        for (int i = 0; i < keys.length; i++) {
+            final Bind member = members.get(i).getAnnotation(Bind.class);
+            this.keys[i] = null == member || StringKit.isEmpty(member.value()) ? names.get(i) : member.value();
+            this.defaults[i] = null == member || Bind.NONE.equals(member.defaultValue()) ? null
+                    : member.defaultValue();
+        }
+    }
+
+    /**
+     * 获取类型对应的绑定计划
+     *
+     * @param type record 或接口类型
+     * @return 绑定计划
+     */
+    static Binding of(final Class<?> type) {
+        return PLANS.computeIfAbsent(type, Binding::new);
+    }
+
+    /**
+     * 从快照中读取值并创建绑定对象
+     *
+     * @param snapshot 配置快照
+     * @return 绑定对象
+     */
+    Object bind(final Snapshot snapshot) {
+        final Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final String value = snapshot.get(group, keys[i]);
+            values[i] = Convert.convert(types[i], null == value ? defaults[i] : value);
+            if (null == values[i] && types[i] instanceof Class<?> clazz && clazz.isPrimitive()) {
+                values[i] = ClassKit.getPrimitiveDefaultValue(clazz);
+            }
+        }
+        if (null != constructor) {
+            try {
+                return constructor.newInstance(values);
+            } catch (final ReflectiveOperationException e) {
+                throw new InternalException(e);
+            }
+        }
+        final Map<Method, Object> bound = new LinkedHashMap<>(methods.length, 1);
+        for (int i = 0; i < methods.length; i++) {
+            bound.put(methods[i], values[i]);
+        }
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (bound.containsKey(method)) {
+                return bound.get(method);
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> type.getSimpleName() + bound.values();
+                default -> throw new UnsupportedOperationException(method.toString());
+            };
+        });
+    }
+
+}
@@ -331,6 +331,20 @@ public class GroupedMap extends LinkedHashMap<String, LinkedHashMap<String, Stri
         return Collections.emptySet();
     }
 
+    /**
+     * 创建当前所有分组的不可变快照
+     *
+     * @return 快照
+     */
+    public Snapshot snapshot() {
+        readLock.lock();
+        try {
+            return new Snapshot(this);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public String toString() {
         readLock.lock();
@@ -0,0 +1,191 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.setting.magic;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.convert.Convert;
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.xyz.StringKit;
+
+/**
+ * 配置的不可变快照，读取时无需加锁，类型转换结果和绑定对象在快照内缓存，配置重新加载时整体替换
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public final class Snapshot {
+
+    /**
+     * 表示转换结果为{@code null}
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * 分组与键值对
+     */
+    private final Map<String, Map<String, String>> groups;
+    /**
+     * 类型转换结果
+     */
+    private final Map<Key, Object> converted = new ConcurrentHashMap<>();
+    /**
+     * 绑定对象
+     */
+    private final Map<Class<?>, Object> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * 构造，复制所有分组
+     *
+     * @param groupedMap 分组键值对
+     */
+    Snapshot(final Map<String, LinkedHashMap<String, String>> groupedMap) {
+        final Map<String, Map<String, String>> groups = new LinkedHashMap<>();
+        for (final Map.Entry<String, LinkedHashMap<String, String>> entry : groupedMap.entrySet()) {
+            groups.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+        }
+        this.groups = Collections.unmodifiableMap(groups);
+    }
+
+    /**
+     * 获取分组对应的值
+     *
+     * @param group 分组
+     * @param key   键
+     * @return 值，如果分组不存在或者值不存在则返回null
+     */
+    public String get(final CharSequence group, final CharSequence key) {
+        final Map<String, String> map = this.groups.get(StringKit.toStringOrEmpty(group));
+        return null == map ? null : map.get(StringKit.toStringOrNull(key));
+    }
+
+    /**
+     * 获取分组对应的值并转换为指定类型，同一快照中相同键和类型只转换一次
+     *
+     * @param <T>          目标类型
+     * @param group        分组
+     * @param key          键
+     * @param type         目标类型
+     * @param defaultValue 值不存在或转换结果为{@code null}时的默认值
+     * @return 值
+     */
+    public <T> T get(final CharSequence group, final CharSequence key, final Type type, final T defaultValue) {
+        final Key cacheKey = new Key(StringKit.toStringOrEmpty(group), StringKit.toStringOrNull(key), type);
+        Object value = this.converted.get(cacheKey);
+        if (null == value) {
+            final String raw = get(cacheKey.group, cacheKey.key);
+            value = null == raw ? null : Convert.convert(type, raw);
+            value = null == value ? NULL : value;
+            this.converted.putIfAbsent(cacheKey, value);
+        }
+        return value == NULL ? defaultValue : (T) value;
+    }
+
+    /**
+     * 获得指定分组的所有键值对
+     *
+     * @param group 分组
+     * @return 只读的键值对
+     */
+    public Map<String, String> getMap(final CharSequence group) {
+        final Map<String, String> map = this.groups.get(StringKit.toStringOrEmpty(group));
+        return null == map ? Collections.emptyMap() : map;
+    }
+
+    /**
+     * 获取所有分组
+     *
+     * @return 分组名
+     */
+    public Set<String> getGroups() {
+        return this.groups.keySet();
+    }
+
+    /**
+     * 将配置绑定到标注了{@link Bind}的 record 或接口上，同一快照中只创建一次
+     *
+     * @param <T>  绑定类型
+     * @param type record 或接口类型
+     * @return 绑定对象
+     */
+    public <T> T bind(final Class<T> type) {
+        return type.cast(this.bindings.computeIfAbsent(type, clazz -> Binding.of(clazz).bind(this)));
+    }
+
+    /**
+     * 与另一个快照比较，返回新增、删除或值发生变化的键，非默认分组的键格式为 group.key
+     *
+     * @param other 另一个快照
+     * @return 变化的键
+     */
+    public Set<String> diff(final Snapshot other) {
+        final Set<String> changed = new LinkedHashSet<>();
+        diff(this, other, changed);
+        diff(other, this, changed);
+        return changed;
+    }
+
+    /**
+     * 收集 from 中存在但在 to 中不存在或值不同的键
+     *
+     * @param from    快照
+     * @param to      快照
+     * @param changed 变化的键
+     */
+    private static void diff(final Snapshot from, final Snapshot to, final Set<String> changed) {
+        for (final Map.Entry<String, Map<String, String>> group : from.groups.entrySet()) {
+            final Map<String, String> other = to.getMap(group.getKey());
+            for (final Map.Entry<String, String> entry : group.getValue().entrySet()) {
+                if (!other.containsKey(entry.getKey())
+                        || !Objects.equals(entry.getValue(), other.get(entry.getKey()))) {
+                    changed.add(StringKit.isEmpty(group.getKey()) ? entry.getKey()
+                            : group.getKey() + Symbol.C_DOT + entry.getKey());
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.groups.toString();
+    }
+
+    /**
+     * 类型转换缓存键
+     *
+     * @param group 分组
+     * @param key   键
+     * @param type  目标类型
+     */
+    private record Key(String group, String key, Type type) {
+
+    }
+
+}
@@ -38,7 +38,9 @@ module bus.socket {
 
     exports org.miaixz.bus.socket;
     exports org.miaixz.bus.socket.accord;
+    exports org.miaixz.bus.socket.accord.http;
     exports org.miaixz.bus.socket.accord.kcp;
+    exports org.miaixz.bus.socket.accord.rpc;
     exports org.miaixz.bus.socket.buffer;
     exports org.miaixz.bus.socket.metric;
     exports org.miaixz.bus.socket.metric.channels;
@@ -30,6 +30,7 @@ package org.miaixz.bus.socket;
 import java.net.SocketOption;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.miaixz.bus.core.lang.Normal;
 
@@ -45,6 +46,10 @@ public final class Context {
      * 消息体缓存大小,字节
      */
     private int readBufferSize = Normal._512;
+    /**
+     * 读缓冲区可扩容的上限,字节,不大于readBufferSize时不扩容
+     */
+    private int maxReadBufferSize;
     /**
      * 内存块大小限制
      */
@@ -90,6 +95,27 @@ public final class Context {
      */
     private int threadNum = 1;
 
+    /**
+     * 消息处理线程池，为空时在读回调线程中直接处理
+     */
+    private Executor executor;
+    /**
+     * 单个会话待处理消息数的高水位，达到后暂停读取
+     */
+    private int highWaterMark = 1024;
+    /**
+     * 单个会话待处理消息数的低水位，降至该值后恢复读取
+     */
+    private int lowWaterMark = 256;
+    /**
+     * 单个会话待处理字节数的高水位，达到后暂停读取
+     */
+    private long highWaterBytes = 4 * 1024 * 1024;
+    /**
+     * 单个会话待处理字节数的低水位，降至该值后恢复读取
+     */
+    private long lowWaterBytes = 1024 * 1024;
+
     /**
      * 获取默认内存块大小
      *
@@ -169,6 +195,17 @@ public final class Context {
         this.readBufferSize = readBufferSize;
     }
 
+    public int getMaxReadBufferSize() {
+        return Math.max(maxReadBufferSize, readBufferSize);
+    }
+
+    /**
+     * @param maxReadBufferSize 读缓冲区可扩容的上限
+     */
+    public void setMaxReadBufferSize(int maxReadBufferSize) {
+        this.maxReadBufferSize = maxReadBufferSize;
+    }
+
     public Map<SocketOption<Object>, Object> getSocketOptions() {
         return socketOptions;
     }
@@ -208,12 +245,59 @@ public final class Context {
         this.backlog = backlog;
     }
 
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor 消息处理线程池
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    public long getHighWaterBytes() {
+        return highWaterBytes;
+    }
+
+    public long getLowWaterBytes() {
+        return lowWaterBytes;
+    }
+
+    /**
+     * 设置单个会话待处理消息的水位
+     *
+     * @param lowWaterMark   消息数低水位
+     * @param highWaterMark  消息数高水位
+     * @param lowWaterBytes  字节数低水位
+     * @param highWaterBytes 字节数高水位
+     */
+    public void setWaterMark(int lowWaterMark, int highWaterMark, long lowWaterBytes, long highWaterBytes) {
+        if (lowWaterMark < 0 || lowWaterMark >= highWaterMark || lowWaterBytes < 0
+                || lowWaterBytes >= highWaterBytes) {
+            throw new IllegalArgumentException("low water mark must be less than high water mark");
+        }
+        this.lowWaterMark = lowWaterMark;
+        this.highWaterMark = highWaterMark;
+        this.lowWaterBytes = lowWaterBytes;
+        this.highWaterBytes = highWaterBytes;
+    }
+
     @Override
     public String toString() {
-        return "Context{" + "readBufferSize=" + readBufferSize + ", writeBufferSize=" + writeBufferSize
-                + ", writeBufferCapacity=" + writeBufferCapacity + ", host='" + host + '\'' + ", monitor=" + monitor
+        return "Context{" + "readBufferSize=" + readBufferSize + ", maxReadBufferSize=" + maxReadBufferSize
+                + ", writeBufferSize=" + writeBufferSize + ", writeBufferCapacity=" + writeBufferCapacity + ", host='"
+                + host + '\'' + ", monitor=" + monitor
                 + ", port=" + port + ", backlog=" + backlog + ", processor=" + processor + ", protocol=" + message
-                + ", socketOptions=" + socketOptions + ", threadNum=" + threadNum + '}';
+                + ", socketOptions=" + socketOptions + ", threadNum=" + threadNum + ", executor=" + executor + '}';
     }
 
 }
@@ -86,4 +86,26 @@ public interface Monitor {
      */
     void beforeWrite(Session session);
 
+    /**
+     * 消息进入会话的待处理队列，仅在配置了消息处理线程池时触发
+     *
+     * @param session      当前会话对象
+     * @param pending      队列中的消息数
+     * @param pendingBytes 队列中的消息字节数
+     */
+    default void afterEnqueue(Session session, int pending, long pendingBytes) {
+
+    }
+
+    /**
+     * 消息处理完毕并离开会话的待处理队列
+     *
+     * @param session      当前会话对象
+     * @param pending      队列中的消息数
+     * @param pendingBytes 队列中的消息字节数
+     */
+    default void afterDequeue(Session session, int pending, long pendingBytes) {
+
+    }
+
 }
@@ -86,6 +86,16 @@ public abstract class Session {
      */
     public abstract ByteBuffer readBuffer();
 
+    /**
+     * 提示读缓冲区至少需要的容量，用于解码器已知帧长但当前缓冲区无法容纳完整帧的场景。
+     * 仅在TCP会话且设置了读缓冲区扩容上限时生效，下次读取前一次性扩容至该大小，避免逐次翻倍
+     *
+     * @param size 完整帧的字节数
+     */
+    public void requireReadBuffer(int size) {
+
+    }
+
     /**
      * 强制关闭当前Session 若此时还存留待输出的数据，则会导致该部分数据丢失
      */
@@ -89,6 +89,14 @@ public enum Status {
     /**
      * 内部异常
      */
-    INTERNAL_EXCEPTION
+    INTERNAL_EXCEPTION,
+    /**
+     * 待处理消息达到高水位，暂停读取，仅在配置了消息处理线程池时触发
+     */
+    READ_SUSPENDED,
+    /**
+     * 待处理消息降至低水位，恢复读取
+     */
+    READ_RESUMED
 
 }
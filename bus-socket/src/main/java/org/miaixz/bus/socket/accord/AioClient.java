@@ -36,6 +36,7 @@ import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -180,7 +181,7 @@ public class AioClient {
                             }
                             // 连接成功则构造Session对象
                             session = new TcpSession(connectedChannel, context, writeBufferPool.allocateBufferPage(),
-                                    () -> readBufferPool.allocateBufferPage().allocate(context.getReadBufferSize()));
+                                    size -> readBufferPool.allocateBufferPage().allocate(size));
                             handler.completed(session, attachment);
                         } catch (Exception e) {
                             failed(e, socketChannel);
@@ -297,6 +298,19 @@ public class AioClient {
         return this;
     }
 
+    /**
+     * 设置读缓存区大小及可扩容的上限，单帧超过读缓存区时从内存池中申请更大的缓存区，帧解码完成后恢复为初始大小
+     *
+     * @param size    初始大小，单位：byte
+     * @param maxSize 扩容上限，单位：byte
+     * @return 当前AioClient对象
+     */
+    public AioClient setReadBufferSize(int size, int maxSize) {
+        this.context.setReadBufferSize(size);
+        this.context.setMaxReadBufferSize(maxSize);
+        return this;
+    }
+
     /**
      * 设置Socket的TCP参数配置
      * <p>
@@ -377,4 +391,39 @@ public class AioClient {
         return this;
     }
 
+    /**
+     * 设置消息处理线程池，解码后的消息按会话串行交给线程池处理，避免耗时业务阻塞读回调线程。
+     * 线程池由调用方管理生命周期，未设置时在读回调线程中直接处理
+     *
+     * @param executor 线程池
+     * @return this
+     */
+    public AioClient setExecutor(Executor executor) {
+        this.context.setExecutor(executor);
+        return this;
+    }
+
+    /**
+     * 使用虚拟线程处理消息，JDK 21 以下使用守护线程的缓存线程池
+     *
+     * @return this
+     */
+    public AioClient useVirtualThreads() {
+        return setExecutor(SessionQueue.virtualThreads());
+    }
+
+    /**
+     * 设置消息处理的读背压水位，待处理的消息数或字节数达到高水位时暂停读取，二者均降至低水位后恢复，仅在设置了线程池时生效
+     *
+     * @param lowWaterMark   消息数低水位
+     * @param highWaterMark  消息数高水位
+     * @param lowWaterBytes  字节数低水位
+     * @param highWaterBytes 字节数高水位
+     * @return this
+     */
+    public AioClient setWaterMark(int lowWaterMark, int highWaterMark, long lowWaterBytes, long highWaterBytes) {
+        this.context.setWaterMark(lowWaterMark, highWaterMark, lowWaterBytes, highWaterBytes);
+        return this;
+    }
+
 }
@@ -0,0 +1,179 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.miaixz.bus.socket.Session;
+import org.miaixz.bus.socket.buffer.SharedBuffer;
+import org.miaixz.bus.socket.buffer.VirtualBuffer;
+import org.miaixz.bus.socket.buffer.WriteBuffer;
+
+/**
+ * 广播
+ * <p>
+ * 数据只编码一次并存放于{@link SharedBuffer}，各会话的{@link WriteBuffer}仅排队其只读视图，输出时直接写出共享的堆外内存。
+ * 广播不会阻塞调用线程，会话的输出队列已满（即慢消费者）时按{@link Policy}处理。
+ * </p>
+ *
+ * <pre>
+ * Broadcaster broadcaster = new Broadcaster(Broadcaster.Policy.DROP);
+ * broadcaster.broadcast(sessions, encoded);
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Broadcaster {
+
+    /**
+     * 慢消费者的处理策略
+     */
+    private final Policy policy;
+    /**
+     * 已加入输出队列的次数
+     */
+    private final LongAdder queued = new LongAdder();
+    /**
+     * 丢弃的次数
+     */
+    private final LongAdder dropped = new LongAdder();
+    /**
+     * 输出队列已满时暂存为最新数据的次数，暂存的数据会被后续数据替换
+     */
+    private final LongAdder coalesced = new LongAdder();
+    /**
+     * 断开的会话数
+     */
+    private final LongAdder disconnected = new LongAdder();
+
+    /**
+     * 构造
+     *
+     * @param policy 慢消费者的处理策略
+     */
+    public Broadcaster(final Policy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * 广播数据
+     *
+     * @param sessions 接收的会话
+     * @param bytes    已编码的数据
+     * @return 加入输出队列的会话数
+     */
+    public int broadcast(final Iterable<? extends Session> sessions, final byte[] bytes) {
+        final SharedBuffer buffer = SharedBuffer.of(bytes);
+        try {
+            return broadcast(sessions, buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 广播数据，调用方仍持有{@code buffer}的引用，使用完毕后需自行释放
+     *
+     * @param sessions 接收的会话
+     * @param buffer   已编码的数据
+     * @return 加入输出队列的会话数
+     */
+    public int broadcast(final Iterable<? extends Session> sessions, final SharedBuffer buffer) {
+        int count = 0;
+        for (final Session session : sessions) {
+            if (session.isInvalid()) {
+                continue;
+            }
+            final WriteBuffer writeBuffer = session.writeBuffer();
+            final VirtualBuffer view = buffer.view();
+            if (writeBuffer.offer(view)) {
+                count++;
+                continue;
+            }
+            switch (policy) {
+            case COALESCE:
+                if (writeBuffer.offerLatest(view)) {
+                    coalesced.increment();
+                    count++;
+                } else {
+                    view.clean();
+                }
+                break;
+            case DISCONNECT:
+                view.clean();
+                disconnected.increment();
+                session.close(true);
+                break;
+            default:
+                view.clean();
+                dropped.increment();
+                break;
+            }
+        }
+        queued.add(count);
+        return count;
+    }
+
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getDisconnected() {
+        return disconnected.sum();
+    }
+
+    /**
+     * 输出队列已满时的处理策略
+     */
+    public enum Policy {
+
+        /**
+         * 丢弃本次数据
+         */
+        DROP,
+        /**
+         * 断开会话
+         */
+        DISCONNECT,
+        /**
+         * 仅保留最新的一份，队列腾出空间后输出
+         */
+        COALESCE
+
+    }
+
+}
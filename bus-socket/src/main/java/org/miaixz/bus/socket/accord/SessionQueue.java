@@ -0,0 +1,226 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.socket.Context;
+import org.miaixz.bus.socket.Handler;
+import org.miaixz.bus.socket.Monitor;
+import org.miaixz.bus.socket.Status;
+
+/**
+ * 会话的待处理消息队列
+ * <p>
+ * 解码后的消息按顺序交给{@link Context#getExecutor()}串行处理，同一会话任意时刻至多占用一个处理线程。
+ * 待处理的消息数或字节数达到高水位时暂停读取，由处理线程在降至低水位后调用{@link TcpSession#signalRead()}恢复。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class SessionQueue implements Runnable {
+
+    /**
+     * 所属会话
+     */
+    private final TcpSession session;
+    /**
+     * 服务上下文
+     */
+    private final Context context;
+    /**
+     * 待处理消息
+     */
+    private final Queue<Entry> messages = new ConcurrentLinkedQueue<>();
+    /**
+     * 待处理消息数
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    /**
+     * 待处理字节数
+     */
+    private final AtomicLong pendingBytes = new AtomicLong();
+    /**
+     * 处理任务的调度计数，大于 0 表示已提交处理任务
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+    /**
+     * 是否已暂停读取
+     */
+    private final AtomicBoolean suspended = new AtomicBoolean();
+    /**
+     * 是否需等待队列清空后再恢复，用于读通道关闭时延后关闭会话
+     */
+    private volatile boolean untilEmpty;
+
+    SessionQueue(final TcpSession session, final Context context) {
+        this.session = session;
+        this.context = context;
+    }
+
+    /**
+     * 添加解码后的消息并调度处理
+     *
+     * @param data  消息
+     * @param bytes 解码消耗的字节数
+     * @return true:已达高水位，调用方需停止读取
+     */
+    boolean offer(final Object data, final int bytes) {
+        messages.offer(new Entry(data, bytes));
+        final int count = pending.incrementAndGet();
+        final long size = pendingBytes.addAndGet(bytes);
+        final Monitor monitor = context.getMonitor();
+        if (monitor != null) {
+            monitor.afterEnqueue(session, count, size);
+        }
+        if (wip.getAndIncrement() == 0) {
+            context.getExecutor().execute(this);
+        }
+        return (count >= context.getHighWaterMark() || size >= context.getHighWaterBytes()) && suspend(false);
+    }
+
+    /**
+     * 是否还有未处理完的消息
+     *
+     * @return 是否为空
+     */
+    boolean isEmpty() {
+        return pending.get() == 0;
+    }
+
+    /**
+     * 暂停读取，处理线程可能已在此之前降至低水位，此时撤销暂停
+     *
+     * @param untilEmpty 是否等待队列清空后再恢复
+     * @return true:已暂停
+     */
+    boolean suspend(final boolean untilEmpty) {
+        final Handler handler = context.getProcessor();
+        if (!untilEmpty) {
+            handler.stateEvent(session, Status.READ_SUSPENDED, null);
+        }
+        this.untilEmpty = untilEmpty;
+        suspended.set(true);
+        if (drained() && suspended.compareAndSet(true, false)) {
+            if (!untilEmpty) {
+                handler.stateEvent(session, Status.READ_RESUMED, null);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 是否已降至恢复读取的水位
+     *
+     * @return 是否可恢复
+     */
+    private boolean drained() {
+        return untilEmpty ? pending.get() == 0
+                : pending.get() <= context.getLowWaterMark() && pendingBytes.get() <= context.getLowWaterBytes();
+    }
+
+    @Override
+    public void run() {
+        final Handler handler = context.getProcessor();
+        final Monitor monitor = context.getMonitor();
+        int missed = 1;
+        for (;;) {
+            Entry entry;
+            while ((entry = messages.poll()) != null) {
+                if (!session.isInvalid()) {
+                    try {
+                        handler.process(session, entry.data);
+                    } catch (Exception e) {
+                        handler.stateEvent(session, Status.PROCESS_EXCEPTION, e);
+                    }
+                }
+                final int count = pending.decrementAndGet();
+                final long size = pendingBytes.addAndGet(-entry.bytes);
+                if (monitor != null) {
+                    monitor.afterDequeue(session, count, size);
+                }
+                if (suspended.get() && drained() && suspended.compareAndSet(true, false)) {
+                    resume();
+                }
+            }
+            if (!session.isInvalid()) {
+                session.writeBuffer().flush();
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 恢复读取，读回调线程此时已退出{@link TcpSession#signalRead()}
+     */
+    private void resume() {
+        if (!untilEmpty) {
+            context.getProcessor().stateEvent(session, Status.READ_RESUMED, null);
+        }
+        if (!session.isInvalid()) {
+            session.writeBuffer().flush();
+        }
+        session.signalRead();
+    }
+
+    /**
+     * 创建消息处理线程池，JDK 21+ 每条任务使用一个虚拟线程，低版本退化为守护线程的缓存线程池
+     *
+     * @return 线程池
+     */
+    static Executor virtualThreads() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(ThreadKit.newNamedThreadFactory("bus-socket:worker-", true));
+        }
+    }
+
+    /**
+     * 待处理消息
+     *
+     * @param data  消息
+     * @param bytes 解码消耗的字节数
+     */
+    private record Entry(Object data, int bytes) {
+
+    }
+
+}
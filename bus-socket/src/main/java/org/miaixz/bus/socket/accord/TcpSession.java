@@ -34,6 +34,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import org.miaixz.bus.core.lang.exception.InternalException;
@@ -82,9 +83,9 @@ public class TcpSession extends Session {
      */
     private final Context context;
     /**
-     * 缓冲函数
+     * 缓冲函数，按指定容量申请读缓冲区
      */
-    private final Supplier<VirtualBuffer> readBufferSupplier;
+    private final IntFunction<VirtualBuffer> readBufferSupplier;
     /**
      * 读缓冲 大小取决于AioClient/AioServer设置的setReadBufferSize
      */
@@ -97,24 +98,45 @@ public class TcpSession extends Session {
      * 同步输入流
      */
     private InputStream inputStream;
+    /**
+     * 待处理消息队列，未配置消息处理线程池时为空
+     */
+    private final SessionQueue queue;
+    /**
+     * 解码器提示的读缓冲区容量，扩容后清零
+     */
+    private int requiredReadBufferSize;
 
     /**
      * @param channel Socket通道
      */
     public TcpSession(AsynchronousSocketChannel channel, Context context, BufferPage writeBufferPage,
             Supplier<VirtualBuffer> readBufferSupplier) {
+        this(channel, context, writeBufferPage, size -> size <= context.getReadBufferSize() ? readBufferSupplier.get()
+                : VirtualBuffer.wrap(ByteBuffer.allocate(size)));
+    }
+
+    /**
+     * @param channel            Socket通道
+     * @param context            服务上下文
+     * @param writeBufferPage    写缓冲内存页
+     * @param readBufferSupplier 按容量申请读缓冲区，扩容时申请的容量大于{@link Context#getReadBufferSize()}
+     */
+    public TcpSession(AsynchronousSocketChannel channel, Context context, BufferPage writeBufferPage,
+            IntFunction<VirtualBuffer> readBufferSupplier) {
         this.channel = channel;
         this.context = context;
         this.readBufferSupplier = readBufferSupplier;
         byteBuf = new WriteBuffer(writeBufferPage, this::continueWrite, this.context.getWriteBufferSize(),
                 this.context.getWriteBufferCapacity());
+        this.queue = null == this.context.getExecutor() ? null : new SessionQueue(this, this.context);
         // 触发状态机
         this.context.getProcessor().stateEvent(this, Status.NEW_SESSION, null);
         doRead();
     }
 
     void doRead() {
-        this.readBuffer = readBufferSupplier.get();
+        this.readBuffer = readBufferSupplier.apply(context.getReadBufferSize());
         this.readBuffer.buffer().flip();
         signalRead();
     }
@@ -196,6 +218,11 @@ public class TcpSession extends Session {
         return readBuffer.buffer();
     }
 
+    @Override
+    public void requireReadBuffer(int size) {
+        this.requiredReadBufferSize = size;
+    }
+
     @Override
     public void awaitRead() {
         modCount++;
@@ -264,6 +291,7 @@ public class TcpSession extends Session {
         final Handler handler = context.getProcessor();
         while (readBuffer.hasRemaining() && status == SESSION_STATUS_ENABLED) {
             Object dataEntry;
+            final int position = readBuffer.position();
             try {
                 dataEntry = context.getProtocol().decode(readBuffer, this);
             } catch (Exception e) {
@@ -274,6 +302,14 @@ public class TcpSession extends Session {
                 break;
             }
 
+            // 交由处理线程池按序处理，达到高水位时暂停读取
+            if (queue != null) {
+                if (queue.offer(dataEntry, Math.max(0, readBuffer.position() - position))) {
+                    return;
+                }
+                continue;
+            }
+
             // 处理消息
             try {
                 handler.process(this, dataEntry);
@@ -286,6 +322,10 @@ public class TcpSession extends Session {
         }
 
         if (eof || status == SESSION_STATUS_CLOSING) {
+            // 待处理消息处理完毕后再关闭
+            if (queue != null && !queue.isEmpty() && queue.suspend(true)) {
+                return;
+            }
             close(false);
             handler.stateEvent(this, Status.INPUT_SHUTDOWN, null);
             return;
@@ -297,8 +337,22 @@ public class TcpSession extends Session {
         byteBuf.flush();
 
         readBuffer.compact();
+        ByteBuffer buffer = readBuffer;
+        final int capacity = buffer.capacity();
+        if (capacity > context.getReadBufferSize() && buffer.position() < context.getReadBufferSize()
+                && requiredReadBufferSize <= context.getReadBufferSize()) {
+            // 大帧已解码完毕，恢复为初始容量
+            buffer = resizeReadBuffer(context.getReadBufferSize());
+        } else if (!buffer.hasRemaining() || requiredReadBufferSize > capacity) {
+            // 读缓冲区已满或不足以容纳解码器提示的帧长，在上限内扩容
+            final int size = Math.min(context.getMaxReadBufferSize(),
+                    Math.max(requiredReadBufferSize, capacity > Integer.MAX_VALUE >> 1 ? capacity : capacity << 1));
+            if (size > capacity) {
+                buffer = resizeReadBuffer(size);
+            }
+        }
         // 读缓冲区已满
-        if (!readBuffer.hasRemaining()) {
+        if (!buffer.hasRemaining()) {
             InternalException exception = new InternalException(
                     "readBuffer overflow. The current TCP connection will be closed. Please fix your "
                             + context.getProtocol().getClass().getSimpleName() + "#decode bug.");
@@ -311,7 +365,24 @@ public class TcpSession extends Session {
         if (monitor != null) {
             monitor.beforeRead(this);
         }
-        channel.read(readBuffer, 0L, TimeUnit.MILLISECONDS, this, READ_COMPLETION_HANDLER);
+        channel.read(buffer, 0L, TimeUnit.MILLISECONDS, this, READ_COMPLETION_HANDLER);
+    }
+
+    /**
+     * 更换读缓冲区并迁移未解码的数据
+     *
+     * @param size 新缓冲区的容量
+     * @return 处于写模式的新缓冲区
+     */
+    private ByteBuffer resizeReadBuffer(int size) {
+        requiredReadBufferSize = 0;
+        final VirtualBuffer virtualBuffer = readBufferSupplier.apply(size);
+        final ByteBuffer buffer = virtualBuffer.buffer();
+        buffer.clear();
+        buffer.put(readBuffer.buffer().flip());
+        readBuffer.clean();
+        readBuffer = virtualBuffer;
+        return buffer;
     }
 
     /**
@@ -0,0 +1,673 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.net.HTTP;
+import org.miaixz.bus.socket.Message;
+import org.miaixz.bus.socket.Session;
+
+/**
+ * HTTP/1.1 服务端请求解码
+ * <p>
+ * 直接在读缓冲区上逐字节扫描请求行与请求头，半包时保存解析进度，下次读取后继续，不会生成中间字符串。 支持 Content-Length 与 chunked 请求体、keep-alive 及管线化请求。
+ * </p>
+ * 每个连接的解析进度保存在{@link Session#setAttachment(Object)}中，使用该协议的会话不能再存放其他附件。
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class HttpMessage implements Message<HttpRequest> {
+
+    /**
+     * 请求头过大
+     */
+    static final int HTTP_HEADER_TOO_LARGE = 431;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte SP = ' ';
+    private static final byte HT = '\t';
+
+    private static final byte[] CONTINUE = "HTTP/1.1 100 Continue\r\n\r\n".getBytes(Charset.ISO_8859_1);
+    private static final byte[] HTTP_1_1 = bytes("HTTP/1.1");
+    private static final byte[] HTTP_1_0 = bytes("HTTP/1.0");
+    private static final byte[] HTTP_PREFIX = bytes("HTTP/");
+    private static final byte[] CONTENT_LENGTH = bytes(HTTP.CONTENT_LENGTH);
+    private static final byte[] TRANSFER_ENCODING = bytes(HTTP.TRANSFER_ENCODING);
+    private static final byte[] CONNECTION = bytes(HTTP.CONNECTION);
+    private static final byte[] EXPECT = bytes(HTTP.EXPECT);
+    private static final byte[] CHUNKED = bytes("chunked");
+    private static final byte[] CLOSE = bytes("close");
+    private static final byte[] KEEP_ALIVE = bytes("keep-alive");
+    private static final byte[] CONTINUE_EXPECTATION = bytes("100-continue");
+    /**
+     * 常用请求方法，解析时直接复用常量
+     */
+    private static final String[] METHODS = { HTTP.GET, HTTP.POST, HTTP.PUT, HTTP.DELETE, HTTP.HEAD, HTTP.OPTIONS,
+            HTTP.PATCH, HTTP.TRACE, HTTP.CONNECT };
+    private static final byte[][] METHOD_BYTES = new byte[METHODS.length][];
+
+    static {
+        for (int i = 0; i < METHODS.length; i++) {
+            METHOD_BYTES[i] = METHODS[i].getBytes(Charset.ISO_8859_1);
+        }
+    }
+
+    /**
+     * 解码状态
+     */
+    private static final int HEAD = 0;
+    private static final int BODY = 1;
+    private static final int CHUNK_SIZE = 2;
+    private static final int CHUNK_SIZE_LF = 3;
+    private static final int CHUNK_EXTENSION = 4;
+    private static final int CHUNK_DATA = 5;
+    private static final int CHUNK_END = 6;
+    private static final int TRAILER = 7;
+    private static final int DISCARD = 8;
+
+    /**
+     * 请求行与请求头的最大字节数
+     */
+    private final int maxHeaderSize;
+    /**
+     * 请求体的最大字节数
+     */
+    private final int maxBodySize;
+
+    /**
+     * 构造，请求头最大 8KB，请求体最大 2MB
+     */
+    public HttpMessage() {
+        this(8 * 1024, 2 * 1024 * 1024);
+    }
+
+    /**
+     * 构造
+     *
+     * @param maxHeaderSize 请求行与请求头的最大字节数，超出时响应 431
+     * @param maxBodySize   请求体的最大字节数，超出时响应 413
+     */
+    public HttpMessage(final int maxHeaderSize, final int maxBodySize) {
+        this.maxHeaderSize = maxHeaderSize;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public HttpRequest decode(final ByteBuffer readBuffer, final Session session) {
+        Decoder decoder = session.getAttachment();
+        if (null == decoder) {
+            decoder = new Decoder();
+            session.setAttachment(decoder);
+        }
+        return decoder.decode(readBuffer, session);
+    }
+
+    /**
+     * ASCII 字母转小写
+     *
+     * @param b 字节
+     * @return 小写字节
+     */
+    static byte lower(final byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+    }
+
+    /**
+     * 获取小写 ASCII 字节
+     *
+     * @param text 文本
+     * @return 字节
+     */
+    private static byte[] bytes(final String text) {
+        final byte[] bytes = text.getBytes(Charset.ISO_8859_1);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = lower(bytes[i]);
+        }
+        return bytes;
+    }
+
+    /**
+     * 比较字节区间与小写常量，忽略大小写
+     *
+     * @param bytes    字节
+     * @param start    起始位置
+     * @param end      结束位置
+     * @param constant 小写常量
+     * @return 是否相同
+     */
+    private static boolean equalsIgnoreCase(final byte[] bytes, final int start, final int end,
+            final byte[] constant) {
+        if (end - start != constant.length) {
+            return false;
+        }
+        for (int i = 0; i < constant.length; i++) {
+            if (lower(bytes[start + i]) != constant[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断逗号分隔的值中是否包含指定的项，忽略大小写
+     *
+     * @param bytes    字节
+     * @param start    起始位置
+     * @param end      结束位置
+     * @param constant 小写常量
+     * @return 是否包含
+     */
+    private static boolean containsToken(final byte[] bytes, final int start, final int end, final byte[] constant) {
+        int from = start;
+        while (from < end) {
+            int to = from;
+            while (to < end && bytes[to] != ',') {
+                to++;
+            }
+            int s = from;
+            int e = to;
+            while (s < e && (bytes[s] == SP || bytes[s] == HT)) {
+                s++;
+            }
+            while (e > s && (bytes[e - 1] == SP || bytes[e - 1] == HT)) {
+                e--;
+            }
+            if (equalsIgnoreCase(bytes, s, e, constant)) {
+                return true;
+            }
+            from = to + 1;
+        }
+        return false;
+    }
+
+    /**
+     * 十六进制字符的值
+     *
+     * @param b 字节
+     * @return 值，非十六进制字符返回 -1
+     */
+    private static int hex(final byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        final int c = lower(b);
+        return c >= 'a' && c <= 'f' ? c - 'a' + 10 : -1;
+    }
+
+    /**
+     * 单个连接的解析进度
+     */
+    private final class Decoder {
+
+        /**
+         * 当前状态
+         */
+        private int state = HEAD;
+        /**
+         * 暂存请求行与请求头，请求间复用
+         */
+        private byte[] head = new byte[512];
+        /**
+         * 已暂存的请求头字节数
+         */
+        private int headLength;
+        /**
+         * 当前行已扫描的字节数，不含 CR
+         */
+        private int lineLength;
+        /**
+         * 已解析的请求，等待请求体
+         */
+        private HttpRequest request;
+        /**
+         * 请求体
+         */
+        private byte[] body;
+        /**
+         * 请求体已读取的字节数
+         */
+        private int bodyLength;
+        /**
+         * 当前请求体或分块剩余的字节数
+         */
+        private long remaining;
+        /**
+         * 当前分块大小的位数
+         */
+        private int digits;
+        /**
+         * 解析失败时的状态码
+         */
+        private int error;
+
+        // 以下为解析请求头时得到的信息
+        private long contentLength;
+        private boolean chunked;
+        private boolean close;
+        private boolean keepAlive;
+        private boolean expectContinue;
+
+        HttpRequest decode(final ByteBuffer buffer, final Session session) {
+            if (state == DISCARD) {
+                buffer.position(buffer.limit());
+                return null;
+            }
+            if (state == HEAD) {
+                if (!scanHead(buffer)) {
+                    return error == 0 ? null : fail();
+                }
+                request = parseHead(Arrays.copyOf(head, headLength));
+                headLength = 0;
+                if (null == request) {
+                    return fail();
+                }
+                if (chunked) {
+                    state = CHUNK_SIZE;
+                    body = new byte[Math.min(1024, maxBodySize)];
+                } else if (contentLength > maxBodySize) {
+                    error = HTTP.HTTP_ENTITY_TOO_LARGE;
+                    return fail();
+                } else if (contentLength > 0) {
+                    state = BODY;
+                    remaining = contentLength;
+                    body = new byte[(int) contentLength];
+                } else {
+                    return complete();
+                }
+                if (expectContinue) {
+                    try {
+                        session.writeBuffer().write(CONTINUE);
+                    } catch (final IOException e) {
+                        throw new InternalException(e);
+                    }
+                }
+            }
+            if (state == BODY) {
+                final int length = (int) Math.min(remaining, buffer.remaining());
+                buffer.get(body, bodyLength, length);
+                bodyLength += length;
+                remaining -= length;
+                return remaining == 0 ? complete() : null;
+            }
+            if (chunk(buffer)) {
+                return complete();
+            }
+            return error == 0 ? null : fail();
+        }
+
+        /**
+         * 扫描到空行为止，将请求头字节暂存，忽略请求行之前的空行
+         *
+         * @param buffer 读缓冲区
+         * @return 是否已读取完整的请求头
+         */
+        private boolean scanHead(final ByteBuffer buffer) {
+            int position = buffer.position();
+            final int limit = buffer.limit();
+            if (headLength == 0) {
+                while (position < limit && (buffer.get(position) == CR || buffer.get(position) == LF)) {
+                    position++;
+                }
+                buffer.position(position);
+            }
+            int i = position;
+            boolean end = false;
+            for (; i < limit; i++) {
+                final byte b = buffer.get(i);
+                if (b == LF) {
+                    if (lineLength == 0) {
+                        end = true;
+                        i++;
+                        break;
+                    }
+                    lineLength = 0;
+                } else if (b != CR) {
+                    lineLength++;
+                }
+            }
+            final int length = i - position;
+            if (headLength + length > maxHeaderSize) {
+                error = HTTP_HEADER_TOO_LARGE;
+                return false;
+            }
+            if (headLength + length > head.length) {
+                head = Arrays.copyOf(head, Math.min(maxHeaderSize, Math.max(head.length << 1, headLength + length)));
+            }
+            buffer.get(position, head, headLength, length);
+            buffer.position(i);
+            headLength += length;
+            return end;
+        }
+
+        /**
+         * 解析请求行与请求头
+         *
+         * @param bytes 请求行与请求头的字节
+         * @return 请求，解析失败时返回null
+         */
+        private HttpRequest parseHead(final byte[] bytes) {
+            contentLength = -1;
+            chunked = close = keepAlive = expectContinue = false;
+            final int length = bytes.length;
+            int lineEnd = 0;
+            while (bytes[lineEnd] != LF) {
+                lineEnd++;
+            }
+            final int next = lineEnd + 1;
+            if (lineEnd > 0 && bytes[lineEnd - 1] == CR) {
+                lineEnd--;
+            }
+            // 请求行：method SP request-target SP HTTP-version
+            int sp1 = 0;
+            while (sp1 < lineEnd && bytes[sp1] != SP) {
+                sp1++;
+            }
+            int sp2 = sp1 + 1;
+            while (sp2 < lineEnd && bytes[sp2] != SP) {
+                sp2++;
+            }
+            if (sp1 == 0 || sp2 >= lineEnd || sp2 == sp1 + 1) {
+                error = HTTP.HTTP_BAD_REQUEST;
+                return null;
+            }
+            final String method = method(bytes, sp1);
+            final boolean http11;
+            if (equalsIgnoreCase(bytes, sp2 + 1, lineEnd, HTTP_1_1)) {
+                http11 = true;
+            } else if (equalsIgnoreCase(bytes, sp2 + 1, lineEnd, HTTP_1_0)) {
+                http11 = false;
+            } else {
+                error = lineEnd - sp2 - 1 > HTTP_PREFIX.length
+                        && equalsIgnoreCase(bytes, sp2 + 1, sp2 + 1 + HTTP_PREFIX.length, HTTP_PREFIX)
+                                ? HTTP.HTTP_VERSION
+                                : HTTP.HTTP_BAD_REQUEST;
+                return null;
+            }
+            int pathEnd = sp1 + 1;
+            while (pathEnd < sp2 && bytes[pathEnd] != '?') {
+                pathEnd++;
+            }
+            // 请求头：name ":" OWS value OWS
+            int[] headers = new int[32];
+            int count = 0;
+            int start = next;
+            while (start < length) {
+                int end = start;
+                while (bytes[end] != LF) {
+                    end++;
+                }
+                final int lineNext = end + 1;
+                if (end > start && bytes[end - 1] == CR) {
+                    end--;
+                }
+                if (end == start) {
+                    break;
+                }
+                int colon = start;
+                while (colon < end && bytes[colon] != ':') {
+                    colon++;
+                }
+                // 不支持折行，名称与冒号之间不允许空白
+                if (colon == end || colon == start || bytes[start] == SP || bytes[start] == HT
+                        || bytes[colon - 1] == SP || bytes[colon - 1] == HT) {
+                    error = HTTP.HTTP_BAD_REQUEST;
+                    return null;
+                }
+                int valueStart = colon + 1;
+                while (valueStart < end && (bytes[valueStart] == SP || bytes[valueStart] == HT)) {
+                    valueStart++;
+                }
+                int valueEnd = end;
+                while (valueEnd > valueStart && (bytes[valueEnd - 1] == SP || bytes[valueEnd - 1] == HT)) {
+                    valueEnd--;
+                }
+                if (!header(bytes, start, colon, valueStart, valueEnd)) {
+                    return null;
+                }
+                if ((count + 1) << 2 > headers.length) {
+                    headers = Arrays.copyOf(headers, headers.length << 1);
+                }
+                final int offset = count++ << 2;
+                headers[offset] = start;
+                headers[offset + 1] = colon;
+                headers[offset + 2] = valueStart;
+                headers[offset + 3] = valueEnd;
+                start = lineNext;
+            }
+            // 同时存在 Content-Length 与 chunked 时无法确定请求边界
+            if (chunked && contentLength >= 0) {
+                error = HTTP.HTTP_BAD_REQUEST;
+                return null;
+            }
+            expectContinue &= http11 && (chunked || contentLength > 0);
+            return new HttpRequest(bytes, headers, count, method, sp1 + 1, pathEnd, sp2, http11,
+                    !close && (http11 || keepAlive));
+        }
+
+        /**
+         * 识别影响解码的请求头
+         *
+         * @param bytes      字节
+         * @param nameStart  名称起始位置
+         * @param nameEnd    名称结束位置
+         * @param valueStart 值起始位置
+         * @param valueEnd   值结束位置
+         * @return 是否合法
+         */
+        private boolean header(final byte[] bytes, final int nameStart, final int nameEnd, final int valueStart,
+                final int valueEnd) {
+            if (equalsIgnoreCase(bytes, nameStart, nameEnd, CONTENT_LENGTH)) {
+                long value = 0;
+                for (int i = valueStart; i < valueEnd; i++) {
+                    if (bytes[i] < '0' || bytes[i] > '9' || value > Integer.MAX_VALUE) {
+                        error = HTTP.HTTP_BAD_REQUEST;
+                        return false;
+                    }
+                    value = value * 10 + bytes[i] - '0';
+                }
+                if (valueStart == valueEnd || (contentLength >= 0 && contentLength != value)) {
+                    error = HTTP.HTTP_BAD_REQUEST;
+                    return false;
+                }
+                contentLength = value;
+            } else if (equalsIgnoreCase(bytes, nameStart, nameEnd, TRANSFER_ENCODING)) {
+                // 仅支持 chunked 编码
+                if (!equalsIgnoreCase(bytes, valueStart, valueEnd, CHUNKED)) {
+                    error = containsToken(bytes, valueStart, valueEnd, CHUNKED) ? HTTP.HTTP_NOT_IMPLEMENTED
+                            : HTTP.HTTP_BAD_REQUEST;
+                    return false;
+                }
+                chunked = true;
+            } else if (equalsIgnoreCase(bytes, nameStart, nameEnd, CONNECTION)) {
+                close |= containsToken(bytes, valueStart, valueEnd, CLOSE);
+                keepAlive |= containsToken(bytes, valueStart, valueEnd, KEEP_ALIVE);
+            } else if (equalsIgnoreCase(bytes, nameStart, nameEnd, EXPECT)) {
+                expectContinue = equalsIgnoreCase(bytes, valueStart, valueEnd, CONTINUE_EXPECTATION);
+            }
+            return true;
+        }
+
+        /**
+         * 解析请求方法，常用方法直接返回常量
+         *
+         * @param bytes 字节
+         * @param end   结束位置
+         * @return 请求方法
+         */
+        private String method(final byte[] bytes, final int end) {
+            for (int i = 0; i < METHOD_BYTES.length; i++) {
+                if (Arrays.equals(bytes, 0, end, METHOD_BYTES[i], 0, METHOD_BYTES[i].length)) {
+                    return METHODS[i];
+                }
+            }
+            return new String(bytes, 0, end, Charset.ISO_8859_1);
+        }
+
+        /**
+         * 解析 chunked 请求体
+         *
+         * @param buffer 读缓冲区
+         * @return 请求体是否已读取完毕
+         */
+        private boolean chunk(final ByteBuffer buffer) {
+            while (buffer.hasRemaining()) {
+                switch (state) {
+                    case CHUNK_SIZE -> {
+                        final byte b = buffer.get();
+                        final int value = hex(b);
+                        if (value >= 0) {
+                            if (++digits > 8) {
+                                error = HTTP.HTTP_ENTITY_TOO_LARGE;
+                                return false;
+                            }
+                            remaining = remaining << 4 | value;
+                        } else if (digits > 0 && (b == ';' || b == SP || b == HT)) {
+                            state = CHUNK_EXTENSION;
+                        } else if (digits > 0 && b == CR) {
+                            state = CHUNK_SIZE_LF;
+                        } else if (digits > 0 && b == LF) {
+                            chunkSize();
+                        } else {
+                            error = HTTP.HTTP_BAD_REQUEST;
+                            return false;
+                        }
+                    }
+                    case CHUNK_SIZE_LF -> {
+                        if (buffer.get() != LF) {
+                            error = HTTP.HTTP_BAD_REQUEST;
+                            return false;
+                        }
+                        chunkSize();
+                    }
+                    case CHUNK_EXTENSION -> {
+                        if (buffer.get() == LF) {
+                            chunkSize();
+                        }
+                    }
+                    case CHUNK_DATA -> {
+                        final int length = (int) Math.min(remaining, buffer.remaining());
+                        buffer.get(body, bodyLength, length);
+                        bodyLength += length;
+                        remaining -= length;
+                        if (remaining == 0) {
+                            state = CHUNK_END;
+                        }
+                    }
+                    case CHUNK_END -> {
+                        final byte b = buffer.get();
+                        if (b == LF) {
+                            state = CHUNK_SIZE;
+                        } else if (b != CR) {
+                            error = HTTP.HTTP_BAD_REQUEST;
+                            return false;
+                        }
+                    }
+                    default -> {
+                        // 忽略 trailer，读到空行为止
+                        final byte b = buffer.get();
+                        if (b == LF) {
+                            if (lineLength == 0) {
+                                return true;
+                            }
+                            lineLength = 0;
+                        } else if (b != CR && ++lineLength > maxHeaderSize) {
+                            error = HTTP_HEADER_TOO_LARGE;
+                            return false;
+                        }
+                    }
+                }
+                if (error != 0) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 分块大小读取完毕，大小为 0 时进入 trailer
+         */
+        private void chunkSize() {
+            digits = 0;
+            if (remaining == 0) {
+                state = TRAILER;
+                lineLength = 0;
+                return;
+            }
+            if (bodyLength + remaining > maxBodySize) {
+                error = HTTP.HTTP_ENTITY_TOO_LARGE;
+                return;
+            }
+            if (bodyLength + remaining > body.length) {
+                final long capacity = Math.max(body.length << 1, bodyLength + remaining);
+                body = Arrays.copyOf(body, (int) Math.min(maxBodySize, capacity));
+            }
+            state = CHUNK_DATA;
+        }
+
+        /**
+         * 请求读取完毕，重置状态以解析同一连接上的下一个请求
+         *
+         * @return 请求
+         */
+        private HttpRequest complete() {
+            final HttpRequest complete = this.request;
+            if (null != body) {
+                complete.setBody(bodyLength == body.length ? body : Arrays.copyOf(body, bodyLength));
+            }
+            this.request = null;
+            this.body = null;
+            this.bodyLength = 0;
+            this.remaining = 0;
+            this.lineLength = 0;
+            this.state = HEAD;
+            return complete;
+        }
+
+        /**
+         * 解析失败，丢弃该连接后续的所有数据
+         *
+         * @return 携带错误状态码的请求
+         */
+        private HttpRequest fail() {
+            this.state = DISCARD;
+            this.request = null;
+            this.body = null;
+            this.head = null;
+            return new HttpRequest(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,307 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.Normal;
+
+/**
+ * HTTP 请求
+ * <p>
+ * 请求行与请求头按原始字节保存，仅记录各部分的偏移量，路径、请求头等字符串在首次访问时才创建。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class HttpRequest {
+
+    /**
+     * 请求行与请求头的原始字节
+     */
+    private final byte[] head;
+    /**
+     * 请求头偏移量，每个请求头依次占用名称起止与值起止 4 个位置
+     */
+    private final int[] headers;
+    /**
+     * 请求头数量
+     */
+    private final int headerCount;
+    /**
+     * 请求方法
+     */
+    private final String method;
+    /**
+     * URI 起始位置
+     */
+    private final int uriStart;
+    /**
+     * URI 中路径的结束位置
+     */
+    private final int pathEnd;
+    /**
+     * URI 结束位置
+     */
+    private final int uriEnd;
+    /**
+     * 是否为 HTTP/1.1
+     */
+    private final boolean http11;
+    /**
+     * 是否保持连接
+     */
+    private final boolean keepAlive;
+    /**
+     * 解析失败时的响应状态码，0 表示解析成功
+     */
+    private final int error;
+    /**
+     * 请求体
+     */
+    private byte[] body = Normal.EMPTY_BYTE_ARRAY;
+    /**
+     * 请求路径
+     */
+    private String path;
+
+    /**
+     * 构造
+     *
+     * @param head        请求行与请求头的原始字节
+     * @param headers     请求头偏移量
+     * @param headerCount 请求头数量
+     * @param method      请求方法
+     * @param uriStart    URI 起始位置
+     * @param pathEnd     路径结束位置
+     * @param uriEnd      URI 结束位置
+     * @param http11      是否为 HTTP/1.1
+     * @param keepAlive   是否保持连接
+     */
+    HttpRequest(final byte[] head, final int[] headers, final int headerCount, final String method,
+            final int uriStart, final int pathEnd, final int uriEnd, final boolean http11, final boolean keepAlive) {
+        this.head = head;
+        this.headers = headers;
+        this.headerCount = headerCount;
+        this.method = method;
+        this.uriStart = uriStart;
+        this.pathEnd = pathEnd;
+        this.uriEnd = uriEnd;
+        this.http11 = http11;
+        this.keepAlive = keepAlive;
+        this.error = 0;
+    }
+
+    /**
+     * 构造解析失败的请求
+     *
+     * @param error 响应状态码
+     */
+    HttpRequest(final int error) {
+        this.head = Normal.EMPTY_BYTE_ARRAY;
+        this.headers = null;
+        this.headerCount = 0;
+        this.method = null;
+        this.uriStart = this.pathEnd = this.uriEnd = 0;
+        this.http11 = true;
+        this.keepAlive = false;
+        this.error = error;
+    }
+
+    /**
+     * 获取请求方法
+     *
+     * @return 请求方法
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * 获取请求 URI，包含查询参数
+     *
+     * @return URI
+     */
+    public String getUri() {
+        return new String(head, uriStart, uriEnd - uriStart, Charset.ISO_8859_1);
+    }
+
+    /**
+     * 获取请求路径，不做 URL 解码
+     *
+     * @return 路径
+     */
+    public String getPath() {
+        if (null == path) {
+            path = new String(head, uriStart, pathEnd - uriStart, Charset.ISO_8859_1);
+        }
+        return path;
+    }
+
+    /**
+     * 获取查询参数部分，不做 URL 解码
+     *
+     * @return 查询参数，不存在时返回null
+     */
+    public String getQuery() {
+        return pathEnd == uriEnd ? null
+                : new String(head, pathEnd + 1, uriEnd - pathEnd - 1, Charset.ISO_8859_1);
+    }
+
+    /**
+     * 获取协议版本
+     *
+     * @return HTTP/1.1 或 HTTP/1.0
+     */
+    public String getProtocol() {
+        return http11 ? "HTTP/1.1" : "HTTP/1.0";
+    }
+
+    /**
+     * 响应完成后是否保持连接
+     *
+     * @return 是否保持连接
+     */
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * 获取请求头，名称忽略大小写，存在多个同名请求头时返回第一个
+     *
+     * @param name 名称
+     * @return 值，不存在时返回null
+     */
+    public String getHeader(final String name) {
+        for (int i = 0; i < headerCount; i++) {
+            if (nameEquals(i, name)) {
+                return value(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取同名的所有请求头
+     *
+     * @param name 名称
+     * @return 值
+     */
+    public List<String> getHeaders(final String name) {
+        final List<String> values = new ArrayList<>(1);
+        for (int i = 0; i < headerCount; i++) {
+            if (nameEquals(i, name)) {
+                values.add(value(i));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 获取所有请求头名称，保持请求中的顺序
+     *
+     * @return 名称
+     */
+    public List<String> getHeaderNames() {
+        final List<String> names = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            final int offset = i << 2;
+            names.add(new String(head, headers[offset], headers[offset + 1] - headers[offset],
+                    Charset.ISO_8859_1));
+        }
+        return names;
+    }
+
+    /**
+     * 获取请求体
+     *
+     * @return 请求体，无请求体时返回空数组
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 设置请求体
+     *
+     * @param body 请求体
+     */
+    void setBody(final byte[] body) {
+        this.body = body;
+    }
+
+    /**
+     * 获取解析失败时的响应状态码
+     *
+     * @return 状态码，0 表示解析成功
+     */
+    int getError() {
+        return error;
+    }
+
+    /**
+     * 比较第 index 个请求头的名称，忽略大小写
+     *
+     * @param index 序号
+     * @param name  名称
+     * @return 是否相同
+     */
+    private boolean nameEquals(final int index, final String name) {
+        final int start = headers[index << 2];
+        final int length = headers[(index << 2) + 1] - start;
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (HttpMessage.lower(head[start + i]) != HttpMessage.lower((byte) name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取第 index 个请求头的值
+     *
+     * @param index 序号
+     * @return 值
+     */
+    private String value(final int index) {
+        final int offset = (index << 2) + 2;
+        return new String(head, headers[offset], headers[offset + 1] - headers[offset], Charset.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return error == 0 ? method + " " + getUri() + " " + getProtocol() : "HttpRequest(" + error + ")";
+    }
+
+}
@@ -0,0 +1,486 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.http;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.miaixz.bus.core.center.date.Formatter;
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.net.HTTP;
+import org.miaixz.bus.socket.buffer.WriteBuffer;
+
+/**
+ * HTTP 响应
+ * <p>
+ * 默认缓存响应体，处理完成后连同 Content-Length 一次写入{@link WriteBuffer}；调用{@link #setChunked(boolean)}后， 每次{@link #flush()}都会立即输出一个分块。
+ * Content-Length、Transfer-Encoding、Connection 与 Date 由框架生成，无需手动设置。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class HttpResponse {
+
+    private static final byte[] CRLF = { '\r', '\n' };
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(Charset.ISO_8859_1);
+    /**
+     * 状态行缓存，下标为状态码减 100
+     */
+    private static final byte[][] STATUS_LINES = new byte[500][];
+    /**
+     * 当前秒的 Date 头
+     */
+    private static volatile Clock clock = new Clock(0, null);
+
+    /**
+     * 输出缓冲
+     */
+    private final WriteBuffer writeBuffer;
+    /**
+     * 是否为 HEAD 请求，不输出响应体
+     */
+    private final boolean head;
+    /**
+     * 客户端是否支持 chunked
+     */
+    private final boolean http11;
+    /**
+     * 响应头
+     */
+    private final List<String> headers = new ArrayList<>(8);
+    /**
+     * 状态码
+     */
+    private int status = HTTP.HTTP_OK;
+    /**
+     * 是否保持连接
+     */
+    private boolean keepAlive;
+    /**
+     * 是否以 chunked 方式输出
+     */
+    private boolean chunked;
+    /**
+     * 响应头是否已输出
+     */
+    private boolean committed;
+    /**
+     * 待输出的响应体
+     */
+    private byte[] buffer;
+    /**
+     * 待输出的响应体长度
+     */
+    private int count;
+
+    /**
+     * 构造
+     *
+     * @param writeBuffer 输出缓冲
+     * @param request     请求
+     */
+    HttpResponse(final WriteBuffer writeBuffer, final HttpRequest request) {
+        this.writeBuffer = writeBuffer;
+        this.head = HTTP.HEAD.equals(request.getMethod());
+        this.http11 = request.getError() != 0 || "HTTP/1.1".equals(request.getProtocol());
+        this.keepAlive = request.isKeepAlive();
+    }
+
+    /**
+     * 获取状态码的原因短语
+     *
+     * @param status 状态码
+     * @return 原因短语
+     */
+    private static String reason(final int status) {
+        return switch (status) {
+            case HTTP.HTTP_CONTINUE -> "Continue";
+            case HTTP.HTTP_SWITCHING_PROTOCOL -> "Switching Protocols";
+            case HTTP.HTTP_OK -> "OK";
+            case HTTP.HTTP_CREATED -> "Created";
+            case HTTP.HTTP_ACCEPTED -> "Accepted";
+            case HTTP.HTTP_NO_CONTENT -> "No Content";
+            case HTTP.HTTP_PARTIAL -> "Partial Content";
+            case HTTP.HTTP_MOVED_PERM -> "Moved Permanently";
+            case HTTP.HTTP_MOVED_TEMP -> "Found";
+            case HTTP.HTTP_SEE_OTHER -> "See Other";
+            case HTTP.HTTP_NOT_MODIFIED -> "Not Modified";
+            case HTTP.HTTP_TEMP_REDIRECT -> "Temporary Redirect";
+            case HTTP.HTTP_PERM_REDIRECT -> "Permanent Redirect";
+            case HTTP.HTTP_BAD_REQUEST -> "Bad Request";
+            case HTTP.HTTP_UNAUTHORIZED -> "Unauthorized";
+            case HTTP.HTTP_FORBIDDEN -> "Forbidden";
+            case HTTP.HTTP_NOT_FOUND -> "Not Found";
+            case HTTP.HTTP_BAD_METHOD -> "Method Not Allowed";
+            case HTTP.HTTP_CLIENT_TIMEOUT -> "Request Timeout";
+            case HTTP.HTTP_CONFLICT -> "Conflict";
+            case HTTP.HTTP_LENGTH_REQUIRED -> "Length Required";
+            case HTTP.HTTP_ENTITY_TOO_LARGE -> "Content Too Large";
+            case HTTP.HTTP_REQ_TOO_LONG -> "URI Too Long";
+            case HTTP.HTTP_UNSUPPORTED_TYPE -> "Unsupported Media Type";
+            case 429 -> "Too Many Requests";
+            case HttpMessage.HTTP_HEADER_TOO_LARGE -> "Request Header Fields Too Large";
+            case HTTP.HTTP_INTERNAL_ERROR -> "Internal Server Error";
+            case HTTP.HTTP_NOT_IMPLEMENTED -> "Not Implemented";
+            case HTTP.HTTP_BAD_GATEWAY -> "Bad Gateway";
+            case HTTP.HTTP_UNAVAILABLE -> "Service Unavailable";
+            case HTTP.HTTP_GATEWAY_TIMEOUT -> "Gateway Timeout";
+            case HTTP.HTTP_VERSION -> "HTTP Version Not Supported";
+            default -> "";
+        };
+    }
+
+    /**
+     * 获取状态行
+     *
+     * @param status 状态码
+     * @return 状态行字节
+     */
+    private static byte[] statusLine(final int status) {
+        byte[] line = STATUS_LINES[status - 100];
+        if (null == line) {
+            line = ("HTTP/1.1 " + status + " " + reason(status) + "\r\n").getBytes(Charset.ISO_8859_1);
+            STATUS_LINES[status - 100] = line;
+        }
+        return line;
+    }
+
+    /**
+     * 获取 Date 头，每秒只格式化一次
+     *
+     * @return Date 头字节
+     */
+    private static byte[] dateLine() {
+        final long now = System.currentTimeMillis();
+        Clock clock = HttpResponse.clock;
+        if (now / 1000 != clock.second) {
+            final String line = HTTP.DATE + ": " + Formatter.HTTP_DATETIME_FORMAT_GMT.format(now) + "\r\n";
+            clock = new Clock(now / 1000, line.getBytes(Charset.ISO_8859_1));
+            HttpResponse.clock = clock;
+        }
+        return clock.line;
+    }
+
+    /**
+     * 获取状态码
+     *
+     * @return 状态码
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 设置状态码，需在响应头输出前调用
+     *
+     * @param status 状态码，100 至 599
+     * @return this
+     */
+    public HttpResponse setStatus(final int status) {
+        if (status < 100 || status > 599) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+        this.status = status;
+        return this;
+    }
+
+    /**
+     * 设置响应头，覆盖同名的响应头
+     *
+     * @param name  名称
+     * @param value 值
+     * @return this
+     * @throws IllegalArgumentException 名称或值包含回车或换行
+     */
+    public HttpResponse setHeader(final String name, final String value) {
+        checkHeader(name, value);
+        for (int i = 0; i < headers.size(); i += 2) {
+            if (headers.get(i).equalsIgnoreCase(name)) {
+                headers.set(i + 1, value);
+                return this;
+            }
+        }
+        return addHeader(name, value);
+    }
+
+    /**
+     * 添加响应头，允许同名
+     *
+     * @param name  名称
+     * @param value 值
+     * @return this
+     * @throws IllegalArgumentException 名称或值包含回车或换行
+     */
+    public HttpResponse addHeader(final String name, final String value) {
+        checkHeader(name, value);
+        headers.add(name);
+        headers.add(value);
+        return this;
+    }
+
+    /**
+     * 校验响应头，名称和值原样写出，包含回车或换行时可注入额外的响应头或响应体
+     *
+     * @param name  名称
+     * @param value 值
+     */
+    private static void checkHeader(final String name, final String value) {
+        if (hasLineBreak(name) || hasLineBreak(value)) {
+            throw new IllegalArgumentException("Header name or value must not contain CR or LF");
+        }
+    }
+
+    /**
+     * 是否包含回车或换行
+     *
+     * @param text 文本
+     * @return 是否包含
+     */
+    private static boolean hasLineBreak(final String text) {
+        return null != text && (text.indexOf('\r') >= 0 || text.indexOf('\n') >= 0);
+    }
+
+    /**
+     * 获取响应头
+     *
+     * @param name 名称
+     * @return 值，不存在时返回null
+     */
+    public String getHeader(final String name) {
+        for (int i = 0; i < headers.size(); i += 2) {
+            if (headers.get(i).equalsIgnoreCase(name)) {
+                return headers.get(i + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 设置 Content-Type
+     *
+     * @param contentType 内容类型
+     * @return this
+     */
+    public HttpResponse setContentType(final String contentType) {
+        return setHeader(HTTP.CONTENT_TYPE, contentType);
+    }
+
+    /**
+     * 响应完成后是否保持连接
+     *
+     * @return 是否保持连接
+     */
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * 设置响应完成后是否保持连接，客户端要求关闭时设置无效
+     *
+     * @param keepAlive 是否保持连接
+     * @return this
+     */
+    public HttpResponse setKeepAlive(final boolean keepAlive) {
+        this.keepAlive &= keepAlive;
+        return this;
+    }
+
+    /**
+     * 设置是否以 chunked 方式输出响应体，需在响应头输出前调用。HTTP/1.0 客户端不支持时仍缓存完整响应体
+     *
+     * @param chunked 是否 chunked
+     * @return this
+     */
+    public HttpResponse setChunked(final boolean chunked) {
+        this.chunked = chunked && http11;
+        return this;
+    }
+
+    /**
+     * 响应头是否已输出
+     *
+     * @return 是否已输出
+     */
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * 写入响应体
+     *
+     * @param bytes 字节
+     * @return this
+     */
+    public HttpResponse write(final byte[] bytes) {
+        return write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 写入响应体
+     *
+     * @param bytes  字节
+     * @param offset 起始位置
+     * @param length 长度
+     * @return this
+     */
+    public HttpResponse write(final byte[] bytes, final int offset, final int length) {
+        if (null == buffer) {
+            buffer = new byte[Math.max(length, 256)];
+        } else if (count + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + length));
+        }
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+        return this;
+    }
+
+    /**
+     * 以 UTF-8 编码写入响应体
+     *
+     * @param text 文本
+     * @return this
+     */
+    public HttpResponse write(final String text) {
+        return write(text.getBytes(Charset.UTF_8));
+    }
+
+    /**
+     * chunked 方式下输出响应头及已写入的数据，否则不做处理
+     */
+    public void flush() {
+        if (!chunked) {
+            return;
+        }
+        try {
+            if (!committed) {
+                commit(-1);
+            }
+            if (chunked && count > 0 && !head) {
+                writeBuffer.write(Integer.toHexString(count).getBytes(Charset.ISO_8859_1));
+                writeBuffer.write(CRLF);
+                writeBuffer.write(buffer, 0, count);
+                writeBuffer.write(CRLF);
+            }
+            count = 0;
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 放弃尚未输出的状态码、响应头和响应体
+     */
+    void reset() {
+        if (committed) {
+            throw new IllegalStateException("Response has been committed");
+        }
+        status = HTTP.HTTP_OK;
+        headers.clear();
+        chunked = false;
+        count = 0;
+    }
+
+    /**
+     * 完成响应，输出剩余的数据
+     */
+    void finish() {
+        try {
+            if (chunked) {
+                flush();
+                if (chunked && !head) {
+                    writeBuffer.write(LAST_CHUNK);
+                }
+                return;
+            }
+            if (!committed) {
+                commit(count);
+            }
+            if (count > 0 && !head && hasBody()) {
+                writeBuffer.write(buffer, 0, count);
+            }
+        } catch (final IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 输出状态行与响应头
+     *
+     * @param length 响应体长度，-1 表示 chunked
+     * @throws IOException IO异常
+     */
+    private void commit(final int length) throws IOException {
+        committed = true;
+        final StringBuilder builder = new StringBuilder(128);
+        for (int i = 0; i < headers.size(); i += 2) {
+            builder.append(headers.get(i)).append(": ").append(headers.get(i + 1)).append("\r\n");
+        }
+        if (!hasBody()) {
+            chunked = false;
+        } else {
+            if (length < 0) {
+                builder.append(HTTP.TRANSFER_ENCODING).append(": chunked\r\n");
+            } else {
+                builder.append(HTTP.CONTENT_LENGTH).append(": ").append(length).append("\r\n");
+            }
+        }
+        if (!keepAlive) {
+            builder.append(HTTP.CONNECTION).append(": close\r\n");
+        } else if (!http11) {
+            builder.append(HTTP.CONNECTION).append(": keep-alive\r\n");
+        }
+        builder.append("\r\n");
+        writeBuffer.write(statusLine(status));
+        writeBuffer.write(dateLine());
+        writeBuffer.write(builder.toString().getBytes(Charset.ISO_8859_1));
+    }
+
+    /**
+     * 当前状态码是否允许携带响应体，1xx、204、304 不允许
+     *
+     * @return 是否允许
+     */
+    private boolean hasBody() {
+        return status >= HTTP.HTTP_OK && status != HTTP.HTTP_NO_CONTENT && status != HTTP.HTTP_NOT_MODIFIED;
+    }
+
+    /**
+     * 某一秒对应的 Date 头
+     *
+     * @param second 秒
+     * @param line   Date 头字节
+     */
+    private record Clock(long second, byte[] line) {
+
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.http;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.net.HTTP;
+
+/**
+ * HTTP 路由
+ * <p>
+ * 路径以 {@code /*} 结尾时按前缀匹配，否则精确匹配；精确匹配优先，前缀匹配时最长前缀优先。 方法为{@link HTTP#ALL}时匹配所有请求方法，HEAD 请求未注册时使用 GET 的处理器。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class HttpRouter implements HttpHandler {
+
+    /**
+     * 精确匹配的路由
+     */
+    private final Map<String, Route> exact = new ConcurrentHashMap<>();
+    /**
+     * 前缀匹配的路由，按前缀长度降序
+     */
+    private volatile Route[] prefixes = new Route[0];
+    /**
+     * 未匹配时的处理器
+     */
+    private volatile HttpHandler notFound = (request, response) -> response.setStatus(HTTP.HTTP_NOT_FOUND);
+
+    /**
+     * 注册 GET 路由
+     *
+     * @param path    路径
+     * @param handler 处理器
+     * @return this
+     */
+    public HttpRouter get(final String path, final HttpHandler handler) {
+        return route(HTTP.GET, path, handler);
+    }
+
+    /**
+     * 注册 POST 路由
+     *
+     * @param path    路径
+     * @param handler 处理器
+     * @return this
+     */
+    public HttpRouter post(final String path, final HttpHandler handler) {
+        return route(HTTP.POST, path, handler);
+    }
+
+    /**
+     * 注册路由
+     *
+     * @param method  请求方法，{@link HTTP#ALL}表示所有方法
+     * @param path    路径，以 {@code /*} 结尾时按前缀匹配
+     * @param handler 处理器
+     * @return this
+     */
+    public synchronized HttpRouter route(final String method, final String path, final HttpHandler handler) {
+        if (path.endsWith("/*")) {
+            final String prefix = path.substring(0, path.length() - 1);
+            for (final Route route : prefixes) {
+                if (route.path.equals(prefix)) {
+                    route.methods.put(method, handler);
+                    return this;
+                }
+            }
+            final Route[] routes = Arrays.copyOf(prefixes, prefixes.length + 1);
+            routes[routes.length - 1] = new Route(prefix);
+            routes[routes.length - 1].methods.put(method, handler);
+            Arrays.sort(routes, Comparator.comparingInt((Route route) -> route.path.length()).reversed());
+            prefixes = routes;
+        } else {
+            exact.computeIfAbsent(path, Route::new).methods.put(method, handler);
+        }
+        return this;
+    }
+
+    /**
+     * 设置未匹配时的处理器，默认返回 404
+     *
+     * @param handler 处理器
+     * @return this
+     */
+    public HttpRouter notFound(final HttpHandler handler) {
+        this.notFound = handler;
+        return this;
+    }
+
+    @Override
+    public void handle(final HttpRequest request, final HttpResponse response) throws Exception {
+        final String path = request.getPath();
+        Route route = exact.get(path);
+        if (null == route) {
+            for (final Route prefix : prefixes) {
+                if (path.startsWith(prefix.path) || path.length() + 1 == prefix.path.length()
+                        && prefix.path.startsWith(path)) {
+                    route = prefix;
+                    break;
+                }
+            }
+        }
+        if (null == route) {
+            notFound.handle(request, response);
+            return;
+        }
+        final String method = request.getMethod();
+        HttpHandler handler = route.methods.get(method);
+        if (null == handler && HTTP.HEAD.equals(method)) {
+            handler = route.methods.get(HTTP.GET);
+        }
+        if (null == handler) {
+            handler = route.methods.get(HTTP.ALL);
+        }
+        if (null == handler) {
+            final TreeSet<String> allow = new TreeSet<>(route.methods.keySet());
+            if (allow.contains(HTTP.GET)) {
+                allow.add(HTTP.HEAD);
+            }
+            response.setStatus(HTTP.HTTP_BAD_METHOD).setHeader(HTTP.ALLOW,
+                    String.join(Symbol.COMMA + Symbol.SPACE, allow));
+            return;
+        }
+        handler.handle(request, response);
+    }
+
+    /**
+     * 同一路径下各请求方法的处理器
+     */
+    private static final class Route {
+
+        /**
+         * 路径或前缀
+         */
+        private final String path;
+        /**
+         * 请求方法与处理器
+         */
+        private final Map<String, HttpHandler> methods = new ConcurrentHashMap<>();
+
+        private Route(final String path) {
+            this.path = path;
+        }
+
+    }
+
+}
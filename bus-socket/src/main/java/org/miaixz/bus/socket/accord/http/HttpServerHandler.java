@@ -0,0 +1,100 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.http;
+
+import org.miaixz.bus.core.net.HTTP;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.socket.Session;
+import org.miaixz.bus.socket.Status;
+import org.miaixz.bus.socket.metric.handler.AbstractMessageHandler;
+
+/**
+ * HTTP/1.1 服务端消息处理
+ * <p>
+ * 与{@link HttpMessage}配合使用，将请求交给{@link HttpHandler}处理并按请求顺序输出响应。 同一连接上的管线化请求在一次读取中依次处理，响应合并后统一输出。
+ * </p>
+ *
+ * <pre>
+ * HttpRouter router = new HttpRouter().get("/health", (request, response) -&gt; response.write("UP"));
+ * new AioServer(8080, new HttpMessage(), new HttpServerHandler(router)).start();
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class HttpServerHandler extends AbstractMessageHandler<HttpRequest> {
+
+    /**
+     * 请求处理器
+     */
+    private final HttpHandler handler;
+
+    /**
+     * 构造
+     *
+     * @param handler 请求处理器，通常为{@link HttpRouter}
+     */
+    public HttpServerHandler(final HttpHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void process0(final Session session, final HttpRequest request) {
+        final HttpResponse response = new HttpResponse(session.writeBuffer(), request);
+        if (request.getError() != 0) {
+            response.setStatus(request.getError());
+            response.finish();
+            session.close(false);
+            return;
+        }
+        try {
+            handler.handle(request, response);
+        } catch (final Exception e) {
+            Logger.error(e, "Failed to handle {}", request);
+            // 分块已部分输出时无法再返回错误状态，直接关闭连接让客户端感知响应不完整
+            if (response.isCommitted()) {
+                session.close(false);
+                return;
+            }
+            response.reset();
+            response.setStatus(HTTP.HTTP_INTERNAL_ERROR);
+        }
+        response.finish();
+        if (!response.isKeepAlive()) {
+            session.close(false);
+        }
+    }
+
+    @Override
+    public void stateEvent0(final Session session, final Status status, final Throwable throwable) {
+        if (status == Status.DECODE_EXCEPTION || status == Status.PROCESS_EXCEPTION) {
+            Logger.error(throwable, "HTTP session {}", status);
+        }
+    }
+
+}
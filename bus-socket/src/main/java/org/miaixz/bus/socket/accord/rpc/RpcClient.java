@@ -0,0 +1,448 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.rpc;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.socket.Session;
+import org.miaixz.bus.socket.Status;
+import org.miaixz.bus.socket.accord.AioClient;
+import org.miaixz.bus.socket.metric.HashedWheelTimer;
+import org.miaixz.bus.socket.metric.SocketTask;
+import org.miaixz.bus.socket.metric.channels.AsynchronousChannelProvider;
+import org.miaixz.bus.socket.metric.handler.AbstractMessageHandler;
+import org.miaixz.bus.socket.plugin.ReconnectPlugin;
+
+/**
+ * 多路复用的请求/响应客户端
+ * <p>
+ * 对同一服务端维护固定数量的连接，请求按轮询分配至连接并以请求编号关联响应，同一连接可管线化发送多个请求。
+ * 单个连接的在途请求数达到上限时优先选择其他连接，全部达到上限时调用线程阻塞等待，最长不超过请求超时时间。
+ * 断开的连接由{@link ReconnectPlugin}自动重连，期间请求分配至其他可用连接。
+ * </p>
+ * 响应在 IO 线程或超时定时器线程中完成，耗时的后续处理请使用{@link CompletableFuture}的异步方法。
+ *
+ * <pre>
+ * RpcClient client = new RpcClient("127.0.0.1", 9000).setConnections(4).start();
+ * byte[] response = client.call(request).get();
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class RpcClient {
+
+    /**
+     * 服务端地址
+     */
+    private final String host;
+    /**
+     * 服务端端口
+     */
+    private final int port;
+    /**
+     * 未完成的请求
+     */
+    private final Map<Long, Call> calls = new ConcurrentHashMap<>();
+    /**
+     * 请求编号
+     */
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * 轮询计数
+     */
+    private final AtomicInteger next = new AtomicInteger();
+    /**
+     * 响应处理
+     */
+    private final ResponseHandler handler = new ResponseHandler();
+    /**
+     * 连接数
+     */
+    private int connections = 1;
+    /**
+     * 单个连接的在途请求数上限
+     */
+    private int maxInFlight = 1024;
+    /**
+     * 请求超时时间，毫秒
+     */
+    private long timeout = 3000;
+    /**
+     * IO 线程数
+     */
+    private int threadNum = 2;
+    /**
+     * 读缓冲区初始大小
+     */
+    private int readBufferSize = 4096;
+    /**
+     * 帧长上限
+     */
+    private int maxFrameLength = RpcMessage.DEFAULT_MAX_FRAME_LENGTH;
+    /**
+     * 连接池
+     */
+    private Connection[] pool;
+    /**
+     * 连接共用的 IO 线程组
+     */
+    private AsynchronousChannelGroup asynchronousChannelGroup;
+    /**
+     * 是否已停止
+     */
+    private volatile boolean shutdown;
+
+    /**
+     * 构造
+     *
+     * @param host 服务端地址
+     * @param port 服务端端口
+     */
+    public RpcClient(final String host, final int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * 建立全部连接，任一连接失败时关闭已建立的连接并抛出异常
+     *
+     * @return this
+     * @throws IOException 连接失败
+     */
+    public synchronized RpcClient start() throws IOException {
+        if (pool != null) {
+            throw new IllegalStateException("RpcClient has started");
+        }
+        asynchronousChannelGroup = new AsynchronousChannelProvider(false).openAsynchronousChannelGroup(threadNum,
+                ThreadKit.newNamedThreadFactory("bus-socket:rpc-", true));
+        pool = new Connection[connections];
+        try {
+            for (int i = 0; i < connections; i++) {
+                final AioClient client = new AioClient(host, port, new RpcMessage(maxFrameLength), handler)
+                        .setReadBufferSize(readBufferSize, maxFrameLength);
+                final ReconnectPlugin<RpcFrame> reconnect = new ReconnectPlugin<>(client, asynchronousChannelGroup);
+                handler.addPlugin(reconnect);
+                pool[i] = new Connection(client, reconnect, new Semaphore(maxInFlight));
+                client.start(asynchronousChannelGroup);
+            }
+        } catch (final IOException e) {
+            shutdown();
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * 发送请求
+     *
+     * @param request 请求内容
+     * @return 响应内容，超时时以{@link TimeoutException}结束，服务端处理失败时以{@link InternalException}结束
+     */
+    public CompletableFuture<byte[]> call(final byte[] request) {
+        final CompletableFuture<byte[]> future = new CompletableFuture<>();
+        if (shutdown || pool == null) {
+            future.completeExceptionally(new InternalException("RpcClient is not running"));
+            return future;
+        }
+        final Connection connection;
+        try {
+            connection = acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return future;
+        }
+        final Session session = null == connection ? null : connection.client.getSession();
+        if (null == session) {
+            if (connection != null) {
+                connection.permits.release();
+            }
+            future.completeExceptionally(new InternalException("No connection available to " + host + ":" + port));
+            return future;
+        }
+        final long id = sequence.incrementAndGet();
+        final Call call = new Call(connection, session, future);
+        calls.put(id, call);
+        call.task = HashedWheelTimer.DEFAULT_TIMER.schedule(
+                () -> complete(id, null, new TimeoutException("Request " + id + " timed out after " + timeout + "ms")),
+                timeout, TimeUnit.MILLISECONDS);
+        // 响应可能先于定时任务赋值到达
+        if (future.isDone()) {
+            call.task.cancel();
+        }
+        try {
+            session.writeBuffer().write(RpcMessage.encode(id, RpcFrame.OK, request));
+            session.writeBuffer().flush();
+        } catch (final Exception e) {
+            complete(id, null, e);
+        }
+        // 连接可能在登记请求前已断开，此时不会再收到关闭事件
+        if (session.isInvalid()) {
+            complete(id, null, new InternalException("Connection closed: " + host + ":" + port));
+        }
+        return future;
+    }
+
+    /**
+     * 选择连接并占用在途请求数
+     *
+     * @return 连接，无可用连接时为 null
+     * @throws InterruptedException 等待时被中断
+     */
+    private Connection acquire() throws InterruptedException {
+        final int start = next.getAndIncrement();
+        Connection candidate = null;
+        for (int i = 0; i < pool.length; i++) {
+            final Connection connection = pool[Math.floorMod(start + i, pool.length)];
+            if (!connection.isAvailable()) {
+                continue;
+            }
+            if (connection.permits.tryAcquire()) {
+                return connection;
+            }
+            if (null == candidate) {
+                candidate = connection;
+            }
+        }
+        // 全部连接已达在途上限时阻塞等待，对调用方形成背压
+        if (candidate != null && candidate.permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            if (candidate.isAvailable()) {
+                return candidate;
+            }
+            candidate.permits.release();
+        }
+        return null;
+    }
+
+    /**
+     * 结束请求，同一请求仅首次调用生效
+     *
+     * @param id       请求编号
+     * @param response 响应内容
+     * @param error    异常，为 null 时表示成功
+     */
+    private void complete(final long id, final byte[] response, final Throwable error) {
+        final Call call = calls.remove(id);
+        if (null == call) {
+            return;
+        }
+        call.connection.permits.release();
+        if (call.task != null) {
+            call.task.cancel();
+        }
+        if (null == error) {
+            call.future.complete(response);
+        } else {
+            call.future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 关闭全部连接，未完成的请求以异常结束
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (pool != null) {
+            for (final Connection connection : pool) {
+                if (connection != null) {
+                    connection.reconnect.shutdown();
+                    connection.client.shutdownNow();
+                }
+            }
+        }
+        for (final Long id : calls.keySet()) {
+            complete(id, null, new InternalException("RpcClient is shutdown"));
+        }
+        if (asynchronousChannelGroup != null) {
+            asynchronousChannelGroup.shutdown();
+            asynchronousChannelGroup = null;
+        }
+    }
+
+    /**
+     * 当前未完成的请求数
+     *
+     * @return 请求数
+     */
+    public int getPending() {
+        return calls.size();
+    }
+
+    /**
+     * 设置连接数
+     *
+     * @param connections 连接数
+     * @return this
+     */
+    public RpcClient setConnections(final int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must >= 1");
+        }
+        this.connections = connections;
+        return this;
+    }
+
+    /**
+     * 设置单个连接的在途请求数上限
+     *
+     * @param maxInFlight 在途请求数上限
+     * @return this
+     */
+    public RpcClient setMaxInFlight(final int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must >= 1");
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * 设置请求超时时间，超时精度取决于{@link HashedWheelTimer#DEFAULT_TIMER}的刻度
+     *
+     * @param timeout 超时时间，毫秒
+     * @return this
+     */
+    public RpcClient setTimeout(final long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * 设置 IO 线程数
+     *
+     * @param threadNum 线程数
+     * @return this
+     */
+    public RpcClient setThreadNum(final int threadNum) {
+        this.threadNum = threadNum;
+        return this;
+    }
+
+    /**
+     * 设置读缓冲区初始大小及帧长上限，响应超过读缓冲区时扩容至帧长上限
+     *
+     * @param readBufferSize 读缓冲区初始大小
+     * @param maxFrameLength 帧长上限
+     * @return this
+     */
+    public RpcClient setReadBufferSize(final int readBufferSize, final int maxFrameLength) {
+        this.readBufferSize = readBufferSize;
+        this.maxFrameLength = maxFrameLength;
+        return this;
+    }
+
+    /**
+     * 连接及其在途请求数
+     *
+     * @param client    客户端
+     * @param reconnect 断链重连
+     * @param permits   剩余可发送的请求数
+     */
+    private record Connection(AioClient client, ReconnectPlugin<RpcFrame> reconnect, Semaphore permits) {
+
+        /**
+         * 连接是否可用，重连期间不可用
+         *
+         * @return 是否可用
+         */
+        boolean isAvailable() {
+            final Session session = client.getSession();
+            return session != null && !session.isInvalid();
+        }
+
+    }
+
+    /**
+     * 未完成的请求
+     */
+    private static final class Call {
+
+        private final Connection connection;
+        private final Session session;
+        private final CompletableFuture<byte[]> future;
+        private volatile SocketTask task;
+
+        private Call(final Connection connection, final Session session, final CompletableFuture<byte[]> future) {
+            this.connection = connection;
+            this.session = session;
+            this.future = future;
+        }
+
+    }
+
+    /**
+     * 响应处理，连接断开时结束该连接上未完成的请求
+     */
+    private final class ResponseHandler extends AbstractMessageHandler<RpcFrame> {
+
+        @Override
+        public void process0(final Session session, final RpcFrame response) {
+            if (response.getStatus() == RpcFrame.OK) {
+                complete(response.getId(), response.getPayload(), null);
+            } else {
+                complete(response.getId(), null,
+                        new InternalException(new String(response.getPayload(), Charset.UTF_8)));
+            }
+        }
+
+        @Override
+        public void stateEvent0(final Session session, final Status status, final Throwable throwable) {
+            switch (status) {
+            case SESSION_CLOSED:
+                calls.forEach((id, call) -> {
+                    if (call.session == session) {
+                        complete(id, null, new InternalException("Connection closed: " + host + ":" + port));
+                    }
+                });
+                break;
+            case DECODE_EXCEPTION:
+            case PROCESS_EXCEPTION:
+                Logger.error(throwable, "RPC session {}", status);
+                break;
+            default:
+                break;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.rpc;
+
+import java.nio.ByteBuffer;
+
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.socket.Session;
+import org.miaixz.bus.socket.metric.message.LengthFieldMessage;
+
+/**
+ * 请求/响应帧编解码
+ * <p>
+ * 帧超过读缓冲区时依赖读缓冲区扩容，服务端需通过{@link org.miaixz.bus.socket.accord.AioServer#setReadBufferSize(int, int)}
+ * 设置不小于帧长上限的扩容上限
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class RpcMessage extends LengthFieldMessage<RpcFrame> {
+
+    /**
+     * 帧头长度：长度字段 + 请求编号 + 状态
+     */
+    static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES + 1;
+    /**
+     * 默认帧长上限 1MB
+     */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1 << 20;
+
+    /**
+     * 构造，帧长上限 1MB
+     */
+    public RpcMessage() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * 构造
+     *
+     * @param maxFrameLength 帧长上限，含帧头
+     */
+    public RpcMessage(final int maxFrameLength) {
+        super(maxFrameLength);
+    }
+
+    /**
+     * 编码为完整的帧，一次性写入输出缓冲区以免并发写入时交错
+     *
+     * @param id      请求编号
+     * @param status  状态
+     * @param payload 内容
+     * @return 帧
+     */
+    static byte[] encode(final long id, final byte status, final byte[] payload) {
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        buffer.putInt(buffer.capacity() - Integer.BYTES).putLong(id).put(status).put(payload);
+        return buffer.array();
+    }
+
+    @Override
+    protected RpcFrame decodeFrame(final ByteBuffer frame, final Session session) {
+        if (frame.remaining() < HEADER_LENGTH - Integer.BYTES) {
+            throw new InternalException("Illegal rpc frame length: " + frame.remaining());
+        }
+        final long id = frame.getLong();
+        final byte status = frame.get();
+        final byte[] payload = new byte[frame.remaining()];
+        frame.get(payload);
+        return new RpcFrame(id, status, payload);
+    }
+
+}
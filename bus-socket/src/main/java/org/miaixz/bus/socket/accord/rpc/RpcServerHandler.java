@@ -0,0 +1,98 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.accord.rpc;
+
+import java.io.IOException;
+
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.Normal;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.socket.Session;
+import org.miaixz.bus.socket.Status;
+import org.miaixz.bus.socket.metric.handler.AbstractMessageHandler;
+
+/**
+ * 请求/响应服务端消息处理
+ * <p>
+ * 响应携带请求编号，客户端可在同一连接上管线化发送多个请求。未设置消息处理线程池时同一连接的请求按序处理，
+ * 一次读取中解码出的多个请求的响应合并后统一输出。
+ * </p>
+ *
+ * <pre>
+ * new AioServer(9000, new RpcMessage(), new RpcServerHandler((session, request) -&gt; request)).start();
+ * </pre>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class RpcServerHandler extends AbstractMessageHandler<RpcFrame> {
+
+    /**
+     * 请求处理
+     */
+    private final RpcService service;
+
+    /**
+     * 构造
+     *
+     * @param service 请求处理
+     */
+    public RpcServerHandler(final RpcService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void process0(final Session session, final RpcFrame request) {
+        byte status = RpcFrame.OK;
+        byte[] response;
+        try {
+            response = service.handle(session, request.getPayload());
+            if (null == response) {
+                response = Normal.EMPTY_BYTE_ARRAY;
+            }
+        } catch (final Exception e) {
+            Logger.error(e, "Failed to handle {}", request);
+            status = RpcFrame.ERROR;
+            response = String.valueOf(e.getMessage()).getBytes(Charset.UTF_8);
+        }
+        try {
+            session.writeBuffer().write(RpcMessage.encode(request.getId(), status, response));
+        } catch (final IOException e) {
+            Logger.error(e, "Failed to write response of {}", request);
+            session.close(true);
+        }
+    }
+
+    @Override
+    public void stateEvent0(final Session session, final Status status, final Throwable throwable) {
+        if (status == Status.DECODE_EXCEPTION || status == Status.PROCESS_EXCEPTION) {
+            Logger.error(throwable, "RPC session {}", status);
+        }
+    }
+
+}
@@ -40,15 +40,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public final class BufferPagePool {
 
-    public static final BufferPagePool DEFAULT_BUFFER_PAGE_POOL = new BufferPagePool(0, 1, false);
     /**
-     * 守护线程在空闲时期回收内存资源
+     * 守护线程在空闲时期回收内存资源，需先于默认内存池初始化
      */
     private static final ScheduledThreadPoolExecutor BUFFER_POOL_CLEAN = new ScheduledThreadPoolExecutor(1, r -> {
         Thread thread = new Thread(r, "BufferPoolClean");
         thread.setDaemon(true);
         return thread;
     });
+    public static final BufferPagePool DEFAULT_BUFFER_PAGE_POOL = new BufferPagePool(0, 1, false);
     /**
      * 内存页游标
      */
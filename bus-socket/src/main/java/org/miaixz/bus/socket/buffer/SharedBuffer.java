@@ -0,0 +1,150 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 引用计数的只读共享缓冲区
+ * <p>
+ * 同一份已编码的数据需发送给多个会话时，各会话仅排队该缓冲区的只读视图，不再逐一复制到各自的{@link WriteBuffer}。
+ * 创建时引用计数为 1，由创建方持有，使用完毕后调用{@link #release()}；每个排队中的视图各持有一个引用，输出完毕或会话关闭时释放。
+ * </p>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public final class SharedBuffer {
+
+    /**
+     * 原始缓冲区，回收时交还
+     */
+    private final ByteBuffer source;
+    /**
+     * 只读数据
+     */
+    private final ByteBuffer buffer;
+    /**
+     * 引用计数
+     */
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+    /**
+     * 引用计数归零时的回收动作，可为空
+     */
+    private final Consumer<ByteBuffer> recycler;
+
+    private SharedBuffer(final ByteBuffer buffer, final Consumer<ByteBuffer> recycler) {
+        this.source = buffer;
+        this.buffer = buffer.asReadOnlyBuffer();
+        this.recycler = recycler;
+    }
+
+    /**
+     * 将数据复制到堆外内存中
+     *
+     * @param bytes 已编码的数据
+     * @return 共享缓冲区
+     */
+    public static SharedBuffer of(final byte[] bytes) {
+        return new SharedBuffer(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(), null);
+    }
+
+    /**
+     * 直接使用给定的缓冲区，其 position 至 limit 之间为数据，共享期间不得修改
+     *
+     * @param buffer   已编码的数据
+     * @param recycler 引用计数归零时回收该缓冲区，可为空
+     * @return 共享缓冲区
+     */
+    public static SharedBuffer of(final ByteBuffer buffer, final Consumer<ByteBuffer> recycler) {
+        return new SharedBuffer(buffer, recycler);
+    }
+
+    /**
+     * 增加一个引用
+     *
+     * @return this
+     */
+    public SharedBuffer retain() {
+        int count;
+        do {
+            count = refCnt.get();
+            if (count <= 0) {
+                throw new IllegalStateException("SharedBuffer has been released");
+            }
+        } while (!refCnt.compareAndSet(count, count + 1));
+        return this;
+    }
+
+    /**
+     * 释放一个引用，归零时回收
+     *
+     * @return true:已回收
+     */
+    public boolean release() {
+        final int count = refCnt.decrementAndGet();
+        if (count < 0) {
+            throw new IllegalStateException("SharedBuffer has been released");
+        }
+        if (count == 0 && recycler != null) {
+            recycler.accept(source);
+        }
+        return count == 0;
+    }
+
+    /**
+     * 当前引用计数
+     *
+     * @return 引用计数
+     */
+    public int refCnt() {
+        return refCnt.get();
+    }
+
+    /**
+     * 数据长度
+     *
+     * @return 字节数
+     */
+    public int length() {
+        return buffer.remaining();
+    }
+
+    /**
+     * 创建独立读位置的只读视图并持有一个引用，视图回收时释放该引用
+     *
+     * @return 视图
+     */
+    public VirtualBuffer view() {
+        retain();
+        return new VirtualBuffer(null, buffer.duplicate(), 0, 0, this::release);
+    }
+
+}
@@ -42,6 +42,10 @@ public final class VirtualBuffer {
      * 当前虚拟buffer的归属内存页
      */
     private final BufferPage bufferPage;
+    /**
+     * 不属于内存页时的回收动作
+     */
+    private final Runnable cleaner;
     /**
      * 是否已回收
      */
@@ -68,7 +72,12 @@ public final class VirtualBuffer {
     private int capacity;
 
     VirtualBuffer(BufferPage bufferPage, ByteBuffer buffer, int parentPosition, int parentLimit) {
+        this(bufferPage, buffer, parentPosition, parentLimit, null);
+    }
+
+    VirtualBuffer(BufferPage bufferPage, ByteBuffer buffer, int parentPosition, int parentLimit, Runnable cleaner) {
         this.bufferPage = bufferPage;
+        this.cleaner = cleaner;
         this.buffer = buffer;
         this.parentPosition = parentPosition;
         this.parentLimit = parentLimit;
@@ -131,6 +140,8 @@ public final class VirtualBuffer {
         if (clean.tryAcquire()) {
             if (bufferPage != null) {
                 bufferPage.clean(this);
+            } else if (cleaner != null) {
+                cleaner.run();
             }
         } else {
             throw new UnsupportedOperationException("buffer has cleaned");
@@ -88,6 +88,10 @@ public final class WriteBuffer extends OutputStream {
      */
     private byte[] cacheByte;
     private Consumer<WriteBuffer> completionConsumer;
+    /**
+     * 队列已满时暂存的最新数据，队列腾出空间后进入队尾，期间被更新的数据替换
+     */
+    private VirtualBuffer latest;
 
     public WriteBuffer(BufferPage bufferPage, Consumer<VirtualBuffer> writeConsumer, int chunkSize, int capacity) {
         this.bufferPage = bufferPage;
@@ -295,6 +299,54 @@ public final class WriteBuffer extends OutputStream {
         }
     }
 
+    /**
+     * 以非阻塞的方式将数据加入输出队列，数据输出完毕后调用{@link VirtualBuffer#clean()}
+     *
+     * @param virtualBuffer 待输出的数据
+     * @return false:队列已满或已关闭，数据未加入队列
+     */
+    public synchronized boolean offer(VirtualBuffer virtualBuffer) {
+        final boolean buffered = writeInBuf != null && writeInBuf.buffer().position() > 0;
+        if (closed || items.length - count < (buffered ? 2 : 1)) {
+            return false;
+        }
+        // 先输出已写入的数据以保证顺序
+        if (buffered) {
+            flushWriteBuffer(true);
+        }
+        if (count == 0 && semaphore.tryAcquire()) {
+            writeConsumer.accept(virtualBuffer);
+            return true;
+        }
+        items[putIndex] = virtualBuffer;
+        if (++putIndex == items.length) {
+            putIndex = 0;
+        }
+        count++;
+        flush();
+        return true;
+    }
+
+    /**
+     * 以非阻塞的方式输出数据，队列已满时仅保留最新的一份，被替换的数据直接回收
+     *
+     * @param virtualBuffer 待输出的数据
+     * @return false:已关闭，数据未加入队列
+     */
+    public synchronized boolean offerLatest(VirtualBuffer virtualBuffer) {
+        if (offer(virtualBuffer)) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        if (latest != null) {
+            latest.clean();
+        }
+        latest = virtualBuffer;
+        return true;
+    }
+
     /**
      * 初始化8字节的缓存数值
      */
@@ -334,6 +386,10 @@ public final class WriteBuffer extends OutputStream {
         while ((byteBuf = poll()) != null) {
             byteBuf.clean();
         }
+        if (latest != null) {
+            latest.clean();
+            latest = null;
+        }
     }
 
     /**
@@ -363,6 +419,15 @@ public final class WriteBuffer extends OutputStream {
         if (++takeIndex == items.length) {
             takeIndex = 0;
         }
+        if (latest != null) {
+            // 腾出的位置留给暂存的最新数据，队列仍保持已满
+            items[putIndex] = latest;
+            latest = null;
+            if (++putIndex == items.length) {
+                putIndex = 0;
+            }
+            return x;
+        }
         if (count-- == items.length) {
             this.notifyAll();
         }
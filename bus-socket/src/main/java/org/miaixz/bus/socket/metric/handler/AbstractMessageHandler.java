@@ -71,6 +71,20 @@ public abstract class AbstractMessageHandler<T> implements Handler<T>, Monitor {
         }
     }
 
+    @Override
+    public final void afterEnqueue(Session session, int pending, long pendingBytes) {
+        for (Plugin<T> plugin : plugins) {
+            plugin.afterEnqueue(session, pending, pendingBytes);
+        }
+    }
+
+    @Override
+    public final void afterDequeue(Session session, int pending, long pendingBytes) {
+        for (Plugin<T> plugin : plugins) {
+            plugin.afterDequeue(session, pending, pendingBytes);
+        }
+    }
+
     @Override
     public final AsynchronousSocketChannel shouldAccept(AsynchronousSocketChannel channel) {
         AsynchronousSocketChannel acceptChannel = channel;
@@ -0,0 +1,168 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.metric.message;
+
+import java.nio.ByteBuffer;
+
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.socket.Message;
+import org.miaixz.bus.socket.Session;
+
+/**
+ * 长度字段模式
+ * <p>
+ * 帧头中指定位置的长度字段（大端序，1/2/4/8 字节）描述后续内容的长度，帧长 = 长度字段之前的字节数 + 长度字段字节数 + 长度字段值 + 长度修正值。
+ * 帧超过当前读缓冲区时通过{@link Session#requireReadBuffer(int)}提示扩容，需配合
+ * {@link org.miaixz.bus.socket.accord.AioServer#setReadBufferSize(int, int)}设置不小于{@code maxFrameLength}的扩容上限。
+ * </p>
+ * 交给{@link #decodeFrame(ByteBuffer, Session)}的帧为读缓冲区上的只读视图，仅在本次调用内有效，需异步处理或保留时请自行复制。
+ *
+ * @param <T> 消息对象实体类型
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public abstract class LengthFieldMessage<T> implements Message<T> {
+
+    /**
+     * 帧长上限
+     */
+    private final int maxFrameLength;
+    /**
+     * 长度字段的偏移量
+     */
+    private final int lengthFieldOffset;
+    /**
+     * 长度字段的字节数
+     */
+    private final int lengthFieldLength;
+    /**
+     * 长度字段结束的位置
+     */
+    private final int lengthFieldEnd;
+    /**
+     * 长度修正值，长度字段值包含帧头时为负数
+     */
+    private final int lengthAdjustment;
+    /**
+     * 交给业务解码前跳过的帧头字节数
+     */
+    private final int initialBytesToStrip;
+
+    /**
+     * 构造，帧格式为 4 字节长度 + 内容，解码时去除长度字段，与{@link FixedLengthBytesMessage}兼容
+     *
+     * @param maxFrameLength 帧长上限
+     */
+    protected LengthFieldMessage(final int maxFrameLength) {
+        this(maxFrameLength, 0, Integer.BYTES, 0, Integer.BYTES);
+    }
+
+    /**
+     * 构造
+     *
+     * @param maxFrameLength      帧长上限
+     * @param lengthFieldOffset   长度字段的偏移量
+     * @param lengthFieldLength   长度字段的字节数，仅支持 1、2、4、8
+     * @param lengthAdjustment    长度修正值
+     * @param initialBytesToStrip 交给业务解码前跳过的帧头字节数
+     */
+    protected LengthFieldMessage(final int maxFrameLength, final int lengthFieldOffset, final int lengthFieldLength,
+            final int lengthAdjustment, final int initialBytesToStrip) {
+        if (lengthFieldLength != 1 && lengthFieldLength != 2 && lengthFieldLength != 4 && lengthFieldLength != 8) {
+            throw new IllegalArgumentException("lengthFieldLength must be either 1, 2, 4, or 8: " + lengthFieldLength);
+        }
+        if (lengthFieldOffset < 0 || initialBytesToStrip < 0) {
+            throw new IllegalArgumentException("lengthFieldOffset and initialBytesToStrip must be non-negative");
+        }
+        if (maxFrameLength < lengthFieldOffset + lengthFieldLength) {
+            throw new IllegalArgumentException("maxFrameLength must not be less than lengthFieldOffset + "
+                    + "lengthFieldLength: " + maxFrameLength);
+        }
+        this.maxFrameLength = maxFrameLength;
+        this.lengthFieldOffset = lengthFieldOffset;
+        this.lengthFieldLength = lengthFieldLength;
+        this.lengthFieldEnd = lengthFieldOffset + lengthFieldLength;
+        this.lengthAdjustment = lengthAdjustment;
+        this.initialBytesToStrip = initialBytesToStrip;
+    }
+
+    @Override
+    public final T decode(final ByteBuffer readBuffer, final Session session) {
+        if (readBuffer.remaining() < lengthFieldEnd) {
+            return null;
+        }
+        final int position = readBuffer.position();
+        final long frameLength = getLength(readBuffer, position + lengthFieldOffset) + lengthAdjustment
+                + lengthFieldEnd;
+        if (frameLength < lengthFieldEnd || frameLength > maxFrameLength) {
+            throw new InternalException("Adjusted frame length " + frameLength + " is out of range ["
+                    + lengthFieldEnd + ", " + maxFrameLength + "]");
+        }
+        if (frameLength < initialBytesToStrip) {
+            throw new InternalException("Adjusted frame length " + frameLength + " is less than initialBytesToStrip "
+                    + initialBytesToStrip);
+        }
+        if (readBuffer.remaining() < frameLength) {
+            // 半包，帧超过缓冲区容量时提示扩容
+            if (frameLength > readBuffer.capacity()) {
+                session.requireReadBuffer((int) frameLength);
+            }
+            return null;
+        }
+        final ByteBuffer frame = readBuffer
+                .slice(position + initialBytesToStrip, (int) frameLength - initialBytesToStrip).asReadOnlyBuffer();
+        readBuffer.position(position + (int) frameLength);
+        return decodeFrame(frame, session);
+    }
+
+    /**
+     * 读取长度字段的值，不改变读缓冲区的位置
+     *
+     * @param readBuffer 读缓冲区
+     * @param offset     长度字段的绝对位置
+     * @return 长度
+     */
+    private long getLength(final ByteBuffer readBuffer, final int offset) {
+        return switch (lengthFieldLength) {
+        case 1 -> readBuffer.get(offset) & 0xFF;
+        case 2 -> readBuffer.getShort(offset) & 0xFFFF;
+        case 4 -> readBuffer.getInt(offset) & 0xFFFFFFFFL;
+        default -> readBuffer.getLong(offset);
+        };
+    }
+
+    /**
+     * 解码完整的帧
+     *
+     * @param frame   去除帧头后的只读视图，仅在本次调用内有效
+     * @param session 本次需要解码的session
+     * @return 业务消息对象
+     */
+    protected abstract T decodeFrame(ByteBuffer frame, Session session);
+
+}
@@ -28,6 +28,7 @@
 package org.miaixz.bus.socket.plugin;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.miaixz.bus.logger.Logger;
@@ -75,6 +76,22 @@ public final class MonitorPlugin<T> extends AbstractPlugin<T> implements Runnabl
      * 当前周期内执行 write 操作次数
      */
     private final LongAdder writeCount = new LongAdder();
+    /**
+     * 当前周期内进入待处理队列的消息数
+     */
+    private final LongAdder enqueueCount = new LongAdder();
+    /**
+     * 所有会话当前待处理的消息数
+     */
+    private final LongAdder pendingCount = new LongAdder();
+    /**
+     * 当前周期内单个会话待处理队列的最大深度
+     */
+    private final LongAccumulator maxPending = new LongAccumulator(Math::max, 0);
+    /**
+     * 当前周期内因达到高水位暂停读取的次数
+     */
+    private final LongAdder suspendCount = new LongAdder();
     /**
      * 任务执行频率
      */
@@ -125,6 +142,9 @@ public final class MonitorPlugin<T> extends AbstractPlugin<T> implements Runnabl
         case SESSION_CLOSED:
             disConnect.increment();
             break;
+        case READ_SUSPENDED:
+            suspendCount.increment();
+            break;
         default:
             break;
         }
@@ -140,6 +160,9 @@ public final class MonitorPlugin<T> extends AbstractPlugin<T> implements Runnabl
         long disConnectCount = getAndReset(disConnect);
         long curReadCount = getAndReset(readCount);
         long curWriteCount = getAndReset(writeCount);
+        long curEnqueueCount = getAndReset(enqueueCount);
+        long curSuspendCount = getAndReset(suspendCount);
+        long curMaxPending = maxPending.getThenReset();
         onlineCount += connectCount - disConnectCount;
         totalProcessMsgNum += curProcessMsgNum;
         totalConnect += connectCount;
@@ -147,6 +170,10 @@ public final class MonitorPlugin<T> extends AbstractPlugin<T> implements Runnabl
                 + "\r\noutflow:\t" + curOutFlow * 1.0 / (1024 * 1024) + "(MB)" + "\r\nprocess fail:\t" + curDiscardNum
                 + "\r\nprocess count:\t" + curProcessMsgNum + "\r\nprocess total:\t" + totalProcessMsgNum
                 + "\r\nread count:\t" + curReadCount + "\twrite count:\t" + curWriteCount
+                + (curEnqueueCount == 0 ? ""
+                        : "\r\nenqueue count:\t" + curEnqueueCount + "\r\npending count:\t"
+                                + pendingCount.sum() + "\r\nmax pending:\t" + curMaxPending
+                                + "\r\nread suspended:\t" + curSuspendCount)
                 + (udp ? ""
                         : "\r\nconnect count:\t" + connectCount + "\r\ndisconnect count:\t" + disConnectCount
                                 + "\r\nonline count:\t" + onlineCount + "\r\nconnected total:\t" + totalConnect)
@@ -184,4 +211,16 @@ public final class MonitorPlugin<T> extends AbstractPlugin<T> implements Runnabl
         writeCount.increment();
     }
 
+    @Override
+    public void afterEnqueue(Session session, int pending, long pendingBytes) {
+        enqueueCount.increment();
+        pendingCount.increment();
+        maxPending.accumulate(pending);
+    }
+
+    @Override
+    public void afterDequeue(Session session, int pending, long pendingBytes) {
+        pendingCount.decrement();
+    }
+
 }
@@ -27,23 +27,44 @@
 */
 package org.miaixz.bus.socket.plugin;
 
+import java.io.IOException;
 import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.TimeUnit;
 
+import org.miaixz.bus.logger.Logger;
 import org.miaixz.bus.socket.Session;
 import org.miaixz.bus.socket.Status;
 import org.miaixz.bus.socket.accord.AioClient;
+import org.miaixz.bus.socket.metric.HashedWheelTimer;
 
 /**
  * 断链重连插件
+ * <p>
+ * 仅处理所属客户端的会话，多个客户端可共用同一消息处理器。重连失败时按指数退避重试，直至重连成功或调用{@link #shutdown()}
+ * </p>
  *
  * @author Kimi Liu
  * @since Java 17+
  */
-class ReconnectPlugin extends AbstractPlugin {
+public class ReconnectPlugin<T> extends AbstractPlugin<T> {
+
+    /**
+     * 首次重试的间隔，毫秒
+     */
+    private static final long MIN_DELAY = 100;
+    /**
+     * 重试间隔上限，毫秒
+     */
+    private static final long MAX_DELAY = 10_000;
 
     private final AsynchronousChannelGroup asynchronousChannelGroup;
     private final AioClient client;
-    private boolean shutdown = false;
+    private volatile boolean shutdown = false;
+    /**
+     * 当前重试间隔，重连成功后清零
+     */
+    private long delay;
 
     public ReconnectPlugin(AioClient client) {
         this(client, null);
@@ -56,20 +77,51 @@ class ReconnectPlugin extends AbstractPlugin {
 
     @Override
     public void stateEvent(Status status, Session session, Throwable throwable) {
-        if (status != Status.SESSION_CLOSED || shutdown) {
+        if (status != Status.SESSION_CLOSED || shutdown || session != client.getSession()) {
+            return;
+        }
+        reconnect();
+    }
+
+    /**
+     * 异步重连，避免在 IO 线程中阻塞等待连接建立
+     */
+    private void reconnect() {
+        if (shutdown) {
             return;
         }
+        final CompletionHandler<Session, ReconnectPlugin<T>> handler = new CompletionHandler<>() {
+            @Override
+            public void completed(Session session, ReconnectPlugin<T> plugin) {
+                plugin.delay = 0;
+                if (plugin.shutdown) {
+                    plugin.client.shutdownNow();
+                }
+            }
+
+            @Override
+            public void failed(Throwable exc, ReconnectPlugin<T> plugin) {
+                plugin.retry(exc);
+            }
+        };
         try {
             if (asynchronousChannelGroup == null) {
-                client.start();
+                client.start(this, handler);
             } else {
-                client.start(asynchronousChannelGroup);
+                client.start(asynchronousChannelGroup, this, handler);
             }
-        } catch (Exception e) {
-            shutdown = true;
-            e.printStackTrace();
+        } catch (IOException e) {
+            retry(e);
         }
+    }
 
+    private void retry(Throwable throwable) {
+        if (shutdown) {
+            return;
+        }
+        delay = Math.min(MAX_DELAY, delay == 0 ? MIN_DELAY : delay << 1);
+        Logger.warn("Reconnect failed: {}, retry in {}ms", throwable.getMessage(), delay);
+        HashedWheelTimer.DEFAULT_TIMER.schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
     }
 
     public void shutdown() {
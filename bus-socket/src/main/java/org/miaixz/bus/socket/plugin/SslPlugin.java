@@ -28,12 +28,14 @@
 package org.miaixz.bus.socket.plugin;
 
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import javax.net.ssl.SSLEngine;
 
 import org.miaixz.bus.socket.buffer.BufferPagePool;
 import org.miaixz.bus.socket.secure.ssl.ClientAuth;
+import org.miaixz.bus.socket.secure.ssl.HandshakeMetrics;
 import org.miaixz.bus.socket.secure.ssl.SslAsynchronousSocketChannel;
 import org.miaixz.bus.socket.secure.ssl.SslService;
 import org.miaixz.bus.socket.secure.ssl.factory.ClientSSLContextFactory;
@@ -101,6 +103,38 @@ public final class SslPlugin<T> extends AbstractPlugin<T> {
         return new SslAsynchronousSocketChannel(channel, sslService, bufferPagePool.allocateBufferPage());
     }
 
+    /**
+     * 设置会话缓存
+     *
+     * @param size    缓存的会话数上限，0 表示不限制
+     * @param timeout 会话有效期，单位：秒，0 表示不过期
+     * @return 当前插件
+     */
+    public SslPlugin<T> setSessionCache(int size, int timeout) {
+        sslService.setSessionCache(size, timeout);
+        return this;
+    }
+
+    /**
+     * 设置执行握手委托任务的线程池，为空时在 IO 线程中执行
+     *
+     * @param executor 线程池
+     * @return 当前插件
+     */
+    public SslPlugin<T> setHandshakeExecutor(Executor executor) {
+        sslService.setHandshakeExecutor(executor);
+        return this;
+    }
+
+    /**
+     * 握手统计
+     *
+     * @return 统计信息
+     */
+    public HandshakeMetrics getHandshakeMetrics() {
+        return sslService.getMetrics();
+    }
+
     public void debug(boolean debug) {
         sslService.debug(debug);
     }
@@ -0,0 +1,112 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.socket.secure.ssl;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SSL/TLS 握手统计，自{@link SslService}创建起累计，握手速率可按采样间隔内的增量计算
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public final class HandshakeMetrics {
+
+    /**
+     * 完成的握手数
+     */
+    private final LongAdder handshakes = new LongAdder();
+    /**
+     * 通过会话恢复完成的握手数
+     */
+    private final LongAdder resumed = new LongAdder();
+    /**
+     * 失败的握手数
+     */
+    private final LongAdder failed = new LongAdder();
+    /**
+     * 完成的握手累计耗时，纳秒
+     */
+    private final LongAdder totalNanos = new LongAdder();
+    /**
+     * 单次握手的最大耗时，纳秒
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void success(final long nanos, final boolean resumption) {
+        handshakes.increment();
+        if (resumption) {
+            resumed.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    void fail() {
+        failed.increment();
+    }
+
+    public long getHandshakes() {
+        return handshakes.sum();
+    }
+
+    public long getResumed() {
+        return resumed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 平均握手耗时
+     *
+     * @return 纳秒
+     */
+    public long getAverageNanos() {
+        final long count = handshakes.sum();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    /**
+     * 最大握手耗时
+     *
+     * @return 纳秒
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "HandshakeMetrics{handshakes=" + getHandshakes() + ", resumed=" + getResumed() + ", failed="
+                + getFailed() + ", averageNanos=" + getAverageNanos() + ", maxNanos=" + getMaxNanos() + '}';
+    }
+
+}
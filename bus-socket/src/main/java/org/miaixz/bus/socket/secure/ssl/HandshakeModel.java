@@ -51,6 +51,8 @@ public class HandshakeModel {
     private HandshakeCallback handshakeCallback;
     private Throwable exception;
     private boolean finished;
+    private long startNanos;
+    private long startMillis;
 
     public AsynchronousSocketChannel getSocketChannel() {
         return socketChannel;
@@ -124,4 +126,20 @@ public class HandshakeModel {
         this.exception = exception;
     }
 
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public void setStartNanos(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public void setStartMillis(long startMillis) {
+        this.startMillis = startMillis;
+    }
+
 }
@@ -28,19 +28,30 @@
 package org.miaixz.bus.socket.secure.ssl;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.net.ssl.*;
 
+import org.miaixz.bus.core.xyz.ThreadKit;
 import org.miaixz.bus.logger.Logger;
 import org.miaixz.bus.socket.buffer.BufferPage;
 import org.miaixz.bus.socket.metric.channels.AsynchronousChannelProvider;
 
 /**
  * TLS/SSL服务 keytool -genkey -validity 36000 -alias www.miaixz.org -keyalg RSA -keystore server.keystore
+ * <p>
+ * 握手中耗 CPU 的委托任务（证书校验、密钥交换等）默认交给有界的握手线程池执行，不占用 IO 线程；线程池已满时退回由当前线程执行。
+ * 会话缓存通过{@link #setSessionCache(int, int)}设置，服务端同时用于会话 ID 与会话票据的恢复，客户端按服务端地址复用会话。
+ * </p>
  *
  * @author Kimi Liu
  * @since Java 17+
@@ -49,6 +60,14 @@ public final class SslService {
 
     private final SSLContext sslContext;
     private final Consumer<SSLEngine> consumer;
+    /**
+     * 握手统计
+     */
+    private final HandshakeMetrics metrics = new HandshakeMetrics();
+    /**
+     * 执行握手委托任务的线程池，为空时在 IO 线程中执行
+     */
+    private Executor handshakeExecutor = HandshakeExecutor.INSTANCE;
     private boolean debug;
 
     public SslService(SSLContext sslContext, Consumer<SSLEngine> consumer) {
@@ -59,7 +78,13 @@ public final class SslService {
     HandshakeModel createSSLEngine(AsynchronousSocketChannel socketChannel, BufferPage bufferPage) {
         try {
             HandshakeModel handshakeModel = new HandshakeModel();
-            SSLEngine sslEngine = sslContext.createSSLEngine();
+            handshakeModel.setStartNanos(System.nanoTime());
+            handshakeModel.setStartMillis(System.currentTimeMillis());
+            // 指定对端地址，客户端才能从会话缓存中找到可恢复的会话
+            SocketAddress remote = socketChannel.getRemoteAddress();
+            SSLEngine sslEngine = remote instanceof InetSocketAddress address
+                    ? sslContext.createSSLEngine(address.getHostString(), address.getPort())
+                    : sslContext.createSSLEngine();
             SSLSession session = sslEngine.getSession();
 
             // 更新SSLEngine配置
@@ -192,6 +217,10 @@ public final class SslService {
                     }
                     break;
                 case NEED_TASK:
+                    if (handshakeExecutor != null) {
+                        handshakeExecutor.execute(() -> runDelegatedTasks(handshakeModel));
+                        return;
+                    }
                     Runnable task;
                     while ((task = engine.getDelegatedTask()) != null) {
                         task.run();
@@ -211,6 +240,10 @@ public final class SslService {
                     throw new IllegalStateException("Invalid SSL status: " + handshakeStatus);
                 }
             }
+            SSLSession session = engine.getSession();
+            // 恢复的会话沿用原会话的创建时间
+            metrics.success(System.nanoTime() - handshakeModel.getStartNanos(),
+                    session.getCreationTime() < handshakeModel.getStartMillis());
             handshakeModel.getHandshakeCallback().callback();
         } catch (Exception e) {
             if (debug) {
@@ -220,6 +253,60 @@ public final class SslService {
         }
     }
 
+    /**
+     * 在握手线程池中执行委托任务，完成后继续握手
+     *
+     * @param handshakeModel 握手上下文
+     */
+    private void runDelegatedTasks(HandshakeModel handshakeModel) {
+        synchronized (handshakeModel) {
+            try {
+                Runnable task;
+                while ((task = handshakeModel.getSslEngine().getDelegatedTask()) != null) {
+                    task.run();
+                }
+            } catch (Exception e) {
+                handshakeCompletionHandler.failed(e, handshakeModel);
+                return;
+            }
+            doHandshake(handshakeModel);
+        }
+    }
+
+    /**
+     * 设置会话缓存，服务端用于会话 ID 及会话票据的恢复，客户端用于向同一服务端发起恢复
+     *
+     * @param size    缓存的会话数上限，0 表示不限制
+     * @param timeout 会话有效期，单位：秒，0 表示不过期
+     */
+    public void setSessionCache(int size, int timeout) {
+        for (SSLSessionContext context : new SSLSessionContext[] { sslContext.getServerSessionContext(),
+                sslContext.getClientSessionContext() }) {
+            if (context != null) {
+                context.setSessionCacheSize(size);
+                context.setSessionTimeout(timeout);
+            }
+        }
+    }
+
+    /**
+     * 设置执行握手委托任务的线程池，为空时在 IO 线程中执行
+     *
+     * @param handshakeExecutor 线程池
+     */
+    public void setHandshakeExecutor(Executor handshakeExecutor) {
+        this.handshakeExecutor = handshakeExecutor;
+    }
+
+    /**
+     * 握手统计
+     *
+     * @return 统计信息
+     */
+    public HandshakeMetrics getMetrics() {
+        return metrics;
+    }
+
     public void debug(boolean debug) {
         this.debug = debug;
     }
@@ -244,9 +331,22 @@ public final class SslService {
 
         @Override
         public void failed(Throwable exc, HandshakeModel attachment) {
+            metrics.fail();
             attachment.setException(exc);
             attachment.getHandshakeCallback().callback();
         }
     };
 
+    /**
+     * 默认的握手线程池，线程数与 CPU 核数一致，队列已满时由提交任务的线程执行
+     */
+    private static final class HandshakeExecutor {
+
+        private static final Executor INSTANCE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().availableProcessors(), 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1024),
+                ThreadKit.newNamedThreadFactory("bus-socket:ssl-handshake-", true),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+    }
+
 }
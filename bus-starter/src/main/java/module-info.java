@@ -73,6 +73,7 @@ module bus.starter {
     requires spring.core;
     requires spring.expression;
     requires spring.jdbc;
+    requires spring.tx;
     requires spring.web;
     requires spring.webflux;
     requires spring.webmvc;
@@ -47,7 +47,20 @@ import org.springframework.stereotype.Component;
  */
 public class DataSourceHolder {
 
-    private static final ThreadLocal<String> DATA_SOURCE_KEY = ThreadLocal.withInitial(() -> "dataSource");
+    /**
+     * 默认数据源的key
+     */
+    public static final String DEFAULT = "dataSource";
+
+    private static final ThreadLocal<String> DATA_SOURCE_KEY = ThreadLocal.withInitial(() -> DEFAULT);
+    /**
+     * 当前操作是否只读，由只读事务及查询语句设置
+     */
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    /**
+     * 当前请求是否已发生写操作，写操作后的读取保持在主库
+     */
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
 
     /**
      * Get current DataSource
@@ -74,6 +87,56 @@ public class DataSourceHolder {
         DATA_SOURCE_KEY.remove();
     }
 
+    /**
+     * 当前操作是否只读
+     *
+     * @return the true/false
+     */
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+
+    /**
+     * 设置当前操作是否只读
+     *
+     * @param readOnly 是否只读
+     * @return 设置前的值，用于恢复
+     */
+    public static boolean setReadOnly(boolean readOnly) {
+        boolean previous = isReadOnly();
+        if (readOnly) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * 当前请求是否已发生写操作
+     *
+     * @return the true/false
+     */
+    public static boolean isWritten() {
+        return Boolean.TRUE.equals(WRITTEN.get());
+    }
+
+    /**
+     * 标记当前请求已发生写操作，此后的读取不再路由到从库
+     */
+    public static void markWritten() {
+        WRITTEN.set(Boolean.TRUE);
+    }
+
+    /**
+     * 请求结束时清理当前线程的数据源key、只读及写操作标记
+     */
+    public static void clear() {
+        DATA_SOURCE_KEY.remove();
+        READ_ONLY.remove();
+        WRITTEN.remove();
+    }
+
     @Order(-1)
     @Aspect
     @Component
@@ -27,41 +27,63 @@
 */
 package org.miaixz.bus.starter.jdbc;
 
-import java.lang.reflect.Field;
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.miaixz.bus.core.lang.Normal;
-import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.core.xyz.ThreadKit;
 import org.miaixz.bus.logger.Logger;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * 多数据源支持
+ * 多数据源支持，数据源注册表为写时复制的不可变映射，读取无锁。
+ * <p>
+ * 开启读写分离后，只读事务及查询语句路由到当前主库的从库组，同一请求发生写操作后保持在主库
  *
  * @author Kimi Liu
  * @since Java 17+
  */
 public class DynamicDataSource extends AbstractRoutingDataSource {
 
-    /**
-     * 所有数据源的key集合
-     */
-    private static final Set<Object> keySet = new LinkedHashSet<>();
     private static final byte[] lock = Normal.EMPTY_BYTE_ARRAY;
     /**
      * 单例句柄
      */
     private static volatile DynamicDataSource instance;
 
+    /**
+     * 所有数据源
+     */
+    private final AtomicReference<Map<Object, javax.sql.DataSource>> sources = new AtomicReference<>(
+            Collections.emptyMap());
+    /**
+     * 主库key与从库组
+     */
+    private final AtomicReference<Map<Object, ReplicaGroup>> groups = new AtomicReference<>(
+            Collections.emptyMap());
+    /**
+     * 是否开启读写分离
+     */
+    private volatile boolean routing;
+    /**
+     * 复制延迟探测
+     */
+    private ScheduledExecutorService prober;
+
     /**
      * 单例方法
      *
      * @return the DynamicDataSource
      */
-    public static synchronized DynamicDataSource getInstance() {
+    public static DynamicDataSource getInstance() {
         if (null == instance) {
             synchronized (lock) {
                 if (null == instance) {
@@ -78,26 +100,88 @@ public class DynamicDataSource extends AbstractRoutingDataSource {
      * @param key        数据源key
      * @param dataSource 数据源信息
      */
-    public synchronized static void addDataSource(String key, javax.sql.DataSource dataSource) {
-        if (null != dataSource && dataSource instanceof AbstractRoutingDataSource) {
-            try {
-                Field sourceMapField = AbstractRoutingDataSource.class.getDeclaredField("resolvedDataSources");
-                sourceMapField.setAccessible(true);
-                Map<Object, javax.sql.DataSource> sourceMap = (Map<Object, javax.sql.DataSource>) sourceMapField
-                        .get(getInstance().getDefaultDataSource());
-                sourceMap.put(key, dataSource);
-                keySet.add(key);
-                sourceMapField.setAccessible(false);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+    public static void addDataSource(String key, javax.sql.DataSource dataSource) {
+        if (null != dataSource) {
+            getInstance().putDataSource(key, dataSource);
         }
     }
 
+    /**
+     * 增加数据源，已存在时替换
+     *
+     * @param key        数据源key
+     * @param dataSource 数据源信息
+     */
+    public void putDataSource(Object key, javax.sql.DataSource dataSource) {
+        update(this.sources, map -> map.put(key, dataSource));
+    }
+
+    /**
+     * 为主库增加从库
+     *
+     * @param primary 主库key
+     * @param key     从库key
+     * @param replica 从库数据源
+     * @param weight  权重
+     */
+    public void addReplica(Object primary, String key, javax.sql.DataSource replica, int weight) {
+        javax.sql.DataSource master = this.sources.get().get(primary);
+        if (null == master) {
+            Logger.warn("can not found primary datasource by key: '{}', replica '{}' is ignored", primary, key);
+            return;
+        }
+        Replica member = new Replica(key, replica, weight);
+        putDataSource(key, replica);
+        update(this.groups, map -> map.merge(primary, new ReplicaGroup(master, member),
+                (group, ignore) -> group.with(member)));
+        Logger.info("Add replica [{}] for datasource [{}] with weight {}", key, primary, member.getWeight());
+    }
+
+    /**
+     * 开启读写分离，并按指定间隔探测从库复制延迟；未配置延迟查询时按相同间隔校验被标记为不可用的从库，连接恢复后重新启用
+     *
+     * @param lagQuery 延迟查询语句，为空时不探测延迟
+     * @param maxLag   允许的最大延迟(毫秒)
+     * @param interval 探测间隔(毫秒)
+     * @param timeout  查询超时时间(秒)
+     */
+    public synchronized void setRouting(String lagQuery, long maxLag, long interval, int timeout) {
+        this.routing = true;
+        if (null == this.prober) {
+            boolean lag = StringKit.isNotBlank(lagQuery);
+            this.prober = Executors
+                    .newSingleThreadScheduledExecutor(ThreadKit.newNamedThreadFactory("replica-probe-", true));
+            this.prober.scheduleWithFixedDelay(() -> {
+                for (ReplicaGroup group : this.groups.get().values()) {
+                    for (Replica replica : group.getReplicas()) {
+                        try {
+                            if (lag) {
+                                replica.probe(lagQuery, maxLag, timeout);
+                            } else if (!replica.isAvailable()) {
+                                replica.validate(timeout);
+                            }
+                        } catch (RuntimeException e) {
+                            // 避免异常终止定时任务
+                            Logger.warn("Replica [{}] probe failed: {}", replica.getKey(), e.getMessage());
+                        }
+                    }
+                }
+            }, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 是否开启读写分离
+     *
+     * @return the true/false
+     */
+    public boolean isRouting() {
+        return routing;
+    }
+
     @Override
     public void setTargetDataSources(Map<Object, Object> map) {
         super.setTargetDataSources(map);
-        keySet.add(map.keySet());
         this.afterPropertiesSet();
     }
 
@@ -109,28 +193,45 @@ public class DynamicDataSource extends AbstractRoutingDataSource {
     @Override
     protected Object determineCurrentLookupKey() {
         String key = DataSourceHolder.getKey();
-        if (!keySet.contains(key)) {
-            Logger.info(String.format("can not found datasource by key: '%s',this session may use default datasource",
-                    key));
+        if (!this.sources.get().containsKey(key)) {
+            Logger.info("can not found datasource by key: '{}',this session may use default datasource", key);
         }
-        Logger.debug("The current datasource key ：{}", Objects.requireNonNullElse(key, "dataSource"));
+        Logger.debug("The current datasource key ：{}", key);
         return key;
     }
 
     /**
-     * 在获取key的集合,目的只是为了添加一些告警日志
+     * 从无锁的数据源映射中查找当前数据源，只读操作路由到从库组
+     *
+     * @return 数据源
+     */
+    @Override
+    protected javax.sql.DataSource determineTargetDataSource() {
+        Object key = determineCurrentLookupKey();
+        if (this.routing && !DataSourceHolder.isWritten() && (DataSourceHolder.isReadOnly()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            ReplicaGroup group = this.groups.get().get(key);
+            if (null != group) {
+                return group;
+            }
+        }
+        javax.sql.DataSource dataSource = this.sources.get().get(key);
+        return null == dataSource ? getDefaultDataSource() : dataSource;
+    }
+
+    /**
+     * 从 Spring 解析的数据源初始化数据源映射
      */
     @Override
     public void afterPropertiesSet() {
         super.afterPropertiesSet();
-        try {
-            Field sourceMapField = AbstractRoutingDataSource.class.getDeclaredField("resolvedDataSources");
-            sourceMapField.setAccessible(true);
-            Map<Object, javax.sql.DataSource> sourceMap = (Map<Object, javax.sql.DataSource>) sourceMapField.get(this);
-            keySet.addAll(sourceMap.keySet());
-            sourceMapField.setAccessible(false);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new InternalException(e);
+        update(this.sources, map -> map.putAll(getResolvedDataSources()));
+        if (null == instance) {
+            synchronized (lock) {
+                if (null == instance) {
+                    instance = this;
+                }
+            }
         }
     }
 
@@ -141,7 +242,17 @@ public class DynamicDataSource extends AbstractRoutingDataSource {
      * @return the true/false
      */
     public boolean containsKey(String key) {
-        return keySet.contains(key);
+        return this.sources.get().containsKey(key);
+    }
+
+    /**
+     * 获取从库组
+     *
+     * @param key 主库key
+     * @return 从库组，不存在时返回null
+     */
+    public ReplicaGroup getReplicaGroup(String key) {
+        return this.groups.get().get(key);
     }
 
     /**
@@ -150,7 +261,35 @@ public class DynamicDataSource extends AbstractRoutingDataSource {
      * @return the dataSource
      */
     public javax.sql.DataSource getDefaultDataSource() {
-        return super.determineTargetDataSource();
+        javax.sql.DataSource dataSource = getResolvedDefaultDataSource();
+        return null == dataSource ? super.determineTargetDataSource() : dataSource;
+    }
+
+    /**
+     * 停止复制延迟探测
+     */
+    public synchronized void close() {
+        if (null != this.prober) {
+            this.prober.shutdownNow();
+            this.prober = null;
+        }
+    }
+
+    /**
+     * 复制并修改映射后整体替换，替换失败时重试
+     *
+     * @param reference 映射引用
+     * @param operator  修改操作
+     * @param <V>       值类型
+     */
+    private static <V> void update(AtomicReference<Map<Object, V>> reference, Consumer<Map<Object, V>> operator) {
+        Map<Object, V> current;
+        Map<Object, V> next;
+        do {
+            current = reference.get();
+            next = new HashMap<>(current);
+            operator.accept(next);
+        } while (!reference.compareAndSet(current, Collections.unmodifiableMap(next)));
     }
 
 }
@@ -27,7 +27,9 @@
 */
 package org.miaixz.bus.starter.jdbc;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -40,8 +42,11 @@ import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.core.xyz.StringKit;
 import org.miaixz.bus.crypto.Builder;
 import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.spring.GeniusBuilder;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.bind.Bindable;
@@ -50,15 +55,23 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyN
 import org.springframework.boot.context.properties.source.ConfigurationPropertyNameAliases;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cglib.beans.BeanMap;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import jakarta.annotation.Resource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * 数据源配置
@@ -94,7 +107,8 @@ public class JdbcConfiguration {
     public DynamicDataSource dataSource() {
         Map defaultConfig = beanToMap(this.properties);
         DataSource defaultDatasource = bind(defaultConfig);
-        sourceMap.put("dataSource", defaultDatasource);
+        sourceMap.put(DataSourceHolder.DEFAULT, defaultDatasource);
+        Map<String, JdbcProperties> replicas = new LinkedHashMap<>();
         if (ObjectKit.isNotEmpty(this.properties.getMulti())) {
             Logger.info("Enabled Multiple DataSource");
             List<JdbcProperties> list = this.properties.getMulti();
@@ -104,12 +118,23 @@ public class JdbcConfiguration {
                     Map properties = new HashMap(defaultConfig);
                     properties.putAll(config);
                 }
+                if (StringKit.isNotEmpty(list.get(i).getReplicaOf())) {
+                    replicas.put(config.get("key").toString(), list.get(i));
+                }
                 sourceMap.put(config.get("key").toString(), bind(config));
             }
         }
         DynamicDataSource dataSource = new DynamicDataSource();
         dataSource.setDefaultTargetDataSource(defaultDatasource);
         dataSource.setTargetDataSources(sourceMap);
+        replicas.forEach((key, replica) -> dataSource.addReplica(replica.getReplicaOf(), key,
+                (DataSource) sourceMap.get(key), replica.getWeight()));
+        JdbcProperties.Routing routing = this.properties.getRouting();
+        if (null != routing && routing.isEnabled()) {
+            Logger.info("Enabled read/write splitting with {} replica(s)", replicas.size());
+            dataSource.setRouting(routing.getLagQuery(), routing.getMaxLag(), routing.getInterval(),
+                    routing.getTimeout());
+        }
         return dataSource;
     }
 
@@ -121,7 +146,25 @@ public class JdbcConfiguration {
      */
     @Bean
     public DataSourceTransactionManager transactionManager(DataSource dataSource) {
-        return new DataSourceTransactionManager(dataSource);
+        return new DataSourceTransactionManager(dataSource) {
+
+            /**
+             * 获取事务连接前设置只读标记，只读事务由此路由到从库，读写事务标记当前请求已发生写操作
+             */
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                if (!definition.isReadOnly()) {
+                    DataSourceHolder.markWritten();
+                }
+                boolean previous = DataSourceHolder.setReadOnly(definition.isReadOnly());
+                try {
+                    super.doBegin(transaction, definition);
+                } finally {
+                    DataSourceHolder.setReadOnly(previous);
+                }
+            }
+
+        };
     }
 
     /**
@@ -200,4 +243,35 @@ public class JdbcConfiguration {
         return binder.bind(ConfigurationPropertyName.EMPTY, Bindable.of(clazz)).get();
     }
 
+    /**
+     * 请求结束时清理读写分离标记，仅在 Servlet 应用开启读写分离时生效
+     */
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = GeniusBuilder.DATASOURCE + ".routing.enabled", havingValue = "true")
+    static class RoutingFilterConfiguration {
+
+        @Bean("registrationRoutingFilter")
+        public FilterRegistrationBean<RoutingFilter> registrationRoutingFilter() {
+            FilterRegistrationBean<RoutingFilter> registrationBean = new FilterRegistrationBean<>();
+            registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            registrationBean.setFilter(new RoutingFilter());
+            return registrationBean;
+        }
+
+    }
+
+    static class RoutingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                DataSourceHolder.clear();
+            }
+        }
+
+    }
+
 }
@@ -138,5 +138,47 @@ public class JdbcProperties {
      * 多数据源支持
      */
     private List<JdbcProperties> multi;
+    /**
+     * 作为从库时对应的主库key，为空表示不是从库
+     */
+    private String replicaOf;
+    /**
+     * 作为从库时的权重
+     */
+    private int weight = 1;
+    /**
+     * 读写分离配置
+     */
+    private Routing routing = new Routing();
+
+    /**
+     * 读写分离配置
+     */
+    @Getter
+    @Setter
+    public static class Routing {
+
+        /**
+         * 是否开启读写分离，开启后只读事务及查询语句路由到从库
+         */
+        private boolean enabled;
+        /**
+         * 复制延迟查询语句，返回延迟秒数，为空时不探测延迟，仅定期校验连接失败的从库
+         */
+        private String lagQuery;
+        /**
+         * 允许的最大复制延迟(毫秒)，超过时跳过该从库
+         */
+        private long maxLag = 1000;
+        /**
+         * 延迟探测及不可用从库的校验间隔(毫秒)
+         */
+        private long interval = 1000;
+        /**
+         * 延迟查询及连接校验超时时间(秒)
+         */
+        private int timeout = 1;
+
+    }
 
 }
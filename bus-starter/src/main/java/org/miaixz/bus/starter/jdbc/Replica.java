@@ -0,0 +1,232 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.starter.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.miaixz.bus.logger.Logger;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 从库数据源，记录当前借出的连接数及最近一次测得的复制延迟
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Replica extends DelegatingDataSource {
+
+    /**
+     * 从库的key
+     */
+    private final String key;
+    /**
+     * 权重
+     */
+    private final int weight;
+    /**
+     * 当前借出的连接数
+     */
+    private final AtomicInteger active = new AtomicInteger();
+    /**
+     * 最近一次测得的复制延迟(毫秒)，未测量时为0
+     */
+    private volatile long lag;
+    /**
+     * 是否可用，延迟超过阈值或探测失败时不可用
+     */
+    private volatile boolean available = true;
+
+    /**
+     * 构造
+     *
+     * @param key        从库的key
+     * @param dataSource 数据源
+     * @param weight     权重，小于1时按1处理
+     */
+    public Replica(String key, DataSource dataSource, int weight) {
+        super(dataSource);
+        this.key = key;
+        this.weight = Math.max(1, weight);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return count(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return count(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * 执行延迟查询并更新可用状态，查询结果为复制延迟的秒数，
+     * 如结果中含有 Seconds_Behind_Source 或 Seconds_Behind_Master 列则取该列，否则取第一列
+     *
+     * @param sql     延迟查询语句
+     * @param maxLag  允许的最大延迟(毫秒)
+     * @param timeout 查询超时时间(秒)
+     */
+    public void probe(String sql, long maxLag, int timeout) {
+        try (Connection connection = obtainTargetDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeout);
+            try (ResultSet rs = statement.executeQuery(sql)) {
+                BigDecimal seconds = rs.next() ? rs.getBigDecimal(column(rs.getMetaData())) : null;
+                if (null == seconds) {
+                    // 复制未运行时延迟为空
+                    update(Long.MAX_VALUE, false);
+                } else {
+                    long millis = seconds.movePointRight(3).longValue();
+                    update(millis, millis <= maxLag);
+                }
+            }
+        } catch (SQLException e) {
+            Logger.warn("Replica [{}] lag probe failed: {}", key, e.getMessage());
+            update(Long.MAX_VALUE, false);
+        }
+    }
+
+    /**
+     * 校验连接并更新可用状态，未配置延迟查询时用于恢复被标记为不可用的从库
+     *
+     * @param timeout 校验超时时间(秒)
+     */
+    public void validate(int timeout) {
+        try (Connection connection = obtainTargetDataSource().getConnection()) {
+            boolean valid = connection.isValid(timeout);
+            update(valid ? 0 : Long.MAX_VALUE, valid);
+        } catch (SQLException e) {
+            Logger.warn("Replica [{}] validation failed: {}", key, e.getMessage());
+            update(Long.MAX_VALUE, false);
+        }
+    }
+
+    /**
+     * 标记为不可用，直到下次探测或校验成功
+     */
+    public void markDown() {
+        this.available = false;
+    }
+
+    /**
+     * 更新延迟及可用状态
+     *
+     * @param lag       延迟(毫秒)
+     * @param available 是否可用
+     */
+    private void update(long lag, boolean available) {
+        if (this.available != available) {
+            Logger.info("Replica [{}] is {} (lag: {})", key, available ? "available" : "unavailable",
+                    lag == Long.MAX_VALUE ? "unknown" : lag + " ms");
+        }
+        this.lag = lag;
+        this.available = available;
+    }
+
+    /**
+     * 获取延迟所在列
+     *
+     * @param meta 结果集元数据
+     * @return 列序号
+     * @throws SQLException 异常
+     */
+    private static int column(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String label = meta.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 包装连接，关闭时归还计数
+     *
+     * @param connection 原始连接
+     * @return 包装后的连接
+     */
+    private Connection count(Connection connection) {
+        active.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (closed.compareAndSet(false, true)) {
+                                active.decrementAndGet();
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getLag() {
+        return lag;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.starter.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.miaixz.bus.logger.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 主库对应的从库组，按加权最少连接选择可用的从库，没有可用从库时回退到主库。 成员不可变，增删从库时整体替换
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class ReplicaGroup extends AbstractDataSource {
+
+    /**
+     * 主库
+     */
+    private final DataSource primary;
+    /**
+     * 从库
+     */
+    private final Replica[] replicas;
+
+    /**
+     * 构造
+     *
+     * @param primary  主库
+     * @param replicas 从库
+     */
+    public ReplicaGroup(DataSource primary, Replica... replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    /**
+     * 增加从库，返回新的从库组
+     *
+     * @param replica 从库
+     * @return 新的从库组
+     */
+    public ReplicaGroup with(Replica replica) {
+        Replica[] array = Arrays.copyOf(this.replicas, this.replicas.length + 1);
+        array[this.replicas.length] = replica;
+        return new ReplicaGroup(this.primary, array);
+    }
+
+    /**
+     * 按加权最少连接选择可用的从库，即 active/weight 最小者，相同时随机选择
+     *
+     * @return 从库，没有可用从库时返回null
+     */
+    public Replica select() {
+        Replica selected = null;
+        int ties = 0;
+        for (Replica replica : this.replicas) {
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            if (null == selected) {
+                selected = replica;
+                ties = 1;
+                continue;
+            }
+            long left = (long) replica.getActive() * selected.getWeight();
+            long right = (long) selected.getActive() * replica.getWeight();
+            if (left < right) {
+                selected = replica;
+                ties = 1;
+            } else if (left == right && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = select();
+        while (null != replica) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                Logger.warn("Replica [{}] connection failed, mark down: {}", replica.getKey(), e.getMessage());
+                replica.markDown();
+                replica = select();
+            }
+        }
+        return this.primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = select();
+        while (null != replica) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                Logger.warn("Replica [{}] connection failed, mark down: {}", replica.getKey(), e.getMessage());
+                replica.markDown();
+                replica = select();
+            }
+        }
+        return this.primary.getConnection(username, password);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return List.of(replicas);
+    }
+
+}
@@ -45,6 +45,8 @@ import org.miaixz.bus.core.xyz.CollKit;
 import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.core.xyz.StringKit;
 import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.starter.jdbc.DynamicDataSource;
+import org.miaixz.bus.starter.jdbc.ReadWriteInterceptor;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.InitializingBean;
@@ -171,7 +173,11 @@ public class MapperConfiguration implements InitializingBean {
         }
         factory.setConfiguration(configuration);
         // 插件配置
-        factory.setPlugins(MybatisPluginBuilder.build(environment));
+        if (dataSource instanceof DynamicDataSource dynamic && dynamic.isRouting()) {
+            factory.setPlugins(MybatisPluginBuilder.build(environment), new ReadWriteInterceptor());
+        } else {
+            factory.setPlugins(MybatisPluginBuilder.build(environment));
+        }
 
         SqlSessionFactory sqlSessionFactory = factory.getObject();
         Logger.info("SqlSessionFactory created successfully");
@@ -134,6 +134,12 @@ public class MybatisPluginBuilder {
                     return Context.INSTANCE.getProperty("tenant.column", "tenant_id");
                 }
 
+                @Override
+                public boolean isCacheable() {
+                    // 字段名及忽略的表均来自配置，不随请求变化
+                    return true;
+                }
+
                 @Override
                 public boolean ignore(String name) {
                     // 忽略租户隔离主表
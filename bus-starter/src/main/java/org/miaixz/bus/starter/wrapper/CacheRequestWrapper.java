@@ -28,59 +28,104 @@
 package org.miaixz.bus.starter.wrapper;
 
 import java.io.*;
+import java.nio.charset.Charset;
 
 import org.miaixz.bus.core.lang.Normal;
 import org.miaixz.bus.core.xyz.EscapeKit;
-import org.miaixz.bus.core.xyz.IoKit;
+import org.miaixz.bus.core.xyz.StringKit;
 import org.miaixz.bus.extra.json.JsonKit;
-import org.miaixz.bus.logger.Logger;
 
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.Setter;
 
 /**
  * 跨站攻击/请求包装器
+ * <p>
+ * 请求体不预先读取，处理程序读取时同步复制到有上限的缓冲中；在处理程序读取前调用{@link #getBody()}时，
+ * 读取至上限并在之后的读取中重放。请求日志只输出处理程序实际读取的部分，见{@link #getCaptured()}
  *
  * @author Kimi Liu
  * @since Java 17+
  */
 public class CacheRequestWrapper extends HttpServletRequestWrapper {
 
-    private byte[] body;
-    private ServletInputStreamWrapper inputStreamWrapper;
+    /**
+     * 请求体缓冲，不记录时为null
+     */
+    private final CaptureBuffer buffer;
+    private TeeInputStream inputStream;
 
-    CacheRequestWrapper(HttpServletRequest request) throws IOException {
+    /**
+     * 构造
+     *
+     * @param request   请求
+     * @param threshold 内存阈值，超过后写入临时文件
+     * @param limit     最多记录的字节数，为0时不记录
+     */
+    CacheRequestWrapper(HttpServletRequest request, int threshold, long limit) {
         super(request);
-        // 从ParameterMap获取参数，并保存以便多次获取
-        Logger.info("==> Parameters:{}", JsonKit.toJsonString(request.getParameterMap()));
-        // 从InputStream获取参数，并保存以便多次获取
-        this.body = IoKit.readBytes(request.getInputStream());
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(
-                null != this.body ? this.body : Normal.EMPTY_BYTE_ARRAY);
-        // 初始 ServletInputStreamWrapper
-        this.inputStreamWrapper = new ServletInputStreamWrapper(byteArrayInputStream);
-        // 设置 InputStream 到我们自己的包装类中
-        this.inputStreamWrapper.setInputStream(byteArrayInputStream);
+        this.buffer = limit > 0 ? new CaptureBuffer(threshold, limit) : null;
     }
 
-    public byte[] getBody() {
-        return body;
+    /**
+     * 获取已记录的请求体，处理程序尚未读取时先读取至上限
+     *
+     * @return 请求体，不记录时返回空数组
+     * @throws IOException 读取异常
+     */
+    public byte[] getBody() throws IOException {
+        if (null == this.buffer) {
+            return Normal.EMPTY_BYTE_ARRAY;
+        }
+        TeeInputStream stream = (TeeInputStream) getInputStream();
+        if (!stream.used) {
+            stream.prefetch();
+        }
+        return this.buffer.toByteArray();
+    }
+
+    /**
+     * 获取处理程序已读取并记录的请求体，不触发预读
+     *
+     * @return 请求体，不记录或处理程序未读取时返回空数组
+     */
+    byte[] getCaptured() {
+        return null == this.buffer ? Normal.EMPTY_BYTE_ARRAY : this.buffer.toByteArray();
+    }
+
+    /**
+     * 请求体是否超过记录上限
+     *
+     * @return the true/false
+     */
+    public boolean isTruncated() {
+        return null != this.buffer && this.buffer.isTruncated();
+    }
+
+    /**
+     * 释放缓冲及临时文件
+     */
+    void release() {
+        if (null != this.buffer) {
+            this.buffer.release();
+        }
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        return this.inputStreamWrapper;
+    public ServletInputStream getInputStream() throws IOException {
+        if (null == this.inputStream) {
+            this.inputStream = new TeeInputStream(super.getInputStream(), this.buffer);
+        }
+        return this.inputStream;
     }
 
     @Override
-    public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(this.inputStreamWrapper));
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(getInputStream(),
+                StringKit.isEmpty(encoding) ? Charset.defaultCharset() : Charset.forName(encoding)));
     }
 
     @Override
@@ -118,33 +163,99 @@ public class CacheRequestWrapper extends HttpServletRequestWrapper {
         return content;
     }
 
-    @Getter
-    @Setter
-    @AllArgsConstructor
-    @EqualsAndHashCode(callSuper = true)
-    private static class ServletInputStreamWrapper extends ServletInputStream {
+    /**
+     * 读取时同步复制到缓冲的输入流
+     */
+    private static class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream source;
+        private final CaptureBuffer buffer;
+        /**
+         * 预读的内容，在后续读取中重放
+         */
+        private byte[] replay = Normal.EMPTY_BYTE_ARRAY;
+        private int position;
+        /**
+         * 处理程序是否已读取
+         */
+        private boolean used;
+
+        TeeInputStream(ServletInputStream source, CaptureBuffer buffer) {
+            this.source = source;
+            this.buffer = buffer;
+        }
+
+        /**
+         * 预读至记录上限，读取的内容在后续读取中重放
+         *
+         * @throws IOException 读取异常
+         */
+        void prefetch() throws IOException {
+            this.used = true;
+            byte[] chunk = new byte[8192];
+            int n;
+            while (this.buffer.remaining() > 0
+                    && (n = this.source.read(chunk, 0, (int) Math.min(chunk.length, this.buffer.remaining()))) > 0) {
+                this.buffer.write(chunk, 0, n);
+            }
+            this.replay = this.buffer.toByteArray();
+            this.position = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            this.used = true;
+            if (this.position < this.replay.length) {
+                return this.replay[this.position++] & 0xff;
+            }
+            int b = this.source.read();
+            if (b >= 0 && null != this.buffer) {
+                this.buffer.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            this.used = true;
+            if (this.position < this.replay.length) {
+                int n = Math.min(len, this.replay.length - this.position);
+                System.arraycopy(this.replay, this.position, b, off, n);
+                this.position += n;
+                return n;
+            }
+            int n = this.source.read(b, off, len);
+            if (n > 0 && null != this.buffer) {
+                this.buffer.write(b, off, n);
+            }
+            return n;
+        }
 
-        private InputStream inputStream;
+        @Override
+        public int available() throws IOException {
+            return this.replay.length - this.position + this.source.available();
+        }
 
         @Override
         public boolean isFinished() {
-            return true;
+            return this.position >= this.replay.length && this.source.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return false;
+            return this.position < this.replay.length || this.source.isReady();
         }
 
         @Override
         public void setReadListener(ReadListener readListener) {
-
+            this.source.setReadListener(readListener);
         }
 
         @Override
-        public int read() throws IOException {
-            return this.inputStream.read();
+        public void close() throws IOException {
+            this.source.close();
         }
+
     }
 
 }
@@ -0,0 +1,239 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.starter.wrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.miaixz.bus.core.lang.Normal;
+import org.miaixz.bus.logger.Logger;
+
+/**
+ * 有上限的请求体缓冲，先写入池化的内存块，超过内存阈值后写入临时文件，超过上限的部分丢弃
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class CaptureBuffer {
+
+    /**
+     * 内存块池最多保留的数量
+     */
+    private static final int POOL_SIZE = 64;
+    /**
+     * 空闲的内存块
+     */
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    /**
+     * 空闲内存块的数量
+     */
+    private static final AtomicInteger IDLE = new AtomicInteger();
+
+    /**
+     * 内存阈值
+     */
+    private final int threshold;
+    /**
+     * 最多记录的字节数
+     */
+    private final long limit;
+    /**
+     * 内存块，首次写入时借出
+     */
+    private byte[] memory;
+    /**
+     * 临时文件
+     */
+    private Path file;
+    private OutputStream out;
+    /**
+     * 已记录的字节数
+     */
+    private long size;
+    /**
+     * 是否有未记录的内容
+     */
+    private boolean truncated;
+
+    /**
+     * 构造
+     *
+     * @param threshold 内存阈值
+     * @param limit     最多记录的字节数
+     */
+    CaptureBuffer(int threshold, long limit) {
+        this.threshold = Math.max(1, threshold);
+        this.limit = limit;
+    }
+
+    /**
+     * 记录内容，超过上限的部分丢弃，写临时文件失败时停止记录
+     *
+     * @param b   数据
+     * @param off 偏移
+     * @param len 长度
+     */
+    void write(byte[] b, int off, int len) {
+        int n = (int) Math.min(len, this.limit - this.size);
+        if (n < len) {
+            this.truncated = true;
+        }
+        if (n <= 0) {
+            return;
+        }
+        try {
+            if (null == this.file && this.size + n <= this.threshold) {
+                if (null == this.memory) {
+                    this.memory = borrow(this.threshold);
+                }
+                System.arraycopy(b, off, this.memory, (int) this.size, n);
+            } else {
+                if (null == this.file) {
+                    this.file = Files.createTempFile("bus-body-", ".tmp");
+                    this.out = Files.newOutputStream(this.file);
+                    if (this.size > 0) {
+                        this.out.write(this.memory, 0, (int) this.size);
+                    }
+                }
+                this.out.write(b, off, n);
+            }
+            this.size += n;
+        } catch (IOException e) {
+            Logger.warn("Request body capture stopped: {}", e.getMessage());
+            this.truncated = true;
+            this.size = this.limit;
+        }
+    }
+
+    /**
+     * 记录单个字节
+     *
+     * @param b 数据
+     */
+    void write(int b) {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    /**
+     * 剩余可记录的字节数
+     *
+     * @return 字节数
+     */
+    long remaining() {
+        return this.limit - this.size;
+    }
+
+    /**
+     * 已记录的字节数
+     *
+     * @return 字节数
+     */
+    long size() {
+        return this.size;
+    }
+
+    /**
+     * 是否有未记录的内容
+     *
+     * @return the true/false
+     */
+    boolean isTruncated() {
+        return this.truncated;
+    }
+
+    /**
+     * 获取已记录的内容
+     *
+     * @return 内容
+     */
+    byte[] toByteArray() {
+        if (0 == this.size) {
+            return Normal.EMPTY_BYTE_ARRAY;
+        }
+        if (null == this.file) {
+            return Arrays.copyOf(this.memory, (int) this.size);
+        }
+        try {
+            this.out.flush();
+            try (InputStream in = Files.newInputStream(this.file)) {
+                return in.readNBytes((int) this.size);
+            }
+        } catch (IOException e) {
+            Logger.warn("Request body capture read failed: {}", e.getMessage());
+            return Normal.EMPTY_BYTE_ARRAY;
+        }
+    }
+
+    /**
+     * 归还内存块并删除临时文件
+     */
+    void release() {
+        if (null != this.memory) {
+            if (IDLE.incrementAndGet() <= POOL_SIZE) {
+                POOL.offer(this.memory);
+            } else {
+                IDLE.decrementAndGet();
+            }
+            this.memory = null;
+        }
+        if (null != this.file) {
+            try {
+                this.out.close();
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                Logger.warn("Request body capture cleanup failed: {}", e.getMessage());
+            }
+            this.file = null;
+        }
+    }
+
+    /**
+     * 借出内存块，池中的内存块大小不符时丢弃
+     *
+     * @param size 大小
+     * @return 内存块
+     */
+    private static byte[] borrow(int size) {
+        byte[] bytes;
+        while (null != (bytes = POOL.poll())) {
+            IDLE.decrementAndGet();
+            if (bytes.length == size) {
+                return bytes;
+            }
+        }
+        return new byte[size];
+    }
+
+}
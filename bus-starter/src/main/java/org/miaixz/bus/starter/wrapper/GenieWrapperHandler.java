@@ -111,13 +111,7 @@ public class GenieWrapperHandler implements HandlerInterceptor {
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         final String method = request.getMethod().toUpperCase();
         this.requestInfo(request, method);
-        if (HTTP.GET.equals(method) || HTTP.POST.equals(method) || HTTP.PATCH.equals(method)
-                || HTTP.PUT.equals(method)) {
-            if (request instanceof CacheRequestWrapper) {
-                CacheRequestWrapper cacheRequestWrapper = ((CacheRequestWrapper) request);
-                Logger.info("==> {}", new String(cacheRequestWrapper.getBody()));
-            }
-        }
+        // 请求体在处理程序读取后由 BodyCacheFilter 按采样率记录
         return true;
     }
 
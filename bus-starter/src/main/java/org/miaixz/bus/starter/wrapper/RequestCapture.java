@@ -0,0 +1,180 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.starter.wrapper;
+
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.miaixz.bus.core.lang.Symbol;
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.extra.json.JsonKit;
+import org.miaixz.bus.logger.Logger;
+import org.springframework.util.AntPathMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 请求体记录规则及日志，按路径和内容类型决定记录上限，日志按采样率在后台线程输出。
+ * 只输出处理程序实际读取的请求体，等待输出的请求体总字节数超过 {@link WrapperProperties.Capture#getPending()} 或队列满时丢弃
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+class RequestCapture {
+
+    /**
+     * 未配置规则时记录的内容类型
+     */
+    private static final List<String> TEXT_TYPES = List.of("application/json", "application/xml", "text/*",
+            "application/x-www-form-urlencoded");
+
+    private final WrapperProperties.Capture capture;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    /**
+     * 日志线程
+     */
+    private final ThreadPoolExecutor logger = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1024), ThreadKit.newNamedThreadFactory("request-body-", true));
+    /**
+     * 等待输出的请求体字节数
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * 构造
+     *
+     * @param capture 请求体记录配置
+     */
+    RequestCapture(WrapperProperties.Capture capture) {
+        this.capture = null == capture ? new WrapperProperties.Capture() : capture;
+    }
+
+    /**
+     * 内存阈值
+     *
+     * @return 字节数
+     */
+    int threshold() {
+        return this.capture.getThreshold();
+    }
+
+    /**
+     * 获取请求的记录上限
+     *
+     * @param request 请求
+     * @return 最多记录的字节数，为0时不记录
+     */
+    long limit(HttpServletRequest request) {
+        if (!this.capture.isEnabled()) {
+            return 0;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (WrapperProperties.Rule rule : this.capture.getRules()) {
+            if (this.matcher.match(rule.getPath(), path)) {
+                if (!rule.getTypes().isEmpty() && !matches(rule.getTypes(), request.getContentType())) {
+                    return 0;
+                }
+                return rule.getLimit() < 0 ? this.capture.getLimit() : rule.getLimit();
+            }
+        }
+        return this.capture.getRules().isEmpty() && matches(TEXT_TYPES, request.getContentType())
+                ? this.capture.getLimit()
+                : 0;
+    }
+
+    /**
+     * 按采样率在后台输出请求参数及处理程序已读取的请求体，处理程序未读取的请求体不再读取
+     *
+     * @param request 请求
+     */
+    void log(CacheRequestWrapper request) {
+        if (!Logger.isInfoEnabled() || ThreadLocalRandom.current().nextDouble() >= this.capture.getSample()) {
+            return;
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>(request.getParameterMap());
+        byte[] body = request.getCaptured();
+        long bytes = body.length;
+        if (bytes > 0 && this.pending.addAndGet(bytes) > this.capture.getPending()) {
+            this.pending.addAndGet(-bytes);
+            return;
+        }
+        boolean truncated = request.isTruncated();
+        String encoding = request.getCharacterEncoding();
+        try {
+            this.logger.execute(() -> {
+                try {
+                    if (!parameters.isEmpty()) {
+                        Logger.info("==> Parameters:{}", JsonKit.toJsonString(parameters));
+                    }
+                    if (bytes > 0) {
+                        Charset charset = StringKit.isEmpty(encoding) ? Charset.defaultCharset()
+                                : Charset.forName(encoding);
+                        Logger.info("==> {}{}", new String(body, charset), truncated ? "..." : "");
+                    }
+                } finally {
+                    this.pending.addAndGet(-bytes);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 队列已满，丢弃
+            this.pending.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * 判断内容类型是否匹配
+     *
+     * @param types       内容类型，支持 text/* 形式的通配
+     * @param contentType 请求的内容类型
+     * @return the true/false
+     */
+    private static boolean matches(List<String> types, String contentType) {
+        if (StringKit.isEmpty(contentType)) {
+            return false;
+        }
+        int end = contentType.indexOf(Symbol.C_SEMICOLON);
+        String type = (end < 0 ? contentType : contentType.substring(0, end)).trim();
+        for (String pattern : types) {
+            if (pattern.endsWith("/*") ? StringKit.startWithIgnoreCase(type, pattern.substring(0, pattern.length() - 1))
+                    : pattern.equalsIgnoreCase(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -77,7 +77,7 @@ public class WrapperConfiguration implements WebMvcRegistrations {
         FilterRegistrationBean<BodyCacheFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setEnabled(this.properties.isEnabled());
         registrationBean.setOrder(this.properties.getOrder());
-        registrationBean.setFilter(new BodyCacheFilter());
+        registrationBean.setFilter(new BodyCacheFilter(new RequestCapture(this.properties.getCapture())));
         if (!StringKit.isEmpty(this.properties.getName())) {
             registrationBean.setName(this.properties.getName());
         }
@@ -131,20 +131,36 @@ public class WrapperConfiguration implements WebMvcRegistrations {
 
     class BodyCacheFilter extends OncePerRequestFilter {
 
+        private final RequestCapture capture;
+
+        BodyCacheFilter(RequestCapture capture) {
+            this.capture = capture;
+        }
+
         @Override
         protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                 FilterChain filterChain) throws ServletException, IOException {
             final String method = request.getMethod();
+            CacheRequestWrapper wrapper = null;
             // 如果不是 POST PATCH PUT 等有流的接口则无需进行类型转换,提高性能
             if (HTTP.POST.equals(method) || HTTP.PATCH.equals(method) || HTTP.PUT.equals(method)) {
                 if (!(request instanceof CacheRequestWrapper)) {
-                    request = new CacheRequestWrapper(request);
+                    wrapper = new CacheRequestWrapper(request, capture.threshold(), capture.limit(request));
+                    request = wrapper;
                 }
             }
             if (!(response instanceof CacheResponseWrapper)) {
                 response = new CacheResponseWrapper(response);
             }
-            filterChain.doFilter(request, response);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (null != wrapper) {
+                    // 处理程序读取完成后记录，只输出已读取的部分
+                    capture.log(wrapper);
+                    wrapper.release();
+                }
+            }
         }
     }
 
@@ -33,8 +33,10 @@ import org.miaixz.bus.spring.GeniusBuilder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -85,5 +87,65 @@ public class WrapperProperties {
      * 过滤器将注册到的ServletRegistrationBeans
      */
     private Set<ServletRegistrationBean<?>> servletRegistrationBeans = new LinkedHashSet<>();
+    /**
+     * 请求体记录配置
+     */
+    private Capture capture = new Capture();
+
+    /**
+     * 请求体记录配置，请求体在处理程序读取时同步复制，超过内存阈值后写入临时文件，处理程序未读取的请求体不记录
+     */
+    @Getter
+    @Setter
+    public static class Capture {
+
+        /**
+         * 是否记录请求体
+         */
+        private boolean enabled = true;
+        /**
+         * 内存缓冲大小，超过后写入临时文件
+         */
+        private int threshold = 64 * 1024;
+        /**
+         * 默认最多记录的字节数，超出部分不记录
+         */
+        private long limit = 1024 * 1024;
+        /**
+         * 请求体日志采样率，0 到 1 之间
+         */
+        private double sample = 0.01;
+        /**
+         * 等待输出的请求体总字节数上限，超过时丢弃新的日志
+         */
+        private long pending = 8 * 1024 * 1024;
+        /**
+         * 路由规则，按顺序匹配第一个路径符合的规则，未配置时记录所有路径的文本类请求
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+    }
+
+    /**
+     * 请求体记录规则
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 请求路径的 Ant 规则
+         */
+        private String path = "/**";
+        /**
+         * 记录的内容类型，支持 text/* 形式的通配，为空时不限制
+         */
+        private List<String> types = new ArrayList<>();
+        /**
+         * 最多记录的字节数，小于0时使用默认值，为0时不记录
+         */
+        private long limit = -1;
+
+    }
 
 }
@@ -53,5 +53,6 @@ module bus.storage {
     exports org.miaixz.bus.storage.cache;
     exports org.miaixz.bus.storage.magic;
     exports org.miaixz.bus.storage.metric;
+    exports org.miaixz.bus.storage.transfer;
 
 }
@@ -88,6 +88,17 @@ public interface Provider extends org.miaixz.bus.core.Provider {
         return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
     }
 
+    /**
+     * 文件信息，用于校验本地缓存是否仍然有效
+     *
+     * @param bucket   存储桶名
+     * @param fileName 文件名
+     * @return 处理结果 {@link Message}，data 为 {@code Material}，其 hash 为 ETag，extend 中包含 lastModified
+     */
+    default Message stat(String bucket, String fileName) {
+        return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+    }
+
     /**
      * 重命名
      *
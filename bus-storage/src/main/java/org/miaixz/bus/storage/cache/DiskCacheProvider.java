@@ -0,0 +1,641 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.cache;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.miaixz.bus.core.basic.entity.Message;
+import org.miaixz.bus.core.lang.Normal;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.FileKit;
+import org.miaixz.bus.core.xyz.ObjectKit;
+import org.miaixz.bus.crypto.Builder;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.storage.Provider;
+import org.miaixz.bus.storage.magic.ErrorCode;
+import org.miaixz.bus.storage.magic.Material;
+import org.miaixz.bus.storage.metric.AbstractProvider;
+
+/**
+ * 本地磁盘读穿缓存，装饰任意 {@link Provider}，将下载过的对象按内容摘要保存在本地目录
+ * <ul>
+ * <li>相同内容的对象只保存一份，总字节数超过容量时按 LRU 或 LFU 淘汰</li>
+ * <li>超过校验周期的条目通过 {@link Provider#stat(String, String)} 比对 ETag/Last-Modified，远端不支持时视为有效</li>
+ * <li>同一对象的并发未命中只会触发一次远端下载</li>
+ * <li>命中时通过 {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} 零拷贝输出</li>
+ * </ul>
+ * 上传、删除和重命名会使相关条目失效，缓存索引仅保存在内存中，启动时删除缓存目录中以往写入的内容文件，目录中的其它文件不受影响。
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class DiskCacheProvider implements Provider {
+
+    /**
+     * 内容文件后缀
+     */
+    private static final String BLOB_SUFFIX = ".blob";
+    /**
+     * 下载中的临时文件后缀
+     */
+    private static final String TEMP_SUFFIX = ".blob.tmp";
+
+    /**
+     * 被装饰的存储提供者
+     */
+    private final Provider provider;
+    /**
+     * 缓存目录
+     */
+    private final Path dir;
+    /**
+     * 容量上限(字节)
+     */
+    private final long capacity;
+    /**
+     * 淘汰策略
+     */
+    private final Policy policy;
+    /**
+     * 重新校验周期(毫秒)
+     */
+    private final long revalidate;
+    /**
+     * 被装饰提供者的默认存储桶，无法获取时为 {@code null}
+     */
+    private final String bucket;
+    /**
+     * 对象标识与缓存条目
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * 内容摘要与磁盘文件，受 this 锁保护
+     */
+    private final Map<String, Blob> blobs = new HashMap<>();
+    /**
+     * 正在下载的对象
+     */
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * 已占用字节数，受 this 锁保护
+     */
+    private long size;
+
+    /**
+     * 构造，使用 LRU 策略，每 5 分钟重新校验一次
+     *
+     * @param provider 被装饰的存储提供者
+     * @param dir      缓存目录
+     * @param capacity 容量上限(字节)
+     */
+    public DiskCacheProvider(Provider provider, Path dir, long capacity) {
+        this(provider, dir, capacity, Policy.LRU, 5 * 60 * 1000);
+    }
+
+    /**
+     * 构造
+     *
+     * @param provider   被装饰的存储提供者
+     * @param dir        缓存目录
+     * @param capacity   容量上限(字节)
+     * @param policy     淘汰策略
+     * @param revalidate 重新校验周期(毫秒)，小于等于 0 时每次命中都校验
+     */
+    public DiskCacheProvider(Provider provider, Path dir, long capacity, Policy policy, long revalidate) {
+        this.provider = provider;
+        this.dir = dir;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.revalidate = revalidate;
+        this.bucket = provider instanceof AbstractProvider abstractProvider && null != abstractProvider.getContext()
+                ? abstractProvider.getContext().getBucket()
+                : null;
+        FileKit.mkdir(dir.toFile());
+        clean();
+    }
+
+    /**
+     * 打开缓存中的对象，未命中时从远端下载，调用方负责关闭返回的通道
+     *
+     * @param bucket   存储桶名，为 {@code null} 时使用被装饰提供者的默认存储桶
+     * @param fileName 文件名
+     * @return 只读文件通道
+     * @throws InternalException 下载或读取失败
+     */
+    public FileChannel open(String bucket, String fileName) {
+        bucket = ObjectKit.defaultIfNull(bucket, this.bucket);
+        String id = id(bucket, fileName);
+        while (true) {
+            Entry entry = entries.get(id);
+            if (null != entry && fresh(entry, bucket, fileName)) {
+                hits.increment();
+            } else {
+                entry = load(id, bucket, fileName);
+            }
+            synchronized (this) {
+                // 确保文件未在打开前被淘汰
+                if (entries.get(id) == entry) {
+                    entry.touch();
+                    try {
+                        return FileChannel.open(entry.blob.path, StandardOpenOption.READ);
+                    } catch (IOException e) {
+                        throw new InternalException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Message download(String fileName) {
+        return download(null, fileName);
+    }
+
+    @Override
+    public Message download(String bucket, String fileName) {
+        try {
+            InputStream inputStream = Channels.newInputStream(open(bucket, fileName));
+            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue())
+                    .data(bufferedReader).build();
+        } catch (Exception e) {
+            Logger.error("Failed to download file: {} from bucket: {}. Error: {}", fileName, bucket, e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
+    @Override
+    public Message download(String fileName, File file) {
+        return download(null, fileName, file);
+    }
+
+    @Override
+    public Message download(String bucket, String fileName, File file) {
+        try (FileChannel in = open(bucket, fileName);
+                FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long length = in.size();
+            while (position < length) {
+                position += in.transferTo(position, length - position, out);
+            }
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue()).build();
+        } catch (Exception e) {
+            Logger.error("Failed to download file: {} from bucket: {} to local file: {}. Error: {}", fileName, bucket,
+                    file.getAbsolutePath(), e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
+    @Override
+    public Message list() {
+        return provider.list();
+    }
+
+    @Override
+    public Message stat(String bucket, String fileName) {
+        return provider.stat(bucket, fileName);
+    }
+
+    @Override
+    public Message rename(String oldName, String newName) {
+        invalidate(null, oldName);
+        invalidate(null, newName);
+        return provider.rename(oldName, newName);
+    }
+
+    @Override
+    public Message rename(String path, String oldName, String newName) {
+        invalidate(null, name(path, oldName));
+        invalidate(null, name(path, newName));
+        return provider.rename(path, oldName, newName);
+    }
+
+    @Override
+    public Message rename(String bucket, String path, String oldName, String newName) {
+        invalidate(bucket, name(path, oldName));
+        invalidate(bucket, name(path, newName));
+        return provider.rename(bucket, path, oldName, newName);
+    }
+
+    @Override
+    public Message upload(String fileName, byte[] content) {
+        invalidate(null, fileName);
+        return provider.upload(fileName, content);
+    }
+
+    @Override
+    public Message upload(String path, String fileName, byte[] content) {
+        invalidate(null, name(path, fileName));
+        return provider.upload(path, fileName, content);
+    }
+
+    @Override
+    public Message upload(String bucket, String path, String fileName, byte[] content) {
+        invalidate(bucket, name(path, fileName));
+        return provider.upload(bucket, path, fileName, content);
+    }
+
+    @Override
+    public Message upload(String fileName, InputStream content) {
+        invalidate(null, fileName);
+        return provider.upload(fileName, content);
+    }
+
+    @Override
+    public Message upload(String path, String fileName, InputStream content) {
+        invalidate(null, name(path, fileName));
+        return provider.upload(path, fileName, content);
+    }
+
+    @Override
+    public Message upload(String bucket, String path, String fileName, InputStream content) {
+        invalidate(bucket, name(path, fileName));
+        return provider.upload(bucket, path, fileName, content);
+    }
+
+    @Override
+    public Message remove(String fileName) {
+        invalidate(null, fileName);
+        return provider.remove(fileName);
+    }
+
+    @Override
+    public Message remove(String path, String fileName) {
+        invalidate(null, name(path, fileName));
+        return provider.remove(path, fileName);
+    }
+
+    @Override
+    public Message remove(String bucket, String path, String fileName) {
+        invalidate(bucket, name(path, fileName));
+        return provider.remove(bucket, path, fileName);
+    }
+
+    @Override
+    public Message remove(String bucket, Path path) {
+        invalidate(bucket, name(path.toString(), null));
+        return provider.remove(bucket, path);
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return 次数
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中(触发远端下载)次数
+     *
+     * @return 次数
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 因容量不足被淘汰的条目数
+     *
+     * @return 次数
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 当前占用的磁盘字节数
+     *
+     * @return 字节数
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * 判断条目是否仍然有效，超过校验周期时比对远端 ETag/Last-Modified，无法获取远端版本时视为失效
+     *
+     * @param entry    缓存条目
+     * @param bucket   存储桶名
+     * @param fileName 文件名
+     * @return 是否有效
+     */
+    private boolean fresh(Entry entry, String bucket, String fileName) {
+        long now = System.currentTimeMillis();
+        if (now - entry.validated < revalidate) {
+            return true;
+        }
+        String[] version = version(bucket, fileName);
+        if (null != version && Objects.equals(version[0], entry.etag)
+                && Objects.equals(version[1], entry.modified)) {
+            entry.validated = now;
+            return true;
+        }
+        synchronized (this) {
+            if (entries.remove(entry.id, entry)) {
+                release(entry);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 下载对象并加入缓存，并发请求同一对象时共享同一次下载
+     *
+     * @param id       对象标识
+     * @param bucket   存储桶名
+     * @param fileName 文件名
+     * @return 缓存条目
+     */
+    private Entry load(String id, String bucket, String fileName) {
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        CompletableFuture<Entry> running = loading.putIfAbsent(id, future);
+        if (null != running) {
+            hits.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new InternalException(e.getCause());
+            }
+        }
+        misses.increment();
+        try {
+            Entry entry = fetch(id, bucket, fileName);
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, future);
+        }
+    }
+
+    /**
+     * 从远端下载对象，按内容摘要存入缓存目录并执行淘汰
+     *
+     * @param id       对象标识
+     * @param bucket   存储桶名
+     * @param fileName 文件名
+     * @return 缓存条目
+     */
+    private Entry fetch(String id, String bucket, String fileName) {
+        Path temp = null;
+        try {
+            String[] version = version(bucket, fileName);
+            temp = Files.createTempFile(dir, "fetch", TEMP_SUFFIX);
+            Message message = null == bucket ? provider.download(fileName, temp.toFile())
+                    : provider.download(bucket, fileName, temp.toFile());
+            if (!ErrorCode._SUCCESS.getKey().equals(message.getErrcode())) {
+                throw new InternalException("Failed to fetch " + id + ": " + message.getErrmsg());
+            }
+            String digest = Builder.sha256Hex(temp.toFile());
+            Entry entry;
+            synchronized (this) {
+                Blob blob = blobs.get(digest);
+                if (null == blob) {
+                    Path path = dir.resolve(digest + BLOB_SUFFIX);
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    blob = new Blob(digest, path, Files.size(path));
+                    blobs.put(digest, blob);
+                    size += blob.size;
+                }
+                blob.refs++;
+                entry = new Entry(id, blob, null == version ? null : version[0], null == version ? null : version[1]);
+                Entry previous = entries.put(id, entry);
+                if (null != previous) {
+                    release(previous);
+                }
+                evict(entry);
+            }
+            return entry;
+        } catch (IOException e) {
+            throw new InternalException(e);
+        } finally {
+            if (null != temp) {
+                FileKit.remove(temp.toFile());
+            }
+        }
+    }
+
+    /**
+     * 获取远端对象版本
+     *
+     * @param bucket   存储桶名，{@code null} 表示无法获取默认存储桶
+     * @param fileName 文件名
+     * @return ETag 与最后修改时间，远端不支持时返回 {@code null}
+     */
+    private String[] version(String bucket, String fileName) {
+        if (null == bucket) {
+            return null;
+        }
+        Message message = provider.stat(bucket, fileName);
+        if (!ErrorCode._SUCCESS.getKey().equals(message.getErrcode())
+                || !(message.getData() instanceof Material material)) {
+            return null;
+        }
+        Object modified = null == material.getExtend() ? null : material.getExtend().get("lastModified");
+        return new String[] { material.getHash(), null == modified ? null : modified.toString() };
+    }
+
+    /**
+     * 淘汰条目直至低于容量的 90%，刚加入的条目不参与淘汰，调用方需持有 this 锁
+     *
+     * @param keep 刚加入的条目
+     */
+    private void evict(Entry keep) {
+        if (size <= capacity) {
+            return;
+        }
+        Comparator<Entry> order = policy == Policy.LFU
+                ? Comparator.<Entry>comparingLong(e -> e.hits).thenComparingLong(e -> e.accessed)
+                : Comparator.comparingLong(e -> e.accessed);
+        List<Entry> candidates = new ArrayList<>(entries.values());
+        candidates.sort(order);
+        long target = capacity / 10 * 9;
+        for (Entry entry : candidates) {
+            if (size <= target) {
+                break;
+            }
+            if (entry != keep && entries.remove(entry.id, entry)) {
+                release(entry);
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 使对象的缓存条目失效
+     *
+     * @param bucket   存储桶名，为 {@code null} 时使用被装饰提供者的默认存储桶
+     * @param fileName 相对于存储桶的对象名，即下载时使用的文件名
+     */
+    private void invalidate(String bucket, String fileName) {
+        if (null == fileName) {
+            return;
+        }
+        String id = id(ObjectKit.defaultIfNull(bucket, this.bucket), fileName);
+        synchronized (this) {
+            Entry entry = entries.remove(id);
+            if (null != entry) {
+                release(entry);
+            }
+        }
+    }
+
+    /**
+     * 构建对象标识
+     *
+     * @param bucket   存储桶名
+     * @param fileName 文件名
+     * @return 对象标识
+     */
+    private static String id(String bucket, String fileName) {
+        return ObjectKit.defaultIfNull(bucket, Normal.EMPTY) + "/" + fileName;
+    }
+
+    /**
+     * 拼接路径与文件名，与下载时使用的文件名保持一致
+     *
+     * @param path     路径
+     * @param fileName 文件名
+     * @return 相对于存储桶的对象名
+     */
+    private static String name(String path, String fileName) {
+        return org.miaixz.bus.storage.Builder.buildObjectKey(Normal.EMPTY, path,
+                ObjectKit.defaultIfNull(fileName, Normal.EMPTY)).replaceAll("/$", Normal.EMPTY);
+    }
+
+    /**
+     * 删除缓存目录中以往写入的内容文件和临时文件
+     */
+    private void clean() {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir,
+                path -> Files.isRegularFile(path) && (path.getFileName().toString().endsWith(BLOB_SUFFIX)
+                        || path.getFileName().toString().endsWith(TEMP_SUFFIX)))) {
+            for (Path path : stream) {
+                FileKit.remove(path.toFile());
+            }
+        } catch (IOException e) {
+            throw new InternalException(e);
+        }
+    }
+
+    /**
+     * 释放条目对内容文件的引用，无引用时删除文件，调用方需持有 this 锁
+     *
+     * @param entry 缓存条目
+     */
+    private void release(Entry entry) {
+        Blob blob = entry.blob;
+        if (--blob.refs == 0) {
+            blobs.remove(blob.digest);
+            size -= blob.size;
+            FileKit.remove(blob.path.toFile());
+        }
+    }
+
+    /**
+     * 淘汰策略
+     */
+    public enum Policy {
+        /**
+         * 最近最少使用
+         */
+        LRU,
+        /**
+         * 最不经常使用
+         */
+        LFU
+    }
+
+    /**
+     * 按内容摘要保存的磁盘文件
+     */
+    private static class Blob {
+
+        private final String digest;
+        private final Path path;
+        private final long size;
+        private int refs;
+
+        private Blob(String digest, Path path, long size) {
+            this.digest = digest;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 对象缓存条目
+     */
+    private static class Entry {
+
+        private final String id;
+        private final Blob blob;
+        private final String etag;
+        private final String modified;
+        private volatile long validated = System.currentTimeMillis();
+        private volatile long accessed = System.currentTimeMillis();
+        private volatile long hits;
+
+        private Entry(String id, Blob blob, String etag, String modified) {
+            this.id = id;
+            this.blob = blob;
+            this.etag = etag;
+            this.modified = modified;
+        }
+
+        /**
+         * 记录一次访问，调用方需持有缓存锁
+         */
+        private void touch() {
+            accessed = System.currentTimeMillis();
+            hits++;
+        }
+    }
+
+}
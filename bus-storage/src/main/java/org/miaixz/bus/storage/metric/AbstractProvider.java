@@ -106,6 +106,15 @@ public abstract class AbstractProvider implements Provider {
         }
     }
 
+    /**
+     * 获取存储配置
+     *
+     * @return 存储配置
+     */
+    public Context getContext() {
+        return this.context;
+    }
+
     protected String getFullPath(String file) {
         if (file.startsWith(Protocol.HTTP_PREFIX) || file.startsWith(Protocol.HTTPS_PREFIX)) {
             return file;
@@ -46,6 +46,9 @@ import org.miaixz.bus.storage.Builder;
 import org.miaixz.bus.storage.Context;
 import org.miaixz.bus.storage.magic.ErrorCode;
 import org.miaixz.bus.storage.magic.Material;
+import org.miaixz.bus.storage.transfer.S3Multipart;
+import org.miaixz.bus.storage.transfer.Transfer;
+import org.miaixz.bus.storage.transfer.TransferManager;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -109,6 +112,16 @@ public class MinioOssProvider extends AbstractProvider {
                 .build();
     }
 
+    /**
+     * 创建基于当前客户端的大文件传输管理器，支持分片并发上传、断点续传与分段并发下载
+     *
+     * @param transfer 传输配置
+     * @return 传输管理器，使用完毕后需关闭
+     */
+    public TransferManager transfer(Transfer transfer) {
+        return new TransferManager(new S3Multipart(client), transfer);
+    }
+
     /**
      * 从默认存储桶下载文件。
      *
@@ -209,6 +222,32 @@ public class MinioOssProvider extends AbstractProvider {
         }
     }
 
+    /**
+     * 获取指定存储桶中文件的 ETag 与最后修改时间。
+     *
+     * @param bucket   存储桶
+     * @param fileName 文件名
+     * @return 处理结果 {@link Message}
+     */
+    @Override
+    public Message stat(String bucket, String fileName) {
+        try {
+            String prefix = Builder.buildNormalizedPrefix(context.getPrefix());
+            String objectKey = Builder.buildObjectKey(prefix, Normal.EMPTY, fileName);
+            HeadObjectResponse response = client
+                    .headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey).build());
+            Map<String, Object> extend = new HashMap<>();
+            extend.put("lastModified", response.lastModified());
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue())
+                    .data(Material.builder().name(fileName).path(objectKey).hash(response.eTag())
+                            .size(StringKit.toString(response.contentLength())).extend(extend).build())
+                    .build();
+        } catch (Exception e) {
+            Logger.error("Failed to stat file: {} in bucket: {}. Error: {}", fileName, bucket, e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
     /**
      * 重命名文件。
      *
@@ -0,0 +1,124 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.transfer;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 分片传输协议，抽象对象存储的分片上传与范围读取能力，便于对接不同服务端或测试桩
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public interface Multipart {
+
+    /**
+     * 初始化分片上传
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @return 上传ID
+     */
+    String initiate(String bucket, String key);
+
+    /**
+     * 上传单个分片
+     *
+     * @param bucket     存储桶名
+     * @param key        对象键
+     * @param uploadId   上传ID
+     * @param partNumber 分片序号，从 1 开始
+     * @param data       分片数据
+     * @param length     有效数据长度
+     * @param md5        Base64 编码的 MD5，为空时不校验
+     * @return 分片 ETag
+     */
+    String upload(String bucket, String key, String uploadId, int partNumber, byte[] data, int length, String md5);
+
+    /**
+     * 查询已上传的分片
+     *
+     * @param bucket   存储桶名
+     * @param key      对象键
+     * @param uploadId 上传ID
+     * @return 分片序号与 ETag 的映射
+     */
+    Map<Integer, String> parts(String bucket, String key, String uploadId);
+
+    /**
+     * 合并分片完成上传
+     *
+     * @param bucket   存储桶名
+     * @param key      对象键
+     * @param uploadId 上传ID
+     * @param etags    分片序号与 ETag 的映射，按序号升序
+     */
+    void complete(String bucket, String key, String uploadId, Map<Integer, String> etags);
+
+    /**
+     * 取消分片上传
+     *
+     * @param bucket   存储桶名
+     * @param key      对象键
+     * @param uploadId 上传ID
+     */
+    void abort(String bucket, String key, String uploadId);
+
+    /**
+     * 获取对象元数据
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @return 对象长度与 ETag
+     */
+    Stat stat(String bucket, String key);
+
+    /**
+     * 读取对象的指定范围
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @param start  起始位置(包含)
+     * @param end    结束位置(包含)
+     * @param etag   期望的 ETag，对象在下载期间被覆盖时读取失败
+     * @return 数据流
+     */
+    InputStream read(String bucket, String key, long start, long end, String etag);
+
+    /**
+     * 对象元数据
+     *
+     * @param length 对象长度
+     * @param etag   对象 ETag
+     */
+    record Stat(long length, String etag) {
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.transfer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListPartsIterable;
+
+/**
+ * 基于 S3 协议的分片传输实现，适用于 Amazon S3、MinIO 等兼容服务
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class S3Multipart implements Multipart {
+
+    private final S3Client client;
+
+    /**
+     * 构造
+     *
+     * @param client S3 客户端
+     */
+    public S3Multipart(S3Client client) {
+        this.client = client;
+    }
+
+    @Override
+    public String initiate(String bucket, String key) {
+        return client.createMultipartUpload(CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build())
+                .uploadId();
+    }
+
+    @Override
+    public String upload(String bucket, String key, String uploadId, int partNumber, byte[] data, int length,
+            String md5) {
+        UploadPartRequest request = UploadPartRequest.builder().bucket(bucket).key(key).uploadId(uploadId)
+                .partNumber(partNumber).contentLength((long) length).contentMD5(md5).build();
+        return client
+                .uploadPart(request, RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length))
+                .eTag();
+    }
+
+    @Override
+    public Map<Integer, String> parts(String bucket, String key, String uploadId) {
+        ListPartsIterable pages = client
+                .listPartsPaginator(ListPartsRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+        return pages.parts().stream()
+                .collect(Collectors.toMap(Part::partNumber, Part::eTag, (a, b) -> b, TreeMap::new));
+    }
+
+    @Override
+    public void complete(String bucket, String key, String uploadId, Map<Integer, String> etags) {
+        CompletedMultipartUpload upload = CompletedMultipartUpload.builder()
+                .parts(etags.entrySet().stream()
+                        .map(e -> CompletedPart.builder().partNumber(e.getKey()).eTag(e.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build();
+        client.completeMultipartUpload(CompleteMultipartUploadRequest.builder().bucket(bucket).key(key)
+                .uploadId(uploadId).multipartUpload(upload).build());
+    }
+
+    @Override
+    public void abort(String bucket, String key, String uploadId) {
+        client.abortMultipartUpload(
+                AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+    }
+
+    @Override
+    public Stat stat(String bucket, String key) {
+        HeadObjectResponse response = client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        return new Stat(response.contentLength(), response.eTag());
+    }
+
+    @Override
+    public InputStream read(String bucket, String key, long start, long end, String etag) {
+        return client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).range("bytes=" + start + "-" + end)
+                .ifMatch(etag).build());
+    }
+
+}
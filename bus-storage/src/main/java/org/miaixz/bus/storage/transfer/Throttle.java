@@ -0,0 +1,84 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.transfer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 令牌桶带宽限制器，由同一传输任务的所有分片线程共享，突发容量为一秒的配额
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class Throttle {
+
+    /**
+     * 每秒允许的字节数
+     */
+    private final long rate;
+    /**
+     * 当前可用的字节数，为负表示已透支
+     */
+    private long available;
+    /**
+     * 上次补充令牌的时间(纳秒)
+     */
+    private long last;
+
+    /**
+     * 构造
+     *
+     * @param rate 每秒允许的字节数
+     */
+    public Throttle(long rate) {
+        this.rate = rate;
+        this.available = rate;
+        this.last = System.nanoTime();
+    }
+
+    /**
+     * 申请传输指定字节数，配额不足时阻塞当前线程直至透支部分被偿还
+     *
+     * @param bytes 字节数
+     */
+    public void acquire(long bytes) {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            available = Math.min(rate, available + (now - last) * rate / TimeUnit.SECONDS.toNanos(1));
+            last = now;
+            available -= bytes;
+            wait = available < 0 ? -available * TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        }
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+}
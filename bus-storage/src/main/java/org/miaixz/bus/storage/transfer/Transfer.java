@@ -0,0 +1,112 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.transfer;
+
+import java.nio.file.Path;
+
+import org.miaixz.bus.core.lang.Assert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 大文件传输配置
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Transfer {
+
+    /**
+     * 分片大小上限(字节)，上传时每个分片读入单个缓冲区
+     */
+    public static final long MAX_PART_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * 分片大小(字节)，S3 协议要求除最后一片外不小于 5MB，不能超过 {@link #MAX_PART_SIZE}
+     */
+    @Builder.Default
+    private long partSize = 8 * 1024 * 1024;
+    /**
+     * 并发传输的分片数
+     */
+    @Builder.Default
+    private int concurrency = 4;
+    /**
+     * 带宽上限(字节/秒)，小于等于 0 表示不限制
+     */
+    @Builder.Default
+    private long bandwidth = 0;
+    /**
+     * 单个分片失败后的重试次数
+     */
+    @Builder.Default
+    private int retries = 3;
+    /**
+     * 上传分片时是否携带 Content-MD5 由服务端校验
+     */
+    @Builder.Default
+    private boolean checksum = true;
+    /**
+     * 断点续传记录目录，为空时使用系统临时目录
+     */
+    private Path journal;
+
+    /**
+     * 设置分片大小
+     *
+     * @param partSize 分片大小(字节)
+     * @throws IllegalArgumentException 分片大小小于等于 0 或超过 {@link #MAX_PART_SIZE}
+     */
+    public void setPartSize(long partSize) {
+        this.partSize = checkPartSize(partSize);
+    }
+
+    /**
+     * 校验分片大小
+     *
+     * @param partSize 分片大小(字节)
+     * @return 分片大小
+     * @throws IllegalArgumentException 分片大小小于等于 0 或超过 {@link #MAX_PART_SIZE}
+     */
+    static long checkPartSize(long partSize) {
+        Assert.isTrue(partSize > 0 && partSize <= MAX_PART_SIZE, "Part size must be between 1 and {}: {}",
+                MAX_PART_SIZE, partSize);
+        return partSize;
+    }
+
+}
@@ -0,0 +1,367 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.storage.transfer;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.*;
+
+import org.miaixz.bus.core.basic.entity.Message;
+import org.miaixz.bus.core.codec.binary.Base64;
+import org.miaixz.bus.core.lang.Charset;
+import org.miaixz.bus.core.lang.exception.InternalException;
+import org.miaixz.bus.core.xyz.HexKit;
+import org.miaixz.bus.core.xyz.StringKit;
+import org.miaixz.bus.core.xyz.ThreadKit;
+import org.miaixz.bus.crypto.Builder;
+import org.miaixz.bus.logger.Logger;
+import org.miaixz.bus.storage.magic.ErrorCode;
+import org.miaixz.bus.storage.magic.Material;
+
+/**
+ * 大文件传输管理器，在 {@link Multipart} 之上提供分片并发上传、断点续传与分段并发下载
+ * <ul>
+ * <li>上传：文件按 {@link Transfer#getPartSize()} 切片并发上传，每片携带 Content-MD5， 上传ID记录在续传目录中，失败后再次调用会跳过服务端已存在且校验一致的分片</li>
+ * <li>下载：先获取对象长度并预分配本地文件，各分段通过范围请求并发读取并直接写入 {@link FileChannel} 的对应位置，重试时从分段已写入的位置继续</li>
+ * </ul>
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+public class TransferManager implements Closeable {
+
+    /**
+     * 下载写入缓冲大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Multipart multipart;
+    private final Transfer transfer;
+    private final ExecutorService executor;
+    private final Throttle throttle;
+
+    /**
+     * 构造
+     *
+     * @param multipart 分片传输协议实现
+     * @param transfer  传输配置
+     */
+    public TransferManager(Multipart multipart, Transfer transfer) {
+        // 通过构建器设置的分片大小未经校验
+        Transfer.checkPartSize(transfer.getPartSize());
+        this.multipart = multipart;
+        this.transfer = transfer;
+        this.executor = ThreadKit.newFixedExecutor(Math.max(1, transfer.getConcurrency()), "storage-transfer-", true);
+        this.throttle = transfer.getBandwidth() > 0 ? new Throttle(transfer.getBandwidth()) : null;
+    }
+
+    /**
+     * 分片并发上传本地文件，中断后以相同参数再次调用即可续传
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @param file   本地文件
+     * @return 处理结果 {@link Message}
+     */
+    public Message upload(String bucket, String key, Path file) {
+        try {
+            long length = Files.size(file);
+            long partSize = transfer.getPartSize();
+            int count = (int) Math.max(1, (length + partSize - 1) / partSize);
+            Path journal = journal(bucket, key, file, length);
+
+            String uploadId = null;
+            Map<Integer, String> existing = Map.of();
+            Properties properties = new Properties();
+            if (Files.exists(journal)) {
+                try (Reader reader = Files.newBufferedReader(journal, Charset.UTF_8)) {
+                    properties.load(reader);
+                }
+                uploadId = properties.getProperty("uploadId");
+                try {
+                    existing = multipart.parts(bucket, key, uploadId);
+                } catch (RuntimeException e) {
+                    Logger.warn("Upload {} of {} can not be resumed, starting over: {}", uploadId, key, e.getMessage());
+                    uploadId = null;
+                }
+            }
+            if (null == uploadId) {
+                uploadId = multipart.initiate(bucket, key);
+                properties.setProperty("uploadId", uploadId);
+                Files.createDirectories(journal.getParent());
+                try (Writer writer = Files.newBufferedWriter(journal, Charset.UTF_8)) {
+                    properties.store(writer, key);
+                }
+            }
+
+            Map<Integer, String> etags = new ConcurrentSkipListMap<>();
+            List<Future<?>> futures = new ArrayList<>(count);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                for (int i = 0; i < count; i++) {
+                    final int partNumber = i + 1;
+                    final long position = i * partSize;
+                    final int size = (int) Math.min(partSize, length - position);
+                    final String previous = existing.get(partNumber);
+                    final String id = uploadId;
+                    futures.add(executor.submit(() -> {
+                        byte[] data = new byte[size];
+                        read(channel, data, position);
+                        byte[] md5 = Builder.md5(data);
+                        // 服务端已有校验一致的分片，跳过
+                        if (null != previous
+                                && HexKit.encodeString(md5).equalsIgnoreCase(StringKit.unWrap(previous, '"'))) {
+                            etags.put(partNumber, previous);
+                            return null;
+                        }
+                        String md5Base64 = transfer.isChecksum() ? Base64.encode(md5) : null;
+                        etags.put(partNumber, retry(() -> {
+                            acquire(size);
+                            return multipart.upload(bucket, key, id, partNumber, data, size, md5Base64);
+                        }));
+                        return null;
+                    }));
+                }
+                await(futures);
+            }
+            multipart.complete(bucket, key, uploadId, etags);
+            Files.deleteIfExists(journal);
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue())
+                    .data(Material.builder().name(file.getFileName().toString()).path(key)
+                            .size(String.valueOf(length)).build())
+                    .build();
+        } catch (Exception e) {
+            Logger.error("Failed to upload file: {} to bucket: {} with key: {}, error: {}", file, bucket, key,
+                    e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
+    /**
+     * 取消未完成的分片上传并清除续传记录
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @param file   本地文件
+     * @return 处理结果 {@link Message}
+     */
+    public Message abort(String bucket, String key, Path file) {
+        try {
+            Path journal = journal(bucket, key, file, Files.size(file));
+            if (Files.exists(journal)) {
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(journal, Charset.UTF_8)) {
+                    properties.load(reader);
+                }
+                multipart.abort(bucket, key, properties.getProperty("uploadId"));
+                Files.delete(journal);
+            }
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue()).build();
+        } catch (Exception e) {
+            Logger.error("Failed to abort upload of file: {} to bucket: {} with key: {}, error: {}", file, bucket, key,
+                    e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
+    /**
+     * 分段并发下载对象到本地文件
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @param file   目标文件
+     * @return 处理结果 {@link Message}
+     */
+    public Message download(String bucket, String key, Path file) {
+        try {
+            Multipart.Stat stat = multipart.stat(bucket, key);
+            long length = stat.length();
+            long partSize = transfer.getPartSize();
+            int count = (int) ((length + partSize - 1) / partSize);
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                // 预分配文件长度，各分段按偏移量直接写入
+                raf.setLength(length);
+                FileChannel channel = raf.getChannel();
+                List<Future<?>> futures = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    final long start = i * partSize;
+                    final long end = Math.min(length, start + partSize) - 1;
+                    futures.add(executor.submit(() -> {
+                        long[] position = { start };
+                        retry(() -> {
+                            try (InputStream in = multipart.read(bucket, key, position[0], end, stat.etag())) {
+                                position[0] = write(in, channel, position[0], end);
+                            }
+                            return null;
+                        });
+                        return null;
+                    }));
+                }
+                await(futures);
+                channel.force(false);
+            }
+            return Message.builder().errcode(ErrorCode._SUCCESS.getKey()).errmsg(ErrorCode._SUCCESS.getValue())
+                    .data(Material.builder().name(file.getFileName().toString()).path(key)
+                            .size(String.valueOf(length)).hash(stat.etag()).build())
+                    .build();
+        } catch (Exception e) {
+            Logger.error("Failed to download file: {} from bucket: {} to local file: {}. Error: {}", key, bucket, file,
+                    e.getMessage(), e);
+            return Message.builder().errcode(ErrorCode._FAILURE.getKey()).errmsg(ErrorCode._FAILURE.getValue()).build();
+        }
+    }
+
+    /**
+     * 关闭传输线程池
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * 将范围读取的数据写入文件通道对应位置
+     *
+     * @param in       数据流
+     * @param channel  文件通道
+     * @param position 起始写入位置
+     * @param end      结束位置(包含)
+     * @return 已写入的下一个位置
+     * @throws IOException IO异常
+     */
+    private long write(InputStream in, FileChannel channel, long position, long end) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ByteBuffer wrap = ByteBuffer.wrap(buffer);
+        int read;
+        while (position <= end && (read = in.read(buffer, 0, (int) Math.min(buffer.length, end - position + 1))) > 0) {
+            acquire(read);
+            wrap.clear().limit(read);
+            while (wrap.hasRemaining()) {
+                position += channel.write(wrap, position);
+            }
+        }
+        if (position <= end) {
+            throw new EOFException("Range ended at " + position + ", expected " + (end + 1));
+        }
+        return position;
+    }
+
+    /**
+     * 从文件通道指定位置读满数组
+     *
+     * @param channel  文件通道
+     * @param data     目标数组
+     * @param position 起始位置
+     * @throws IOException IO异常
+     */
+    private static void read(FileChannel channel, byte[] data, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("File truncated while uploading");
+            }
+        }
+    }
+
+    /**
+     * 申请带宽配额
+     *
+     * @param bytes 字节数
+     */
+    private void acquire(long bytes) {
+        if (null != throttle) {
+            throttle.acquire(bytes);
+        }
+    }
+
+    /**
+     * 按配置的次数重试，间隔逐次递增
+     *
+     * @param task 任务
+     * @param <T>  结果类型
+     * @return 执行结果
+     * @throws Exception 超过重试次数后抛出最后一次的异常
+     */
+    private <T> T retry(Callable<T> task) throws Exception {
+        for (int attempt = 0;; attempt++) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                if (attempt >= transfer.getRetries()) {
+                    throw e;
+                }
+                Logger.warn("Transfer attempt {} failed, retrying: {}", attempt + 1, e.getMessage());
+                ThreadKit.sleep(200L * (attempt + 1));
+            }
+        }
+    }
+
+    /**
+     * 等待全部分片完成，任一分片失败时取消其余分片
+     *
+     * @param futures 分片任务
+     * @throws Exception 首个失败分片的异常
+     */
+    private static void await(List<Future<?>> futures) throws Exception {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : new InternalException(e.getCause());
+        }
+    }
+
+    /**
+     * 获取续传记录文件，文件内容或分片大小变化后视为新的上传
+     *
+     * @param bucket 存储桶名
+     * @param key    对象键
+     * @param file   本地文件
+     * @param length 文件长度
+     * @return 续传记录路径
+     * @throws IOException IO异常
+     */
+    private Path journal(String bucket, String key, Path file, long length) throws IOException {
+        Path dir = null != transfer.getJournal() ? transfer.getJournal()
+                : Paths.get(System.getProperty("java.io.tmpdir"), "bus-storage-transfer");
+        String id = bucket + "/" + key + "|" + file.toAbsolutePath() + "|" + length + "|"
+                + Files.getLastModifiedTime(file).toMillis() + "|" + transfer.getPartSize();
+        return dir.resolve(Builder.md5(id) + ".upload");
+    }
+
+}
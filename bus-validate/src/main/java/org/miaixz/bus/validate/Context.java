@@ -90,6 +90,11 @@ public class Context {
      */
     private boolean inside = false;
 
+    /**
+     * 并行校验阈值, 默认：0 集合或数组元素数量达到该值时使用并行流校验元素, 每个元素使用独立的上下文副本; 0 表示不启用
+     */
+    private int parallel = 0;
+
     public Context() {
     }
 
@@ -104,6 +109,25 @@ public class Context {
         return context;
     }
 
+    /**
+     * 复制当前上下文, 用于并行校验集合元素
+     *
+     * @return 上下文副本
+     */
+    public Context copy() {
+        Context context = new Context();
+        context.setErrcode(this.errcode);
+        context.setGroup(null == this.group ? null : new ArrayList<>(this.group));
+        context.setException(this.exception);
+        context.setField(this.field);
+        context.setSkip(this.skip);
+        context.setChecker(this.checker);
+        context.setFast(this.fast);
+        context.setInside(this.inside);
+        context.setParallel(this.parallel);
+        return context;
+    }
+
     /**
      * 添加校验组
      *
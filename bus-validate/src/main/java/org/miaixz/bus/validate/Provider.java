@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.miaixz.bus.core.lang.exception.NoSuchException;
@@ -50,6 +51,11 @@ import org.miaixz.bus.validate.magic.annotation.Complex;
  */
 public class Provider {
 
+    /**
+     * 类与类上的校验注解
+     */
+    private static final Map<Class<?>, List<Annotation>> ANNOTATIONS = new ConcurrentHashMap<>();
+
     /**
      * 被校验对象 每次都创建一个新的对象,避免线程问题 可以使用 {@link ThreadLocal} 简单优化
      *
@@ -204,14 +210,14 @@ public class Provider {
     }
 
     /**
-     * 获取当前对象的注解信息
+     * 获取当前对象的注解信息, 结果按类缓存
      *
      * @param clazz 当前对象
-     * @return list
+     * @return 只读的校验注解列表
      */
     public static List<Annotation> getAnnotation(Class<?> clazz) {
-        Annotation[] annotations = clazz.getAnnotations();
-        return Arrays.stream(annotations).filter(Provider::isAnnotation).collect(Collectors.toList());
+        return ANNOTATIONS.computeIfAbsent(clazz, type -> Arrays.stream(type.getAnnotations())
+                .filter(Provider::isAnnotation).collect(Collectors.toUnmodifiableList()));
     }
 
 }
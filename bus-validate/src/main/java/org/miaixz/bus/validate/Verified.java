@@ -35,6 +35,7 @@ import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.core.xyz.StringKit;
 import org.miaixz.bus.validate.magic.Checker;
+import org.miaixz.bus.validate.magic.Matcher;
 import org.miaixz.bus.validate.magic.Material;
 import org.miaixz.bus.validate.magic.annotation.*;
 
@@ -44,6 +45,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 被校验对象 注意: 当被校验对象为null时,无法获取到对象的Class,所以不会执行对象的Class上标记的任何校验注解
@@ -56,6 +59,11 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = false)
 public class Verified extends Provider {
 
+    /**
+     * 校验注解与校验器属性模板
+     */
+    private static final Map<Annotation, Material> TEMPLATES = new ConcurrentHashMap<>();
+
     /**
      * 校验者信息
      */
@@ -212,7 +220,7 @@ public class Verified extends Provider {
     }
 
     /**
-     * 创建校验器属性对象
+     * 创建校验器属性对象, 注解上的通用属性、插值参数与校验器按注解缓存, 每次只需填充属性名与被校验值
      *
      * @param annotation 注解
      * @param object     对象
@@ -220,26 +228,62 @@ public class Verified extends Provider {
      */
     public Material build(Annotation annotation, Object object) {
         Assert.isTrue(isAnnotation(annotation), "尝试从非校验注解上获取信息:" + annotation);
+        return build(TEMPLATES.computeIfAbsent(annotation, Verified::template), object);
+    }
+
+    /**
+     * 根据模板创建校验器属性对象
+     *
+     * @param template 校验器属性模板
+     * @param object   对象
+     * @return 校验器属性对象
+     */
+    private Material build(Material template, Object object) {
+        this.field = null == template.getField() ? this.field : template.getField();
+        Material material = new Material();
+        material.setAnnotation(template.getAnnotation());
+        material.setErrmsg(template.getErrmsg());
+        material.setGroup(template.getGroup());
+        material.setField(this.field);
+        material.setErrcode(template.getErrcode());
+        material.setArray(template.isArray());
+        material.setClazz(template.getClazz());
+        material.setName(template.getName());
+        material.setException(template.getException());
+        material.setMatcher(template.getMatcher());
+        material.addParam(Builder.FIELD, this.field);
+
+        if (ObjectKit.isNotEmpty(object) && object.getClass().isArray()) {
+            material.addParam(Builder.VALUE, Arrays.toString((Object[]) object));
+        } else {
+            material.addParam(Builder.VALUE, String.valueOf(object));
+        }
+        template.getParam().forEach(material::addParam);
+        for (Material parent : template.getList()) {
+            material.addParentProperty(build(parent, object));
+        }
+        return material;
+    }
+
+    /**
+     * 解析校验注解, 生成不含属性名与被校验值的校验器属性模板
+     *
+     * @param annotation 注解
+     * @return 校验器属性模板
+     */
+    private static Material template(Annotation annotation) {
         Class<? extends Annotation> annotationType = annotation.annotationType();
         try {
             String[] groups = (String[]) annotationType.getMethod(Builder.GROUP).invoke(annotation);
             String errmsg = (String) annotationType.getMethod(Builder.ERRMSG).invoke(annotation);
             String errcode = (String) annotationType.getMethod(Builder.ERRCODE).invoke(annotation);
             String name = (String) annotationType.getMethod(Builder.FIELD).invoke(annotation);
-            this.field = Builder.DEFAULT_FIELD.equals(name) ? this.field : name;
             Material material = new Material();
             material.setAnnotation(annotation);
             material.setErrmsg(errmsg);
             material.setGroup(groups);
-            material.setField(this.field);
+            material.setField(Builder.DEFAULT_FIELD.equals(name) ? null : name);
             material.setErrcode(errcode);
-            material.addParam(Builder.FIELD, this.field);
-
-            if (ObjectKit.isNotEmpty(object) && object.getClass().isArray()) {
-                material.addParam(Builder.VALUE, Arrays.toString((Object[]) object));
-            } else {
-                material.addParam(Builder.VALUE, String.valueOf(object));
-            }
 
             Method[] declaredMethods = annotationType.getDeclaredMethods();
             for (Method m : declaredMethods) {
@@ -257,7 +301,7 @@ public class Verified extends Provider {
             Annotation[] parentAnnos = annotationType.getAnnotations();
             for (Annotation anno : parentAnnos) {
                 if (isAnnotation(anno)) {
-                    material.addParentProperty(build(anno, object));
+                    material.addParentProperty(TEMPLATES.computeIfAbsent(anno, Verified::template));
                 } else if (anno instanceof Array) {
                     material.setArray(true);
                 } else if (anno instanceof Complex) {
@@ -270,6 +314,7 @@ public class Verified extends Provider {
             if (ObjectKit.isEmpty(material.getClazz()) || StringKit.isEmpty(material.getName())) {
                 throw new InternalException("非法的校验注解,没有使用Complex元注解表示校验器:" + annotationType.getName());
             }
+            material.setMatcher((Matcher) Registry.getInstance().require(material.getName(), material.getClazz()));
             return material;
         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             throw new InternalException("非法的校验注解,没有定义通用的校验属性:" + annotationType.getName(), e);
@@ -28,17 +28,17 @@
 package org.miaixz.bus.validate.magic;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
 import org.miaixz.bus.core.lang.Normal;
 import org.miaixz.bus.core.lang.exception.InternalException;
 import org.miaixz.bus.core.lang.exception.NoSuchException;
 import org.miaixz.bus.core.lang.exception.ValidateException;
 import org.miaixz.bus.core.xyz.ArrayKit;
-import org.miaixz.bus.core.xyz.FieldKit;
 import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.logger.Logger;
 import org.miaixz.bus.validate.*;
@@ -85,29 +85,33 @@ public class Checker {
         try {
             Object object = verified.getObject();
             if (ObjectKit.isNotEmpty(object)) {
-                Field[] fields = FieldKit.getFields(object.getClass());
-                for (Field field : fields) {
-                    Object value = FieldKit.getFieldValue(object, field);
-                    Annotation[] annotations = field.getDeclaredAnnotations();
-
+                for (Plan.Item item : Plan.of(object.getClass()).items) {
                     String[] xFields = verified.getContext().getField();
                     String[] xSkip = null == verified.getContext().getSkip() ? null : verified.getContext().getSkip();
 
                     // 过滤当前需跳过的属性
-                    if (ArrayKit.isNotEmpty(xSkip) && Arrays.asList(xSkip).contains(field.getName())) {
+                    if (ArrayKit.isNotEmpty(xSkip) && Arrays.asList(xSkip).contains(item.name)) {
                         continue;
                     }
                     // 过滤当前需要校验的属性
-                    if (ArrayKit.isNotEmpty(xFields) && !Arrays.asList(xFields).contains(field.getName())) {
+                    if (ArrayKit.isNotEmpty(xFields) && !Arrays.asList(xFields).contains(item.name)) {
+                        continue;
+                    }
+                    Object value = item.get(object);
+                    // 属性及属性值类型均无校验注解时无需创建被校验对象
+                    if (item.annotations.length == 0
+                            && (null == value || Provider.getAnnotation(value.getClass()).isEmpty())) {
+                        verified.getContext()
+                                .setInside(null != value && value.getClass().isAnnotationPresent(Inside.class));
                         continue;
                     }
                     // 属性校验开始
                     verified.getContext().setInside(false);
-                    verified = new Verified(value, annotations, verified.getContext(), field.getName());
+                    verified = new Verified(value, item.annotations, verified.getContext(), item.name);
 
-                    if (null != value && Provider.isCollection(value) && hasInside(annotations)) {
+                    if (null != value && Provider.isCollection(value) && item.inside) {
                         collector.collect(doCollectionInside(verified));
-                    } else if (null != value && Provider.isArray(value) && hasInside(annotations)) {
+                    } else if (null != value && Provider.isArray(value) && item.inside) {
                         collector.collect(doArrayInside(verified));
                     }
                     if (verified.getList().isEmpty()) {
@@ -132,7 +136,8 @@ public class Checker {
      * @return 校验结果
      */
     private Collector doObject(Verified verified, Material material) {
-        Matcher matcher = (Matcher) Registry.getInstance().require(material.getName(), material.getClazz());
+        Matcher matcher = null != material.getMatcher() ? material.getMatcher()
+                : (Matcher) Registry.getInstance().require(material.getName(), material.getClazz());
         if (ObjectKit.isEmpty(matcher)) {
             throw new NoSuchException(String.format("无法找到指定的校验器, name:%s, class:%s", material.getName(),
                     null == material.getClazz() ? Normal.NULL : material.getClazz().getName()));
@@ -160,16 +165,9 @@ public class Checker {
      * @return 校验结果
      */
     private Collector doCollection(Verified verified, Material material) {
-        Collector collector = new Collector(verified);
-        Collection<?> collection = (Collection<?>) verified.getObject();
-        for (Object item : collection) {
-            Verified itemTarget = new Verified(item, new Annotation[] { material.getAnnotation() },
-                    verified.getContext());
-            Collector checked = itemTarget.access();
-            collector.collect(checked);
-        }
-
-        return collector;
+        Annotation[] annotations = { material.getAnnotation() };
+        return each(verified, ((Collection<?>) verified.getObject()).toArray(),
+                (item, context) -> new Verified(item, annotations, context).access());
     }
 
     /**
@@ -180,15 +178,9 @@ public class Checker {
      * @return 校验结果
      */
     private Collector doArrayObject(Verified verified, Material material) {
-        Collector collector = new Collector(verified);
-        Object[] array = (Object[]) verified.getObject();
-        for (int i = 0; i < array.length; i++) {
-            Verified itemTarget = new Verified(array[i], new Annotation[] { material.getAnnotation() },
-                    verified.getContext());
-            Collector checked = itemTarget.access();
-            collector.collect(checked);
-        }
-        return collector;
+        Annotation[] annotations = { material.getAnnotation() };
+        return each(verified, (Object[]) verified.getObject(),
+                (item, context) -> new Verified(item, annotations, context).access());
     }
 
     /**
@@ -198,12 +190,8 @@ public class Checker {
      * @return 校验结果
      */
     private Collector doArrayInside(Verified verified) {
-        Collector collector = new Collector(verified);
-        Object[] array = (Object[]) verified.getObject();
-        for (Object object : array) {
-            collector.collect(inside(new Verified(object, verified.getContext())));
-        }
-        return collector;
+        return each(verified, (Object[]) verified.getObject(),
+                (item, context) -> inside(new Verified(item, context)));
     }
 
     /**
@@ -213,22 +201,34 @@ public class Checker {
      * @return 校验结果
      */
     private Collector doCollectionInside(Verified verified) {
-        Collector collector = new Collector(verified);
-        Collection<?> collection = (Collection<?>) verified.getObject();
-        for (Object item : collection) {
-            collector.collect(inside(new Verified(item, verified.getContext())));
-        }
-        return collector;
+        return each(verified, ((Collection<?>) verified.getObject()).toArray(),
+                (item, context) -> inside(new Verified(item, context)));
     }
 
     /**
-     * 是否为内部校验注解
+     * 依次校验元素, 元素数量达到上下文的并行阈值时使用并行流校验, 每个元素使用独立的上下文副本, 结果仍按元素顺序收集
      *
-     * @param annotations 注解
+     * @param verified 被校验对象
+     * @param items    元素
+     * @param check    元素校验逻辑
      * @return 校验结果
      */
-    private boolean hasInside(Annotation[] annotations) {
-        return Arrays.stream(annotations).anyMatch(an -> an instanceof Inside);
+    private Collector each(Verified verified, Object[] items, BiFunction<Object, Context, Collector> check) {
+        Collector collector = new Collector(verified);
+        Context context = verified.getContext();
+        if (context.getParallel() > 0 && items.length >= context.getParallel()) {
+            Collector[] results = new Collector[items.length];
+            IntStream.range(0, items.length).parallel()
+                    .forEach(i -> results[i] = check.apply(items[i], context.copy()));
+            for (Collector result : results) {
+                collector.collect(result);
+            }
+        } else {
+            for (Object item : items) {
+                collector.collect(check.apply(item, context));
+            }
+        }
+        return collector;
     }
 
 }
@@ -78,6 +78,10 @@ public class Material {
      * 校验类
      */
     private Class<?> clazz;
+    /**
+     * 已解析的校验器
+     */
+    private Matcher matcher;
     /**
      * 异常信息
      */
@@ -0,0 +1,119 @@
+/*
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+ ~                                                                               ~
+ ~ The MIT License (MIT)                                                         ~
+ ~                                                                               ~
+ ~ Copyright (c) 2015-2025 miaixz.org and other contributors.                    ~
+ ~                                                                               ~
+ ~ Permission is hereby granted, free of charge, to any person obtaining a copy  ~
+ ~ of this software and associated documentation files (the "Software"), to deal ~
+ ~ in the Software without restriction, including without limitation the rights  ~
+ ~ to use, copy, modify, merge, publish, distribute, sublicense, and/or sell     ~
+ ~ copies of the Software, and to permit persons to whom the Software is         ~
+ ~ furnished to do so, subject to the following conditions:                      ~
+ ~                                                                               ~
+ ~ The above copyright notice and this permission notice shall be included in    ~
+ ~ all copies or substantial portions of the Software.                           ~
+ ~                                                                               ~
+ ~ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR    ~
+ ~ IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,      ~
+ ~ FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE   ~
+ ~ AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER        ~
+ ~ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, ~
+ ~ OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN     ~
+ ~ THE SOFTWARE.                                                                 ~
+ ~                                                                               ~
+ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~ ~
+*/
+package org.miaixz.bus.validate.magic;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.miaixz.bus.core.xyz.ArrayKit;
+import org.miaixz.bus.core.xyz.FieldKit;
+import org.miaixz.bus.validate.magic.annotation.Inside;
+
+/**
+ * 类的字段校验计划，首次校验时解析字段及其注解，之后只需按计划读取字段值
+ *
+ * @author Kimi Liu
+ * @since Java 17+
+ */
+final class Plan {
+
+    /**
+     * 类与校验计划
+     */
+    private static final Map<Class<?>, Plan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * 字段
+     */
+    final Item[] items;
+
+    private Plan(final Class<?> clazz) {
+        final Field[] fields = FieldKit.getFields(clazz);
+        this.items = new Item[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            this.items[i] = new Item(fields[i]);
+        }
+    }
+
+    /**
+     * 获取类的校验计划
+     *
+     * @param clazz 类
+     * @return 校验计划
+     */
+    static Plan of(final Class<?> clazz) {
+        return PLANS.computeIfAbsent(clazz, Plan::new);
+    }
+
+    /**
+     * 单个字段的校验信息
+     */
+    static final class Item {
+
+        final Field field;
+        final String name;
+        final Annotation[] annotations;
+        /**
+         * 是否标注了{@link Inside}
+         */
+        final boolean inside;
+        /**
+         * 是否可直接通过反射读取
+         */
+        private final boolean accessible;
+
+        private Item(final Field field) {
+            this.field = field;
+            this.name = field.getName();
+            this.annotations = field.getDeclaredAnnotations();
+            this.inside = ArrayKit.isNotEmpty(annotations) && null != field.getAnnotation(Inside.class);
+            this.accessible = field.trySetAccessible();
+        }
+
+        /**
+         * 读取字段值
+         *
+         * @param object 对象
+         * @return 字段值
+         */
+        Object get(final Object object) {
+            if (accessible) {
+                try {
+                    return field.get(object);
+                } catch (final IllegalAccessException e) {
+                    // 回退到通用读取方式
+                }
+            }
+            return FieldKit.getFieldValue(object, field);
+        }
+
+    }
+
+}
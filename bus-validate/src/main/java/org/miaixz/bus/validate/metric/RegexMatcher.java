@@ -27,14 +27,13 @@
 */
 package org.miaixz.bus.validate.metric;
 
+import org.miaixz.bus.core.center.regex.Pattern;
 import org.miaixz.bus.core.xyz.ObjectKit;
 import org.miaixz.bus.core.xyz.StringKit;
 import org.miaixz.bus.validate.Context;
 import org.miaixz.bus.validate.magic.Matcher;
 import org.miaixz.bus.validate.magic.annotation.Regex;
 
-import java.util.regex.Pattern;
-
 /**
  * 正则匹配校验
  *
@@ -51,8 +50,7 @@ public class RegexMatcher implements Matcher<Object, Regex> {
         if (regexValidate.zeroAble() && StringKit.toString(object).length() == 0) {
             return false;
         }
-        Pattern pattern = Pattern.compile(regexValidate.pattern());
-        return pattern.matcher(StringKit.toString(object)).matches();
+        return Pattern.get(regexValidate.pattern()).matcher(StringKit.toString(object)).matches();
     }
 
 }